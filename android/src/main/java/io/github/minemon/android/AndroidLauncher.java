@@ -1,6 +1,7 @@
 package io.github.minemon.android;
 
 import android.Manifest;
+import android.content.ComponentCallbacks2;
 import android.content.pm.PackageManager;
 import android.os.Build;
 import android.os.Bundle;
@@ -10,12 +11,14 @@ import android.view.Window;
 import android.view.WindowManager;
 import androidx.core.app.ActivityCompat;
 import androidx.core.content.ContextCompat;
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.backends.android.AndroidApplication;
 import com.badlogic.gdx.backends.android.AndroidApplicationConfiguration;
 import com.badlogic.gdx.backends.android.AndroidGraphics;
 import io.github.minemon.GdxGame;
 import io.github.minemon.context.AndroidGameContext;
 import io.github.minemon.context.GameApplicationContext;
+import io.github.minemon.core.service.MemoryBudgetManager;
 import io.github.minemon.core.ui.AndroidUIFactory;
 import io.github.minemon.input.AndroidTouchInput;
 import io.github.minemon.input.InputService;
@@ -200,6 +203,38 @@ public class AndroidLauncher extends AndroidApplication {
         }
         super.onPause();
     }
+
+    @Override
+    public void onTrimMemory(int level) {
+        super.onTrimMemory(level);
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_COMPLETE
+            || level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL) {
+            onMemoryPressure(MemoryBudgetManager.Pressure.CRITICAL);
+        } else if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW) {
+            onMemoryPressure(MemoryBudgetManager.Pressure.MODERATE);
+        }
+    }
+
+    @Override
+    public void onLowMemory() {
+        super.onLowMemory();
+        onMemoryPressure(MemoryBudgetManager.Pressure.CRITICAL);
+    }
+
+    // Callbacks arrive on the UI thread; chunks and textures belong to the GL thread
+    private void onMemoryPressure(MemoryBudgetManager.Pressure pressure) {
+        if (Gdx.app == null) {
+            return;
+        }
+        Gdx.app.postRunnable(() -> {
+            try {
+                AndroidGameContext.getBean(MemoryBudgetManager.class).onMemoryPressure(pressure);
+            } catch (Exception e) {
+                log.warn("Could not apply memory pressure {}", pressure, e);
+            }
+        });
+    }
+
     private AndroidApplicationConfiguration createConfig() {
         AndroidApplicationConfiguration config = new AndroidApplicationConfiguration();
         config.useImmersiveMode = true;
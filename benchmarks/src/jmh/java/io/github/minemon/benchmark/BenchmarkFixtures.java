@@ -0,0 +1,83 @@
+package io.github.minemon.benchmark;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessFiles;
+import io.github.minemon.inventory.service.impl.ItemSpawnService;
+import io.github.minemon.world.biome.config.BiomeConfigurationLoader;
+import io.github.minemon.world.biome.model.Biome;
+import io.github.minemon.world.biome.model.BiomeType;
+import io.github.minemon.world.biome.service.impl.BiomeServiceImpl;
+import io.github.minemon.world.config.WorldConfig;
+import io.github.minemon.world.config.WorldConfigRegistry;
+import io.github.minemon.world.model.ChunkTiles;
+import io.github.minemon.world.model.WorldObject;
+import io.github.minemon.world.service.impl.WorldGeneratorImpl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+final class BenchmarkFixtures {
+    static final long SEED = 1234567L;
+
+    private BenchmarkFixtures() {
+    }
+
+    static InMemoryFileAccessService configFiles() {
+        InMemoryFileAccessService files = new InMemoryFileAccessService();
+        copyResource(files, WorldConfigRegistry.BIOMES_PATH);
+        copyResource(files, WorldConfigRegistry.TILES_PATH);
+        return files;
+    }
+
+    private static void copyResource(InMemoryFileAccessService files, String path) {
+        String name = path.substring(path.lastIndexOf('/') + 1);
+        try (InputStream in = BenchmarkFixtures.class.getResourceAsStream("/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException(name + " missing from the benchmark classpath");
+            }
+            files.writeFile(path, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read " + name, e);
+        }
+    }
+
+    static WorldConfigRegistry configRegistry() {
+        InMemoryFileAccessService files = configFiles();
+        return new WorldConfigRegistry(new BiomeConfigurationLoader(files), files);
+    }
+
+    static Map<BiomeType, Biome> loadBiomes() {
+        Map<BiomeType, Biome> biomes = configRegistry().getSnapshot().getBiomes();
+        if (biomes.isEmpty()) {
+            throw new IllegalStateException("No biomes loaded from " + WorldConfigRegistry.BIOMES_PATH);
+        }
+        return biomes;
+    }
+
+    static WorldGeneratorImpl worldGenerator(Map<BiomeType, Biome> biomes) {
+        WorldGeneratorImpl generator = new WorldGeneratorImpl(new WorldConfig(SEED), new BiomeServiceImpl(configRegistry()));
+        generator.setSeedAndBiomes(SEED, biomes);
+        return generator;
+    }
+
+    // Item spawns query the live world around the chunk, which has no meaning outside a running game
+    static ItemSpawnService noItemSpawns() {
+        return new ItemSpawnService(null, null, null) {
+            @Override
+            public List<WorldObject> spawnItemsInChunk(int chunkX, int chunkY, ChunkTiles tiles, Biome biome,
+                                                       List<WorldObject> placedObjects) {
+                return Collections.emptyList();
+            }
+        };
+    }
+
+    static void ensureHeadlessFiles() {
+        if (Gdx.files == null) {
+            Gdx.files = new HeadlessFiles();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.minemon.benchmark;
+
+import io.github.minemon.world.biome.model.BiomeTransitionResult;
+import io.github.minemon.world.biome.service.impl.BiomeServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class BiomeServiceBenchmark {
+    private static final int CHUNK_SIZE = 16;
+
+    private BiomeServiceImpl biomeService;
+    private int chunkX;
+
+    @Setup
+    public void setup() {
+        biomeService = new BiomeServiceImpl(BenchmarkFixtures.configRegistry());
+        biomeService.init();
+        biomeService.initWithSeed(BenchmarkFixtures.SEED);
+    }
+
+    @Benchmark
+    public BiomeTransitionResult getBiomeAt() {
+        chunkX++;
+        return biomeService.getBiomeAt(chunkX * CHUNK_SIZE, 0);
+    }
+
+    // Per-tile lookup for a whole chunk, so the score reads as chunks/sec
+    @Benchmark
+    public void getBiomeAtChunk(Blackhole bh) {
+        chunkX++;
+        float baseX = chunkX * CHUNK_SIZE;
+        for (int x = 0; x < CHUNK_SIZE; x++) {
+            for (int y = 0; y < CHUNK_SIZE; y++) {
+                bh.consume(biomeService.getBiomeAt(baseX + x, y));
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.minemon.benchmark;
+
+import io.github.minemon.world.model.ChunkData;
+import io.github.minemon.world.model.ChunkTiles;
+import io.github.minemon.world.service.impl.JsonWorldDataService;
+import io.github.minemon.world.service.impl.WorldGeneratorImpl;
+import io.github.minemon.world.service.impl.WorldObjectManagerImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class ChunkPersistenceBenchmark {
+    private static final String WORLD_NAME = "benchWorld";
+    private static final int CHUNK_COUNT = 64;
+
+    private Path worldsDir;
+    private JsonWorldDataService dataService;
+    private ChunkData[] chunks;
+    private int chunkIndex;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        BenchmarkFixtures.ensureHeadlessFiles();
+        worldsDir = Files.createTempDirectory("minemon-bench");
+        dataService = new JsonWorldDataService(worldsDir.toString(), true);
+
+        WorldGeneratorImpl worldGenerator = BenchmarkFixtures.worldGenerator(BenchmarkFixtures.loadBiomes());
+        WorldObjectManagerImpl objectManager = new WorldObjectManagerImpl();
+
+        chunks = new ChunkData[CHUNK_COUNT];
+        for (int i = 0; i < CHUNK_COUNT; i++) {
+            ChunkTiles tiles = worldGenerator.generateChunk(i, 0);
+            ChunkData chunk = new ChunkData();
+            chunk.setChunkX(i);
+            chunk.setChunkY(0);
+            chunk.setTiles(tiles);
+            chunk.setObjects(objectManager.placeObjectsForChunk(i, 0, tiles, worldGenerator.getBiomeForChunk(i, 0),
+                BenchmarkFixtures.SEED, worldGenerator::getTileBiomes));
+            chunks[i] = chunk;
+            dataService.saveChunk(WORLD_NAME, chunk);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(worldsDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void saveChunk() throws IOException {
+        dataService.saveChunk(WORLD_NAME, chunks[chunkIndex++ & (CHUNK_COUNT - 1)]);
+    }
+
+    @Benchmark
+    public ChunkData loadChunk() throws IOException {
+        return dataService.loadChunk(WORLD_NAME, chunkIndex++ & (CHUNK_COUNT - 1), 0);
+    }
+
+    @Benchmark
+    public ChunkData roundTrip() throws IOException {
+        ChunkData chunk = chunks[chunkIndex++ & (CHUNK_COUNT - 1)];
+        dataService.saveChunk(WORLD_NAME, chunk);
+        return dataService.loadChunk(WORLD_NAME, chunk.getChunkX(), chunk.getChunkY());
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.minemon.benchmark;
+
+import io.github.minemon.core.service.FileAccessService;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemoryFileAccessService implements FileAccessService {
+    private final Map<String, String> files = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean exists(String path) {
+        return files.containsKey(path);
+    }
+
+    @Override
+    public String readFile(String path) {
+        String content = files.get(path);
+        if (content == null) {
+            throw new RuntimeException("File not found: " + path);
+        }
+        return content;
+    }
+
+    @Override
+    public void writeFile(String path, String content) {
+        files.put(path, content);
+    }
+
+    @Override
+    public void ensureDirectoryExists(String path) {
+    }
+
+    @Override
+    public String getBasePath() {
+        return "";
+    }
+}
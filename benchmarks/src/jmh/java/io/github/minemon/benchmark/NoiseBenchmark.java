@@ -0,0 +1,35 @@
+package io.github.minemon.benchmark;
+
+import io.github.minemon.utils.OpenSimplex2;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class NoiseBenchmark {
+    private static final int CHUNK_SIZE = 16;
+    private static final double SCALE = 0.005;
+
+    private int chunkX;
+
+    @Benchmark
+    public float noise2Sample() {
+        chunkX++;
+        return OpenSimplex2.noise2(BenchmarkFixtures.SEED, chunkX * SCALE, 0.5);
+    }
+
+    // One sample per tile of a chunk, so the score reads as chunks/sec
+    @Benchmark
+    public void noise2Chunk(Blackhole bh) {
+        chunkX++;
+        double baseX = chunkX * CHUNK_SIZE;
+        for (int x = 0; x < CHUNK_SIZE; x++) {
+            for (int y = 0; y < CHUNK_SIZE; y++) {
+                bh.consume(OpenSimplex2.noise2(BenchmarkFixtures.SEED, (baseX + x) * SCALE, y * SCALE));
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package io.github.minemon.benchmark;
+
+import io.github.minemon.server.world.ServerWorldObjectManagerImpl;
+import io.github.minemon.world.biome.model.Biome;
+import io.github.minemon.world.biome.model.BiomeType;
+import io.github.minemon.world.model.ChunkTiles;
+import io.github.minemon.world.model.WorldObject;
+import io.github.minemon.world.service.WorldService;
+import io.github.minemon.world.service.impl.WorldGeneratorImpl;
+import io.github.minemon.world.service.impl.WorldObjectManagerImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class ObjectGenerationBenchmark {
+    private static final int CHUNK_COUNT = 64;
+
+    @Param({"PLAINS", "DESERT"})
+    private BiomeType biomeType;
+
+    private WorldObjectManagerImpl clientManager;
+    private ServerWorldObjectManagerImpl serverManager;
+    private WorldGeneratorImpl worldGenerator;
+    private Biome biome;
+    private Biome[] uniformBiomes;
+    private ChunkTiles[] tiles;
+    private int chunkIndex;
+
+    @Setup
+    public void setup() {
+        Map<BiomeType, Biome> biomes = BenchmarkFixtures.loadBiomes();
+        biome = biomes.get(biomeType);
+        if (biome == null) {
+            throw new IllegalStateException("Biome " + biomeType + " not configured");
+        }
+        uniformBiomes = new Biome[16 * 16];
+        Arrays.fill(uniformBiomes, biome);
+        worldGenerator = BenchmarkFixtures.worldGenerator(biomes);
+
+        // Tiles are drawn from the biome's own allowed types so every chunk is fully eligible for it
+        List<Integer> allowed = biome.getAllowedTileTypes();
+        Random random = new Random(BenchmarkFixtures.SEED);
+        tiles = new ChunkTiles[CHUNK_COUNT];
+        for (int i = 0; i < CHUNK_COUNT; i++) {
+            tiles[i] = new ChunkTiles();
+            for (int t = 0; t < ChunkTiles.AREA; t++) {
+                tiles[i].set(t, allowed.get(random.nextInt(allowed.size())));
+            }
+        }
+
+        clientManager = new WorldObjectManagerImpl();
+        clientManager.setWorldService(singlePlayerWorld());
+        clientManager.setItemSpawnService(BenchmarkFixtures.noItemSpawns());
+
+        serverManager = new ServerWorldObjectManagerImpl();
+        serverManager.setItemSpawnService(BenchmarkFixtures.noItemSpawns());
+    }
+
+    @Benchmark
+    public List<WorldObject> clientGenerateObjects() {
+        int i = chunkIndex++ & (CHUNK_COUNT - 1);
+        return clientManager.generateObjectsForChunk(i, 0, tiles[i], biome, BenchmarkFixtures.SEED,
+            (cx, cy) -> uniformBiomes);
+    }
+
+    @Benchmark
+    public List<WorldObject> serverGenerateObjects() {
+        int i = chunkIndex++ & (CHUNK_COUNT - 1);
+        return serverManager.generateObjectsForChunk(i, 0, tiles[i], biome, BenchmarkFixtures.SEED,
+            (cx, cy) -> uniformBiomes);
+    }
+
+    // Tiles plus objects, the full cost of a chunk on the live generation path
+    @Benchmark
+    public List<WorldObject> generateChunkWithObjects() {
+        chunkIndex++;
+        ChunkTiles chunkTiles = worldGenerator.generateChunk(chunkIndex, 0);
+        Biome chunkBiome = worldGenerator.getBiomeForChunk(chunkIndex, 0);
+        return serverManager.generateObjectsForChunk(chunkIndex, 0, chunkTiles, chunkBiome, BenchmarkFixtures.SEED,
+            worldGenerator::getTileBiomes);
+    }
+
+    private static WorldService singlePlayerWorld() {
+        return (WorldService) Proxy.newProxyInstance(WorldService.class.getClassLoader(),
+            new Class<?>[]{WorldService.class},
+            (proxy, method, args) -> method.getReturnType() == boolean.class ? Boolean.FALSE : null);
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.minemon.benchmark;
+
+import io.github.minemon.world.biome.model.Biome;
+import io.github.minemon.world.model.ChunkTiles;
+import io.github.minemon.world.service.impl.WorldGeneratorImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class WorldGeneratorBenchmark {
+    private WorldGeneratorImpl worldGenerator;
+    private int chunkIndex;
+
+    @Setup
+    public void setup() {
+        worldGenerator = BenchmarkFixtures.worldGenerator(BenchmarkFixtures.loadBiomes());
+    }
+
+    // Advances along a strip of chunks so every call generates a chunk it has not seen before
+    @Benchmark
+    public ChunkTiles generateChunk() {
+        chunkIndex++;
+        return worldGenerator.generateChunk(chunkIndex, chunkIndex >> 1);
+    }
+
+    @Benchmark
+    public Biome getBiomeForChunk() {
+        chunkIndex++;
+        return worldGenerator.getBiomeForChunk(chunkIndex, chunkIndex >> 1);
+    }
+}
@@ -9,12 +9,15 @@ import io.github.minemon.context.AndroidGameContext;
 import io.github.minemon.core.screen.ModeSelectionScreen;
 import io.github.minemon.core.service.ScreenManager;
 import io.github.minemon.core.service.SettingsService;
+import io.github.minemon.core.service.StartupOrchestrator;
+import io.github.minemon.core.service.StartupOrchestrator.Affinity;
 import io.github.minemon.core.service.UiService;
 import io.github.minemon.core.ui.AndroidUIFactory;
 import io.github.minemon.input.AndroidTouchInput;
 import io.github.minemon.input.InputService;
 import io.github.minemon.player.service.PlayerAnimationService;
 import io.github.minemon.world.biome.service.BiomeService;
+import io.github.minemon.world.config.WorldConfigRegistry;
 import io.github.minemon.world.service.TileManager;
 import io.github.minemon.world.service.WorldObjectManager;
 import io.github.minemon.world.service.WorldService;
@@ -104,56 +107,44 @@ public class GdxGame extends Game {
         return context;
     }
 
+    // GL work stays on this thread; config parsing, biome setup and audio decoding overlap with it on a pool.
+    // Game-only textures and sounds are deferred until after the first screen is up.
     private void initializeServices(ApplicationContext context) {
+        StartupOrchestrator startup = new StartupOrchestrator();
+
         // Core services
-        initializeService("SettingsService", () -> 
-            context.getBean(SettingsService.class).initialize());
-        
-        initializeService("UiService", () -> 
-            context.getBean(UiService.class).initialize());
+        startup.add("settings", Affinity.BACKGROUND, () ->
+            context.getBean(SettingsService.class).initialize()).required();
+        startup.add("ui", Affinity.RENDER, () ->
+            context.getBean(UiService.class).initialize()).required();
 
         // Platform-specific initialization
         if (isAndroid) {
-            initializeAndroidServices(context);
+            startup.add("touchInput", Affinity.RENDER, () -> initializeAndroidServices(context));
         }
 
         // World services
-        log.info("Initializing world services...");
-        initializeService("TileManager", () -> 
-            context.getBean(TileManager.class).initIfNeeded());
-        initializeService("WorldObjectManager", () -> 
+        startup.add("worldConfig", Affinity.BACKGROUND, () ->
+            context.getBean(WorldConfigRegistry.class).getSnapshot()).required();
+        startup.add("tiles", Affinity.BACKGROUND, () ->
+            context.getBean(TileManager.class).initIfNeeded()).after("worldConfig").required();
+        startup.add("biomes", Affinity.BACKGROUND, () ->
+            context.getBean(BiomeService.class).init()).after("worldConfig");
+        startup.add("worldObjects", Affinity.BACKGROUND, () ->
             context.getBean(WorldObjectManager.class).initialize());
-        initializeService("WorldService", () -> 
-            context.getBean(WorldService.class).initIfNeeded());
-        initializeService("ObjectTextureManager", () -> 
-            context.getBean(ObjectTextureManager.class).initializeIfNeeded());
+        startup.add("world", Affinity.BACKGROUND, () ->
+            context.getBean(WorldService.class).initIfNeeded())
+            .after("worldConfig", "tiles", "biomes", "worldObjects").required();
 
         // Game services
-        log.info("Initializing game services...");
-        initializeService("PlayerAnimationService", () -> 
-            context.getBean(PlayerAnimationService.class).initAnimationsIfNeeded());
-        initializeService("AudioService", () -> 
-            context.getBean(AudioService.class).initAudio());
-        initializeService("BiomeService", () -> 
-            context.getBean(BiomeService.class).init());
-    }
-
-    private void initializeService(String serviceName, Runnable initializer) {
-        try {
-            initializer.run();
-        } catch (Exception e) {
-            log.error("Failed to initialize {}: {}", serviceName, e.getMessage());
-            if (isRequiredService(serviceName)) {
-                throw e;
-            }
-        }
-    }
-
-    private boolean isRequiredService(String serviceName) {
-        return serviceName.equals("SettingsService") || 
-               serviceName.equals("UiService") ||
-               serviceName.equals("WorldService") ||
-               serviceName.equals("TileManager");
+        startup.add("objectTextures", Affinity.RENDER, () ->
+            context.getBean(ObjectTextureManager.class).initializeIfNeeded()).deferred();
+        startup.add("playerAnimations", Affinity.RENDER, () ->
+            context.getBean(PlayerAnimationService.class).initAnimationsIfNeeded()).deferred();
+        startup.add("sounds", Affinity.BACKGROUND, () ->
+            context.getBean(AudioService.class).initAudio()).deferred();
+
+        startup.run();
     }
 
     private void initializeAndroidServices(ApplicationContext context) {
@@ -5,12 +5,14 @@ import io.github.minemon.chat.model.ChatMessage;
 import io.github.minemon.inventory.model.InventorySlot;
 import io.github.minemon.player.model.PlayerData;
 import io.github.minemon.utils.UUIDSerializer;
+import io.github.minemon.world.model.ChunkTiles;
 import io.github.minemon.world.model.WorldObject;
 import io.github.minemon.multiplayer.model.PlayerSyncData;
 import io.github.minemon.multiplayer.model.WorldObjectUpdate;
 import lombok.Data;
 
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public final class NetworkProtocol {
 
@@ -21,6 +23,9 @@ public final class NetworkProtocol {
         kryo.register(UUID.class, new UUIDSerializer());
         kryo.register(java.util.UUID.class);
         kryo.register(ChatMessage.class);
+        kryo.register(ChatMessage.Type.class);
+        kryo.register(ChatMessage.Channel.class);
+        kryo.register(ChatBatch.class);
 
         kryo.register(UUID.class, new UUIDSerializer());
         kryo.register(ArrayList.class);
@@ -31,7 +36,8 @@ public final class NetworkProtocol {
         kryo.register(ChunkRequestAck.class);
         kryo.register(ArrayList.class);
         kryo.register(int[].class);
-        kryo.register(int[][].class);
+        kryo.register(short[].class);
+        kryo.register(ChunkTiles.class);
         kryo.register(ChunkData.class);
         kryo.register(PlayerData.class);
         kryo.register(WorldObject.class);
@@ -46,14 +52,26 @@ public final class NetworkProtocol {
         kryo.register(InventoryUpdate.class);
         kryo.register(InventoryAction.class);
         kryo.register(InventoryActionType.class);
+        kryo.register(InventorySnapshot.class);
+        kryo.register(InventoryDelta.class);
+        kryo.register(String[].class);
+        kryo.register(byte[].class);
 
         kryo.register(LoginRequest.class);
         kryo.register(LoginResponse.class);
         kryo.register(PlayerMoveRequest.class);
+        kryo.register(PlayerPositionCorrection.class);
+        kryo.register(PlayerMoveRequest[].class);
+        kryo.register(PlayerMoveBatch.class);
+        kryo.register(PlayerSyncData[].class);
+        kryo.register(PlayerStateSnapshot.class);
         kryo.register(PlayerStatesUpdate.class);
         kryo.register(ChunkRequest.class);
         kryo.register(ChunkData.class);
         kryo.register(WorldObjectsUpdate.class);
+        kryo.register(ChunksUnloaded.class);
+        // The server sends chunk object lists as it holds them
+        kryo.register(CopyOnWriteArrayList.class);
 
         kryo.register(CreateUserRequest.class);
         kryo.register(CreateUserResponse.class);
@@ -82,6 +100,12 @@ public final class NetworkProtocol {
         private String password;
     }
 
+    // All chat lines for one client collected during a server tick, sent as a single write
+    @Data
+    public static class ChatBatch {
+        private List<ChatMessage> messages;
+    }
+
     @Data
     public static class ChunkRequestAck {
         private int chunkX;
@@ -119,6 +143,27 @@ public final class NetworkProtocol {
         private String itemId;
         private int slotIndex;
         private int count;
+        // For SYNC_REQUEST: the last inventory version the client applied, or -1 for a full snapshot
+        private long version = -1;
+    }
+
+    // Full authoritative inventory, encoded with InventorySlotCodec
+    @Data
+    public static class InventorySnapshot {
+        private long version;
+        private byte[] slots;
+    }
+
+    // Only the slots changed between baseVersion and version; clients not at baseVersion ask for a sync
+    @Data
+    public static class InventoryDelta {
+        private long baseVersion;
+        private long version;
+        private int[] slots;
+        private String[] itemIds;
+        private int[] counts;
+        private int[] durability;
+        private int[] maxDurability;
     }
 
     @Data
@@ -134,11 +179,39 @@ public final class NetworkProtocol {
 
     @Data
     public static class PlayerMoveRequest {
+        private int sequence;
         private float x;
         private float y;
         private boolean running;
         private boolean moving;
-        private String direction;
+        private int direction; // PlayerDirection ordinal
+    }
+
+    // Unreliable channel: each datagram repeats the last few moves, so one lost packet costs nothing
+    @Data
+    public static class PlayerMoveBatch {
+        private PlayerMoveRequest[] moves;
+    }
+
+    // Unreliable channel: states of players that changed recently, plus the recipient's last processed move
+    // and where the server has it. Membership changes still arrive as PlayerStatesUpdate over TCP.
+    // serverTime is in milliseconds since the server started; clients interpolate remote players against it.
+    @Data
+    public static class PlayerStateSnapshot {
+        private int sequence;
+        private int serverTime;
+        private int ackSequence;
+        private float ackX;
+        private float ackY;
+        private PlayerSyncData[] players;
+    }
+
+    // Sent when the server rejects a move; the client snaps back to the last accepted tile
+    @Data
+    public static class PlayerPositionCorrection {
+        private float x;
+        private float y;
+        private int direction;
     }
 
     @Data
@@ -153,11 +226,18 @@ public final class NetworkProtocol {
         private long timestamp;
     }
 
+    // Chunks the client evicted, so the server stops sending it their object updates
+    @Data
+    public static class ChunksUnloaded {
+        private int[] chunkXs;
+        private int[] chunkYs;
+    }
+
     @Data
     public static class ChunkData {
         private int chunkX;
         private int chunkY;
-        private int[][] tiles;
+        private ChunkTiles tiles;
         private List<WorldObject> objects = new ArrayList<>();
         private boolean isPartial;
         private int partNumber;
@@ -12,18 +12,28 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @Slf4j
 @Primary
 public class AudioServiceImpl implements AudioService {
 
-    private final Map<SoundEffect, Sound> sounds = new EnumMap<>(SoundEffect.class);
+    private static final List<String> MENU_MUSIC_PATHS = List.of(
+            "music/Menu-Music-1.mp3",
+            "music/Menu-Music-2.mp3",
+            "music/Menu-Music-0.mp3",
+            "music/Menu-Music-3.mp3",
+            "music/Menu-Music-4.mp3"
+    );
 
-    private final Map<WeatherSoundEffect, Music> weatherLoops = new EnumMap<>(WeatherSoundEffect.class);
-    private final Map<WeatherSoundEffect, Sound> weatherSounds = new EnumMap<>(WeatherSoundEffect.class);
+    // Sounds are decoded off the render thread at startup and may be played while that is still going on
+    private final Map<SoundEffect, Sound> sounds = new ConcurrentHashMap<>();
+    private final Map<WeatherSoundEffect, Sound> weatherSounds = new ConcurrentHashMap<>();
 
-    private List<Music> menuMusicList;
+    // Streamed, so only opened when first played
+    private final Map<WeatherSoundEffect, Music> weatherLoops = new EnumMap<>(WeatherSoundEffect.class);
+    private final Set<WeatherSoundEffect> missingWeatherLoops = EnumSet.noneOf(WeatherSoundEffect.class);
     private Music currentMusic;
 
     private final float masterVolume = 1.0f;
@@ -48,8 +58,8 @@ public class AudioServiceImpl implements AudioService {
         initializeAudio();
     }
 
+    // Decodes the short effects up front; safe to call from a background thread
     private void initializeAudio() {
-
         for (SoundEffect effect : SoundEffect.values()) {
             try {
                 Sound sound = Gdx.audio.newSound(Gdx.files.internal("" + effect.getPath()));
@@ -59,64 +69,41 @@ public class AudioServiceImpl implements AudioService {
             }
         }
 
-
-
-
-        for (WeatherSoundEffect wEffect : WeatherSoundEffect.values()) {
-            String path = wEffect.getPath();
-            if (wEffect == WeatherSoundEffect.THUNDER) {
-
-                try {
-                    Sound wSound = Gdx.audio.newSound(Gdx.files.internal(path));
-                    weatherSounds.put(wEffect, wSound);
-                } catch (Exception e) {
-                    log.error("Failed to load weather sound: {}", path, e);
-                }
-            } else {
-
-                try {
-                    Music wMusic = Gdx.audio.newMusic(Gdx.files.internal(path));
-                    wMusic.setLooping(true);
-                    wMusic.setVolume(0f);
-                    weatherLoops.put(wEffect, wMusic);
-                } catch (Exception e) {
-                    log.error("Failed to load weather loop: {}", path, e);
-                }
-            }
+        try {
+            String path = WeatherSoundEffect.THUNDER.getPath();
+            weatherSounds.put(WeatherSoundEffect.THUNDER, Gdx.audio.newSound(Gdx.files.internal(path)));
+        } catch (Exception e) {
+            log.error("Failed to load weather sound: {}", WeatherSoundEffect.THUNDER.getPath(), e);
         }
-
-        menuMusicList = new ArrayList<>();
-        loadMenuMusic(Arrays.asList(
-                "music/Menu-Music-1.mp3",
-                "music/Menu-Music-2.mp3",
-                "music/Menu-Music-0.mp3",
-                "music/Menu-Music-3.mp3",
-                "music/Menu-Music-4.mp3"
-        ));
     }
 
-    private void loadMenuMusic(List<String> paths) {
-        for (String path : paths) {
+    private Music weatherLoop(WeatherSoundEffect effect) {
+        Music loop = weatherLoops.get(effect);
+        if (loop == null && effect != WeatherSoundEffect.THUNDER && !missingWeatherLoops.contains(effect)) {
             try {
-                Music music = Gdx.audio.newMusic(Gdx.files.internal( path));
-                music.setVolume(musicVolume * masterVolume);
-                menuMusicList.add(music);
+                loop = Gdx.audio.newMusic(Gdx.files.internal(effect.getPath()));
+                loop.setLooping(true);
+                loop.setVolume(0f);
+                weatherLoops.put(effect, loop);
             } catch (Exception e) {
-                log.error("Failed to load menu music: {}", path, e);
+                log.error("Failed to load weather loop: {}", effect.getPath(), e);
+                missingWeatherLoops.add(effect);
             }
         }
+        return loop;
     }
+
     @Override
     public void playMenuMusic() {
-        if (!musicEnabled || menuMusicList == null || menuMusicList.isEmpty()) {
+        if (!musicEnabled) {
             return;
         }
 
         try {
             stopCurrentMusic(); 
 
-            int index = MathUtils.random(menuMusicList.size() - 1);
-            currentMusic = menuMusicList.get(index);
+            int index = MathUtils.random(MENU_MUSIC_PATHS.size() - 1);
+            currentMusic = Gdx.audio.newMusic(Gdx.files.internal(MENU_MUSIC_PATHS.get(index)));
 
             if (currentMusic != null) {
                 currentMusic.setVolume(0f);
@@ -155,25 +142,12 @@ public class AudioServiceImpl implements AudioService {
         weatherSounds.clear();
 
         
-        if (currentMusic != null) {
-            currentMusic.stop();
-            currentMusic.dispose();
-            currentMusic = null;
-        }
-
-        if (menuMusicList != null) {
-            for (Music music : menuMusicList) {
-                if (music != null) {
-                    music.stop();
-                    music.dispose();
-                }
-            }
-            menuMusicList.clear();
-        }
+        stopCurrentMusic();
     }
     private void setMusicCompletionListenerForMenu() {
         if (currentMusic != null) {
-            currentMusic.setOnCompletionListener(music -> playMenuMusic());
+            // Not from inside the callback: the next track disposes this one
+            currentMusic.setOnCompletionListener(music -> Gdx.app.postRunnable(this::playMenuMusic));
         }
     }
 
@@ -213,9 +187,8 @@ public class AudioServiceImpl implements AudioService {
             currentMusic.setVolume(volume);
 
             if (fadeOutMusicTimer <= 0) {
-                currentMusic.stop();
                 isFadingOutMusic = false;
-                currentMusic = null;
+                stopCurrentMusic();
             }
         }
     }
@@ -246,7 +219,7 @@ public class AudioServiceImpl implements AudioService {
     public void updateWeatherLoop(WeatherSoundEffect effect, float volume) {
         if (!soundEnabled) return;
 
-        Music loop = weatherLoops.get(effect);
+        Music loop = weatherLoop(effect);
         if (loop != null) {
             if (!loop.isPlaying()) {
                 loop.play();
@@ -262,11 +235,13 @@ public class AudioServiceImpl implements AudioService {
         }
     }
 
+    // Closes the stream too; the loop is reopened the next time the weather needs it
     @Override
     public void stopWeatherLoop(WeatherSoundEffect effect) {
-        Music loop = weatherLoops.get(effect);
-        if (loop != null && loop.isPlaying()) {
+        Music loop = weatherLoops.remove(effect);
+        if (loop != null) {
             loop.stop();
+            loop.dispose();
         }
     }
 
@@ -344,9 +319,11 @@ public class AudioServiceImpl implements AudioService {
         }
     }
 
+    // Menu tracks are streamed, so a stopped one is closed rather than kept around
     private void stopCurrentMusic() {
         if (currentMusic != null) {
             currentMusic.stop();
+            currentMusic.dispose();
             currentMusic = null;
         }
     }
@@ -359,20 +336,6 @@ public class AudioServiceImpl implements AudioService {
         }
         sounds.clear();
 
-        if (currentMusic != null) {
-            currentMusic.stop();
-            currentMusic.dispose();
-            currentMusic = null;
-        }
-
-        if (menuMusicList != null) {
-            for (Music music : menuMusicList) {
-                music.dispose();
-            }
-            menuMusicList.clear();
-        }
-
-
         for (Sound wSound : weatherSounds.values()) {
             wSound.dispose();
         }
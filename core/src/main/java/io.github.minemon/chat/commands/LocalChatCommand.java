@@ -0,0 +1,51 @@
+package io.github.minemon.chat.commands;
+
+import io.github.minemon.chat.model.ChatMessage;
+import io.github.minemon.chat.service.ChatService;
+import io.github.minemon.multiplayer.service.MultiplayerClient;
+import io.github.minemon.player.model.PlayerData;
+import io.github.minemon.player.service.PlayerService;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LocalChatCommand implements Command {
+
+    @Override
+    public String getName() {
+        return "local";
+    }
+
+    @Override
+    public String[] getAliases() {
+        return new String[]{"l"};
+    }
+
+    @Override
+    public String getDescription() {
+        return "Sends a message only to players near you";
+    }
+
+    @Override
+    public String getUsage() {
+        return "/l <message>";
+    }
+
+    @Override
+    public boolean isMultiplayerOnly() {
+        return true;
+    }
+
+    @Override
+    public void execute(String args, PlayerService playerService, ChatService chatService, MultiplayerClient multiplayerClient) {
+        if (args.isBlank()) {
+            chatService.addSystemMessage("Usage: " + getUsage());
+            return;
+        }
+
+        PlayerData player = playerService.getPlayerData();
+        ChatMessage msg = new ChatMessage(player != null ? player.getUsername() : null, args.trim(),
+            System.currentTimeMillis(), ChatMessage.Type.NORMAL, ChatMessage.Channel.LOCAL, null);
+        chatService.handleIncomingMessage(msg);
+        multiplayerClient.sendMessage(msg);
+    }
+}
@@ -38,11 +38,12 @@ public class SpawnCommand implements Command {
     public void execute(String args, PlayerService playerService,
                         ChatService chatService, MultiplayerClient multiplayerClient) {
 
-        PlayerData player = playerService.getPlayerData();
-        if (player == null) {
+        PlayerData current = playerService.getPlayerData();
+        if (current == null) {
             chatService.addSystemMessage("Error: Player not found");
             return;
         }
+        PlayerData player = current.copy();
 
         chatService.addSystemMessage("Preparing spawn area...");
 
@@ -68,7 +69,7 @@ public class SpawnCommand implements Command {
                 player.getY(),
                 player.isWantsToRun(),
                 false,
-                player.getDirection().name().toLowerCase()
+                player.getDirection()
             );
         }
 
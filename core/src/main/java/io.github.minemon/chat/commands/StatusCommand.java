@@ -0,0 +1,45 @@
+package io.github.minemon.chat.commands;
+
+import io.github.minemon.chat.model.ChatMessage;
+import io.github.minemon.chat.service.ChatService;
+import io.github.minemon.multiplayer.service.MultiplayerClient;
+import io.github.minemon.player.model.PlayerData;
+import io.github.minemon.player.service.PlayerService;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StatusCommand implements Command {
+
+    @Override
+    public String getName() {
+        return "status";
+    }
+
+    @Override
+    public String[] getAliases() {
+        return new String[0];
+    }
+
+    @Override
+    public String getDescription() {
+        return "Shows server tick, network and chunk statistics";
+    }
+
+    @Override
+    public String getUsage() {
+        return "/status";
+    }
+
+    @Override
+    public boolean isMultiplayerOnly() {
+        return true;
+    }
+
+    // The server answers with system messages to this player only
+    @Override
+    public void execute(String args, PlayerService playerService, ChatService chatService, MultiplayerClient multiplayerClient) {
+        PlayerData player = playerService.getPlayerData();
+        String sender = player != null ? player.getUsername() : null;
+        multiplayerClient.sendMessage(new ChatMessage(sender, "/status", System.currentTimeMillis(), ChatMessage.Type.NORMAL));
+    }
+}
@@ -45,7 +45,7 @@ public class TeleportPositionCommand implements Command {
     @Override
     public void execute(String args, PlayerService playerService, ChatService chatService, MultiplayerClient multiplayerClient) {
         String[] argsArray = args.split(" ");
-        PlayerData player = playerService.getPlayerData();
+        PlayerData player = playerService.getPlayerData().copy();
         try {
             if (player == null) {
                 chatService.addSystemMessage("Error: Player not found");
@@ -78,7 +78,7 @@ public class TeleportPositionCommand implements Command {
                     player.getY(),
                     player.isWantsToRun(),
                     false,
-                    player.getDirection().name().toLowerCase()
+                    player.getDirection()
                 );
             }
 
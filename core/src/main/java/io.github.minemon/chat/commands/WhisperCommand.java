@@ -0,0 +1,52 @@
+package io.github.minemon.chat.commands;
+
+import io.github.minemon.chat.model.ChatMessage;
+import io.github.minemon.chat.service.ChatService;
+import io.github.minemon.multiplayer.service.MultiplayerClient;
+import io.github.minemon.player.model.PlayerData;
+import io.github.minemon.player.service.PlayerService;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WhisperCommand implements Command {
+
+    @Override
+    public String getName() {
+        return "whisper";
+    }
+
+    @Override
+    public String[] getAliases() {
+        return new String[]{"w", "msg", "tell"};
+    }
+
+    @Override
+    public String getDescription() {
+        return "Sends a private message to one player";
+    }
+
+    @Override
+    public String getUsage() {
+        return "/w <player> <message>";
+    }
+
+    @Override
+    public boolean isMultiplayerOnly() {
+        return true;
+    }
+
+    @Override
+    public void execute(String args, PlayerService playerService, ChatService chatService, MultiplayerClient multiplayerClient) {
+        String[] parts = args.trim().split("\\s+", 2);
+        if (parts.length < 2 || parts[1].isBlank()) {
+            chatService.addSystemMessage("Usage: " + getUsage());
+            return;
+        }
+
+        PlayerData player = playerService.getPlayerData();
+        ChatMessage msg = new ChatMessage(player != null ? player.getUsername() : null, parts[1],
+            System.currentTimeMillis(), ChatMessage.Type.NORMAL, ChatMessage.Channel.WHISPER, parts[0]);
+        chatService.handleIncomingMessage(msg);
+        multiplayerClient.sendMessage(msg);
+    }
+}
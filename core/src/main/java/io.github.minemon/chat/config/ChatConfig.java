@@ -1,8 +1,11 @@
 package io.github.minemon.chat.config;
 
+import io.github.minemon.chat.commands.LocalChatCommand;
 import io.github.minemon.chat.commands.SetSpawnCommand;
 import io.github.minemon.chat.commands.SpawnCommand;
+import io.github.minemon.chat.commands.StatusCommand;
 import io.github.minemon.chat.commands.TeleportPositionCommand;
+import io.github.minemon.chat.commands.WhisperCommand;
 import io.github.minemon.chat.service.CommandService;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,10 +25,22 @@ public class ChatConfig {
 
     @Autowired
     private TeleportPositionCommand teleportPositionCommand;
+
+    @Autowired
+    private StatusCommand statusCommand;
+
+    @Autowired
+    private WhisperCommand whisperCommand;
+
+    @Autowired
+    private LocalChatCommand localChatCommand;
     @PostConstruct
     public void registerCommands() {
         commandService.registerCommand(spawnCommand);
         commandService.registerCommand(setSpawnCommand);
         commandService.registerCommand(teleportPositionCommand);
+        commandService.registerCommand(statusCommand);
+        commandService.registerCommand(whisperCommand);
+        commandService.registerCommand(localChatCommand);
     }
 }
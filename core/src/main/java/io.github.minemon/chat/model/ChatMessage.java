@@ -14,7 +14,19 @@ public class ChatMessage {
     private String content;
     private long timestamp;
     private Type type;
+    private Channel channel = Channel.GLOBAL;
+    // Target username for WHISPER messages
+    private String recipient;
+
+    public ChatMessage(String sender, String content, long timestamp, Type type) {
+        this(sender, content, timestamp, type, Channel.GLOBAL, null);
+    }
+
     public enum Type {
         NORMAL, SYSTEM
     }
+
+    public enum Channel {
+        GLOBAL, LOCAL, WHISPER
+    }
 }
@@ -85,7 +85,7 @@ public class ChatTable extends Table implements ChatListener {
     }
 
     private void addMessage(ChatMessage msg) {
-        Label nameLabel = new Label(msg.getSender() + ": ", skin);
+        Label nameLabel = new Label(senderLabel(msg) + ": ", skin);
         Label contentLabel = new Label(msg.getContent(), skin);
         contentLabel.setWrap(true);
 
@@ -104,6 +104,16 @@ public class ChatTable extends Table implements ChatListener {
         });
     }
 
+    private String senderLabel(ChatMessage msg) {
+        if (msg.getChannel() == ChatMessage.Channel.WHISPER) {
+            return msg.getSender() + " -> " + msg.getRecipient();
+        }
+        if (msg.getChannel() == ChatMessage.Channel.LOCAL) {
+            return "[Local] " + msg.getSender();
+        }
+        return msg.getSender();
+    }
+
     public void activate() {
         active = true;
         chatService.activateChat();
@@ -44,6 +44,7 @@ import io.github.minemon.chat.service.impl.ChatServiceImpl;
 import io.github.minemon.chat.service.impl.CommandServiceImpl;
 import io.github.minemon.world.biome.service.impl.BiomeServiceImpl;
 import io.github.minemon.world.config.WorldConfig;
+import io.github.minemon.world.config.WorldConfigRegistry;
 import io.github.minemon.core.service.impl.LocalFileAccessService;
 import io.github.minemon.world.biome.config.BiomeConfigurationLoader;
 import lombok.extern.slf4j.Slf4j;
@@ -294,18 +295,25 @@ public class AndroidGameContext {
             register(BackgroundService.class, backgroundService);
 
             // Initialize texture managers
-            ObjectTextureManager objectTextureManager = new ObjectTextureManager();
+            TextureAtlasRegistry atlasRegistry = new TextureAtlasRegistry();
+            register(atlasRegistry);
+            register(TextureAtlasRegistry.class, atlasRegistry);
+
+            ObjectTextureManager objectTextureManager = new ObjectTextureManager(atlasRegistry);
             register(objectTextureManager);
             register(ObjectTextureManager.class, objectTextureManager);
 
-            ItemTextureManager itemTextureManager = new ItemTextureManager();
+            ItemTextureManager itemTextureManager = new ItemTextureManager(atlasRegistry);
             register(ItemTextureManager.class, itemTextureManager);
 
             // Initialize biome services
             BiomeConfigurationLoader biomeLoader = new BiomeConfigurationLoader(getBean(FileAccessService.class));
             register(biomeLoader);
 
-            BiomeServiceImpl biomeService = new BiomeServiceImpl(biomeLoader);
+            WorldConfigRegistry configRegistry = new WorldConfigRegistry(biomeLoader, getBean(FileAccessService.class));
+            register(configRegistry);
+
+            BiomeServiceImpl biomeService = new BiomeServiceImpl(configRegistry);
             register(biomeService);
             register(BiomeService.class, biomeService);
 
@@ -314,7 +322,7 @@ public class AndroidGameContext {
             register(worldObjectManager);
             register(WorldObjectManager.class, worldObjectManager);
 
-            ClientTileManagerImpl tileManager = new ClientTileManagerImpl(getBean(FileAccessService.class));
+            ClientTileManagerImpl tileManager = new ClientTileManagerImpl(configRegistry, atlasRegistry);
             register(tileManager);
             register(TileManager.class, tileManager);
 
@@ -341,7 +349,7 @@ public class AndroidGameContext {
             JsonWorldDataService jsonWorldDataService = new JsonWorldDataService(worldsDir, false);
             register(jsonWorldDataService);
 
-            WorldGeneratorImpl worldGenerator = new WorldGeneratorImpl(getBean(WorldConfig.class));
+            WorldGeneratorImpl worldGenerator = new WorldGeneratorImpl(getBean(WorldConfig.class), biomeService);
             register(worldGenerator);
             register(WorldGenerator.class, worldGenerator);
 
@@ -353,7 +361,7 @@ public class AndroidGameContext {
                 worldGenerator,
                 worldObjectManager,
                 tileManager,
-                biomeLoader,
+                configRegistry,
                 biomeService,
                 objectTextureManager,
                 jsonWorldDataService,
@@ -369,6 +377,11 @@ public class AndroidGameContext {
             register(chunkLoadingManager);
             register(ChunkLoadingManager.class, chunkLoadingManager);
 
+            MemoryBudgetManager memoryBudgetManager = new MemoryBudgetManager(
+                worldService, chunkLoadingManager, objectTextureManager, itemTextureManager, atlasRegistry);
+            register(memoryBudgetManager);
+            register(MemoryBudgetManager.class, memoryBudgetManager);
+
             ChunkLoaderService chunkLoaderService = new ChunkLoaderService(worldService);
             register(chunkLoaderService);
             register(ChunkLoaderService.class, chunkLoaderService);
@@ -394,7 +407,7 @@ public class AndroidGameContext {
             EventBus eventBus = new EventBus();
             register(eventBus);
             // Initialize player animation
-            PlayerAnimationServiceImpl playerAnimationService = new PlayerAnimationServiceImpl();
+            PlayerAnimationServiceImpl playerAnimationService = new PlayerAnimationServiceImpl(atlasRegistry);
             register(playerAnimationService);
             register(PlayerAnimationService.class, playerAnimationService);
 
@@ -406,7 +419,8 @@ public class AndroidGameContext {
             InventoryScreen inventoryScreen = new InventoryScreen(
                 getBean(InventoryService.class),
                 getBean(UiService.class),
-                getBean(InputService.class)
+                getBean(InputService.class),
+                atlasRegistry
             );
             register(InventoryScreen.class, inventoryScreen);
 
@@ -443,7 +457,7 @@ public class AndroidGameContext {
             playerService.setEventBus(getBean(EventBus.class));
             register(playerService);
             register(PlayerService.class, playerService);
-            HotbarUI hotbarUI = new HotbarUI(getBean(UiService.class), getBean(InventoryService.class), getBean(ItemTextureManager.class));
+            HotbarUI hotbarUI = new HotbarUI(getBean(UiService.class), getBean(InventoryService.class), getBean(ItemTextureManager.class), atlasRegistry);
             register(hotbarUI);
             // Set player service in input service now that it's created
             // Player service is now injected via constructor
@@ -466,6 +480,7 @@ public class AndroidGameContext {
                 getBean(ItemTextureManager.class)
             );
             gameScreen.setHotbarUI(getBean(HotbarUI.class));
+            gameScreen.setMemoryBudgetManager(getBean(MemoryBudgetManager.class));
             gameScreen.setWorldService(getBean(WorldService.class));
             gameScreen.setInventoryScreen(getBean(InventoryScreen.class));
             gameScreen.setConnectionManager(getBean(ClientConnectionManager.class));
@@ -559,16 +574,22 @@ public class AndroidGameContext {
         BiomeConfigurationLoader biomeLoader = new BiomeConfigurationLoader(fileAccessService);
         register(biomeLoader);
 
-        BiomeServiceImpl biomeService = new BiomeServiceImpl(biomeLoader);
+        WorldConfigRegistry configRegistry = new WorldConfigRegistry(biomeLoader, fileAccessService);
+        register(configRegistry);
+
+        BiomeServiceImpl biomeService = new BiomeServiceImpl(configRegistry);
         register(biomeService);
 
-        ObjectTextureManager objectTextureManager = new ObjectTextureManager();
+        TextureAtlasRegistry atlasRegistry = new TextureAtlasRegistry();
+        register(atlasRegistry);
+
+        ObjectTextureManager objectTextureManager = new ObjectTextureManager(atlasRegistry);
         register(objectTextureManager);
 
         WorldObjectManagerImpl worldObjectManager = new WorldObjectManagerImpl();
         register(worldObjectManager);
 
-        ClientTileManagerImpl tileManager = new ClientTileManagerImpl(fileAccessService);
+        ClientTileManagerImpl tileManager = new ClientTileManagerImpl(configRegistry, atlasRegistry);
         register(tileManager);
 
         CommandServiceImpl commandService = new CommandServiceImpl();
@@ -587,13 +608,13 @@ public class AndroidGameContext {
         JsonWorldDataService jsonWorldDataService = new JsonWorldDataService(worldsDir, false);
         register(jsonWorldDataService);
 
-        WorldGeneratorImpl worldGenerator = new WorldGeneratorImpl(worldConfig);
+        WorldGeneratorImpl worldGenerator = new WorldGeneratorImpl(worldConfig, biomeService);
         register(worldGenerator);
 
 
         ClientWorldServiceImpl worldService = new ClientWorldServiceImpl(
             worldConfig, worldGenerator, worldObjectManager,
-            tileManager, biomeLoader, biomeService,
+            tileManager, configRegistry, biomeService,
             objectTextureManager, jsonWorldDataService, fileAccessService
         );
         register(worldService);
@@ -602,7 +623,7 @@ public class AndroidGameContext {
         register(chunkLoadingManager);
 
 
-        PlayerAnimationServiceImpl playerAnimationService = new PlayerAnimationServiceImpl();
+        PlayerAnimationServiceImpl playerAnimationService = new PlayerAnimationServiceImpl(atlasRegistry);
         register(playerAnimationService);
 
         PlayerServiceImpl playerService = new PlayerServiceImpl(
@@ -645,6 +666,10 @@ public class AndroidGameContext {
                     getBean(ObjectTextureManager.class).disposeTextures();
                 }
 
+                if (beans.containsKey(TextureAtlasRegistry.class)) {
+                    getBean(TextureAtlasRegistry.class).dispose();
+                }
+
                 if (beans.containsKey(AudioService.class)) {
                     getBean(AudioService.class).dispose();
                 }
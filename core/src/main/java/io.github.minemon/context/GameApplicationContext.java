@@ -31,6 +31,7 @@ import io.github.minemon.world.biome.config.BiomeConfigurationLoader;
 import io.github.minemon.world.biome.service.BiomeService;
 import io.github.minemon.world.biome.service.impl.BiomeServiceImpl;
 import io.github.minemon.world.config.WorldConfig;
+import io.github.minemon.world.config.WorldConfigRegistry;
 import io.github.minemon.world.model.WorldRenderer;
 import io.github.minemon.world.service.*;
 import io.github.minemon.world.service.impl.ClientTileManagerImpl;
@@ -109,16 +110,25 @@ public class GameApplicationContext {
         bf.registerSingleton("biomeConfigurationLoader",
             new BiomeConfigurationLoader(bf.getBean(FileAccessService.class))
         );
+        bf.registerSingleton("worldConfigRegistry", new WorldConfigRegistry(
+            bf.getBean(BiomeConfigurationLoader.class),
+            bf.getBean(FileAccessService.class)
+        ));
         bf.registerSingleton("biomeService",
-            new BiomeServiceImpl(bf.getBean(BiomeConfigurationLoader.class))
+            new BiomeServiceImpl(bf.getBean(WorldConfigRegistry.class))
+        );
+        bf.registerSingleton("textureAtlasRegistry", new TextureAtlasRegistry());
+        bf.registerSingleton("objectTextureManager",
+            new ObjectTextureManager(bf.getBean(TextureAtlasRegistry.class))
         );
-        bf.registerSingleton("objectTextureManager", new ObjectTextureManager());
         bf.registerSingleton("worldObjectManager", new WorldObjectManagerImpl());
         bf.registerSingleton("tileManager", new ClientTileManagerImpl(
-            bf.getBean(FileAccessService.class)
+            bf.getBean(WorldConfigRegistry.class),
+            bf.getBean(TextureAtlasRegistry.class)
         ));
         bf.registerSingleton("worldGenerator", new WorldGeneratorImpl(
-            bf.getBean(WorldConfig.class)
+            bf.getBean(WorldConfig.class),
+            bf.getBean(BiomeService.class)
         ));
         bf.registerSingleton("worldService", new ClientWorldServiceImpl(
             bf.getBean(WorldConfig.class),
@@ -126,7 +136,7 @@ public class GameApplicationContext {
             bf.getBean(WorldObjectManager.class),
 
             bf.getBean(TileManager.class),
-            bf.getBean(BiomeConfigurationLoader.class),
+            bf.getBean(WorldConfigRegistry.class),
             bf.getBean(BiomeServiceImpl.class),
             bf.getBean(ObjectTextureManager.class),
             bf.getBean(JsonWorldDataService.class),
@@ -154,7 +164,9 @@ public class GameApplicationContext {
                 bf.getBean(WorldService.class)
             )
         );
-        bf.registerSingleton("playerAnimationService", new PlayerAnimationServiceImpl());
+        bf.registerSingleton("playerAnimationService", new PlayerAnimationServiceImpl(
+            bf.getBean(TextureAtlasRegistry.class)
+        ));
         bf.registerSingleton("inventoryService", new InventoryServiceImpl());
         bf.registerSingleton("playerService", new PlayerServiceImpl(
             bf.getBean(PlayerAnimationServiceImpl.class),
@@ -189,8 +201,15 @@ public class GameApplicationContext {
             bf.getBean("multiplayerClient", MultiplayerClientImpl.class),
             bf.getBean("commandService", CommandServiceImpl.class)
         ));
-        ItemTextureManager itemTextureManager = new ItemTextureManager();
+        ItemTextureManager itemTextureManager = new ItemTextureManager(bf.getBean(TextureAtlasRegistry.class));
         bf.registerSingleton("itemTextureManager", itemTextureManager);
+        bf.registerSingleton("memoryBudgetManager", new MemoryBudgetManager(
+            bf.getBean(WorldService.class),
+            bf.getBean(ChunkLoadingManager.class),
+            bf.getBean(ObjectTextureManager.class),
+            itemTextureManager,
+            bf.getBean(TextureAtlasRegistry.class)
+        ));
 
 
         ModeSelectionScreen modeSelectionScreen = new ModeSelectionScreen(
@@ -234,16 +253,24 @@ public class GameApplicationContext {
             bf.getBean(ChunkLoadingManager.class),
             bf.getBean(ItemTextureManager.class)
         );
+        gameScreen.setMemoryBudgetManager(bf.getBean(MemoryBudgetManager.class));
         bf.registerSingleton("gameScreen", gameScreen);
     }
 
     private static void initDesktopContext() {
         try {
+            long start = System.nanoTime();
             AnnotationConfigApplicationContext desktopCtx = new AnnotationConfigApplicationContext();
             desktopCtx.register(io.github.minemon.core.config.DesktopConfig.class);
+            // Beans are built on first use, so game-only services cost nothing until a world is entered
+            desktopCtx.addBeanFactoryPostProcessor(beanFactory -> {
+                for (String name : beanFactory.getBeanDefinitionNames()) {
+                    beanFactory.getBeanDefinition(name).setLazyInit(true);
+                }
+            });
             desktopCtx.refresh();
             context = desktopCtx;
-            log.info("Desktop context initialized successfully");
+            log.info("Desktop context initialized in {} ms", (System.nanoTime() - start) / 1_000_000);
         } catch (Exception e) {
             log.error("Failed to initialize desktop context", e);
             throw new RuntimeException("Failed to initialize desktop context", e);
@@ -34,6 +34,7 @@ import io.github.minemon.world.biome.config.BiomeConfigurationLoader;
 import io.github.minemon.world.biome.service.BiomeService;
 import io.github.minemon.world.biome.service.impl.BiomeServiceImpl;
 import io.github.minemon.world.config.WorldConfig;
+import io.github.minemon.world.config.WorldConfigRegistry;
 import io.github.minemon.world.model.WorldRenderer;
 import io.github.minemon.world.service.*;
 import io.github.minemon.world.service.impl.*;
@@ -99,13 +100,19 @@ public class AndroidConfig extends BaseGameConfig {
     }
 
     @Bean
-    public BiomeService biomeService(BiomeConfigurationLoader biomeConfigurationLoader) {
-        return new BiomeServiceImpl(biomeConfigurationLoader);
+    public WorldConfigRegistry worldConfigRegistry(BiomeConfigurationLoader biomeConfigurationLoader,
+                                                   FileAccessService fileAccessService) {
+        return new WorldConfigRegistry(biomeConfigurationLoader, fileAccessService);
     }
 
     @Bean
-    public ObjectTextureManager objectTextureManager() {
-        return new ObjectTextureManager();
+    public BiomeService biomeService(WorldConfigRegistry worldConfigRegistry) {
+        return new BiomeServiceImpl(worldConfigRegistry);
+    }
+
+    @Bean
+    public ObjectTextureManager objectTextureManager(TextureAtlasRegistry textureAtlasRegistry) {
+        return new ObjectTextureManager(textureAtlasRegistry);
     }
 
     @Bean
@@ -114,24 +121,25 @@ public class AndroidConfig extends BaseGameConfig {
     }
 
     @Bean
-    public TileManager tileManager(FileAccessService fileAccessService) {
-        return new ClientTileManagerImpl(fileAccessService);
+    public TileManager tileManager(WorldConfigRegistry worldConfigRegistry,
+                                   TextureAtlasRegistry textureAtlasRegistry) {
+        return new ClientTileManagerImpl(worldConfigRegistry, textureAtlasRegistry);
     }
 
     @Bean
-    public WorldGenerator worldGenerator(WorldConfig worldConfig) {
-        return new WorldGeneratorImpl(worldConfig);
+    public WorldGenerator worldGenerator(WorldConfig worldConfig, BiomeService biomeService) {
+        return new WorldGeneratorImpl(worldConfig, biomeService);
     }
 
     @Bean
     public WorldService worldService(WorldConfig worldConfig, WorldGenerator worldGenerator,
                                    WorldObjectManager worldObjectManager, TileManager tileManager,
-                                   BiomeConfigurationLoader biomeConfigurationLoader,
+                                   WorldConfigRegistry worldConfigRegistry,
                                    BiomeService biomeService, ObjectTextureManager objectTextureManager,
                                    JsonWorldDataService jsonWorldDataService,
                                    FileAccessService fileAccessService) {
         return new ClientWorldServiceImpl(worldConfig, worldGenerator, worldObjectManager,
-                tileManager, biomeConfigurationLoader, (BiomeServiceImpl) biomeService,
+                tileManager, worldConfigRegistry, (BiomeServiceImpl) biomeService,
                 objectTextureManager, jsonWorldDataService, fileAccessService);
     }
 
@@ -157,8 +165,8 @@ public class AndroidConfig extends BaseGameConfig {
     }
 
     @Bean
-    public ItemTextureManager itemTextureManager() {
-        return new ItemTextureManager();
+    public ItemTextureManager itemTextureManager(TextureAtlasRegistry textureAtlasRegistry) {
+        return new ItemTextureManager(textureAtlasRegistry);
     }
 
     @Bean
@@ -209,8 +217,8 @@ public class AndroidConfig extends BaseGameConfig {
     }
 
     @Bean
-    public PlayerAnimationService playerAnimationService() {
-        return new PlayerAnimationServiceImpl();
+    public PlayerAnimationService playerAnimationService(TextureAtlasRegistry textureAtlasRegistry) {
+        return new PlayerAnimationServiceImpl(textureAtlasRegistry);
     }
 
     @Bean
@@ -258,11 +266,12 @@ public class AndroidConfig extends BaseGameConfig {
 
     @Bean
     public ChatService chatService(MultiplayerClient multiplayerClient,
-                                 CommandServiceImpl commandService) {
+                                 CommandServiceImpl commandService,
+                                 TextureAtlasRegistry textureAtlasRegistry) {
         // Create a temporary PlayerService for ChatService
         // The real PlayerService will be injected later
         PlayerServiceImpl tempPlayerService = new PlayerServiceImpl(
-            new PlayerAnimationServiceImpl(),
+            new PlayerAnimationServiceImpl(textureAtlasRegistry),
             null,  // InputService will be injected later
             new PlayerProperties(),
             null,  // WorldService will be injected later
@@ -280,15 +289,17 @@ public class AndroidConfig extends BaseGameConfig {
     @Bean
     public HotbarUI hotbarUI(UiService uiService,
                             InventoryService inventoryService,
-                            ItemTextureManager itemTextureManager) {
-        return new HotbarUI(uiService, inventoryService, itemTextureManager);
+                            ItemTextureManager itemTextureManager,
+                            TextureAtlasRegistry textureAtlasRegistry) {
+        return new HotbarUI(uiService, inventoryService, itemTextureManager, textureAtlasRegistry);
     }
 
     @Bean
     public InventoryScreen inventoryScreen(InventoryService inventoryService,
                                          UiService uiService,
-                                         @Lazy InputService inputService) {
-        return new InventoryScreen(inventoryService, uiService, inputService);
+                                         @Lazy InputService inputService,
+                                         TextureAtlasRegistry textureAtlasRegistry) {
+        return new InventoryScreen(inventoryService, uiService, inputService, textureAtlasRegistry);
     }
 
     @Bean
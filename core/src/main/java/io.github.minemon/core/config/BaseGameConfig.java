@@ -31,6 +31,7 @@ import io.github.minemon.world.biome.config.BiomeConfigurationLoader;
 import io.github.minemon.world.biome.service.BiomeService;
 import io.github.minemon.world.biome.service.impl.BiomeServiceImpl;
 import io.github.minemon.world.config.WorldConfig;
+import io.github.minemon.world.config.WorldConfigRegistry;
 import io.github.minemon.world.model.WorldRenderer;
 import io.github.minemon.world.service.*;
 import io.github.minemon.world.service.impl.*;
@@ -93,13 +94,24 @@ public abstract class BaseGameConfig {
     }
 
     @Bean
-    public BiomeService biomeService(BiomeConfigurationLoader biomeConfigurationLoader) {
-        return new BiomeServiceImpl(biomeConfigurationLoader);
+    public WorldConfigRegistry worldConfigRegistry(BiomeConfigurationLoader biomeConfigurationLoader,
+                                                   FileAccessService fileAccessService) {
+        return new WorldConfigRegistry(biomeConfigurationLoader, fileAccessService);
     }
 
     @Bean
-    public ObjectTextureManager objectTextureManager() {
-        return new ObjectTextureManager();
+    public BiomeService biomeService(WorldConfigRegistry worldConfigRegistry) {
+        return new BiomeServiceImpl(worldConfigRegistry);
+    }
+
+    @Bean
+    public TextureAtlasRegistry textureAtlasRegistry() {
+        return new TextureAtlasRegistry();
+    }
+
+    @Bean
+    public ObjectTextureManager objectTextureManager(TextureAtlasRegistry textureAtlasRegistry) {
+        return new ObjectTextureManager(textureAtlasRegistry);
     }
 
     @Bean
@@ -108,24 +120,25 @@ public abstract class BaseGameConfig {
     }
 
     @Bean
-    public TileManager tileManager(FileAccessService fileAccessService) {
-        return new ClientTileManagerImpl(fileAccessService);
+    public TileManager tileManager(WorldConfigRegistry worldConfigRegistry,
+                                   TextureAtlasRegistry textureAtlasRegistry) {
+        return new ClientTileManagerImpl(worldConfigRegistry, textureAtlasRegistry);
     }
 
     @Bean
-    public WorldGenerator worldGenerator(WorldConfig worldConfig) {
-        return new WorldGeneratorImpl(worldConfig);
+    public WorldGenerator worldGenerator(WorldConfig worldConfig, BiomeService biomeService) {
+        return new WorldGeneratorImpl(worldConfig, biomeService);
     }
 
     @Bean
     public WorldService worldService(WorldConfig worldConfig, WorldGenerator worldGenerator,
                                    WorldObjectManager worldObjectManager, TileManager tileManager,
-                                   BiomeConfigurationLoader biomeConfigurationLoader,
+                                   WorldConfigRegistry worldConfigRegistry,
                                    BiomeService biomeService, ObjectTextureManager objectTextureManager,
                                    JsonWorldDataService jsonWorldDataService,
                                    FileAccessService fileAccessService) {
         return new ClientWorldServiceImpl(worldConfig, worldGenerator, worldObjectManager,
-                tileManager, biomeConfigurationLoader, (BiomeServiceImpl) biomeService,
+                tileManager, worldConfigRegistry, (BiomeServiceImpl) biomeService,
                 objectTextureManager, jsonWorldDataService, fileAccessService);
     }
 
@@ -151,8 +164,18 @@ public abstract class BaseGameConfig {
     }
 
     @Bean
-    public ItemTextureManager itemTextureManager() {
-        return new ItemTextureManager();
+    public ItemTextureManager itemTextureManager(TextureAtlasRegistry textureAtlasRegistry) {
+        return new ItemTextureManager(textureAtlasRegistry);
+    }
+
+    @Bean
+    public MemoryBudgetManager memoryBudgetManager(WorldService worldService,
+                                                   ChunkLoadingManager chunkLoadingManager,
+                                                   ObjectTextureManager objectTextureManager,
+                                                   ItemTextureManager itemTextureManager,
+                                                   TextureAtlasRegistry textureAtlasRegistry) {
+        return new MemoryBudgetManager(worldService, chunkLoadingManager, objectTextureManager,
+            itemTextureManager, textureAtlasRegistry);
     }
 
     @Bean
@@ -161,8 +184,8 @@ public abstract class BaseGameConfig {
     }
 
     @Bean
-    public PlayerAnimationService playerAnimationService() {
-        return new PlayerAnimationServiceImpl();
+    public PlayerAnimationService playerAnimationService(TextureAtlasRegistry textureAtlasRegistry) {
+        return new PlayerAnimationServiceImpl(textureAtlasRegistry);
     }
 
     @Bean
@@ -223,15 +246,17 @@ public abstract class BaseGameConfig {
     @Bean
     public HotbarUI hotbarUI(UiService uiService,
                             InventoryService inventoryService,
-                            ItemTextureManager itemTextureManager) {
-        return new HotbarUI(uiService, inventoryService, itemTextureManager);
+                            ItemTextureManager itemTextureManager,
+                            TextureAtlasRegistry textureAtlasRegistry) {
+        return new HotbarUI(uiService, inventoryService, itemTextureManager, textureAtlasRegistry);
     }
 
     @Bean
     public InventoryScreen inventoryScreen(InventoryService inventoryService,
                                          UiService uiService,
-                                         InputService inputService) {
-        return new InventoryScreen(inventoryService, uiService, inputService);
+                                         InputService inputService,
+                                         TextureAtlasRegistry textureAtlasRegistry) {
+        return new InventoryScreen(inventoryService, uiService, inputService, textureAtlasRegistry);
     }
 
     @Bean
@@ -38,6 +38,7 @@ import io.github.minemon.world.biome.config.BiomeConfigurationLoader;
 import io.github.minemon.world.biome.service.BiomeService;
 import io.github.minemon.world.biome.service.impl.BiomeServiceImpl;
 import io.github.minemon.world.config.WorldConfig;
+import io.github.minemon.world.config.WorldConfigRegistry;
 import io.github.minemon.world.model.ObjectRenderState;
 import io.github.minemon.world.model.WorldRenderer;
 import io.github.minemon.world.service.*;
@@ -102,13 +103,19 @@ public class DesktopConfig extends BaseGameConfig {
     }
 
     @Bean
-    public BiomeService biomeService(BiomeConfigurationLoader biomeConfigurationLoader) {
-        return new BiomeServiceImpl(biomeConfigurationLoader);
+    public WorldConfigRegistry worldConfigRegistry(BiomeConfigurationLoader biomeConfigurationLoader,
+                                                   FileAccessService fileAccessService) {
+        return new WorldConfigRegistry(biomeConfigurationLoader, fileAccessService);
     }
 
     @Bean
-    public ObjectTextureManager objectTextureManager() {
-        return new ObjectTextureManager();
+    public BiomeService biomeService(WorldConfigRegistry worldConfigRegistry) {
+        return new BiomeServiceImpl(worldConfigRegistry);
+    }
+
+    @Bean
+    public ObjectTextureManager objectTextureManager(TextureAtlasRegistry textureAtlasRegistry) {
+        return new ObjectTextureManager(textureAtlasRegistry);
     }
 
     @Bean
@@ -117,24 +124,25 @@ public class DesktopConfig extends BaseGameConfig {
     }
 
     @Bean
-    public TileManager tileManager(FileAccessService fileAccessService) {
-        return new ClientTileManagerImpl(fileAccessService);
+    public TileManager tileManager(WorldConfigRegistry worldConfigRegistry,
+                                   TextureAtlasRegistry textureAtlasRegistry) {
+        return new ClientTileManagerImpl(worldConfigRegistry, textureAtlasRegistry);
     }
 
     @Bean
-    public WorldGenerator worldGenerator(WorldConfig worldConfig) {
-        return new WorldGeneratorImpl(worldConfig);
+    public WorldGenerator worldGenerator(WorldConfig worldConfig, BiomeService biomeService) {
+        return new WorldGeneratorImpl(worldConfig, biomeService);
     }
 
     @Bean
     public WorldService worldService(WorldConfig worldConfig, WorldGenerator worldGenerator,
                                    WorldObjectManager worldObjectManager, TileManager tileManager,
-                                   BiomeConfigurationLoader biomeConfigurationLoader,
+                                   WorldConfigRegistry worldConfigRegistry,
                                    BiomeService biomeService, ObjectTextureManager objectTextureManager,
                                    JsonWorldDataService jsonWorldDataService,
                                    FileAccessService fileAccessService) {
         return new ClientWorldServiceImpl(worldConfig, worldGenerator, worldObjectManager,
-                tileManager, biomeConfigurationLoader, (BiomeServiceImpl) biomeService,
+                tileManager, worldConfigRegistry, (BiomeServiceImpl) biomeService,
                 objectTextureManager, jsonWorldDataService, fileAccessService);
     }
 
@@ -200,13 +208,13 @@ public class DesktopConfig extends BaseGameConfig {
     }
 
     @Bean
-    public PlayerAnimationService playerAnimationService() {
-        return new PlayerAnimationServiceImpl();
+    public PlayerAnimationService playerAnimationService(TextureAtlasRegistry textureAtlasRegistry) {
+        return new PlayerAnimationServiceImpl(textureAtlasRegistry);
     }
 
     @Bean
-    public ItemTextureManager itemTextureManager() {
-        return new ItemTextureManager();
+    public ItemTextureManager itemTextureManager(TextureAtlasRegistry textureAtlasRegistry) {
+        return new ItemTextureManager(textureAtlasRegistry);
     }
 
     @Bean
@@ -217,8 +225,9 @@ public class DesktopConfig extends BaseGameConfig {
     @Bean
     public HotbarUI hotbarUI(UiService uiService,
                             InventoryService inventoryService,
-                            ItemTextureManager itemTextureManager) {
-        return new HotbarUI(uiService, inventoryService, itemTextureManager);
+                            ItemTextureManager itemTextureManager,
+                            TextureAtlasRegistry textureAtlasRegistry) {
+        return new HotbarUI(uiService, inventoryService, itemTextureManager, textureAtlasRegistry);
     }
 
     @Bean
@@ -271,11 +280,12 @@ public class DesktopConfig extends BaseGameConfig {
 
     @Bean
     public ChatService chatService(MultiplayerClient multiplayerClient,
-                                 CommandServiceImpl commandService) {
+                                 CommandServiceImpl commandService,
+                                 TextureAtlasRegistry textureAtlasRegistry) {
         // Create a temporary PlayerService for ChatService
         // The real PlayerService will be injected later
         PlayerServiceImpl tempPlayerService = new PlayerServiceImpl(
-            new PlayerAnimationServiceImpl(),
+            new PlayerAnimationServiceImpl(textureAtlasRegistry),
             null,  // InputService will be injected later
             new PlayerProperties(),
             null,  // WorldService will be injected later
@@ -309,8 +319,9 @@ public class DesktopConfig extends BaseGameConfig {
     @Bean
     public InventoryScreen inventoryScreen(InventoryService inventoryService,
                                          UiService uiService,
-                                         @Lazy InputService inputService) {
-        return new InventoryScreen(inventoryService, uiService, inputService);
+                                         @Lazy InputService inputService,
+                                         TextureAtlasRegistry textureAtlasRegistry) {
+        return new InventoryScreen(inventoryService, uiService, inputService, textureAtlasRegistry);
     }
 
     @Bean
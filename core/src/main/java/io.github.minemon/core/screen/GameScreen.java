@@ -8,20 +8,21 @@ import com.badlogic.gdx.graphics.g2d.*;
 import com.badlogic.gdx.scenes.scene2d.*;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import io.github.minemon.audio.service.AudioService;
 import io.github.minemon.chat.service.ChatService;
 import io.github.minemon.chat.ui.ChatTable;
 import io.github.minemon.context.GameApplicationContext;
+import io.github.minemon.core.service.MemoryBudgetManager;
 import io.github.minemon.core.service.ScreenManager;
 import io.github.minemon.core.ui.HotbarUI;
 import io.github.minemon.input.InputService;
+import io.github.minemon.inventory.service.impl.ItemSpawnService;
 import io.github.minemon.inventory.service.impl.ItemTextureManager;
-import io.github.minemon.multiplayer.model.PlayerSyncData;
 import io.github.minemon.multiplayer.service.MultiplayerClient;
 import io.github.minemon.multiplayer.service.impl.ClientConnectionManager;
 import io.github.minemon.player.model.PlayerData;
-import io.github.minemon.player.model.PlayerDirection;
 import io.github.minemon.player.model.RemotePlayerAnimator;
 import io.github.minemon.player.service.PlayerAnimationService;
 import io.github.minemon.player.service.PlayerService;
@@ -38,9 +39,6 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
 @Component
 @Scope("prototype")
 @Slf4j
@@ -60,7 +58,6 @@ public class GameScreen implements Screen {
     private final ScreenManager screenManager;
     private final MultiplayerClient multiplayerClient;
     private final PlayerAnimationService animationService;
-    private final Map<String, RemotePlayerAnimator> remotePlayerAnimators = new ConcurrentHashMap<>();
     private final ChunkLoadingManager chunkLoadingManager;
     @Autowired
     @Setter
@@ -87,6 +84,12 @@ public class GameScreen implements Screen {
     @Autowired
     @Setter
     private HotbarUI hotbarUI;
+    @Autowired
+    @Setter
+    private ItemSpawnService itemSpawnService;
+    @Autowired
+    @Setter
+    private MemoryBudgetManager memoryBudgetManager;
 
     @Autowired
     public GameScreen(PlayerService playerService,
@@ -177,7 +180,7 @@ public class GameScreen implements Screen {
             worldService.getWorldData().getSeed());
 
         inventoryScreen.init();
-        itemTextureManager.initialize(new TextureAtlas(Gdx.files.internal("atlas/items-gfx-atlas.atlas")));
+        itemTextureManager.initialize();
 
 
         if (worldService.isMultiplayerMode() &&
@@ -433,7 +436,7 @@ public class GameScreen implements Screen {
         chunkLoadingManager.preloadChunksAroundPosition(x, y);
 
 
-        PlayerData player = playerService.getPlayerData();
+        PlayerData player = playerService.getPlayerData().copy();
         player.setX(x);
         player.setY(y);
         playerService.setPosition((int) x, (int) y);
@@ -452,7 +455,7 @@ public class GameScreen implements Screen {
                 x, y,
                 player.isWantsToRun(),
                 false,
-                player.getDirection().name().toLowerCase()
+                player.getDirection()
             );
         }
     }
@@ -467,7 +470,12 @@ public class GameScreen implements Screen {
                 player.getY() * TILE_SIZE
             );
             playerService.update(delta);
-
+            if (itemSpawnService != null && !worldService.isMultiplayerMode()) {
+                itemSpawnService.tick();
+            }
+            if (memoryBudgetManager != null) {
+                memoryBudgetManager.update(player.getX(), player.getY());
+            }
         }
 
         pauseStage.act(delta);
@@ -476,74 +484,22 @@ public class GameScreen implements Screen {
         audioService.update(delta);
     }
 
+    // Remote players come from their interpolation buffers; those outside the chunks drawn this frame are
+    // skipped, and the rest are drawn back to front in the same batch as the local player.
     private void renderRemotePlayers(SpriteBatch batch, float delta) {
-        Map<String, PlayerSyncData> states = multiplayerClient.getPlayerStates();
-        String localUsername = playerService.getPlayerData().getUsername();
-
-
-        for (Map.Entry<String, PlayerSyncData> entry : states.entrySet()) {
-            String otherUsername = entry.getKey();
-            if (otherUsername.equals(localUsername)) continue;
-
-            PlayerSyncData psd = entry.getValue();
-
-            RemotePlayerAnimator animator = remotePlayerAnimators.computeIfAbsent(
-                otherUsername,
-                k -> {
-                    RemotePlayerAnimator newAnimator = new RemotePlayerAnimator();
-
-                    newAnimator.setPosition(psd.getX() * TILE_SIZE, psd.getY() * TILE_SIZE);
-                    return newAnimator;
-                }
-            );
-
-
-            float targetTileX = psd.getX() * TILE_SIZE;
-            float targetTileY = psd.getY() * TILE_SIZE;
-
-
-            animator.updateState(
-                targetTileX,
-                targetTileY,
-                psd.isRunning(),
-                PlayerDirection.valueOf(psd.getDirection().toUpperCase()),
-                psd.isMoving() && isTrulyMoving(psd),
-                delta
-            );
-
-
+        Array<RemotePlayerAnimator> players =
+            multiplayerClient.getRemotePlayers().update(delta, worldRenderer.getVisibleChunks());
+        for (int i = 0; i < players.size; i++) {
+            RemotePlayerAnimator player = players.get(i);
             TextureRegion frame = animationService.getCurrentFrame(
-                animator.getDirection(),
-                animator.isMoving(),
-                animator.isRunning(),
-                animator.getAnimationTime()
+                player.getDirection(),
+                player.isMoving(),
+                player.isRunning(),
+                player.getAnimationTime()
             );
-
-
-            float drawX = animator.getCurrentX();
-            float drawY = animator.getCurrentY();
-
-            float width = frame.getRegionWidth();
-            float height = frame.getRegionHeight();
-            batch.draw(frame, drawX, drawY, width, height);
-
+            batch.draw(frame, player.getX() * TILE_SIZE, player.getY() * TILE_SIZE,
+                frame.getRegionWidth(), frame.getRegionHeight());
         }
-
-
-        remotePlayerAnimators.keySet().removeIf(username -> !states.containsKey(username));
-    }
-
-
-    private boolean isTrulyMoving(PlayerSyncData psd) {
-        float lastX = psd.getLastX();
-        float lastY = psd.getLastY();
-        float currentX = psd.getX();
-        float currentY = psd.getY();
-
-        float dx = Math.abs(currentX - lastX);
-        float dy = Math.abs(currentY - lastY);
-
-        return dx > 0.001f || dy > 0.001f;
     }
 
     private void renderGame(float delta) {
@@ -15,6 +15,7 @@ import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Scaling;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
+import io.github.minemon.core.service.TextureAtlasRegistry;
 import io.github.minemon.core.service.UiService;
 import io.github.minemon.input.InputConfiguration;
 import io.github.minemon.input.InputService;
@@ -64,11 +65,15 @@ public class InventoryScreen {
     
     private TextureAtlas uiAtlas;
 
+    private final TextureAtlasRegistry atlasRegistry;
+
     @Autowired
-    public InventoryScreen(InventoryService inventoryService, UiService uiService, InputService inputService) {
+    public InventoryScreen(InventoryService inventoryService, UiService uiService, InputService inputService,
+                           TextureAtlasRegistry atlasRegistry) {
         this.inventoryService = inventoryService;
         this.uiService = uiService;
         this.inputService = inputService;
+        this.atlasRegistry = atlasRegistry;
     }
 
     public void init() {
@@ -76,7 +81,7 @@ public class InventoryScreen {
         stage = new Stage(new ScreenViewport());
 
         
-        uiAtlas = new TextureAtlas(Gdx.files.internal("atlas/ui-gfx-atlas.atlas"));
+        uiAtlas = atlasRegistry.acquire(TextureAtlasRegistry.UI_ATLAS);
 
         setupUI();
         setupDragAndDrop();
@@ -479,7 +484,7 @@ public class InventoryScreen {
         }
         
         if (uiAtlas != null) {
-            uiAtlas.dispose();
+            atlasRegistry.release(TextureAtlasRegistry.UI_ATLAS);
             uiAtlas = null;
         }
     }
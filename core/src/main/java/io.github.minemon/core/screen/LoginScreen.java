@@ -487,7 +487,7 @@ public class LoginScreen implements Screen,
             }
 
             if (success) {
-                PlayerData pd = playerService.getPlayerData();
+                PlayerData pd = playerService.getPlayerData().copy();
                 pd.setUsername(username);
                 pd.setX(startX);
                 pd.setY(startY);
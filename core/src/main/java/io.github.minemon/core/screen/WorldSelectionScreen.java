@@ -11,13 +11,12 @@ import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.scenes.scene2d.*;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
-import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.Scaling;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import io.github.minemon.audio.service.AudioService;
 import io.github.minemon.core.service.ScreenManager;
 import io.github.minemon.multiplayer.service.MultiplayerClient;
-import io.github.minemon.world.model.WorldData;
+import io.github.minemon.world.model.WorldMetadata;
 import io.github.minemon.world.service.WorldService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -231,7 +230,7 @@ public class WorldSelectionScreen implements Screen {
         Table entry = new Table(skin);
         entry.setBackground(skin.newDrawable("white", 0.1f,0.1f,0.1f,1f));
 
-        WorldData meta = loadWorldMetadata(worldName);
+        WorldMetadata meta = loadWorldMetadata(worldName);
 
         FileHandle iconFile = Gdx.files.local(saveDir + worldName + "/icon.png");
         Image icon;
@@ -290,19 +289,13 @@ public class WorldSelectionScreen implements Screen {
         selectedEntry.setBackground(skin.newDrawable("white", 0.3f,0.6f,1f,1f));
     }
 
-    private WorldData loadWorldMetadata(String worldName) {
-        FileHandle worldFile = Gdx.files.local(saveDir + worldName + "/" + worldName + ".json");
-        if (!worldFile.exists()) {
-            WorldData wd = new WorldData();
-            wd.setWorldName(worldName);
-            wd.setSeed(0);
-            wd.setCreatedDate(0);
-            wd.setLastPlayed(0);
-            wd.setPlayedTime(0);
-            return wd;
+    private WorldMetadata loadWorldMetadata(String worldName) {
+        WorldMetadata meta = worldService.getWorldMetadata(worldName);
+        if (meta == null) {
+            meta = new WorldMetadata();
+            meta.setWorldName(worldName);
         }
-        Json json = new Json();
-        return json.fromJson(WorldData.class, worldFile.readString());
+        return meta;
     }
 
     private String formatPlayedTime(long millis) {
@@ -434,7 +427,7 @@ public class WorldSelectionScreen implements Screen {
         return null;
     }
 
-    private void updateInfoPanel(WorldData meta) {
+    private void updateInfoPanel(WorldMetadata meta) {
         infoPanel.clear();
         if (meta == null) {
             Label prompt = new Label("Select a world to view details", skin);
@@ -0,0 +1,108 @@
+package io.github.minemon.core.service;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import io.github.minemon.inventory.service.impl.ItemTextureManager;
+import io.github.minemon.world.service.ChunkLoadingManager;
+import io.github.minemon.world.service.WorldService;
+import io.github.minemon.world.service.impl.ObjectTextureManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+// Keeps the client inside a memory budget: a cap on resident chunks sized for the platform, in single-player
+// and multiplayer alike, and a response to the OS asking for memory back (Android's onTrimMemory). Pressure
+// lowers the cap for a while and drops caches that are rebuilt on demand. Render thread only.
+@Slf4j
+@Service
+public class MemoryBudgetManager {
+    public enum Pressure { MODERATE, CRITICAL }
+
+    private static final int DESKTOP_MAX_CHUNKS = 400; // 20x20, outside the multiplayer preload ring
+    private static final int ANDROID_MAX_CHUNKS = 121; // 11x11
+    private static final int MODERATE_MAX_CHUNKS = 49;
+    private static final int CRITICAL_MAX_CHUNKS = 25; // a little more than one screen
+    private static final int KEEP_RADIUS = 2;
+    private static final int CHUNK_SIZE = 16;
+    private static final long CHECK_INTERVAL_MILLIS = 1000;
+    private static final long PRESSURE_HOLD_MILLIS = 60_000;
+
+    private final WorldService worldService;
+    private final ChunkLoadingManager chunkLoadingManager;
+    private final ObjectTextureManager objectTextureManager;
+    private final ItemTextureManager itemTextureManager;
+    private final TextureAtlasRegistry atlasRegistry;
+
+    private int platformMaxChunks;
+    private int pressureMaxChunks = Integer.MAX_VALUE;
+    private long pressureUntil;
+    private long lastCheck;
+    private boolean positionKnown;
+    private float lastTileX, lastTileY;
+
+    public MemoryBudgetManager(WorldService worldService,
+                               ChunkLoadingManager chunkLoadingManager,
+                               ObjectTextureManager objectTextureManager,
+                               ItemTextureManager itemTextureManager,
+                               TextureAtlasRegistry atlasRegistry) {
+        this.worldService = worldService;
+        this.chunkLoadingManager = chunkLoadingManager;
+        this.objectTextureManager = objectTextureManager;
+        this.itemTextureManager = itemTextureManager;
+        this.atlasRegistry = atlasRegistry;
+    }
+
+    public void update(float tileX, float tileY) {
+        lastTileX = tileX;
+        lastTileY = tileY;
+        positionKnown = true;
+
+        long now = System.currentTimeMillis();
+        if (now - lastCheck < CHECK_INTERVAL_MILLIS) {
+            return;
+        }
+        lastCheck = now;
+        if (pressureUntil != 0 && now >= pressureUntil) {
+            pressureUntil = 0;
+            pressureMaxChunks = Integer.MAX_VALUE;
+            log.info("Memory pressure over, chunk budget back to {}", getMaxChunks());
+        }
+        enforce();
+    }
+
+    public void onMemoryPressure(Pressure pressure) {
+        int cap = pressure == Pressure.CRITICAL ? CRITICAL_MAX_CHUNKS : MODERATE_MAX_CHUNKS;
+        pressureMaxChunks = Math.min(pressureMaxChunks, cap);
+        pressureUntil = System.currentTimeMillis() + PRESSURE_HOLD_MILLIS;
+
+        objectTextureManager.trimCaches();
+        itemTextureManager.trimCaches();
+        int evicted = enforce();
+        log.warn("Memory pressure {}: evicted {} chunks, {} resident (budget {}), {} atlases holding {} KB",
+            pressure, evicted, worldService.getWorldData().getChunks().size(), getMaxChunks(),
+            atlasRegistry.getLoadedCount(), atlasRegistry.getTextureBytes() / 1024);
+    }
+
+    public int getMaxChunks() {
+        if (platformMaxChunks == 0) {
+            boolean android = Gdx.app != null && Gdx.app.getType() == Application.ApplicationType.Android;
+            platformMaxChunks = android ? ANDROID_MAX_CHUNKS : DESKTOP_MAX_CHUNKS;
+        }
+        return Math.min(platformMaxChunks, pressureMaxChunks);
+    }
+
+    private int enforce() {
+        int maxChunks = getMaxChunks();
+        // Widest square ring of chunks that fits in the budget
+        chunkLoadingManager.setPreloadRadius(((int) Math.sqrt(maxChunks) - 1) / 2);
+        if (!positionKnown) {
+            return 0;
+        }
+        int chunkX = (int) Math.floor(lastTileX / CHUNK_SIZE);
+        int chunkY = (int) Math.floor(lastTileY / CHUNK_SIZE);
+        int evicted = worldService.evictChunks(chunkX, chunkY, KEEP_RADIUS, maxChunks);
+        if (evicted > 0) {
+            log.debug("Evicted {} chunks around ({},{}), budget {}", evicted, chunkX, chunkY, maxChunks);
+        }
+        return evicted;
+    }
+}
@@ -0,0 +1,292 @@
+package io.github.minemon.core.service;
+
+import com.badlogic.gdx.Gdx;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Runs the client's init steps as a dependency graph. Background tasks (config parsing, biome setup, audio
+// decoding) run on a small pool; render tasks touch GL and run on the thread that calls run(), as soon as
+// their dependencies are done. run() returns once every task not marked deferred has finished. Deferred tasks
+// only start after that, so they never compete with the first screen; deferred render tasks then run one per
+// frame. A timing report is logged when the last task ends.
+@Slf4j
+public class StartupOrchestrator {
+    public enum Affinity { RENDER, BACKGROUND }
+
+    private enum State { WAITING, RUNNING, DONE, FAILED, SKIPPED }
+
+    public static final class Task {
+        private final String name;
+        private final Affinity affinity;
+        private final Runnable action;
+        private final List<String> dependencies = new ArrayList<>();
+        private final List<Task> dependents = new ArrayList<>();
+        private boolean required;
+        private boolean deferred;
+        private int pending;
+        private State state = State.WAITING;
+        private String thread;
+        private long startNanos;
+        private long endNanos;
+
+        private Task(String name, Affinity affinity, Runnable action) {
+            this.name = name;
+            this.affinity = affinity;
+            this.action = action;
+        }
+
+        public Task after(String... names) {
+            dependencies.addAll(List.of(names));
+            return this;
+        }
+
+        // A failure aborts startup; otherwise it is logged and dependents still run
+        public Task required() {
+            required = true;
+            return this;
+        }
+
+        // Not needed for the first screen
+        public Task deferred() {
+            deferred = true;
+            return this;
+        }
+    }
+
+    private final Map<String, Task> tasks = new LinkedHashMap<>();
+    private final ArrayDeque<Task> renderQueue = new ArrayDeque<>();
+    private final List<Task> parked = new ArrayList<>();
+    private ExecutorService pool;
+    private long startNanos;
+    private long firstScreenNanos;
+    private int unfinished;
+    private int unfinishedAwaited;
+    private boolean handedOff;
+    private boolean drainPosted;
+    private RuntimeException failure;
+
+    public Task add(String name, Affinity affinity, Runnable action) {
+        Task task = new Task(name, affinity, action);
+        if (tasks.putIfAbsent(name, task) != null) {
+            throw new IllegalArgumentException("Duplicate startup task: " + name);
+        }
+        return task;
+    }
+
+    public void run() {
+        startNanos = System.nanoTime();
+        link();
+
+        // Parsing and decoding also wait on file reads, so two threads even on a dual core
+        int threads = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+        AtomicInteger threadCount = new AtomicInteger();
+        pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "startup-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        synchronized (this) {
+            unfinished = tasks.size();
+            for (Task task : tasks.values()) {
+                if (!task.deferred) {
+                    unfinishedAwaited++;
+                }
+            }
+            for (Task task : tasks.values()) {
+                if (task.pending == 0) {
+                    dispatch(task);
+                }
+            }
+        }
+
+        try {
+            while (true) {
+                Task next;
+                synchronized (this) {
+                    while (failure == null && unfinishedAwaited > 0 && renderQueue.isEmpty()) {
+                        wait();
+                    }
+                    if (failure != null || unfinishedAwaited == 0) {
+                        break;
+                    }
+                    next = renderQueue.poll();
+                }
+                execute(next);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during startup", e);
+        }
+
+        synchronized (this) {
+            firstScreenNanos = System.nanoTime();
+            if (failure != null) {
+                pool.shutdownNow();
+                logReport();
+                throw failure;
+            }
+            handedOff = true;
+            for (Task task : parked) {
+                dispatch(task);
+            }
+            parked.clear();
+            postDrain();
+            if (unfinished == 0) {
+                finish();
+            }
+        }
+    }
+
+    private void link() {
+        for (Task task : tasks.values()) {
+            for (String dependency : task.dependencies) {
+                Task upstream = tasks.get(dependency);
+                if (upstream == null) {
+                    throw new IllegalStateException("Startup task " + task.name + " depends on unknown " + dependency);
+                }
+                if (upstream.deferred && !task.deferred) {
+                    throw new IllegalStateException("Startup task " + task.name + " depends on deferred " + dependency);
+                }
+                upstream.dependents.add(task);
+                task.pending++;
+            }
+        }
+        // Kahn's algorithm on a copy of the counts; anything left over sits on a cycle
+        Map<Task, Integer> pending = new LinkedHashMap<>();
+        ArrayDeque<Task> ready = new ArrayDeque<>();
+        for (Task task : tasks.values()) {
+            pending.put(task, task.pending);
+            if (task.pending == 0) {
+                ready.add(task);
+            }
+        }
+        int ordered = 0;
+        while (!ready.isEmpty()) {
+            ordered++;
+            for (Task dependent : ready.poll().dependents) {
+                if (pending.merge(dependent, -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+        if (ordered != tasks.size()) {
+            throw new IllegalStateException("Startup tasks have a dependency cycle");
+        }
+    }
+
+    // Caller holds the lock
+    private void dispatch(Task task) {
+        if (task.deferred && !handedOff) {
+            parked.add(task);
+        } else if (task.affinity == Affinity.BACKGROUND) {
+            pool.execute(() -> execute(task));
+        } else {
+            renderQueue.add(task);
+            if (handedOff) {
+                postDrain();
+            }
+            notifyAll();
+        }
+    }
+
+    // After run() has returned: one deferred render task per frame so none of them holds up a frame for long.
+    // Caller holds the lock.
+    private void postDrain() {
+        if (!drainPosted && !renderQueue.isEmpty()) {
+            drainPosted = true;
+            Gdx.app.postRunnable(this::runQueuedRenderTask);
+        }
+    }
+
+    private void runQueuedRenderTask() {
+        Task task;
+        synchronized (this) {
+            drainPosted = false;
+            task = renderQueue.poll();
+        }
+        if (task != null) {
+            execute(task);
+        }
+        synchronized (this) {
+            postDrain();
+        }
+    }
+
+    private void execute(Task task) {
+        synchronized (this) {
+            task.state = State.RUNNING;
+            task.thread = Thread.currentThread().getName();
+            task.startNanos = System.nanoTime();
+        }
+        State outcome = State.DONE;
+        try {
+            task.action.run();
+        } catch (RuntimeException e) {
+            outcome = State.FAILED;
+            log.error("Startup task {} failed: {}", task.name, e.getMessage(), e);
+            if (task.required) {
+                synchronized (this) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+        }
+        complete(task, outcome);
+    }
+
+    private synchronized void complete(Task task, State outcome) {
+        task.endNanos = System.nanoTime();
+        task.state = outcome;
+        unfinished--;
+        if (!task.deferred) {
+            unfinishedAwaited--;
+        }
+        if (failure == null) {
+            for (Task dependent : task.dependents) {
+                if (--dependent.pending == 0) {
+                    dispatch(dependent);
+                }
+            }
+        }
+        if (handedOff && unfinished == 0) {
+            finish();
+        }
+        notifyAll();
+    }
+
+    // Caller holds the lock
+    private void finish() {
+        pool.shutdown();
+        logReport();
+    }
+
+    private void logReport() {
+        long busyNanos = 0;
+        StringBuilder report = new StringBuilder();
+        for (Task task : tasks.values()) {
+            if (task.state == State.WAITING) {
+                task.state = State.SKIPPED;
+            }
+            boolean ran = task.state == State.DONE || task.state == State.FAILED;
+            long duration = ran ? task.endNanos - task.startNanos : 0;
+            busyNanos += duration;
+            report.append(String.format("%n  %-22s %-10s %7.1f ms  +%7.1f ms  %-7s %s",
+                task.name, task.affinity, duration / 1e6,
+                ran ? (task.startNanos - startNanos) / 1e6 : 0.0,
+                task.state, ran ? task.thread : ""));
+        }
+        log.info("Startup: first screen after {} ms, all tasks after {} ms, {} ms of task time{}",
+            (firstScreenNanos - startNanos) / 1_000_000, (System.nanoTime() - startNanos) / 1_000_000,
+            busyNanos / 1_000_000, report);
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.minemon.core.service;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+// One copy of each atlas for the whole client, loaded through an AssetManager so it is reference counted:
+// every acquire must be paired with a release, and the textures are disposed when the last holder lets go.
+// GL thread only.
+@Slf4j
+@Service
+public class TextureAtlasRegistry {
+    public static final String TILES_ATLAS = "atlas/tiles-gfx-atlas.atlas";
+    public static final String UI_ATLAS = "atlas/ui-gfx-atlas.atlas";
+    public static final String PLAYER_ATLAS = "atlas/boy-gfx-atlas.atlas";
+    public static final String ITEMS_ATLAS = "atlas/items-gfx-atlas.atlas";
+
+    private AssetManager assetManager;
+
+    public TextureAtlas acquire(String path) {
+        if (assetManager == null) {
+            assetManager = new AssetManager();
+        }
+        boolean loaded = assetManager.isLoaded(path, TextureAtlas.class);
+        assetManager.load(path, TextureAtlas.class);
+        TextureAtlas atlas = assetManager.finishLoadingAsset(path);
+        if (!loaded) {
+            log.info("Loaded atlas {} ({} KB of textures)", path, textureBytes(atlas) / 1024);
+        }
+        return atlas;
+    }
+
+    public void release(String path) {
+        if (assetManager != null && assetManager.isLoaded(path, TextureAtlas.class)) {
+            assetManager.unload(path);
+            if (!assetManager.isLoaded(path, TextureAtlas.class)) {
+                log.info("Unloaded atlas {}", path);
+            }
+        }
+    }
+
+    public int getLoadedCount() {
+        return assetManager != null ? assetManager.getLoadedAssets() : 0;
+    }
+
+    // Uncompressed RGBA size of every atlas page still loaded
+    public long getTextureBytes() {
+        if (assetManager == null) {
+            return 0;
+        }
+        long bytes = 0;
+        for (String path : assetManager.getAssetNames()) {
+            if (assetManager.isLoaded(path, TextureAtlas.class)) {
+                bytes += textureBytes(assetManager.get(path, TextureAtlas.class));
+            }
+        }
+        return bytes;
+    }
+
+    public void dispose() {
+        if (assetManager != null) {
+            assetManager.dispose();
+            assetManager = null;
+        }
+    }
+
+    private static long textureBytes(TextureAtlas atlas) {
+        long bytes = 0;
+        for (Texture texture : atlas.getTextures()) {
+            bytes += (long) texture.getWidth() * texture.getHeight() * 4;
+        }
+        return bytes;
+    }
+}
@@ -15,6 +15,7 @@ import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Scaling;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
+import io.github.minemon.core.service.TextureAtlasRegistry;
 import io.github.minemon.core.service.UiService;
 import io.github.minemon.inventory.model.InventoryItem;
 import io.github.minemon.inventory.model.InventorySlot;
@@ -52,12 +53,16 @@ public class HotbarUI {
     
     private TextureAtlas atlas;
 
+    private final TextureAtlasRegistry atlasRegistry;
+
     public HotbarUI(UiService uiService,
                     InventoryService inventoryService,
-                    ItemTextureManager textureManager) {
+                    ItemTextureManager textureManager,
+                    TextureAtlasRegistry atlasRegistry) {
         this.uiService = uiService;
         this.inventoryService = inventoryService;
         this.textureManager = textureManager;
+        this.atlasRegistry = atlasRegistry;
         this.slots = new Table[HOTBAR_SIZE];
         initializeDefaultKeybindings();
     }
@@ -69,7 +74,7 @@ public class HotbarUI {
         this.skin = uiService.getSkin();
 
         
-        this.atlas = new TextureAtlas(Gdx.files.internal("atlas/ui-gfx-atlas.atlas"));
+        this.atlas = atlasRegistry.acquire(TextureAtlasRegistry.UI_ATLAS);
         
         this.skin.addRegions(atlas);
 
@@ -96,7 +101,8 @@ public class HotbarUI {
             stage.dispose();
         }
         if (atlas != null) {
-            atlas.dispose();
+            atlasRegistry.release(TextureAtlasRegistry.UI_ATLAS);
+            atlas = null;
         }
         initialized = false;
     }
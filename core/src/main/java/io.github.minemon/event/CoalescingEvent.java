@@ -0,0 +1,7 @@
+package io.github.minemon.event;
+
+// High-frequency events whose queued async deliveries may be collapsed: while one is still waiting for a
+// listener, a newer event with the same key replaces it instead of queueing behind it.
+public interface CoalescingEvent extends Event {
+    Object getCoalesceKey();
+}
@@ -1,32 +1,242 @@
 package io.github.minemon.event;
 
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
+@Slf4j
 @Component
 public class EventBus {
-    private final Map<Class<? extends Event>, List<EventListener<?>>> listeners = new ConcurrentHashMap<>();
+    private static final Registration[] NONE = new Registration[0];
+    private static final long SLOW_LISTENER_NANOS = 20_000_000L;
+    private static final long SLOW_WARNING_INTERVAL_NANOS = 10_000_000_000L;
+
+    // Registrations per declared event type, replaced wholesale on every change
+    private final Map<Class<?>, Registration[]> registrations = new HashMap<>();
+    // Flattened per concrete event class: listeners of the class, its superclasses and interfaces, by priority
+    private final Map<Class<?>, Registration[]> dispatchTable = new ConcurrentHashMap<>();
+    private final Map<CoalesceKey, Event> pendingCoalesced = new ConcurrentHashMap<>();
+    private volatile ExecutorService asyncExecutor;
+    private long registrationCounter;
 
     public <E extends Event> void registerListener(Class<E> eventClass, EventListener<E> listener) {
-        listeners.computeIfAbsent(eventClass, k -> Collections.synchronizedList(new ArrayList<>())).add(listener);
+        registerListener(eventClass, listener, EventPriority.NORMAL, false);
+    }
+
+    public <E extends Event> void registerListener(Class<E> eventClass, EventListener<E> listener, EventPriority priority) {
+        registerListener(eventClass, listener, priority, false);
     }
 
-    public <E extends Event> void unregisterListener(Class<E> eventClass, EventListener<E> listener) {
-        List<EventListener<?>> list = listeners.get(eventClass);
-        if (list != null) {
-            list.remove(listener);
+    // Async listeners run on a single dedicated thread, so they never block the firing thread
+    // (render loop, tick loop or network thread) and still see events in the order they were fired.
+    public <E extends Event> void registerAsyncListener(Class<E> eventClass, EventListener<E> listener) {
+        registerListener(eventClass, listener, EventPriority.NORMAL, true);
+    }
+
+    public synchronized <E extends Event> void registerListener(Class<E> eventClass, EventListener<E> listener,
+                                                                EventPriority priority, boolean async) {
+        Registration[] current = registrations.getOrDefault(eventClass, NONE);
+        Registration[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = new Registration(eventClass, listener, priority, async, registrationCounter++);
+        registrations.put(eventClass, updated);
+        dispatchTable.clear();
+    }
+
+    public synchronized <E extends Event> void unregisterListener(Class<E> eventClass, EventListener<E> listener) {
+        Registration[] current = registrations.get(eventClass);
+        if (current == null) {
+            return;
+        }
+        Registration[] updated = Arrays.stream(current).filter(r -> r.listener != listener).toArray(Registration[]::new);
+        if (updated.length == 0) {
+            registrations.remove(eventClass);
+        } else {
+            registrations.put(eventClass, updated);
+        }
+        dispatchTable.clear();
+    }
+
+    public synchronized void unregisterAll(ClassLoader classLoader) {
+        boolean changed = false;
+        for (Iterator<Map.Entry<Class<?>, Registration[]>> it = registrations.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Class<?>, Registration[]> entry = it.next();
+            Registration[] kept = Arrays.stream(entry.getValue())
+                .filter(r -> r.listener.getClass().getClassLoader() != classLoader)
+                .toArray(Registration[]::new);
+            if (kept.length != entry.getValue().length) {
+                changed = true;
+                if (kept.length == 0) {
+                    it.remove();
+                } else {
+                    entry.setValue(kept);
+                }
+            }
+        }
+        if (changed) {
+            dispatchTable.clear();
         }
     }
 
-    @SuppressWarnings("unchecked")
     public <E extends Event> void fireEvent(E event) {
-        Class<? extends Event> eventClass = event.getClass();
-        List<EventListener<?>> list = listeners.get(eventClass);
-        if (list != null) {
-            for (EventListener<?> l : list) {
-                ((EventListener<E>) l).onEvent(event);
+        Registration[] targets = dispatchTable.get(event.getClass());
+        if (targets == null) {
+            targets = resolve(event.getClass());
+        }
+        for (Registration registration : targets) {
+            if (registration.async) {
+                deliverAsync(registration, event);
+            } else {
+                registration.invoke(event);
+            }
+        }
+    }
+
+    public List<ListenerStats> getListenerStats() {
+        List<ListenerStats> stats = new ArrayList<>();
+        synchronized (this) {
+            for (Registration[] list : registrations.values()) {
+                for (Registration r : list) {
+                    stats.add(r.stats());
+                }
+            }
+        }
+        stats.sort(Comparator.comparingDouble(ListenerStats::averageMicros).reversed());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ExecutorService executor = asyncExecutor;
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    private synchronized Registration[] resolve(Class<?> eventClass) {
+        Registration[] cached = dispatchTable.get(eventClass);
+        if (cached != null) {
+            return cached;
+        }
+        List<Registration> matched = new ArrayList<>();
+        for (Map.Entry<Class<?>, Registration[]> entry : registrations.entrySet()) {
+            if (entry.getKey().isAssignableFrom(eventClass)) {
+                matched.addAll(Arrays.asList(entry.getValue()));
+            }
+        }
+        matched.sort(Comparator.comparing((Registration r) -> r.priority).thenComparingLong(r -> r.order));
+        Registration[] resolved = matched.isEmpty() ? NONE : matched.toArray(new Registration[0]);
+        dispatchTable.put(eventClass, resolved);
+        return resolved;
+    }
+
+    private void deliverAsync(Registration registration, Event event) {
+        if (event instanceof CoalescingEvent coalescing) {
+            CoalesceKey key = new CoalesceKey(registration, coalescing.getCoalesceKey());
+            if (pendingCoalesced.put(key, event) != null) {
+                registration.coalesced.increment();
+                return;
+            }
+            submit(() -> {
+                Event latest = pendingCoalesced.remove(key);
+                if (latest != null) {
+                    registration.invoke(latest);
+                }
+            });
+        } else {
+            submit(() -> registration.invoke(event));
+        }
+    }
+
+    private void submit(Runnable task) {
+        try {
+            asyncExecutor().execute(task);
+        } catch (RejectedExecutionException e) {
+            log.debug("Event bus is shut down, dropping async event");
+        }
+    }
+
+    private ExecutorService asyncExecutor() {
+        ExecutorService executor = asyncExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                if (asyncExecutor == null) {
+                    asyncExecutor = Executors.newSingleThreadExecutor(r -> {
+                        Thread t = new Thread(r, "event-bus-async");
+                        t.setDaemon(true);
+                        return t;
+                    });
+                }
+                executor = asyncExecutor;
+            }
+        }
+        return executor;
+    }
+
+    private static final class Registration {
+        final Class<?> eventClass;
+        final EventListener<Event> listener;
+        final EventPriority priority;
+        final boolean async;
+        final long order;
+
+        final LongAdder invocations = new LongAdder();
+        final LongAdder failures = new LongAdder();
+        final LongAdder coalesced = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        volatile long lastSlowWarning;
+
+        @SuppressWarnings("unchecked")
+        Registration(Class<?> eventClass, EventListener<?> listener, EventPriority priority, boolean async, long order) {
+            this.eventClass = eventClass;
+            this.listener = (EventListener<Event>) listener;
+            this.priority = priority;
+            this.async = async;
+            this.order = order;
+        }
+
+        // A failing or slow listener is logged and counted, but never stops the listeners after it
+        void invoke(Event event) {
+            long start = System.nanoTime();
+            try {
+                listener.onEvent(event);
+            } catch (Exception e) {
+                failures.increment();
+                log.error("Listener {} failed on {}: {}", listenerName(), event.getClass().getSimpleName(),
+                    e.getMessage(), e);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                invocations.increment();
+                totalNanos.add(elapsed);
+                maxNanos.accumulate(elapsed);
+                if (elapsed > SLOW_LISTENER_NANOS && start - lastSlowWarning > SLOW_WARNING_INTERVAL_NANOS) {
+                    lastSlowWarning = start;
+                    log.warn("Slow {} listener {} took {} ms on {}", async ? "async" : "sync", listenerName(),
+                        elapsed / 1_000_000, Thread.currentThread().getName());
+                }
             }
         }
+
+        String listenerName() {
+            return listener.getClass().getName();
+        }
+
+        ListenerStats stats() {
+            long count = invocations.sum();
+            return new ListenerStats(eventClass.getSimpleName(), listenerName(), priority, async, count,
+                failures.sum(), coalesced.sum(), count == 0 ? 0 : totalNanos.sum() / 1000.0 / count,
+                maxNanos.get() / 1000.0);
+        }
+    }
+
+    private record CoalesceKey(Registration registration, Object key) {
     }
 }
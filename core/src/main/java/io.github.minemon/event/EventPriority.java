@@ -0,0 +1,11 @@
+package io.github.minemon.event;
+
+// Listeners run from HIGHEST to LOWEST; MONITOR runs last and should only observe the outcome.
+public enum EventPriority {
+    HIGHEST,
+    HIGH,
+    NORMAL,
+    LOW,
+    LOWEST,
+    MONITOR
+}
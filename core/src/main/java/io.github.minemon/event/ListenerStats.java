@@ -0,0 +1,14 @@
+package io.github.minemon.event;
+
+public record ListenerStats(
+    String eventType,
+    String listener,
+    EventPriority priority,
+    boolean async,
+    long invocations,
+    long failures,
+    long coalesced,
+    double averageMicros,
+    double maxMicros
+) {
+}
@@ -198,8 +198,7 @@ public class InputService extends InputAdapter {
                 if (pd != null) {
                     float x = pd.getX();
                     float y = pd.getY();
-                    String dirName = pd.getDirection().name().toLowerCase();
-                    multiplayerClient.sendPlayerMove(x, y, false, false, dirName);
+                    multiplayerClient.sendPlayerMove(x, y, false, false, pd.getDirection());
                 }
             }
         }
@@ -0,0 +1,179 @@
+package io.github.minemon.inventory.codec;
+
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import io.github.minemon.inventory.model.InventorySlot;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Binary inventory format: version byte, slot count, a palette of the distinct item ids, then per slot the
+// palette index + 1 (0 for an empty slot) followed by count, durability and max durability. Everything after
+// the version byte is an unsigned varint, so an empty slot costs one byte and a typical stack four.
+public final class InventorySlotCodec {
+    private static final int FORMAT_VERSION = 1;
+    private static final int MAX_SLOTS = 1024;
+
+    private InventorySlotCodec() {
+    }
+
+    public static byte[] encode(String[] itemIds, int[] counts, int[] durability, int[] maxDurability) {
+        Map<String, Integer> palette = new LinkedHashMap<>();
+        for (int i = 0; i < itemIds.length; i++) {
+            if (itemIds[i] != null && counts[i] > 0) {
+                palette.putIfAbsent(itemIds[i], palette.size());
+            }
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8 + palette.size() * 12 + itemIds.length * 4);
+        out.write(FORMAT_VERSION);
+        writeVarInt(out, itemIds.length);
+        writeVarInt(out, palette.size());
+        for (String itemId : palette.keySet()) {
+            byte[] utf8 = itemId.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(out, utf8.length);
+            out.writeBytes(utf8);
+        }
+
+        for (int i = 0; i < itemIds.length; i++) {
+            if (itemIds[i] == null || counts[i] <= 0) {
+                writeVarInt(out, 0);
+                continue;
+            }
+            writeVarInt(out, palette.get(itemIds[i]) + 1);
+            writeVarInt(out, counts[i]);
+            writeVarInt(out, Math.max(durability[i], 0));
+            writeVarInt(out, Math.max(maxDurability[i], 0));
+        }
+        return out.toByteArray();
+    }
+
+    public static byte[] encode(List<InventorySlot> slots) {
+        Slots s = new Slots(slots.size());
+        for (int i = 0; i < slots.size(); i++) {
+            InventorySlot slot = slots.get(i);
+            s.itemIds[i] = slot.getItemId();
+            s.counts[i] = slot.getCount();
+            s.durability[i] = slot.getDurability();
+            s.maxDurability[i] = slot.getMaxDurability();
+        }
+        return encode(s.itemIds, s.counts, s.durability, s.maxDurability);
+    }
+
+    public static Slots decode(byte[] data) {
+        Reader in = new Reader(data);
+        int version = in.data[in.pos++];
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported inventory format " + version);
+        }
+        int size = in.readVarInt();
+        int paletteSize = in.readVarInt();
+        if (size > MAX_SLOTS || paletteSize > size) {
+            throw new IllegalArgumentException("Corrupt inventory data");
+        }
+
+        String[] palette = new String[paletteSize];
+        for (int i = 0; i < paletteSize; i++) {
+            int length = in.readVarInt();
+            palette[i] = new String(data, in.pos, length, StandardCharsets.UTF_8).intern();
+            in.pos += length;
+        }
+
+        Slots slots = new Slots(size);
+        for (int i = 0; i < size; i++) {
+            int index = in.readVarInt();
+            if (index == 0) {
+                continue;
+            }
+            slots.itemIds[i] = palette[index - 1];
+            slots.counts[i] = in.readVarInt();
+            slots.durability[i] = in.readVarInt();
+            slots.maxDurability[i] = in.readVarInt();
+        }
+        return slots;
+    }
+
+    // PlayerData keeps the inventory as a string, so the binary form is stored Base64 encoded
+    public static String encodeToString(byte[] encoded) {
+        return Base64.getEncoder().encodeToString(encoded);
+    }
+
+    // Also reads the JSON slot list written by older versions
+    public static Slots decodeString(String data) {
+        if (data == null || data.isEmpty()) {
+            return new Slots(0);
+        }
+        if (data.charAt(0) == '[') {
+            return decodeLegacyJson(data);
+        }
+        return decode(Base64.getDecoder().decode(data));
+    }
+
+    private static Slots decodeLegacyJson(String data) {
+        JsonValue root = new JsonReader().parse(data);
+        Slots slots = new Slots(root.size);
+        int i = 0;
+        for (JsonValue slot = root.child; slot != null; slot = slot.next, i++) {
+            String itemId = slot.getString("itemId", null);
+            int count = slot.getInt("count", 0);
+            if (itemId != null && count > 0) {
+                slots.itemIds[i] = itemId.intern();
+                slots.counts[i] = count;
+                slots.durability[i] = slot.getInt("durability", 0);
+                slots.maxDurability[i] = slot.getInt("maxDurability", 0);
+            }
+        }
+        return slots;
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    public static final class Slots {
+        public final String[] itemIds;
+        public final int[] counts;
+        public final int[] durability;
+        public final int[] maxDurability;
+
+        Slots(int size) {
+            itemIds = new String[size];
+            counts = new int[size];
+            durability = new int[size];
+            maxDurability = new int[size];
+        }
+
+        public int size() {
+            return itemIds.length;
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] data;
+        private int pos;
+
+        Reader(byte[] data) {
+            this.data = data;
+        }
+
+        int readVarInt() {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                byte b = data[pos++];
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in inventory data");
+        }
+    }
+}
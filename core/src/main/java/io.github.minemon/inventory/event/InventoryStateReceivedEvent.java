@@ -0,0 +1,15 @@
+package io.github.minemon.inventory.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+// Carries a NetworkProtocol.InventorySnapshot or InventoryDelta from the server
+@Getter
+public class InventoryStateReceivedEvent extends ApplicationEvent {
+    private final Object state;
+
+    public InventoryStateReceivedEvent(Object source, Object state) {
+        super(source);
+        this.state = state;
+    }
+}
@@ -1,7 +1,6 @@
 package io.github.minemon.inventory.model;
 
 import lombok.Data;
-import java.util.UUID;
 
 @Data
 public class InventorySlot {
@@ -9,25 +8,16 @@ public class InventorySlot {
     private int count;
     private int durability;
     private int maxDurability;
-    private UUID uuid = UUID.randomUUID();
 
     public InventorySlot copy() {
         InventorySlot copy = new InventorySlot();
-        copy.itemId = this.itemId;
-        copy.count = this.count;
-        copy.durability = this.durability;
-        copy.maxDurability = this.maxDurability;
-        copy.uuid = UUID.randomUUID(); 
+        copy.copyFrom(this);
         return copy;
     }
 
     public void copyFrom(InventorySlot other) {
         if (other == null) {
-            this.itemId = null;
-            this.count = 0;
-            this.durability = 0;
-            this.maxDurability = 0;
-            this.uuid = UUID.randomUUID();
+            clear();
             return;
         }
 
@@ -35,7 +25,6 @@ public class InventorySlot {
         this.count = other.count;
         this.durability = other.durability;
         this.maxDurability = other.maxDurability;
-        this.uuid = UUID.randomUUID(); 
     }
 
     public void clear() {
@@ -43,6 +32,5 @@ public class InventorySlot {
         this.count = 0;
         this.durability = 0;
         this.maxDurability = 0;
-        this.uuid = UUID.randomUUID();
     }
 }
@@ -13,5 +13,6 @@ public interface InventoryService {
     boolean removeItem(String itemId, int count);
     List<InventorySlot> getInventory();
     String serializeInventory();
+    long getModificationCount();
     void deserializeInventory(String data);
 }
@@ -1,9 +1,10 @@
 package io.github.minemon.inventory.service.impl;
 
-import com.badlogic.gdx.utils.Json;
 import io.github.minemon.NetworkProtocol;
 import io.github.minemon.event.EventBus;
+import io.github.minemon.inventory.codec.InventorySlotCodec;
 import io.github.minemon.inventory.event.InventoryChangeEvent;
+import io.github.minemon.inventory.event.InventoryStateReceivedEvent;
 import io.github.minemon.inventory.event.ItemUsedEvent;
 import io.github.minemon.inventory.model.InventoryItem;
 import io.github.minemon.inventory.model.InventorySlot;
@@ -15,6 +16,7 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
@@ -31,6 +33,12 @@ public class InventoryServiceImpl implements InventoryService {
     private WorldService worldService;
     private MultiplayerClient multiplayerClient;
     private EventBus eventBus;
+    // Last inventory version received from the server in multiplayer, -1 before the first snapshot
+    private long serverVersion = -1;
+    // Bit i is set while slot i differs from cachedEncoding; all set initially so the first call encodes
+    private long dirtySlots = -1L;
+    private String cachedEncoding;
+    private long modificationCount;
 
     public void setPlayerService(PlayerService playerService) {
         this.playerService = playerService;
@@ -99,12 +107,14 @@ public class InventoryServiceImpl implements InventoryService {
 
 
         if (itemDef.isStackable()) {
-            for (InventorySlot slot : slots) {
+            for (int i = 0; i < slots.size(); i++) {
+                InventorySlot slot = slots.get(i);
                 if (slot.getItemId() != null && slot.getItemId().equals(itemId)) {
                     int space = itemDef.getMaxStackSize() - slot.getCount();
                     if (space > 0) {
                         int toAdd = Math.min(space, count);
                         slot.setCount(slot.getCount() + toAdd);
+                        markDirty(i);
                         count -= toAdd;
                         if (count <= 0) return true;
                     }
@@ -114,12 +124,14 @@ public class InventoryServiceImpl implements InventoryService {
 
 
         while (count > 0) {
-            InventorySlot emptySlot = findEmptySlot();
-            if (emptySlot == null) {
+            int emptyIndex = findEmptySlot();
+            if (emptyIndex < 0) {
                 log.warn("Inventory full, couldn't add all items");
                 return false;
             }
 
+            InventorySlot emptySlot = slots.get(emptyIndex);
+            markDirty(emptyIndex);
             int stackSize = Math.min(count, itemDef.getMaxStackSize());
             emptySlot.setItemId(itemId);
             emptySlot.setCount(stackSize);
@@ -131,13 +143,13 @@ public class InventoryServiceImpl implements InventoryService {
         }
 
         return true;
-    }    private InventorySlot findEmptySlot() {
-        for (InventorySlot slot : slots) {
-            if (slot.getItemId() == null) {
-                return slot;
+    }    private int findEmptySlot() {
+        for (int i = 0; i < slots.size(); i++) {
+            if (slots.get(i).getItemId() == null) {
+                return i;
             }
         }
-        return null;
+        return -1;
     }
     public boolean useItem(int slotIndex) {
         if (slotIndex < 0 || slotIndex >= slots.size()) return false;
@@ -147,6 +159,7 @@ public class InventoryServiceImpl implements InventoryService {
 
         String username = worldService.getPlayerData("").getUsername();
         eventBus.fireEvent(new ItemUsedEvent(username, slot.getItemId(), slotIndex, slot.copy()));
+        markDirty(slotIndex);
 
 
         if (slot.getMaxDurability() > 0) {
@@ -183,6 +196,8 @@ public class InventoryServiceImpl implements InventoryService {
         InventorySlot target = slots.get(toSlot);
 
         String username = worldService.getPlayerData("").getUsername();
+        markDirty(fromSlot);
+        markDirty(toSlot);
 
 
         if (target.getItemId() != null && target.getItemId().equals(source.getItemId())) {
@@ -234,8 +249,10 @@ public class InventoryServiceImpl implements InventoryService {
     @Override
     public boolean removeItem(String itemId, int count) {
         int remaining = count;
-        for (InventorySlot slot : slots) {
+        for (int i = 0; i < slots.size(); i++) {
+            InventorySlot slot = slots.get(i);
             if (slot.getItemId() != null && slot.getItemId().equals(itemId)) {
+                markDirty(i);
                 if (slot.getCount() <= remaining) {
                     remaining -= slot.getCount();
                     slot.setItemId(null);
@@ -255,24 +272,97 @@ public class InventoryServiceImpl implements InventoryService {
         return Collections.unmodifiableList(slots);
     }
 
+    // Slots are only re-encoded after one changed
     @Override
     public String serializeInventory() {
-        Json json = new Json();
+        if (dirtySlots != 0 || cachedEncoding == null) {
+            cachedEncoding = InventorySlotCodec.encodeToString(InventorySlotCodec.encode(slots));
+            dirtySlots = 0;
+        }
+        return cachedEncoding;
+    }
+
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
 
-        return json.toJson(slots);
+    private void markDirty(int slotIndex) {
+        dirtySlots |= 1L << slotIndex;
+        modificationCount++;
+    }
+
+    @EventListener
+    public void onInventoryStateReceived(InventoryStateReceivedEvent event) {
+        if (event.getState() instanceof NetworkProtocol.InventorySnapshot snapshot) {
+            applySnapshot(snapshot);
+        } else if (event.getState() instanceof NetworkProtocol.InventoryDelta delta) {
+            applyDelta(delta);
+        }
+    }
+
+    private void applySnapshot(NetworkProtocol.InventorySnapshot snapshot) {
+        InventorySlotCodec.Slots received = InventorySlotCodec.decode(snapshot.getSlots());
+        for (int i = 0; i < slots.size(); i++) {
+            boolean present = i < received.size();
+            setSlot(i, present ? received.itemIds[i] : null, present ? received.counts[i] : 0,
+                present ? received.durability[i] : 0, present ? received.maxDurability[i] : 0);
+        }
+        serverVersion = snapshot.getVersion();
+
+        eventBus.fireEvent(new InventoryChangeEvent(
+            worldService.getPlayerData("").getUsername(),
+            -1,
+            null,
+            -1,
+            InventoryChangeEvent.ChangeType.INVENTORY_LOADED
+        ));
+    }
+
+    // Deltas only apply on top of the version they were built from; otherwise catch up from the server's log
+    private void applyDelta(NetworkProtocol.InventoryDelta delta) {
+        if (delta.getBaseVersion() != serverVersion) {
+            NetworkProtocol.InventoryAction action = new NetworkProtocol.InventoryAction();
+            action.setType(NetworkProtocol.InventoryActionType.SYNC_REQUEST);
+            action.setVersion(serverVersion);
+            multiplayerClient.sendMessage(action);
+            return;
+        }
+        for (int j = 0; j < delta.getSlots().length; j++) {
+            int i = delta.getSlots()[j];
+            if (isValidSlot(i)) {
+                setSlot(i, delta.getItemIds()[j], delta.getCounts()[j], delta.getDurability()[j],
+                    delta.getMaxDurability()[j]);
+            }
+        }
+        serverVersion = delta.getVersion();
+    }
+
+    private void setSlot(int index, String itemId, int count, int durability, int maxDurability) {
+        InventorySlot slot = slots.get(index);
+        markDirty(index);
+        slot.setItemId(itemId);
+        slot.setCount(itemId != null ? count : 0);
+        slot.setDurability(durability);
+        slot.setMaxDurability(maxDurability);
     }
 
     public void deserializeInventory(String data) {
         if (data == null || data.isEmpty()) return;
 
-        Json json = new Json();
-        List<InventorySlot> loaded = json.fromJson(ArrayList.class, InventorySlot.class, data);
+        InventorySlotCodec.Slots loaded;
+        try {
+            loaded = InventorySlotCodec.decodeString(data);
+        } catch (RuntimeException e) {
+            log.error("Failed to read inventory data: {}", e.getMessage());
+            return;
+        }
 
         String username = worldService.getPlayerData("").getUsername();
-        slots.clear();
-        slots.addAll(loaded);
-        while (slots.size() < DEFAULT_INVENTORY_SIZE) {
-            slots.add(new InventorySlot());
+        for (int i = 0; i < slots.size(); i++) {
+            boolean present = i < loaded.size();
+            setSlot(i, present ? loaded.itemIds[i] : null, present ? loaded.counts[i] : 0,
+                present ? loaded.durability[i] : 0, present ? loaded.maxDurability[i] : 0);
         }
 
         eventBus.fireEvent(new InventoryChangeEvent(
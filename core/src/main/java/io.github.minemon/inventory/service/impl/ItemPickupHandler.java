@@ -1,34 +1,22 @@
 package io.github.minemon.inventory.service.impl;
 
-import com.badlogic.gdx.math.Rectangle;
 import io.github.minemon.inventory.service.InventoryService;
 import io.github.minemon.multiplayer.model.WorldObjectUpdate;
 import io.github.minemon.multiplayer.service.MultiplayerClient;
 import io.github.minemon.player.model.PlayerData;
+import io.github.minemon.world.model.ObjectType;
 import io.github.minemon.world.model.WorldObject;
 import io.github.minemon.world.service.WorldService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Random;
-
 @Service
 @Slf4j
 public class ItemPickupHandler {
 
-    private final Random random = new Random();
     private static final float PICKUP_RANGE = 48f; // 1.5 tiles
 
-    // Define item pools with weights
-    private static final Map<String, Integer> POKEBALL_ITEMS = new HashMap<>() {{
-        put("pokeball", 70);    // 70% chance
-        put("potion", 20);      // 20% chance
-        put("stick", 10);       // 10% chance
-    }};
-
     @Autowired
     private ItemSpawnService itemSpawnService;
 
@@ -51,54 +39,39 @@ public class ItemPickupHandler {
             return false;
         }
 
-        // Validate pickup eligibility
-        if (!itemSpawnService.validatePickup(object.getId(), playerData.getUsername())) {
+        if (object.getType() != ObjectType.POKEBALL) {
             return false;
         }
 
-        // Handle pickup based on item type
-        switch (object.getType()) {
-            case POKEBALL:
-                handlePokeballPickup(playerData.getUsername());
-                break;
-            // Add other item types here
-            default:
-                return false;
-        }
-
-        // Remove the object from world
-        itemSpawnService.removeItem(object.getId());
-
-        // Notify other players in multiplayer
+        // In multiplayer the server owns items: it validates the pickup, grants the loot and
+        // broadcasts the removal, so the client only asks
         if (worldService.isMultiplayerMode() && multiplayerClient.isConnected()) {
             WorldObjectUpdate update = new WorldObjectUpdate();
             update.setObjectId(object.getId());
+            update.setType(object.getType().name());
+            update.setTileX(object.getTileX());
+            update.setTileY(object.getTileY());
             update.setRemoved(true);
             multiplayerClient.sendMessage(update);
+            return true;
         }
 
+        // Validate pickup eligibility
+        if (!itemSpawnService.validatePickup(object.getId(), playerData.getUsername())) {
+            return false;
+        }
+
+        handlePokeballPickup(playerData.getUsername());
+
+        // Remove the object from world
+        itemSpawnService.removeItem(object.getId());
+
         return true;
     }
 
     private void handlePokeballPickup(String username) {
-        // Select random item based on weights
-        int total = POKEBALL_ITEMS.values().stream().mapToInt(Integer::intValue).sum();
-        int roll = random.nextInt(total);
-
-        String selectedItem = null;
-        int currentTotal = 0;
-
-        for (Map.Entry<String, Integer> entry : POKEBALL_ITEMS.entrySet()) {
-            currentTotal += entry.getValue();
-            if (roll < currentTotal) {
-                selectedItem = entry.getKey();
-                break;
-            }
-        }
-
-        if (selectedItem != null) {
-            inventoryService.addItem(selectedItem, 1);
-            log.debug("Player {} received {} from pokeball", username, selectedItem);
-        }
+        String selectedItem = itemSpawnService.rollPokeballLoot();
+        inventoryService.addItem(selectedItem, 1);
+        log.debug("Player {} received {} from pokeball", username, selectedItem);
     }
 }
@@ -1,33 +1,48 @@
 package io.github.minemon.inventory.service.impl;
 
-import com.badlogic.gdx.math.Rectangle;
+import io.github.minemon.multiplayer.model.WorldObjectUpdate;
 import io.github.minemon.multiplayer.service.MultiplayerClient;
+import io.github.minemon.utils.HashedTimingWheel;
 import io.github.minemon.world.biome.model.Biome;
+import io.github.minemon.world.model.ChunkTiles;
 import io.github.minemon.world.model.ObjectType;
 import io.github.minemon.world.model.WorldObject;
 import io.github.minemon.world.service.WorldObjectManager;
 import io.github.minemon.world.service.WorldService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Service
 @Slf4j
 public class ItemSpawnService {
 
+    private static final int CHUNK_SIZE = 16;
+    private static final int CHUNK_TILES = CHUNK_SIZE * CHUNK_SIZE;
+    private static final double POKEBALL_SPAWN_CHANCE = 0.02; // 2% chance per eligible tile
+    private static final long ITEM_DESPAWN_TIME = 300000; // 5 minutes
+    private static final int MIN_DISTANCE_BETWEEN_ITEMS = 5; // tiles
+    private static final int MAX_ITEMS_PER_CHUNK = 3;
+    private static final int DESPAWN_WHEEL_BUCKETS = 512;
+    private static final long DESPAWN_WHEEL_TICK = 1000;
+
+    // Item pools with weights
+    private static final String[] POKEBALL_LOOT = {"pokeball", "potion", "stick"};
+    private static final int[] POKEBALL_LOOT_WEIGHTS = {70, 20, 10};
+    private static final int POKEBALL_LOOT_TOTAL = 100;
+
     private final WorldService worldService;
     private final WorldObjectManager worldObjectManager;
     private final MultiplayerClient multiplayerClient;
-    private final Map<String, Long> itemSpawnTimes = new ConcurrentHashMap<>();
-    private final Random random = new Random();
 
-    private static final float POKEBALL_SPAWN_CHANCE = 0.02f; // 2% chance per eligible tile
-    private static final long ITEM_DESPAWN_TIME = 300000; // 5 minutes
-    private static final int MIN_DISTANCE_BETWEEN_ITEMS = 5; // tiles
+    // Every live item, by id and by chunk; guarded by this
+    private final Map<String, TrackedItem> items = new HashMap<>();
+    private final Map<Long, List<TrackedItem>> itemsByChunk = new HashMap<>();
+    private final HashedTimingWheel<TrackedItem> despawnWheel =
+        new HashedTimingWheel<>(DESPAWN_WHEEL_BUCKETS, DESPAWN_WHEEL_TICK, System.currentTimeMillis());
 
     @Autowired
     public ItemSpawnService(WorldService worldService,
@@ -38,85 +53,205 @@ public class ItemSpawnService {
         this.multiplayerClient = multiplayerClient;
     }
 
-    public void spawnItemsInChunk(int chunkX, int chunkY, int[][] tiles, Biome biome) {
-        if (!biome.getAllowedTileTypes().contains(0)) {
-            return;
+    // Spawn positions follow a Bernoulli process over the chunk's tiles: instead of one roll per tile,
+    // the gap to the next hit is drawn from the geometric distribution, so a chunk costs a handful of
+    // draws. Spawned items are returned for the caller to store with the chunk's objects.
+    public List<WorldObject> spawnItemsInChunk(int chunkX, int chunkY, ChunkTiles tiles, Biome biome,
+                                               List<WorldObject> placedObjects) {
+        if (biome == null || !biome.getAllowedTileTypes().contains(0)) {
+            return Collections.emptyList();
         }
 
-        int CHUNK_SIZE = 16;
-        for (int x = 0; x < CHUNK_SIZE; x++) {
-            for (int y = 0; y < CHUNK_SIZE; y++) {
-                if (random.nextFloat() < POKEBALL_SPAWN_CHANCE) {
-                    int worldX = chunkX * CHUNK_SIZE + x;
-                    int worldY = chunkY * CHUNK_SIZE + y;
+        BitSet occupied = new BitSet(CHUNK_TILES);
+        if (placedObjects != null) {
+            int baseX = chunkX * CHUNK_SIZE;
+            int baseY = chunkY * CHUNK_SIZE;
+            for (WorldObject obj : placedObjects) {
+                int lx = obj.getTileX() - baseX;
+                int ly = obj.getTileY() - baseY;
+                if (lx >= 0 && lx < CHUNK_SIZE && ly >= 0 && ly < CHUNK_SIZE) {
+                    occupied.set(lx * CHUNK_SIZE + ly);
+                }
+            }
+        }
 
-                    if (canSpawnItemAt(worldX, worldY)) {
-                        spawnPokeball(worldX, worldY);
-                    }
+        List<WorldObject> spawned = new ArrayList<>(MAX_ITEMS_PER_CHUNK);
+        Random random = ThreadLocalRandom.current();
+        double logMiss = Math.log1p(-POKEBALL_SPAWN_CHANCE);
+        synchronized (this) {
+            List<TrackedItem> existing = itemsByChunk.get(chunkKey(chunkX, chunkY));
+            int count = existing == null ? 0 : existing.size();
+            int index = -1;
+            while (count < MAX_ITEMS_PER_CHUNK) {
+                index += 1 + (int) (Math.log(1.0 - random.nextDouble()) / logMiss);
+                if (index >= CHUNK_TILES) {
+                    break;
+                }
+                if (occupied.get(index)) {
+                    continue;
+                }
+                int worldX = chunkX * CHUNK_SIZE + index / CHUNK_SIZE;
+                int worldY = chunkY * CHUNK_SIZE + index % CHUNK_SIZE;
+                if (!canSpawnItemAt(chunkX, chunkY, worldX, worldY)) {
+                    continue;
                 }
+                WorldObject pokeball = new WorldObject(worldX, worldY, ObjectType.POKEBALL, true);
+                track(chunkX, chunkY, pokeball, ITEM_DESPAWN_TIME);
+                spawned.add(pokeball);
+                count++;
+                log.debug("Spawned pokeball at ({}, {})", worldX, worldY);
             }
         }
+        return spawned;
     }
 
-    private boolean canSpawnItemAt(int tileX, int tileY) {
-        // Check for nearby items
-        List<WorldObject> nearbyObjects = worldService.getVisibleObjects(
-            new Rectangle(
-                (tileX - MIN_DISTANCE_BETWEEN_ITEMS) * 32,
-                (tileY - MIN_DISTANCE_BETWEEN_ITEMS) * 32,
-                (MIN_DISTANCE_BETWEEN_ITEMS * 2 + 1) * 32,
-                (MIN_DISTANCE_BETWEEN_ITEMS * 2 + 1) * 32
-            )
-        );
-
-        return nearbyObjects.stream()
-            .noneMatch(obj -> obj.getType() == ObjectType.POKEBALL);
+    // Registers items that already exist in a chunk read back from disk; they get a fresh lifetime.
+    public synchronized void trackItems(int chunkX, int chunkY, List<WorldObject> objects) {
+        if (objects == null) {
+            return;
+        }
+        for (WorldObject obj : objects) {
+            if (obj.getType() == ObjectType.POKEBALL && !items.containsKey(obj.getId())) {
+                track(chunkX, chunkY, obj, ITEM_DESPAWN_TIME);
+            }
+        }
     }
 
-    private void spawnPokeball(int tileX, int tileY) {
-        WorldObject pokeball = new WorldObject(tileX, tileY, ObjectType.POKEBALL, true);
-        worldObjectManager.addObject(pokeball);
-        itemSpawnTimes.put(pokeball.getId(), System.currentTimeMillis());
+    // Advances the despawn wheel; expired items are removed from the world and returned as removal updates.
+    public List<WorldObjectUpdate> tick() {
+        List<WorldObjectUpdate> removed = new ArrayList<>();
+        synchronized (this) {
+            despawnWheel.advance(System.currentTimeMillis(), item -> {
+                untrack(item);
+                removed.add(removalUpdate(item.object));
+                log.debug("Removed expired item: {}", item.object.getId());
+            });
+        }
+        for (WorldObjectUpdate update : removed) {
+            removeFromWorld(update);
+        }
+        return removed;
+    }
 
-        log.debug("Spawned pokeball at ({}, {})", tileX, tileY);
+    public synchronized boolean validatePickup(String itemId, String username) {
+        return items.containsKey(itemId);
     }
 
-    @Scheduled(fixedRate = 60000) // Check every minute
-    public void cleanupExpiredItems() {
-        long now = System.currentTimeMillis();
+    // Server side pickup: the item must still exist and the player must be within range of it.
+    public WorldObjectUpdate claimItem(String itemId, float playerX, float playerY, float rangeTiles) {
+        WorldObjectUpdate update;
+        synchronized (this) {
+            TrackedItem item = items.get(itemId);
+            if (item == null) {
+                return null;
+            }
+            float dx = playerX - item.object.getTileX();
+            float dy = playerY - item.object.getTileY();
+            if (dx * dx + dy * dy > rangeTiles * rangeTiles) {
+                return null;
+            }
+            despawnWheel.cancel(item.timeout);
+            untrack(item);
+            update = removalUpdate(item.object);
+        }
+        removeFromWorld(update);
+        return update;
+    }
 
-        Set<String> expiredItems = new HashSet<>();
-        itemSpawnTimes.forEach((id, spawnTime) -> {
-            if (now - spawnTime > ITEM_DESPAWN_TIME) {
-                expiredItems.add(id);
+    public void removeItem(String itemId) {
+        WorldObjectUpdate update;
+        synchronized (this) {
+            TrackedItem item = items.get(itemId);
+            if (item == null) {
+                worldObjectManager.removeObject(itemId);
+                return;
             }
-        });
+            despawnWheel.cancel(item.timeout);
+            untrack(item);
+            update = removalUpdate(item.object);
+        }
+        removeFromWorld(update);
+    }
 
-        for (String id : expiredItems) {
-            worldObjectManager.removeObject(id);
-            itemSpawnTimes.remove(id);
-            log.debug("Removed expired item: {}", id);
+    public String rollPokeballLoot() {
+        int roll = ThreadLocalRandom.current().nextInt(POKEBALL_LOOT_TOTAL);
+        for (int i = 0; i < POKEBALL_LOOT.length; i++) {
+            roll -= POKEBALL_LOOT_WEIGHTS[i];
+            if (roll < 0) {
+                return POKEBALL_LOOT[i];
+            }
         }
+        return POKEBALL_LOOT[0];
+    }
+
+    public synchronized int getTrackedItemCount() {
+        return items.size();
     }
 
-    public boolean validatePickup(String itemId, String username) {
-        // Check if item exists and hasn't expired
-        Long spawnTime = itemSpawnTimes.get(itemId);
-        if (spawnTime == null) {
-            return false;
+    private boolean canSpawnItemAt(int chunkX, int chunkY, int tileX, int tileY) {
+        // Items are at least MIN_DISTANCE_BETWEEN_ITEMS apart, which never reaches past the neighbouring chunks
+        for (int cx = chunkX - 1; cx <= chunkX + 1; cx++) {
+            for (int cy = chunkY - 1; cy <= chunkY + 1; cy++) {
+                List<TrackedItem> nearby = itemsByChunk.get(chunkKey(cx, cy));
+                if (nearby == null) {
+                    continue;
+                }
+                for (TrackedItem item : nearby) {
+                    if (Math.abs(item.object.getTileX() - tileX) <= MIN_DISTANCE_BETWEEN_ITEMS
+                        && Math.abs(item.object.getTileY() - tileY) <= MIN_DISTANCE_BETWEEN_ITEMS) {
+                        return false;
+                    }
+                }
+            }
         }
+        return true;
+    }
 
-        // Multiplayer validation if needed
-        if (worldService.isMultiplayerMode() && multiplayerClient.isConnected()) {
-            // Additional multiplayer validation could go here
-            return true;
+    private void track(int chunkX, int chunkY, WorldObject object, long lifetime) {
+        TrackedItem item = new TrackedItem(chunkKey(chunkX, chunkY), object);
+        item.timeout = despawnWheel.schedule(item, lifetime);
+        items.put(object.getId(), item);
+        itemsByChunk.computeIfAbsent(item.chunkKey, k -> new ArrayList<>(MAX_ITEMS_PER_CHUNK)).add(item);
+    }
+
+    private void untrack(TrackedItem item) {
+        items.remove(item.object.getId());
+        List<TrackedItem> chunkItems = itemsByChunk.get(item.chunkKey);
+        if (chunkItems != null) {
+            chunkItems.remove(item);
+            if (chunkItems.isEmpty()) {
+                itemsByChunk.remove(item.chunkKey);
+            }
         }
+    }
 
-        return true;
+    private void removeFromWorld(WorldObjectUpdate update) {
+        worldObjectManager.removeObject(update.getObjectId());
+        worldService.updateWorldObjectState(update);
     }
 
-    public void removeItem(String itemId) {
-        worldObjectManager.removeObject(itemId);
-        itemSpawnTimes.remove(itemId);
+    private static WorldObjectUpdate removalUpdate(WorldObject object) {
+        WorldObjectUpdate update = new WorldObjectUpdate();
+        update.setObjectId(object.getId());
+        update.setType(object.getType().name());
+        update.setTileX(object.getTileX());
+        update.setTileY(object.getTileY());
+        update.setRemoved(true);
+        return update;
+    }
+
+    private static long chunkKey(int chunkX, int chunkY) {
+        return ((long) chunkX << 32) | (chunkY & 0xFFFFFFFFL);
+    }
+
+    private static final class TrackedItem {
+        final long chunkKey;
+        final WorldObject object;
+        HashedTimingWheel.Timeout<TrackedItem> timeout;
+
+        TrackedItem(long chunkKey, WorldObject object) {
+            this.chunkKey = chunkKey;
+            this.object = object;
+        }
     }
 }
@@ -2,6 +2,7 @@ package io.github.minemon.inventory.service.impl;
 
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import io.github.minemon.core.service.TextureAtlasRegistry;
 import io.github.minemon.inventory.config.ItemRegistry;
 import io.github.minemon.inventory.model.InventoryItem;
 import lombok.extern.slf4j.Slf4j;
@@ -12,13 +13,18 @@ import java.util.Map;
 @Slf4j
 @Component
 public class ItemTextureManager {
+    private final TextureAtlasRegistry atlasRegistry;
     private TextureAtlas atlas;
     private final Map<String, TextureRegion> regionCache = new HashMap<>();
     private boolean initialized = false;
 
-    public void initialize(TextureAtlas itemAtlas) {
+    public ItemTextureManager(TextureAtlasRegistry atlasRegistry) {
+        this.atlasRegistry = atlasRegistry;
+    }
+
+    public void initialize() {
         if (!initialized) {
-            this.atlas = itemAtlas;
+            this.atlas = atlasRegistry.acquire(TextureAtlasRegistry.ITEMS_ATLAS);
             initialized = true;
             loadTextures();
             log.info("ItemTextureManager initialized with {} textures", regionCache.size());
@@ -71,7 +77,16 @@ public class ItemTextureManager {
         return atlas.findRegion("missing_texture");
     }
 
+    // Regions are looked up again on demand
+    public void trimCaches() {
+        regionCache.clear();
+    }
+
     public void dispose() {
+        if (atlas != null) {
+            atlasRegistry.release(TextureAtlasRegistry.ITEMS_ATLAS);
+            atlas = null;
+        }
         regionCache.clear();
         initialized = false;
     }
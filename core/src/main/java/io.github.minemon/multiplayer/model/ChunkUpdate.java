@@ -2,6 +2,7 @@ package io.github.minemon.multiplayer.model;
 
 import lombok.Getter;
 import lombok.Setter;
+import io.github.minemon.world.model.ChunkTiles;
 import io.github.minemon.world.model.WorldObject;
 import java.util.List;
 
@@ -9,6 +10,6 @@ import java.util.List;
 public class ChunkUpdate {
     private int chunkX;
     private int chunkY;
-    private int[][] tiles;
+    private ChunkTiles tiles;
     private List<WorldObject> objects;
 }
@@ -1,24 +1,23 @@
 package io.github.minemon.multiplayer.model;
 
 import io.github.minemon.player.model.PlayerData;
+import io.github.minemon.player.model.PlayerDirection;
 import lombok.Getter;
 import lombok.Setter;
 
+// A player's state as sent to other clients. Direction travels as the PlayerDirection ordinal; animation
+// state is kept by the client that draws the player.
 @Getter
 @Setter
 public class PlayerSyncData {
+    private static final PlayerDirection[] DIRECTIONS = PlayerDirection.values();
+
     private String username;
     private float x;
-    private float lastX;
-    private float lastY;
     private float y;
     private boolean running;
-    private String direction;
+    private int direction = PlayerDirection.DOWN.ordinal();
     private boolean moving;
-    private float animationTime = 0f;
-    private float lastUpdateTime = 0f;
-    private boolean wasMoving;
-    private String lastDirection;
 
     public static PlayerSyncData fromPlayerData(PlayerData pd) {
         PlayerSyncData sync = new PlayerSyncData();
@@ -26,22 +25,14 @@ public class PlayerSyncData {
         sync.setX(pd.getX());
         sync.setY(pd.getY());
         sync.setRunning(pd.isWantsToRun());
-        sync.setDirection(pd.getDirection() != null ? pd.getDirection().name() : "DOWN");
-        sync.setMoving(pd.isMoving());
-
-        if (sync.isMoving() != sync.wasMoving ||
-            !sync.direction.equals(sync.lastDirection)) {
-            sync.setAnimationTime(0f);
+        if (pd.getDirection() != null) {
+            sync.setDirection(pd.getDirection().ordinal());
         }
-
-        sync.setWasMoving(sync.isMoving());
-        sync.setLastDirection(sync.direction);
+        sync.setMoving(pd.isMoving());
         return sync;
     }
 
-    public void updateAnimationTime(float delta) {
-        if (moving) {
-            animationTime += delta;
-        }
+    public PlayerDirection getPlayerDirection() {
+        return direction >= 0 && direction < DIRECTIONS.length ? DIRECTIONS[direction] : PlayerDirection.DOWN;
     }
 }
@@ -0,0 +1,93 @@
+package io.github.minemon.multiplayer.model;
+
+import com.badlogic.gdx.utils.Array;
+import io.github.minemon.player.model.RemotePlayerAnimator;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Remote players are shown a fixed delay behind the server, so there are usually two snapshots to interpolate
+// between even with one datagram lost. The server's clock is estimated from snapshot arrivals: the offset
+// follows the fastest arrival immediately and drifts slowly towards slower ones. Server time is an int that
+// wraps, so it is only ever compared with the estimate by int subtraction.
+public class RemotePlayerInterpolator {
+    private static final int INTERPOLATION_DELAY_MS = 100; // two server ticks
+    private static final int MAX_EXTRAPOLATION_MS = 100;
+    private static final double CLOCK_DRIFT = 0.01;
+    private static final Comparator<RemotePlayerAnimator> BACK_TO_FRONT =
+        (a, b) -> Float.compare(b.getY(), a.getY());
+
+    private final Map<String, RemotePlayerAnimator> players = new ConcurrentHashMap<>();
+    private final Array<RemotePlayerAnimator> visible = new Array<>(false, 16);
+    private final long startNanos = System.nanoTime();
+    private volatile boolean clockSynced;
+    private volatile double clockOffset;
+
+    // Network thread
+    public void onServerTime(int serverTime) {
+        double local = localMillis();
+        if (!clockSynced) {
+            clockOffset = serverTime - local;
+            clockSynced = true;
+            return;
+        }
+        int error = serverTime - estimatedServerTime(local);
+        clockOffset += error > 0 ? error : error * CLOCK_DRIFT;
+    }
+
+    public void onSnapshot(int serverTime, PlayerSyncData state) {
+        players.computeIfAbsent(state.getUsername(), RemotePlayerAnimator::new).push(serverTime, state);
+    }
+
+    // Membership updates carry no server time; a player seen for the first time starts at the render time
+    public void onJoin(PlayerSyncData state) {
+        players.computeIfAbsent(state.getUsername(), username -> {
+            RemotePlayerAnimator player = new RemotePlayerAnimator(username);
+            player.push(clockSynced ? renderTime() : 0, state);
+            return player;
+        });
+    }
+
+    public void remove(String username) {
+        players.remove(username);
+    }
+
+    public void clear() {
+        players.clear();
+        clockSynced = false;
+    }
+
+    public int size() {
+        return players.size();
+    }
+
+    // Render thread: samples every player, animates those in a visible chunk and returns them back to front.
+    // The returned array is reused on the next call.
+    public Array<RemotePlayerAnimator> update(float delta, Map<String, ?> visibleChunks) {
+        visible.clear();
+        // Before the first snapshot only joined players exist, all stamped 0
+        int renderTime = clockSynced ? renderTime() : 0;
+        for (RemotePlayerAnimator player : players.values()) {
+            if (player.sample(renderTime, MAX_EXTRAPOLATION_MS) && visibleChunks.containsKey(player.getChunkKey())) {
+                player.animate(delta);
+                visible.add(player);
+            }
+        }
+        visible.sort(BACK_TO_FRONT);
+        return visible;
+    }
+
+    private int renderTime() {
+        return estimatedServerTime(localMillis()) - INTERPOLATION_DELAY_MS;
+    }
+
+    // Through long so the estimate wraps like the server's clock instead of saturating
+    private int estimatedServerTime(double local) {
+        return (int) (long) Math.floor(local + clockOffset);
+    }
+
+    private double localMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000.0;
+    }
+}
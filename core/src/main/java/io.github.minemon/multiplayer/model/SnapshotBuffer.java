@@ -0,0 +1,125 @@
+package io.github.minemon.multiplayer.model;
+
+import io.github.minemon.player.model.PlayerDirection;
+import lombok.Getter;
+
+// Ring of timestamped states for one remote player, written by the network thread and sampled by the render
+// thread. The unreliable channel reorders snapshots, so one older than the newest held is dropped. Times are
+// compared by subtraction, so the server's int millisecond clock may wrap (after about 24.8 days).
+public class SnapshotBuffer {
+    private static final int CAPACITY = 16; // 800 ms at the server's 20 snapshots a second
+    private static final int SNAPSHOT_INTERVAL_MS = 50;
+    private static final int IDLE_GAP_MS = 4 * SNAPSHOT_INTERVAL_MS;
+    private static final float TELEPORT_DISTANCE = 3f; // tiles between snapshots that are jumped, not walked
+    private static final PlayerDirection[] DIRECTIONS = PlayerDirection.values();
+
+    private final int[] times = new int[CAPACITY];
+    private final float[] xs = new float[CAPACITY];
+    private final float[] ys = new float[CAPACITY];
+    private final byte[] directions = new byte[CAPACITY];
+    private final boolean[] moving = new boolean[CAPACITY];
+    private final boolean[] running = new boolean[CAPACITY];
+    private int newest = -1;
+    private int size;
+
+    @Getter
+    public static class Sample {
+        private float x;
+        private float y;
+        private PlayerDirection direction = PlayerDirection.DOWN;
+        private boolean moving;
+        private boolean running;
+    }
+
+    // The server only sends a player that changed, so after a pause the previous state is repeated one
+    // snapshot interval before the new one; otherwise the step would be spread across the whole pause.
+    public synchronized boolean add(int time, PlayerSyncData state) {
+        if (size > 0 && time - times[newest] <= 0) {
+            return false;
+        }
+        if (size > 0 && time - times[newest] > IDLE_GAP_MS) {
+            int previous = newest;
+            append(time - SNAPSHOT_INTERVAL_MS, xs[previous], ys[previous], directions[previous], moving[previous],
+                running[previous]);
+        }
+        append(time, state.getX(), state.getY(), (byte) state.getPlayerDirection().ordinal(), state.isMoving(),
+            state.isRunning());
+        return true;
+    }
+
+    private void append(int time, float x, float y, byte direction, boolean isMoving, boolean isRunning) {
+        newest = (newest + 1) % CAPACITY;
+        times[newest] = time;
+        xs[newest] = x;
+        ys[newest] = y;
+        directions[newest] = direction;
+        moving[newest] = isMoving;
+        running[newest] = isRunning;
+        size = Math.min(size + 1, CAPACITY);
+    }
+
+    // Interpolates between the two snapshots around renderTime. Past the newest, a moving player is carried on
+    // at its last velocity for up to maxExtrapolation ms and then held; before the oldest, the oldest is held.
+    public synchronized boolean sample(int renderTime, int maxExtrapolation, Sample out) {
+        if (size == 0) {
+            return false;
+        }
+        if (renderTime - times[newest] >= 0) {
+            copy(newest, out);
+            int ahead = renderTime - times[newest];
+            if (size > 1 && moving[newest]) {
+                int previous = older(newest);
+                int span = times[newest] - times[previous];
+                if (span > 0 && !teleported(previous, newest)) {
+                    float t = Math.min(ahead, maxExtrapolation) / (float) span;
+                    out.x += (xs[newest] - xs[previous]) * t;
+                    out.y += (ys[newest] - ys[previous]) * t;
+                }
+            }
+            out.moving = moving[newest] && ahead < maxExtrapolation;
+            return true;
+        }
+
+        int later = newest;
+        for (int i = 1; i < size; i++) {
+            int earlier = older(later);
+            if (renderTime - times[earlier] >= 0) {
+                interpolate(earlier, later, renderTime, out);
+                return true;
+            }
+            later = earlier;
+        }
+        copy(later, out);
+        return true;
+    }
+
+    private void interpolate(int earlier, int later, int renderTime, Sample out) {
+        copy(later, out);
+        boolean walked = xs[earlier] != xs[later] || ys[earlier] != ys[later];
+        if (teleported(earlier, later)) {
+            out.x = xs[earlier];
+            out.y = ys[earlier];
+        } else {
+            float t = (renderTime - times[earlier]) / (float) (times[later] - times[earlier]);
+            out.x = xs[earlier] + (xs[later] - xs[earlier]) * t;
+            out.y = ys[earlier] + (ys[later] - ys[earlier]) * t;
+        }
+        out.moving = walked || moving[later];
+    }
+
+    private boolean teleported(int from, int to) {
+        return Math.abs(xs[to] - xs[from]) + Math.abs(ys[to] - ys[from]) > TELEPORT_DISTANCE;
+    }
+
+    private void copy(int index, Sample out) {
+        out.x = xs[index];
+        out.y = ys[index];
+        out.direction = DIRECTIONS[directions[index]];
+        out.moving = moving[index];
+        out.running = running[index];
+    }
+
+    private static int older(int index) {
+        return (index + CAPACITY - 1) % CAPACITY;
+    }
+}
@@ -1,6 +1,8 @@
 package io.github.minemon.multiplayer.service;
 
 import io.github.minemon.multiplayer.model.PlayerSyncData;
+import io.github.minemon.multiplayer.model.RemotePlayerInterpolator;
+import io.github.minemon.player.model.PlayerDirection;
 
 import java.util.Map;
 
@@ -10,6 +12,7 @@ public interface MultiplayerClient {
     }
     boolean isPendingChunkRequest(int chunkX, int chunkY);
     Map<String, PlayerSyncData> getPlayerStates();
+    RemotePlayerInterpolator getRemotePlayers();
 
     interface CreateUserResponseListener {
         void onCreateUserResponse(boolean success, String message);
@@ -24,7 +27,7 @@ public interface MultiplayerClient {
     void createUser(String username, String password);
     void disconnect();
     boolean isConnected();
-    void sendPlayerMove(float x, float y, boolean running, boolean moving, String direction);
+    int sendPlayerMove(float x, float y, boolean running, boolean moving, PlayerDirection direction);
     void requestChunk(int chunkX, int chunkY);
     void update(float delta);
     void sendMessage(Object msg);
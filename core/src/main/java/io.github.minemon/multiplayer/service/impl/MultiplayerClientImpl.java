@@ -7,13 +7,18 @@ import com.esotericsoftware.kryonet.Listener;
 import io.github.minemon.NetworkProtocol;
 import io.github.minemon.chat.event.ChatMessageReceivedEvent;
 import io.github.minemon.chat.model.ChatMessage;
+import io.github.minemon.inventory.event.InventoryStateReceivedEvent;
 import io.github.minemon.chat.service.ChatService;
 import io.github.minemon.core.screen.ServerDisconnectScreen;
 import io.github.minemon.core.service.ScreenManager;
 import io.github.minemon.multiplayer.model.ChunkUpdate;
 import io.github.minemon.multiplayer.model.PlayerSyncData;
+import io.github.minemon.multiplayer.model.RemotePlayerInterpolator;
+import io.github.minemon.multiplayer.model.WorldObjectUpdate;
 import io.github.minemon.multiplayer.service.MultiplayerClient;
+import io.github.minemon.player.model.PlayerDirection;
 import io.github.minemon.player.service.PlayerService;
+import io.github.minemon.world.model.ChunkTiles;
 import io.github.minemon.world.model.ObjectType;
 import io.github.minemon.world.model.WorldObject;
 import io.github.minemon.world.service.ChunkLoadingManager;
@@ -40,9 +45,12 @@ public class MultiplayerClientImpl implements MultiplayerClient {
     private static final int BATCH_SIZE = 8;
     private static final long BATCH_DELAY = 50;
     private static final long CHUNK_REQUEST_TIMEOUT = 5000;
+    private static final int MOVE_REDUNDANCY = 3;
+    private static final long MOVE_RESEND_INTERVAL = 100;
 
     private final Map<ChunkKey, ChunkBuffer> chunkBuffers = new ConcurrentHashMap<>();
     private final Map<String, PlayerSyncData> playerStates = new ConcurrentHashMap<>();
+    private final RemotePlayerInterpolator remotePlayers = new RemotePlayerInterpolator();
     private final Map<String, ChunkUpdate> loadedChunks = new ConcurrentHashMap<>();
     private final ApplicationEventPublisher eventPublisher;
 
@@ -60,6 +68,13 @@ public class MultiplayerClientImpl implements MultiplayerClient {
     
     private final Queue<NetworkProtocol.ChunkRequest> chunkRequestQueue = new ConcurrentLinkedQueue<>();
 
+    // Recent moves, repeated in every datagram until the server acknowledges them
+    private final Deque<NetworkProtocol.PlayerMoveRequest> recentMoves = new ArrayDeque<>(MOVE_REDUNDANCY);
+    private final Map<String, Integer> snapshotSequenceByPlayer = new ConcurrentHashMap<>();
+    private int moveSequence;
+    private volatile int lastAckedMove;
+    private long lastMoveSendTime;
+
     
     
     
@@ -200,6 +215,10 @@ public class MultiplayerClientImpl implements MultiplayerClient {
         }
         client = new Client();
         NetworkProtocol.registerClasses(client.getKryo());
+        // The server tracks move sequences per session, so a new connection starts counting again
+        recentMoves.clear();
+        moveSequence = 0;
+        lastAckedMove = 0;
 
         client.addListener(new Listener() {
             @Override
@@ -225,6 +244,8 @@ public class MultiplayerClientImpl implements MultiplayerClient {
                     return;
                 }
                 playerStates.clear();
+                snapshotSequenceByPlayer.clear();
+                remotePlayers.clear();
                 loadedChunks.clear();
 
                 Gdx.app.postRunnable(() -> {
@@ -355,6 +376,8 @@ public class MultiplayerClientImpl implements MultiplayerClient {
             }
         } else if (object instanceof NetworkProtocol.PlayerStatesUpdate pUpdate) {
             handlePlayerStatesUpdate(pUpdate);
+        } else if (object instanceof NetworkProtocol.PlayerStateSnapshot snapshot) {
+            handlePlayerStateSnapshot(snapshot);
         } else if (object instanceof NetworkProtocol.ChunkData cData) {
             handleChunkData(cData);
             chunkLoadingManager.markChunkComplete(cData.getChunkX(), cData.getChunkY());
@@ -363,9 +386,24 @@ public class MultiplayerClientImpl implements MultiplayerClient {
             pendingChunkRequests.remove(key);
         } else if (object instanceof NetworkProtocol.WorldObjectsUpdate wObjects) {
             handleWorldObjectsUpdate(wObjects);
+        } else if (object instanceof NetworkProtocol.PlayerPositionCorrection correction) {
+            log.debug("Server corrected position to ({}, {})", correction.getX(), correction.getY());
+            if (playerService != null) {
+                Gdx.app.postRunnable(() -> playerService.setPosition(
+                    Math.round(correction.getX()), Math.round(correction.getY())));
+            }
         } else if (object instanceof ChatMessage chatMsg) {
             log.info("Received ChatMessage from {}: {}", chatMsg.getSender(), chatMsg.getContent());
             eventPublisher.publishEvent(new ChatMessageReceivedEvent(this, chatMsg));
+        } else if (object instanceof NetworkProtocol.InventorySnapshot
+            || object instanceof NetworkProtocol.InventoryDelta) {
+            Gdx.app.postRunnable(() -> eventPublisher.publishEvent(new InventoryStateReceivedEvent(this, object)));
+        } else if (object instanceof NetworkProtocol.ChatBatch batch) {
+            if (batch.getMessages() != null) {
+                for (ChatMessage chatMsg : batch.getMessages()) {
+                    eventPublisher.publishEvent(new ChatMessageReceivedEvent(this, chatMsg));
+                }
+            }
         } else if (object instanceof NetworkProtocol.ServerShutdownNotice notice) {
             if (screenManager != null) {
                 Gdx.app.postRunnable(() -> {
@@ -409,48 +447,98 @@ public class MultiplayerClientImpl implements MultiplayerClient {
 
         
         updatePlayerStates(pUpdate.getPlayers());
+        String localUsername = playerService.getPlayerData().getUsername();
+        for (PlayerSyncData state : pUpdate.getPlayers().values()) {
+            if (!state.getUsername().equals(localUsername)) {
+                remotePlayers.onJoin(state);
+            }
+        }
 
         log.debug("Updated player states. Total players: {}", playerStates.size());
     }
 
-    private void handleWorldObjectsUpdate(NetworkProtocol.WorldObjectsUpdate wObjects) {
-        wObjects.getObjects().forEach(update -> {
-            String key = (update.getTileX() / 16) + "," + (update.getTileY() / 16);
-            ChunkUpdate cu = loadedChunks.get(key);
-            if (cu != null) {
-                if (update.isRemoved()) {
-                    cu.getObjects().removeIf(o -> o.getId().equals(update.getObjectId()));
-                } else {
-                    boolean found = false;
-                    for (WorldObject wo : cu.getObjects()) {
-                        if (wo.getId().equals(update.getObjectId())) {
-                            wo.setTileX(update.getTileX());
-                            wo.setTileY(update.getTileY());
-                            found = true;
-                            break;
-                        }
-                    }
-                    if (!found) {
-                        ObjectType objType = ObjectType.valueOf(update.getType());
-                        WorldObject newObj = new WorldObject(
-                            update.getTileX(),
-                            update.getTileY(),
-                            objType,
-                            objType.isCollidable()
-                        );
-                        cu.getObjects().add(newObj);
+    // Snapshots arrive unordered and repeat recent states, so a player's state is only taken from a snapshot
+    // at least as new as the last one applied. Players not yet announced over TCP are skipped.
+    private void handlePlayerStateSnapshot(NetworkProtocol.PlayerStateSnapshot snapshot) {
+        int sequence = snapshot.getSequence();
+        remotePlayers.onServerTime(snapshot.getServerTime());
+        if (snapshot.getPlayers() != null) {
+            String localUsername = playerService.getPlayerData().getUsername();
+            Map<String, PlayerSyncData> fresh = new HashMap<>();
+            for (PlayerSyncData state : snapshot.getPlayers()) {
+                String username = state.getUsername();
+                if (username == null || !playerStates.containsKey(username)) {
+                    continue;
+                }
+                Integer applied = snapshotSequenceByPlayer.get(username);
+                if (applied == null || sequence >= applied) {
+                    snapshotSequenceByPlayer.put(username, sequence);
+                    fresh.put(username, state);
+                    if (!username.equals(localUsername)) {
+                        remotePlayers.onSnapshot(snapshot.getServerTime(), state);
                     }
                 }
             }
-            
-            Gdx.app.postRunnable(() -> {
+            if (!fresh.isEmpty()) {
+                updatePlayerStates(fresh);
+            }
+        }
+
+        int ack = snapshot.getAckSequence();
+        if (ack > lastAckedMove) {
+            lastAckedMove = ack;
+            float ackX = snapshot.getAckX();
+            float ackY = snapshot.getAckY();
+            Gdx.app.postRunnable(() -> playerService.reconcile(ack, ackX, ackY));
+        }
+    }
+
+    // The whole batch is applied in one render-thread task; the world service defers the chunk writes
+    private void handleWorldObjectsUpdate(NetworkProtocol.WorldObjectsUpdate wObjects) {
+        List<WorldObjectUpdate> updates = wObjects.getObjects();
+        if (updates == null || updates.isEmpty()) {
+            return;
+        }
+        Gdx.app.postRunnable(() -> {
+            for (WorldObjectUpdate update : updates) {
+                applyToLoadedChunk(update);
                 worldService.updateWorldObjectState(update);
-            });
+            }
         });
     }
 
+    private void applyToLoadedChunk(WorldObjectUpdate update) {
+        String key = Math.floorDiv(update.getTileX(), 16) + "," + Math.floorDiv(update.getTileY(), 16);
+        ChunkUpdate cu = loadedChunks.get(key);
+        if (cu == null) {
+            return;
+        }
+        if (update.isRemoved()) {
+            cu.getObjects().removeIf(o -> o.getId().equals(update.getObjectId()));
+            return;
+        }
+        for (WorldObject wo : cu.getObjects()) {
+            if (wo.getId().equals(update.getObjectId())) {
+                wo.setTileX(update.getTileX());
+                wo.setTileY(update.getTileY());
+                return;
+            }
+        }
+        ObjectType objType = ObjectType.valueOf(update.getType());
+        WorldObject newObj = new WorldObject(
+            update.getTileX(),
+            update.getTileY(),
+            objType,
+            objType.isCollidable()
+        );
+        newObj.setId(update.getObjectId());
+        cu.getObjects().add(newObj);
+    }
+
     private void handlePlayerLeave(String username) {
         playerStates.remove(username);
+        snapshotSequenceByPlayer.remove(username);
+        remotePlayers.remove(username);
 
         
         ChatMessage leaveMsg = new ChatMessage();
@@ -470,42 +558,9 @@ public class MultiplayerClientImpl implements MultiplayerClient {
         chatService.handleIncomingMessage(joinMsg);
     }
 
+    // Animation state lives with the remote player's interpolation buffer, so states are stored as received
     private void updatePlayerStates(Map<String, PlayerSyncData> newStates) {
-        String localUsername = playerService.getPlayerData().getUsername();
-
-        for (Map.Entry<String, PlayerSyncData> entry : newStates.entrySet()) {
-            String username = entry.getKey();
-            PlayerSyncData newState = entry.getValue();
-            PlayerSyncData oldState = playerStates.get(username);
-
-            
-            if (username.equals(localUsername)) {
-                playerStates.put(username, newState);
-                continue;
-            }
-
-            
-            if (oldState != null) {
-                float dx = Math.abs(oldState.getX() - newState.getX());
-                float dy = Math.abs(oldState.getY() - newState.getY());
-                boolean actuallyMoving = dx > 0.001f || dy > 0.001f;
-
-                if (actuallyMoving) {
-                    newState.setMoving(true);
-                    if (oldState.isMoving()) {
-                        newState.setAnimationTime(oldState.getAnimationTime());
-                    }
-                } else {
-                    newState.setMoving(newState.isMoving());
-                    if (newState.isMoving()) {
-                        newState.setAnimationTime(oldState.getAnimationTime());
-                    } else {
-                        newState.setAnimationTime(0f);
-                    }
-                }
-            }
-            playerStates.put(username, newState);
-        }
+        playerStates.putAll(newStates);
     }
 
     
@@ -570,6 +625,8 @@ public class MultiplayerClientImpl implements MultiplayerClient {
             }
             
             playerStates.clear();
+            snapshotSequenceByPlayer.clear();
+            remotePlayers.clear();
             processedLeaves.clear();
         }
     }
@@ -580,15 +637,46 @@ public class MultiplayerClientImpl implements MultiplayerClient {
     }
 
     @Override
-    public void sendPlayerMove(float x, float y, boolean running, boolean moving, String direction) {
-        if (!connected) return;
+    public int sendPlayerMove(float x, float y, boolean running, boolean moving, PlayerDirection direction) {
+        if (!connected) return 0;
         NetworkProtocol.PlayerMoveRequest req = new NetworkProtocol.PlayerMoveRequest();
+        req.setSequence(++moveSequence);
         req.setX(x);
         req.setY(y);
         req.setRunning(running);
         req.setMoving(moving);
-        req.setDirection(direction);
-        client.sendTCP(req);
+        req.setDirection(direction.ordinal());
+        if (recentMoves.size() == MOVE_REDUNDANCY) {
+            recentMoves.removeFirst();
+        }
+        recentMoves.addLast(req);
+        sendRecentMoves();
+        return req.getSequence();
+    }
+
+    // Movement rides the unreliable channel when the server opened one; everything else stays on TCP
+    private void sendRecentMoves() {
+        NetworkProtocol.PlayerMoveBatch batch = new NetworkProtocol.PlayerMoveBatch();
+        batch.setMoves(recentMoves.toArray(new NetworkProtocol.PlayerMoveRequest[0]));
+        if (client.getRemoteAddressUDP() != null) {
+            client.sendUDP(batch);
+        } else {
+            client.sendTCP(batch);
+        }
+        lastMoveSendTime = System.currentTimeMillis();
+    }
+
+    // The last move before the player stops has no later datagram to ride along with, so unacknowledged
+    // moves are sent again until the server confirms them
+    private void resendUnackedMoves() {
+        if (recentMoves.isEmpty() || lastAckedMove >= moveSequence
+            || System.currentTimeMillis() - lastMoveSendTime < MOVE_RESEND_INTERVAL) {
+            return;
+        }
+        recentMoves.removeIf(move -> move.getSequence() <= lastAckedMove);
+        if (!recentMoves.isEmpty()) {
+            sendRecentMoves();
+        }
     }
 
     @Override
@@ -606,23 +694,7 @@ public class MultiplayerClientImpl implements MultiplayerClient {
         
         cleanupStaleRequests();
 
-        String localUsername = playerService.getPlayerData().getUsername();
-        for (Map.Entry<String, PlayerSyncData> entry : playerStates.entrySet()) {
-            String username = entry.getKey();
-            PlayerSyncData psd = entry.getValue();
-
-            
-            if (username.equals(localUsername)) {
-                continue;
-            }
-            
-            if (psd.isMoving()) {
-                psd.setAnimationTime(psd.getAnimationTime() + delta);
-            }
-            
-            psd.setWasMoving(psd.isMoving());
-            psd.setLastDirection(psd.getDirection());
-        }
+        resendUnackedMoves();
     }
 
 
@@ -631,6 +703,11 @@ public class MultiplayerClientImpl implements MultiplayerClient {
         return playerStates;
     }
 
+    @Override
+    public RemotePlayerInterpolator getRemotePlayers() {
+        return remotePlayers;
+    }
+
     @Override
     public void setLoginResponseListener(LoginResponseListener listener) {
         this.loginResponseListener = listener;
@@ -668,7 +745,7 @@ public class MultiplayerClientImpl implements MultiplayerClient {
 
     @Data
     static class ChunkBuffer {
-        private final int[][] tiles;
+        private final ChunkTiles tiles;
         private final List<WorldObject> objects = new ArrayList<>();
         private final int totalParts;
         private int receivedParts = 0;
@@ -1,15 +1,19 @@
 package io.github.minemon.player.event;
 
-import io.github.minemon.event.Event;
+import io.github.minemon.event.CoalescingEvent;
 import io.github.minemon.player.model.PlayerData;
 import lombok.Getter;
 
 @Getter
-public class PlayerMoveEvent implements Event {
+public class PlayerMoveEvent implements CoalescingEvent {
     private final PlayerData playerData;
 
     public PlayerMoveEvent(PlayerData playerData) {
         this.playerData = playerData;
     }
 
+    @Override
+    public Object getCoalesceKey() {
+        return playerData.getUsername();
+    }
 }
@@ -1,122 +1,72 @@
 package io.github.minemon.player.model;
 
+import io.github.minemon.multiplayer.model.PlayerSyncData;
+import io.github.minemon.multiplayer.model.SnapshotBuffer;
 import lombok.Getter;
 
+// One remote player as drawn: a snapshot buffer, the position sampled from it this frame (in tiles) and the
+// walk animation. Snapshots are pushed from the network thread; everything else runs on the render thread.
 public class RemotePlayerAnimator {
-    private static final float MIN_MOVEMENT_THRESHOLD = 0.001f;
-    private static final float POSITION_LERP_SPEED = 15f;
+    private static final int CHUNK_SIZE = 16;
 
+    private final SnapshotBuffer snapshots = new SnapshotBuffer();
+    private final SnapshotBuffer.Sample sample = new SnapshotBuffer.Sample();
     @Getter
-    private float currentX, currentY;
-    private float targetX, targetY;
-    private float lastX, lastY;
+    private final String username;
+    @Getter
+    private float x, y;
     @Getter
     private float animationTime;
     @Getter
     private boolean moving;
-    private boolean wasMoving;
     @Getter
     private boolean running;
     @Getter
-    private PlayerDirection direction;
-    private PlayerDirection lastDirection;
-    private float stationaryTime; 
+    private PlayerDirection direction = PlayerDirection.DOWN;
+    private int chunkX = Integer.MIN_VALUE;
+    private int chunkY = Integer.MIN_VALUE;
+    private String chunkKey;
 
-    public RemotePlayerAnimator() {
-        this.direction = PlayerDirection.DOWN;
-        this.lastDirection = direction;
-        this.moving = false;
-        this.wasMoving = false;
-        this.running = false;
-        this.animationTime = 0f;
-        this.stationaryTime = 0f;
+    public RemotePlayerAnimator(String username) {
+        this.username = username;
     }
 
-    
-    public void updateState(float newTargetX, float newTargetY,
-                            boolean isRunning, PlayerDirection newDirection,
-                            boolean serverMoving, float delta) {
-
-        
-        lastX = currentX;
-        lastY = currentY;
-        lastDirection = direction;
-        wasMoving = moving;
-
-        
-        this.running = isRunning;
-        this.direction = newDirection;
-        this.targetX = newTargetX;
-        this.targetY = newTargetY;
-
-        
-        float dx = Math.abs(targetX - currentX);
-        float dy = Math.abs(targetY - currentY);
-        boolean hasPositionChanged = (dx > MIN_MOVEMENT_THRESHOLD || dy > MIN_MOVEMENT_THRESHOLD);
-
-        
-        if (hasPositionChanged) {
-            float lerpSpeed = POSITION_LERP_SPEED * delta;
-            currentX += (targetX - currentX) * lerpSpeed;
-            currentY += (targetY - currentY) * lerpSpeed;
-            stationaryTime = 0f;
-        } else {
-            
-            stationaryTime += delta;
-        }
+    public boolean push(int serverTime, PlayerSyncData state) {
+        return snapshots.add(serverTime, state);
+    }
 
-        
-        
-        if (!serverMoving && stationaryTime > 0.1f) {
-            moving = false;
-            
-            currentX = targetX;
-            currentY = targetY;
+    public boolean sample(int renderTime, int maxExtrapolation) {
+        if (!snapshots.sample(renderTime, maxExtrapolation, sample)) {
+            return false;
         }
-        
-        else if (hasPositionChanged || serverMoving) {
-            moving = true;
-        }
-
-        
-        
-        float actualDX = Math.abs(currentX - lastX);
-        float actualDY = Math.abs(currentY - lastY);
-        boolean actuallyMoved = (actualDX > MIN_MOVEMENT_THRESHOLD || actualDY > MIN_MOVEMENT_THRESHOLD);
+        x = sample.getX();
+        y = sample.getY();
+        return true;
+    }
 
-        if (serverMoving && !actuallyMoved) {
-            moving = false;
-            stationaryTime += delta;   
-        }
+    public void animate(float delta) {
+        boolean wasMoving = moving;
+        PlayerDirection lastDirection = direction;
+        moving = sample.isMoving();
+        running = sample.isRunning();
+        direction = sample.getDirection();
 
-        
         if (moving) {
-            
             animationTime += delta * (running ? 2f : 1f);
-        } else {
-            
-            if (wasMoving != moving || lastDirection != direction) {
-                animationTime = 0f;
-            }
+        } else if (wasMoving || lastDirection != direction) {
+            animationTime = 0f;
         }
     }
 
-    
-    public void setPosition(float x, float y) {
-        this.currentX = x;
-        this.targetX = x;
-        this.lastX = x;
-        this.currentY = y;
-        this.targetY = y;
-        this.lastY = y;
-        this.stationaryTime = 0f;
-    }
-
-    
-    public void resetAnimation() {
-        animationTime = 0f;
-        moving = false;
-        wasMoving = false;
-        stationaryTime = 0f;
+    // Same "x,y" key the world uses for chunks, rebuilt only when the player crosses into another chunk
+    public String getChunkKey() {
+        int cx = Math.floorDiv((int) Math.floor(x), CHUNK_SIZE);
+        int cy = Math.floorDiv((int) Math.floor(y), CHUNK_SIZE);
+        if (chunkKey == null || cx != chunkX || cy != chunkY) {
+            chunkX = cx;
+            chunkY = cy;
+            chunkKey = cx + "," + cy;
+        }
+        return chunkKey;
     }
 }
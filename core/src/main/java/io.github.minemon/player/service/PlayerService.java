@@ -9,9 +9,12 @@ public interface PlayerService {
     void update(float delta);
     void render(SpriteBatch batch);
 
+    // Shared snapshot, rebuilt only after the player or its inventory changed; copy() it before modifying
     PlayerData getPlayerData();
+    long getPlayerDataVersion();
     void setPlayerData(PlayerData data);
 
     void setRunning(boolean running);
     void setPosition(int tileX, int tileY);
+    void reconcile(int moveSequence, float serverX, float serverY);
 }
@@ -1,10 +1,10 @@
 package io.github.minemon.player.service.impl;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
+import io.github.minemon.core.service.TextureAtlasRegistry;
 import io.github.minemon.player.model.PlayerDirection;
 import io.github.minemon.player.service.PlayerAnimationService;
 import lombok.extern.slf4j.Slf4j;
@@ -26,8 +26,10 @@ public class PlayerAnimationServiceImpl implements PlayerAnimationService {
     private Animation<TextureRegion> walkUp, walkDown, walkLeft, walkRight;
     private Animation<TextureRegion> runUp, runDown, runLeft, runRight;
     private boolean initialized = false;
+    private final TextureAtlasRegistry atlasRegistry;
 
-    public PlayerAnimationServiceImpl() {
+    public PlayerAnimationServiceImpl(TextureAtlasRegistry atlasRegistry) {
+        this.atlasRegistry = atlasRegistry;
     }
 
     @Override
@@ -60,9 +62,8 @@ public class PlayerAnimationServiceImpl implements PlayerAnimationService {
     }
 
     private void loadAnimations() {
-        String atlasPath = "atlas/boy-gfx-atlas.atlas";
-        log.info("Loading TextureAtlas from path: {}", atlasPath);
-        TextureAtlas atlas = new TextureAtlas(Gdx.files.internal(atlasPath));
+        log.info("Loading TextureAtlas from path: {}", TextureAtlasRegistry.PLAYER_ATLAS);
+        TextureAtlas atlas = atlasRegistry.acquire(TextureAtlasRegistry.PLAYER_ATLAS);
 
         log.info("Available regions in the atlas:");
         for (TextureAtlas.AtlasRegion region : atlas.getRegions()) {
@@ -114,5 +115,9 @@ public class PlayerAnimationServiceImpl implements PlayerAnimationService {
     }
 
     public void dispose() {
+        if (initialized) {
+            atlasRegistry.release(TextureAtlasRegistry.PLAYER_ATLAS);
+            initialized = false;
+        }
     }
 }
@@ -14,6 +14,7 @@ import io.github.minemon.player.model.PlayerDirection;
 import io.github.minemon.player.model.PlayerModel;
 import io.github.minemon.player.service.PlayerAnimationService;
 import io.github.minemon.player.service.PlayerService;
+import io.github.minemon.world.model.ChunkTiles;
 import io.github.minemon.world.model.WorldObject;
 import io.github.minemon.world.service.ChunkLoadingManager;
 import io.github.minemon.world.service.WorldService;
@@ -21,12 +22,16 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
+import java.util.Objects;
 
 @Slf4j
 @Setter
 public class PlayerServiceImpl implements PlayerService {
     public final int TILE_SIZE = 32;
+    private static final int MAX_PENDING_MOVES = 64;
 
     private final InventoryService inventoryService;
     private final PlayerModel playerModel;
@@ -37,6 +42,13 @@ public class PlayerServiceImpl implements PlayerService {
     private final InputService inputService;
     private String username;
     private PlayerDirection bufferedDirection = null;
+    private boolean wasMoving;
+    // Moves sent to the server but not yet acknowledged, with the tile each one predicted
+    private final Deque<PendingMove> pendingMoves = new ArrayDeque<>();
+    private volatile PlayerData playerDataView;
+    private long viewInventoryCount = -1;
+    private long playerDataVersion;
+    private long publishedVersion = -1;
 
     @Autowired
     private EventBus eventBus;
@@ -134,14 +146,14 @@ public class PlayerServiceImpl implements PlayerService {
         int chunkY = tileY / 16;
 
 
-        int[][] chunkTiles = worldService.getChunkTiles(chunkX, chunkY);
+        ChunkTiles chunkTiles = worldService.getChunkTiles(chunkX, chunkY);
         if (chunkTiles == null) return true;
 
         int localX = Math.floorMod(tileX, 16);
         int localY = Math.floorMod(tileY, 16);
         if (localX < 0 || localX >= 16 || localY < 0 || localY >= 16) return true;
 
-        int tileID = chunkTiles[localX][localY];
+        int tileID = chunkTiles.get(localX, localY);
         if (!worldService.getTileManager().isPassable(tileID)) {
             return true;
         }
@@ -196,13 +208,19 @@ public class PlayerServiceImpl implements PlayerService {
 
                 PlayerData pd = getPlayerData();
                 worldService.setPlayerData(pd);
-                multiplayerClient.sendPlayerMove(
+                int sequence = multiplayerClient.sendPlayerMove(
                     pd.getX(),
                     pd.getY(),
                     pd.isWantsToRun(),
                     pd.isMoving(),
-                    pd.getDirection().name().toLowerCase()
+                    pd.getDirection()
                 );
+                if (sequence > 0) {
+                    if (pendingMoves.size() == MAX_PENDING_MOVES) {
+                        pendingMoves.removeFirst();
+                    }
+                    pendingMoves.addLast(new PendingMove(sequence, Math.round(pd.getX()), Math.round(pd.getY())));
+                }
 
                 if (bufferedDirection != null) {
                     PlayerDirection nextDir = bufferedDirection;
@@ -228,12 +246,18 @@ public class PlayerServiceImpl implements PlayerService {
             }
         }
 
-        if (!playerModel.isMoving()) {
+        // Fired once when a step sequence settles rather than on every idle frame
+        if (wasMoving && !playerModel.isMoving()) {
             eventBus.fireEvent(new PlayerMoveEvent(getPlayerData()));
-        }  if (worldService.isMultiplayerMode()) {
+        }
+        wasMoving = playerModel.isMoving();
+
+        if (worldService.isMultiplayerMode()) {
             PlayerData pd = getPlayerData();
-            pd.setInventoryData(inventoryService.serializeInventory());
-            worldService.setPlayerData(pd);
+            if (publishedVersion != playerDataVersion) {
+                worldService.setPlayerData(pd);
+                publishedVersion = playerDataVersion;
+            }
         }
     }
 
@@ -258,21 +282,41 @@ public class PlayerServiceImpl implements PlayerService {
     }
 
 
+    // Read many times a frame, so the last view is handed out again until a field it reports has changed.
+    // A caller that modified the shared view also fails the comparison and gets a fresh one.
     @Override
     public PlayerData getPlayerData() {
-        PlayerData pd = new PlayerData(username,
-            playerModel.getPosition().x / TILE_SIZE,
-            playerModel.getPosition().y / TILE_SIZE,
-            playerModel.getDirection());
+        float x = playerModel.getPosition().x / TILE_SIZE;
+        float y = playerModel.getPosition().y / TILE_SIZE;
+        long inventoryCount = inventoryService.getModificationCount();
+        PlayerData view = playerDataView;
+        if (view != null
+            && inventoryCount == viewInventoryCount
+            && view.getX() == x
+            && view.getY() == y
+            && view.getDirection() == playerModel.getDirection()
+            && view.isMoving() == playerModel.isMoving()
+            && view.isWantsToRun() == playerModel.isRunning()
+            && Objects.equals(view.getUsername(), username)) {
+            return view;
+        }
 
+        PlayerData pd = new PlayerData(username, x, y, playerModel.getDirection());
         pd.setMoving(playerModel.isMoving());
         pd.setWantsToRun(playerModel.isRunning());
-
-
         pd.setInventoryData(inventoryService.serializeInventory());
 
+        viewInventoryCount = inventoryCount;
+        playerDataVersion++;
+        playerDataView = pd;
         return pd;
     }
+
+    @Override
+    public long getPlayerDataVersion() {
+        getPlayerData();
+        return playerDataVersion;
+    }
     @Override
     public void setPlayerData(PlayerData data) {
         if (data.getUsername() != null && !data.getUsername().isEmpty()) {
@@ -315,6 +359,37 @@ public class PlayerServiceImpl implements PlayerService {
         playerModel.setMovementTime(0f);
         playerModel.setStateTime(0f);
         this.bufferedDirection = null;
+        pendingMoves.clear();
         log.debug("Set position to ({}, {})", x, y);
     }
+
+    // The player keeps walking on its own prediction. When the server's position for an acknowledged move
+    // differs from what was predicted for it, the offset is carried over to the current position and to
+    // the moves still in flight, so only the error is corrected and later input is not replayed.
+    @Override
+    public void reconcile(int moveSequence, float serverX, float serverY) {
+        PendingMove acked = null;
+        while (!pendingMoves.isEmpty() && pendingMoves.peekFirst().sequence <= moveSequence) {
+            acked = pendingMoves.removeFirst();
+        }
+        if (acked == null || acked.sequence != moveSequence) {
+            return;
+        }
+        int dx = Math.round(serverX) - acked.tileX;
+        int dy = Math.round(serverY) - acked.tileY;
+        if (dx == 0 && dy == 0) {
+            return;
+        }
+        log.debug("Prediction for move {} off by ({}, {}), reconciling", moveSequence, dx, dy);
+        Deque<PendingMove> inFlight = new ArrayDeque<>(pendingMoves);
+        int tileX = Math.round(playerModel.getTargetPosition().x / TILE_SIZE) + dx;
+        int tileY = Math.round(playerModel.getTargetPosition().y / TILE_SIZE) + dy;
+        setPosition(tileX, tileY);
+        for (PendingMove move : inFlight) {
+            pendingMoves.addLast(new PendingMove(move.sequence, move.tileX + dx, move.tileY + dy));
+        }
+    }
+
+    private record PendingMove(int sequence, int tileX, int tileY) {
+    }
 }
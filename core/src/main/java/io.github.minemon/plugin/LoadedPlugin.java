@@ -0,0 +1,98 @@
+package io.github.minemon.plugin;
+
+import io.github.minemon.event.EventBus;
+import lombok.Getter;
+
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// One plugin JAR (or one directly registered plugin) with its class loader, work queue and counters
+final class LoadedPlugin {
+    static final int MAX_QUEUED = 4096;
+
+    @Getter
+    private final String name;
+    @Getter
+    private final Path source;
+    @Getter
+    private final URLClassLoader classLoader;
+    @Getter
+    private final List<Plugin> plugins = new ArrayList<>();
+    @Getter
+    private final PluginContext context;
+
+    private final Queue<Work> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private volatile boolean suspended;
+
+    final LongAdder cpuNanos = new LongAdder();
+    final LongAdder tasksRun = new LongAdder();
+    final LongAdder eventsHandled = new LongAdder();
+    final LongAdder eventLatencyNanos = new LongAdder();
+    final LongAccumulator maxEventLatencyNanos = new LongAccumulator(Math::max, 0);
+    final LongAdder failures = new LongAdder();
+    final LongAdder dropped = new LongAdder();
+    final AtomicInteger overruns = new AtomicInteger();
+    int consecutiveOverruns;
+
+    LoadedPlugin(String name, Path source, URLClassLoader classLoader, EventBus eventBus) {
+        this.name = name;
+        this.source = source;
+        this.classLoader = classLoader;
+        this.context = new PluginContext(this, eventBus);
+    }
+
+    // Called from whichever thread fired the event, so it only queues; enqueuedAt is 0 for scheduled tasks
+    boolean enqueue(Runnable task, long enqueuedAt) {
+        if (suspended) {
+            return false;
+        }
+        if (queued.incrementAndGet() > MAX_QUEUED) {
+            queued.decrementAndGet();
+            dropped.increment();
+            return false;
+        }
+        queue.add(new Work(task, enqueuedAt));
+        return true;
+    }
+
+    Work poll() {
+        Work work = queue.poll();
+        if (work != null) {
+            queued.decrementAndGet();
+        }
+        return work;
+    }
+
+    boolean hasWork() {
+        return !queue.isEmpty();
+    }
+
+    boolean isSuspended() {
+        return suspended;
+    }
+
+    void suspend() {
+        suspended = true;
+        queue.clear();
+        queued.set(0);
+    }
+
+    PluginStats stats() {
+        long events = eventsHandled.sum();
+        return new PluginStats(name, suspended, plugins.size(), cpuNanos.sum() / 1_000_000.0, tasksRun.sum(),
+            events, failures.sum(), overruns.get(), queued.get(), dropped.sum(),
+            events == 0 ? 0 : eventLatencyNanos.sum() / 1_000_000.0 / events,
+            maxEventLatencyNanos.get() / 1_000_000.0);
+    }
+
+    record Work(Runnable task, long enqueuedAt) {
+    }
+}
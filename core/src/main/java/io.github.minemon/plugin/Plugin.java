@@ -3,4 +3,9 @@ package io.github.minemon.plugin;
 public interface Plugin {
     void onEnable();
     void onDisable();
+
+    // Plugins that want budgeted listeners or scheduled tasks override this instead of onEnable()
+    default void onEnable(PluginContext context) {
+        onEnable();
+    }
 }
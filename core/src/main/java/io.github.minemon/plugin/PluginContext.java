@@ -0,0 +1,64 @@
+package io.github.minemon.plugin;
+
+import io.github.minemon.event.Event;
+import io.github.minemon.event.EventBus;
+import io.github.minemon.event.EventListener;
+import io.github.minemon.event.EventPriority;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Per-plugin view of the server. Listeners registered here are not called on the thread that fires the
+// event; the event is queued on the plugin and handled during the next server tick within its budget.
+public class PluginContext {
+    private final LoadedPlugin owner;
+    private final EventBus eventBus;
+    @Getter
+    private final PluginScheduler scheduler;
+    private final List<Registration<?>> registrations = new ArrayList<>();
+
+    PluginContext(LoadedPlugin owner, EventBus eventBus) {
+        this.owner = owner;
+        this.eventBus = eventBus;
+        this.scheduler = new PluginScheduler(owner);
+    }
+
+    public String getName() {
+        return owner.getName();
+    }
+
+    public <E extends Event> void registerListener(Class<E> eventClass, EventListener<E> listener) {
+        registerListener(eventClass, listener, EventPriority.NORMAL);
+    }
+
+    public synchronized <E extends Event> void registerListener(Class<E> eventClass, EventListener<E> listener,
+                                                                EventPriority priority) {
+        EventListener<E> queued = event -> owner.enqueue(() -> listener.onEvent(event), System.nanoTime());
+        registrations.add(new Registration<>(eventClass, listener, queued));
+        eventBus.registerListener(eventClass, queued, priority);
+    }
+
+    public synchronized <E extends Event> void unregisterListener(Class<E> eventClass, EventListener<E> listener) {
+        registrations.removeIf(r -> {
+            if (r.eventClass == eventClass && r.listener == listener) {
+                r.unregister(eventBus);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    synchronized void close() {
+        registrations.forEach(r -> r.unregister(eventBus));
+        registrations.clear();
+        scheduler.cancelAll();
+    }
+
+    private record Registration<E extends Event>(Class<E> eventClass, EventListener<E> listener,
+                                                 EventListener<E> queued) {
+        void unregister(EventBus eventBus) {
+            eventBus.unregisterListener(eventClass, queued);
+        }
+    }
+}
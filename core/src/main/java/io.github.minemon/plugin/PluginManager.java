@@ -4,27 +4,48 @@ import io.github.minemon.event.EventBus;
 import lombok.Getter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class PluginManager {
     private static final Logger logger = LoggerFactory.getLogger(PluginManager.class);
-    private final List<Plugin> plugins = new ArrayList<>();
+    private static final long MIN_SLICE_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+    // A single task or event handler running this many budgets long counts as an overrun
+    private static final int OVERRUN_FACTOR = 4;
+
+    private final List<LoadedPlugin> plugins = new CopyOnWriteArrayList<>();
     @Getter
     private final EventBus eventBus;
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    private final boolean cpuTimeSupported;
+    private Path pluginsDir;
+    private long tickCount;
+
+    @Value("${plugins.tickBudgetMs:5}")
+    private long tickBudgetMs = 5;
+
+    @Value("${plugins.maxConsecutiveOverruns:5}")
+    private int maxConsecutiveOverruns = 5;
 
     public PluginManager(EventBus eventBus) {
         this.eventBus = eventBus;
+        this.cpuTimeSupported = threadBean.isCurrentThreadCpuTimeSupported();
     }
 
     
-    public void loadPlugins(Path pluginsDir) {
+    public synchronized void loadPlugins(Path pluginsDir) {
+        this.pluginsDir = pluginsDir;
         if (Files.notExists(pluginsDir)) {
             try {
                 Files.createDirectories(pluginsDir);
@@ -43,34 +64,221 @@ public class PluginManager {
         }
     }
 
-    
-    private void loadPluginFromJar(Path jarPath) {
+    public synchronized boolean loadPlugin(String fileName) {
+        Path jarPath = pluginsDir != null ? pluginsDir.resolve(fileName) : Paths.get(fileName);
+        if (Files.notExists(jarPath)) {
+            logger.warn("Plugin JAR {} does not exist", jarPath);
+            return false;
+        }
+        return loadPluginFromJar(jarPath);
+    }
+
+    // The class loader stays open for as long as the plugin is loaded, since plugin classes are resolved lazily
+    private boolean loadPluginFromJar(Path jarPath) {
+        String name = pluginName(jarPath);
+        if (find(name) != null) {
+            logger.warn("Plugin {} is already loaded", name);
+            return false;
+        }
+
         logger.info("Loading plugin from JAR: {}", jarPath);
+        URLClassLoader loader;
         try {
             URL jarUrl = jarPath.toUri().toURL();
-            try (URLClassLoader loader = new URLClassLoader(new URL[]{jarUrl}, this.getClass().getClassLoader())) {
-                ServiceLoader<Plugin> serviceLoader = ServiceLoader.load(Plugin.class, loader);
-                for (Plugin plugin : serviceLoader) {
-                    registerPlugin(plugin);
-                }
-            }
+            loader = new URLClassLoader(name, new URL[]{jarUrl}, this.getClass().getClassLoader());
         } catch (IOException e) {
             logger.error("Failed to load plugin JAR {}: {}", jarPath, e.getMessage());
+            return false;
+        }
+
+        LoadedPlugin loaded = new LoadedPlugin(name, jarPath, loader, eventBus);
+        try {
+            for (Plugin plugin : ServiceLoader.load(Plugin.class, loader)) {
+                enable(loaded, plugin);
+            }
+        } catch (ServiceConfigurationError e) {
+            logger.error("Invalid plugin JAR {}: {}", jarPath, e.getMessage());
         }
+
+        if (loaded.getPlugins().isEmpty()) {
+            logger.warn("No plugin could be enabled from {}", jarPath);
+            release(loaded);
+            return false;
+        }
+        plugins.add(loaded);
+        return true;
     }
 
     
-    public void registerPlugin(Plugin plugin) {
-        plugins.add(plugin);
-        plugin.onEnable();
-        logger.info("Enabled plugin: {}", plugin.getClass().getName());
+    public synchronized void registerPlugin(Plugin plugin) {
+        LoadedPlugin loaded = new LoadedPlugin(plugin.getClass().getSimpleName(), null, null, eventBus);
+        if (enable(loaded, plugin)) {
+            plugins.add(loaded);
+        }
     }
 
-    public void unloadAll() {
-        for (Plugin plugin : plugins) {
-            plugin.onDisable();
-            logger.info("Disabled plugin: {}", plugin.getClass().getName());
+    private boolean enable(LoadedPlugin loaded, Plugin plugin) {
+        long start = cpuTime();
+        try {
+            plugin.onEnable(loaded.getContext());
+            loaded.getPlugins().add(plugin);
+            logger.info("Enabled plugin: {}", plugin.getClass().getName());
+            return true;
+        } catch (Exception | LinkageError e) {
+            logger.error("Failed to enable plugin {}: {}", plugin.getClass().getName(), e.getMessage(), e);
+            return false;
+        } finally {
+            loaded.cpuNanos.add(cpuTime() - start);
+        }
+    }
+
+    public synchronized boolean unload(String name) {
+        LoadedPlugin loaded = find(name);
+        if (loaded == null) {
+            return false;
+        }
+        plugins.remove(loaded);
+        disable(loaded);
+        return true;
+    }
+
+    public synchronized boolean reload(String name) {
+        LoadedPlugin loaded = find(name);
+        if (loaded == null || loaded.getSource() == null) {
+            logger.warn("Plugin {} is not loaded from a JAR and cannot be reloaded", name);
+            return false;
+        }
+        plugins.remove(loaded);
+        disable(loaded);
+        return loadPluginFromJar(loaded.getSource());
+    }
+
+    public synchronized void unloadAll() {
+        for (LoadedPlugin loaded : plugins) {
+            disable(loaded);
         }
         plugins.clear();
     }
+
+    private void disable(LoadedPlugin loaded) {
+        for (Plugin plugin : loaded.getPlugins()) {
+            try {
+                plugin.onDisable();
+                logger.info("Disabled plugin: {}", plugin.getClass().getName());
+            } catch (Exception | LinkageError e) {
+                logger.error("Error disabling plugin {}: {}", plugin.getClass().getName(), e.getMessage(), e);
+            }
+        }
+        release(loaded);
+    }
+
+    private void release(LoadedPlugin loaded) {
+        loaded.suspend();
+        loaded.getContext().close();
+        URLClassLoader loader = loaded.getClassLoader();
+        if (loader != null) {
+            // Also drops listeners the plugin put straight on the event bus
+            eventBus.unregisterAll(loader);
+            try {
+                loader.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close class loader of plugin {}: {}", loaded.getName(), e.getMessage());
+            }
+        }
+    }
+
+    // Runs queued plugin events and due tasks on the server tick thread. Each plugin gets an equal slice of the
+    // tick budget, starting from a rotating plugin so none is always last; work that does not fit waits for the
+    // next tick. A running callback cannot be interrupted, so plugins that keep overrunning are suspended.
+    public synchronized void tick() {
+        tickCount++;
+        int count = plugins.size();
+        if (count == 0) {
+            return;
+        }
+
+        long budget = TimeUnit.MILLISECONDS.toNanos(tickBudgetMs);
+        long slice = Math.max(budget / count, MIN_SLICE_NANOS);
+        long deadline = System.nanoTime() + budget;
+        int offset = (int) (tickCount % count);
+
+        for (int i = 0; i < count; i++) {
+            LoadedPlugin loaded = plugins.get((offset + i) % count);
+            if (loaded.isSuspended()) {
+                continue;
+            }
+            loaded.getContext().getScheduler().collectDue();
+
+            long now = System.nanoTime();
+            if (now < deadline && loaded.hasWork()) {
+                runSlice(loaded, Math.min(deadline, now + slice), budget * OVERRUN_FACTOR);
+            }
+        }
+    }
+
+    private void runSlice(LoadedPlugin loaded, long sliceDeadline, long overrunNanos) {
+        long cpuStart = cpuTime();
+        boolean overran = false;
+
+        LoadedPlugin.Work work;
+        while (System.nanoTime() < sliceDeadline && (work = loaded.poll()) != null) {
+            long start = System.nanoTime();
+            try {
+                work.task().run();
+            } catch (Exception | LinkageError e) {
+                loaded.failures.increment();
+                logger.error("Plugin {} failed: {}", loaded.getName(), e.getMessage(), e);
+            }
+            long end = System.nanoTime();
+
+            if (work.enqueuedAt() != 0) {
+                long latency = end - work.enqueuedAt();
+                loaded.eventsHandled.increment();
+                loaded.eventLatencyNanos.add(latency);
+                loaded.maxEventLatencyNanos.accumulate(latency);
+            } else {
+                loaded.tasksRun.increment();
+            }
+            if (end - start > overrunNanos) {
+                overran = true;
+                loaded.overruns.incrementAndGet();
+                logger.warn("Plugin {} held the server tick for {} ms", loaded.getName(), (end - start) / 1_000_000);
+                break;
+            }
+        }
+        loaded.cpuNanos.add(cpuTime() - cpuStart);
+
+        loaded.consecutiveOverruns = overran ? loaded.consecutiveOverruns + 1 : 0;
+        if (loaded.consecutiveOverruns >= maxConsecutiveOverruns) {
+            loaded.suspend();
+            logger.error("Suspended plugin {} after {} consecutive ticks over budget; use 'plugins reload {}' to retry",
+                loaded.getName(), loaded.consecutiveOverruns, loaded.getName());
+        }
+    }
+
+    public List<PluginStats> getPluginStats() {
+        List<PluginStats> stats = new ArrayList<>();
+        for (LoadedPlugin loaded : plugins) {
+            stats.add(loaded.stats());
+        }
+        return stats;
+    }
+
+    private LoadedPlugin find(String name) {
+        for (LoadedPlugin loaded : plugins) {
+            if (loaded.getName().equalsIgnoreCase(name)) {
+                return loaded;
+            }
+        }
+        return null;
+    }
+
+    private long cpuTime() {
+        return cpuTimeSupported ? threadBean.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+    private static String pluginName(Path jarPath) {
+        String fileName = jarPath.getFileName().toString();
+        return fileName.endsWith(".jar") ? fileName.substring(0, fileName.length() - 4) : fileName;
+    }
 }
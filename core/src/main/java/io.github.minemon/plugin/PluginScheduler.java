@@ -0,0 +1,87 @@
+package io.github.minemon.plugin;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+// Tick-based scheduler handed to each plugin. Due tasks are queued on the plugin and run on the server
+// tick inside the plugin's time slice, so a slow task delays that plugin's work rather than the tick.
+public class PluginScheduler {
+    private final LoadedPlugin owner;
+    private final List<Task> tasks = new ArrayList<>();
+
+    PluginScheduler(LoadedPlugin owner) {
+        this.owner = owner;
+    }
+
+    public Task runTask(Runnable runnable) {
+        return runTaskTimer(runnable, 0, 0);
+    }
+
+    public Task runTaskLater(Runnable runnable, long delayTicks) {
+        return runTaskTimer(runnable, delayTicks, 0);
+    }
+
+    public synchronized Task runTaskTimer(Runnable runnable, long delayTicks, long periodTicks) {
+        Task task = new Task(runnable, Math.max(0, delayTicks), Math.max(0, periodTicks));
+        tasks.add(task);
+        return task;
+    }
+
+    synchronized void collectDue() {
+        for (Iterator<Task> it = tasks.iterator(); it.hasNext(); ) {
+            Task task = it.next();
+            if (task.cancelled) {
+                it.remove();
+                continue;
+            }
+            if (--task.ticksUntilRun > 0) {
+                continue;
+            }
+
+            // A repeating task that is still waiting from its last run is not queued a second time
+            if (!task.pending && owner.enqueue(task::run, 0)) {
+                task.pending = true;
+            }
+            if (task.period > 0) {
+                task.ticksUntilRun = task.period;
+            } else {
+                it.remove();
+            }
+        }
+    }
+
+    synchronized void cancelAll() {
+        tasks.forEach(Task::cancel);
+        tasks.clear();
+    }
+
+    public static final class Task {
+        private final Runnable runnable;
+        private final long period;
+        private long ticksUntilRun;
+        private volatile boolean pending;
+        private volatile boolean cancelled;
+
+        private Task(Runnable runnable, long delay, long period) {
+            this.runnable = runnable;
+            this.ticksUntilRun = delay;
+            this.period = period;
+        }
+
+        private void run() {
+            pending = false;
+            if (!cancelled) {
+                runnable.run();
+            }
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package io.github.minemon.plugin;
+
+public record PluginStats(
+    String name,
+    boolean suspended,
+    int plugins,
+    double cpuMillis,
+    long tasksRun,
+    long eventsHandled,
+    long failures,
+    long overruns,
+    int queued,
+    long dropped,
+    double averageEventLatencyMillis,
+    double maxEventLatencyMillis
+) {
+}
@@ -0,0 +1,118 @@
+package io.github.minemon.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Fixed ring of buckets, each a doubly linked list of timeouts. Scheduling and cancelling are O(1);
+// advancing only visits the buckets the clock moved across. Timeouts further out than one revolution
+// carry a rounds counter and stay in their bucket until it reaches zero. Not thread-safe.
+public class HashedTimingWheel<T> {
+    private final Timeout<T>[] buckets;
+    private final long tickMillis;
+    private long tick;
+    private long lastTickTime;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(int bucketCount, long tickMillis, long startTime) {
+        if (bucketCount <= 0 || tickMillis <= 0) {
+            throw new IllegalArgumentException("bucketCount and tickMillis must be positive");
+        }
+        this.buckets = (Timeout<T>[]) new Timeout<?>[bucketCount];
+        this.tickMillis = tickMillis;
+        this.lastTickTime = startTime;
+    }
+
+    public Timeout<T> schedule(T value, long delayMillis) {
+        long ticks = Math.max(1, (delayMillis + tickMillis - 1) / tickMillis);
+        long deadline = tick + ticks;
+        Timeout<T> timeout = new Timeout<>(value);
+        timeout.rounds = (ticks - 1) / buckets.length;
+        timeout.bucket = (int) (deadline % buckets.length);
+        link(timeout);
+        size++;
+        return timeout;
+    }
+
+    public boolean cancel(Timeout<T> timeout) {
+        if (timeout == null || timeout.bucket < 0) {
+            return false;
+        }
+        unlink(timeout);
+        size--;
+        return true;
+    }
+
+    // Fires every timeout that expired up to now. A bucket is fully detached before its callbacks run,
+    // so callbacks may schedule or cancel freely.
+    public int advance(long now, Consumer<T> onExpired) {
+        int fired = 0;
+        List<T> expired = new ArrayList<>();
+        while (now - lastTickTime >= tickMillis) {
+            lastTickTime += tickMillis;
+            tick++;
+            Timeout<T> t = buckets[(int) (tick % buckets.length)];
+            while (t != null) {
+                Timeout<T> next = t.next;
+                if (t.rounds > 0) {
+                    t.rounds--;
+                } else {
+                    unlink(t);
+                    size--;
+                    expired.add(t.value);
+                }
+                t = next;
+            }
+            for (T value : expired) {
+                onExpired.accept(value);
+            }
+            fired += expired.size();
+            expired.clear();
+        }
+        return fired;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void link(Timeout<T> timeout) {
+        Timeout<T> head = buckets[timeout.bucket];
+        timeout.next = head;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        buckets[timeout.bucket] = timeout;
+    }
+
+    private void unlink(Timeout<T> timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            buckets[timeout.bucket] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.bucket = -1;
+    }
+
+    public static final class Timeout<T> {
+        private final T value;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+        private long rounds;
+        private int bucket = -1;
+
+        private Timeout(T value) {
+            this.value = value;
+        }
+
+        public T getValue() {
+            return value;
+        }
+    }
+}
@@ -21,6 +21,7 @@ public class BiomeConfigurationLoader {
         public HashMap<String, Double> tileDistribution = new HashMap<>();
         public ArrayList<String> spawnableObjects = new ArrayList<>();
         public HashMap<String, Double> spawnChances = new HashMap<>();
+        public HashMap<String, Double> objectSpacing = new HashMap<>();
     }
 
     public static class BiomeRoot {
@@ -81,7 +82,8 @@ public class BiomeConfigurationLoader {
                     def.allowedTileTypes,
                     distribution,
                     def.spawnableObjects,
-                    def.spawnChances
+                    def.spawnChances,
+                    def.objectSpacing
             );
             biomeMap.put(type, biome);
         }
@@ -20,21 +20,41 @@ public class Biome {
 
     private final Map<String, Double> spawnChances;
 
+    private final Map<String, Double> objectSpacing;
+
     public Biome(String name,
                  BiomeType type,
                  List<Integer> allowedTileTypes,
                  Map<Integer, Double> tileDistribution,
                  List<String> spawnableObjects,
                  Map<String, Double> spawnChances) {
+        this(name, type, allowedTileTypes, tileDistribution, spawnableObjects, spawnChances, null);
+    }
+
+    public Biome(String name,
+                 BiomeType type,
+                 List<Integer> allowedTileTypes,
+                 Map<Integer, Double> tileDistribution,
+                 List<String> spawnableObjects,
+                 Map<String, Double> spawnChances,
+                 Map<String, Double> objectSpacing) {
         this.name = name;
         this.type = type;
         this.allowedTileTypes = allowedTileTypes;
         this.tileDistribution = tileDistribution;
         this.spawnableObjects = spawnableObjects;
         this.spawnChances = spawnChances;
+        this.objectSpacing = objectSpacing;
     }
 
     public double getSpawnChanceForObject(ObjectType objType) {
         return spawnChances.getOrDefault(objType.name(), 0.0);
     }
+
+    public double getSpacingForObject(ObjectType objType, double defaultSpacing) {
+        if (objectSpacing == null) {
+            return defaultSpacing;
+        }
+        return objectSpacing.getOrDefault(objType.name(), defaultSpacing);
+    }
 }
@@ -1,11 +1,12 @@
 package io.github.minemon.world.biome.service.impl;
 
 import io.github.minemon.utils.OpenSimplex2;
-import io.github.minemon.world.biome.config.BiomeConfigurationLoader;
 import io.github.minemon.world.biome.model.Biome;
 import io.github.minemon.world.biome.model.BiomeTransitionResult;
 import io.github.minemon.world.biome.model.BiomeType;
 import io.github.minemon.world.biome.service.BiomeService;
+import io.github.minemon.world.config.WorldConfigRegistry;
+import io.github.minemon.world.config.WorldConfigSnapshot;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -24,15 +25,15 @@ public class BiomeServiceImpl implements BiomeService {
     private static final float WARP_SCALE = 0.00001f;
     private static final float WARP_STRENGTH = 30f;
     private static final double TRANSITION_BASE = 0.15;
-    private final BiomeConfigurationLoader configurationLoader;
+    private final WorldConfigRegistry configRegistry;
     private long baseSeed;
     private long temperatureSeed;
     private long moistureSeed;
     private long warpSeed;
-    private Map<BiomeType, Biome> biomes = new HashMap<>();
+    private volatile Map<BiomeType, Biome> biomes = new HashMap<>();
 
-    public BiomeServiceImpl(BiomeConfigurationLoader configurationLoader) {
-        this.configurationLoader = configurationLoader;
+    public BiomeServiceImpl(WorldConfigRegistry configRegistry) {
+        this.configRegistry = configRegistry;
     }
 
     public void initWithSeed(long seed) {
@@ -52,30 +53,27 @@ public class BiomeServiceImpl implements BiomeService {
         }
         synchronized (this) {
             if (!initialized) {
-                try {
-                    this.biomes = configurationLoader.loadBiomes("config/biomes.json");
-                    if (biomes.isEmpty()) {
-                        log.warn("No biomes loaded - using defaults.");
-                        // Add default biomes
-                        biomes.put(BiomeType.PLAINS, new Biome("Plains", BiomeType.PLAINS, null, null, null, null));
-                        biomes.put(BiomeType.DESERT, new Biome("Desert", BiomeType.DESERT, null, null, null, null));
-                        biomes.put(BiomeType.FOREST, new Biome("Forest", BiomeType.FOREST, null, null, null, null));
-                    } else {
-                        log.info("Loaded {} biomes.", biomes.size());
-                    }
-                    initialized = true;
-                } catch (Exception e) {
-                    log.error("Failed to initialize biomes: {}", e.getMessage());
-                    // Add default biomes as fallback
-                    biomes.put(BiomeType.PLAINS, new Biome("Plains", BiomeType.PLAINS, null, null, null, null));
-                    biomes.put(BiomeType.DESERT, new Biome("Desert", BiomeType.DESERT, null, null, null, null));
-                    biomes.put(BiomeType.FOREST, new Biome("Forest", BiomeType.FOREST, null, null, null, null));
-                    initialized = true;
-                }
+                applyConfig(configRegistry.getSnapshot());
+                configRegistry.addListener(this::applyConfig);
+                initialized = true;
             }
         }
     }
 
+    // Swaps the whole map so lookups never see a half-applied reload
+    private void applyConfig(WorldConfigSnapshot snapshot) {
+        Map<BiomeType, Biome> loaded = new HashMap<>(snapshot.getBiomes());
+        if (loaded.isEmpty()) {
+            log.warn("No biomes loaded - using defaults.");
+            loaded.put(BiomeType.PLAINS, new Biome("Plains", BiomeType.PLAINS, null, null, null, null));
+            loaded.put(BiomeType.DESERT, new Biome("Desert", BiomeType.DESERT, null, null, null, null));
+            loaded.put(BiomeType.FOREST, new Biome("Forest", BiomeType.FOREST, null, null, null, null));
+        } else {
+            log.info("Loaded {} biomes.", loaded.size());
+        }
+        this.biomes = loaded;
+    }
+
     @Override
     public BiomeTransitionResult getBiomeAt(float worldX, float worldY) {
         float[] warped = domainWarp(worldX, worldY);
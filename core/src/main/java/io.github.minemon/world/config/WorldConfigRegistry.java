@@ -0,0 +1,124 @@
+package io.github.minemon.world.config;
+
+import com.badlogic.gdx.utils.Json;
+import io.github.minemon.core.service.FileAccessService;
+import io.github.minemon.world.biome.config.BiomeConfigurationLoader;
+import io.github.minemon.world.biome.model.Biome;
+import io.github.minemon.world.biome.model.BiomeType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+@Service
+@Slf4j
+public class WorldConfigRegistry {
+    public static final String BIOMES_PATH = "config/biomes.json";
+    public static final String TILES_PATH = "config/tiles.json";
+    private static final long RETRY_INTERVAL_NANOS = 1_000_000_000L;
+
+    private final BiomeConfigurationLoader biomeLoader;
+    private final FileAccessService fileAccessService;
+    private final List<Consumer<WorldConfigSnapshot>> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile WorldConfigSnapshot snapshot;
+    private volatile boolean complete;
+    private long lastAttempt;
+
+    public WorldConfigRegistry(BiomeConfigurationLoader biomeLoader, FileAccessService fileAccessService) {
+        this.biomeLoader = biomeLoader;
+        this.fileAccessService = fileAccessService;
+    }
+
+    // Lock-free once loaded. A snapshot without biomes (files not readable yet, e.g. before Gdx.files is up
+    // on Android) is handed out but retried at most once a second.
+    public WorldConfigSnapshot getSnapshot() {
+        WorldConfigSnapshot current = snapshot;
+        if (current != null && complete) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null || (!complete && System.nanoTime() - lastAttempt > RETRY_INTERVAL_NANOS)) {
+                lastAttempt = System.nanoTime();
+                WorldConfigSnapshot loaded = new WorldConfigSnapshot(
+                    snapshot != null ? snapshot.getVersion() + 1 : 1, loadBiomes(), loadTiles());
+                complete = loaded.hasBiomes();
+                snapshot = loaded;
+            }
+            return snapshot;
+        }
+    }
+
+    // Re-parses both files and swaps the result in atomically. A file that is missing or fails to parse
+    // keeps its previous contents, so a half-saved edit never empties the live configuration.
+    public synchronized WorldConfigSnapshot reload() {
+        WorldConfigSnapshot previous = getSnapshot();
+
+        Map<BiomeType, Biome> biomes = loadBiomes();
+        if (biomes.isEmpty() && previous.hasBiomes()) {
+            log.warn("Keeping previous biome configuration, {} could not be loaded", BIOMES_PATH);
+            biomes = previous.getBiomes();
+        }
+        Collection<TileConfig.TileDefinition> tiles = loadTiles();
+        if (tiles.isEmpty() && !previous.getTiles().isEmpty()) {
+            log.warn("Keeping previous tile configuration, {} could not be loaded", TILES_PATH);
+            tiles = previous.getTiles();
+        }
+
+        WorldConfigSnapshot next = new WorldConfigSnapshot(previous.getVersion() + 1, biomes, tiles);
+        complete = next.hasBiomes();
+        snapshot = next;
+        log.info("World configuration reloaded (version {}): {} biomes, {} tiles",
+            next.getVersion(), next.getBiomes().size(), next.getTiles().size());
+
+        for (Consumer<WorldConfigSnapshot> listener : listeners) {
+            try {
+                listener.accept(next);
+            } catch (Exception e) {
+                log.error("World configuration listener failed: {}", e.getMessage(), e);
+            }
+        }
+        return next;
+    }
+
+    public void addListener(Consumer<WorldConfigSnapshot> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<WorldConfigSnapshot> listener) {
+        listeners.remove(listener);
+    }
+
+    private Map<BiomeType, Biome> loadBiomes() {
+        try {
+            return biomeLoader.loadBiomes(BIOMES_PATH);
+        } catch (RuntimeException e) {
+            log.error("Failed to parse {}: {}", BIOMES_PATH, e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private Collection<TileConfig.TileDefinition> loadTiles() {
+        try {
+            if (!fileAccessService.exists(TILES_PATH)) {
+                log.error("Tile config file not found at: {}", TILES_PATH);
+                return List.of();
+            }
+            Json json = new Json();
+            json.setIgnoreUnknownFields(true);
+            TileConfig config = json.fromJson(TileConfig.class, fileAccessService.readFile(TILES_PATH));
+            if (config == null || config.getTiles() == null) {
+                log.warn("No tiles found in file: {}", TILES_PATH);
+                return List.of();
+            }
+            return config.getTiles();
+        } catch (RuntimeException e) {
+            log.error("Failed to parse {}: {}", TILES_PATH, e.getMessage());
+            return List.of();
+        }
+    }
+}
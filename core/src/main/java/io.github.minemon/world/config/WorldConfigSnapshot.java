@@ -0,0 +1,70 @@
+package io.github.minemon.world.config;
+
+import io.github.minemon.world.biome.model.Biome;
+import io.github.minemon.world.biome.model.BiomeType;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// Immutable view of biomes.json and tiles.json; a reload builds a new instance instead of mutating this one.
+@Getter
+public final class WorldConfigSnapshot {
+    private static final BiomeType[] BIOME_TYPES = BiomeType.values();
+
+    private final long version;
+    private final Map<BiomeType, Biome> biomes;
+    private final List<TileConfig.TileDefinition> tiles;
+
+    private final Biome[] biomesByType;
+    private final TileConfig.TileDefinition[] tilesById;
+    private final boolean[] passable;
+
+    WorldConfigSnapshot(long version, Map<BiomeType, Biome> biomes, Collection<TileConfig.TileDefinition> tiles) {
+        this.version = version;
+
+        Map<BiomeType, Biome> biomeMap = new EnumMap<>(BiomeType.class);
+        biomeMap.putAll(biomes);
+        this.biomes = Collections.unmodifiableMap(biomeMap);
+        this.biomesByType = new Biome[BIOME_TYPES.length];
+        biomeMap.forEach((type, biome) -> biomesByType[type.ordinal()] = biome);
+
+        int maxId = -1;
+        for (TileConfig.TileDefinition def : tiles) {
+            maxId = Math.max(maxId, def.getId());
+        }
+        this.tilesById = new TileConfig.TileDefinition[maxId + 1];
+        this.passable = new boolean[maxId + 1];
+        for (TileConfig.TileDefinition def : tiles) {
+            if (def.getId() >= 0) {
+                tilesById[def.getId()] = def;
+                passable[def.getId()] = def.isPassable();
+            }
+        }
+        this.tiles = List.copyOf(tiles);
+    }
+
+    public boolean hasBiomes() {
+        return !biomes.isEmpty();
+    }
+
+    public Biome getBiome(BiomeType type) {
+        return biomesByType[type.ordinal()];
+    }
+
+    public TileConfig.TileDefinition getTile(int tileId) {
+        return tileId >= 0 && tileId < tilesById.length ? tilesById[tileId] : null;
+    }
+
+    public boolean isPassable(int tileId) {
+        return tileId >= 0 && tileId < passable.length && passable[tileId];
+    }
+
+    public String getTileName(int tileId) {
+        TileConfig.TileDefinition def = getTile(tileId);
+        return def != null ? def.getName() : "unknown";
+    }
+}
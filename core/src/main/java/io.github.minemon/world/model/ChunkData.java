@@ -1,51 +1,54 @@
 package io.github.minemon.world.model;
 
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
 import lombok.Data;
 
-import java.io.*;
+import java.util.ArrayList;
 import java.util.List;
 
 @Data
-public class ChunkData {
+public class ChunkData implements Json.Serializable {
     private int chunkX;
     private int chunkY;
 
-    private int[][] tiles;
+    private ChunkTiles tiles;
 
     private List<WorldObject> objects;
 
-    private transient byte[] tilesBlob;
-
-    public int[][] getTiles() {
-        if (tiles == null && tilesBlob != null) {
-            tiles = deserializeTiles(tilesBlob);
-        }
-        return tiles;
-    }
-
-    public void setTiles(int[][] tiles) {
-        this.tiles = tiles;
-        this.tilesBlob = serializeTiles(tiles);
-    }
-
-    private byte[] serializeTiles(int[][] tiles) {
-        if (tiles == null) return null;
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
-             ObjectOutputStream oos = new ObjectOutputStream(baos)) {
-            oos.writeObject(tiles);
-            return baos.toByteArray();
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to serialize tiles", e);
+    // Tiles are stored as one flat array; chunk files written before that hold a 16x16 nested array
+    @Override
+    public void write(Json json) {
+        json.writeValue("chunkX", chunkX);
+        json.writeValue("chunkY", chunkY);
+        if (tiles != null) {
+            json.writeValue("tiles", tiles.rawIds(), short[].class);
         }
+        // Server chunks hold a CopyOnWriteArrayList; files always get a plain list
+        json.writeValue("objects", objects == null || objects instanceof ArrayList ? objects : new ArrayList<>(objects),
+            ArrayList.class, WorldObject.class);
     }
 
-    private int[][] deserializeTiles(byte[] data) {
-        if (data == null) return null;
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(data);
-             ObjectInputStream ois = new ObjectInputStream(bais)) {
-            return (int[][]) ois.readObject();
-        } catch (IOException | ClassNotFoundException e) {
-            throw new RuntimeException("Failed to deserialize tiles", e);
+    @Override
+    @SuppressWarnings("unchecked")
+    public void read(Json json, JsonValue jsonData) {
+        chunkX = jsonData.getInt("chunkX", 0);
+        chunkY = jsonData.getInt("chunkY", 0);
+        JsonValue tileValue = jsonData.get("tiles");
+        if (tileValue != null && tileValue.isArray()) {
+            if (tileValue.child != null && tileValue.child.isArray()) {
+                tiles = new ChunkTiles();
+                int x = 0;
+                for (JsonValue column = tileValue.child; column != null && x < ChunkTiles.SIZE; column = column.next, x++) {
+                    int[] ids = column.asIntArray();
+                    for (int y = 0; y < ChunkTiles.SIZE && y < ids.length; y++) {
+                        tiles.set(x, y, ids[y]);
+                    }
+                }
+            } else {
+                tiles = ChunkTiles.wrap(tileValue.asShortArray());
+            }
         }
+        objects = json.readValue("objects", ArrayList.class, WorldObject.class, jsonData);
     }
 }
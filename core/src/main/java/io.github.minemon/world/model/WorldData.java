@@ -2,6 +2,7 @@ package io.github.minemon.world.model;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.github.minemon.player.model.PlayerData;
 import lombok.Getter;
@@ -14,7 +15,8 @@ public class WorldData {
     @Setter
     private long seed;
     private final Map<String, PlayerData> players = new HashMap<>();
-    private final Map<String, ChunkData> chunks = new HashMap<>();
+    // Filled by the network thread in multiplayer while the render thread reads and evicts
+    private final Map<String, ChunkData> chunks = new ConcurrentHashMap<>();
 
     @Setter
     private long createdDate;
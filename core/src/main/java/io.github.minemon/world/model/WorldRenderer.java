@@ -33,6 +33,9 @@ public class WorldRenderer {
     private final WorldService worldService;
     private final ObjectTextureManager objectTextureManager;
     private final List<TreeTopRender> treeTopQueue = new ArrayList<>();
+    // Chunks drawn in the last frame, for culling anything else drawn on top of the world
+    @Getter
+    private Map<String, ChunkData> visibleChunks = Collections.emptyMap();
 
     private SpriteBatch batch;
 
@@ -232,7 +235,7 @@ public class WorldRenderer {
 
     private void renderGroundLayer() {
         Rectangle viewBounds = calculateViewBounds();
-        Map<String, ChunkData> visibleChunks = worldService.getVisibleChunks(viewBounds);
+        visibleChunks = worldService.getVisibleChunks(viewBounds);
 
 
         batch.setColor(VOID_COLOR);
@@ -262,16 +265,16 @@ public class WorldRenderer {
         int chunkPixelX = chunk.getChunkX() * CHUNK_SIZE * TILE_SIZE;
         int chunkPixelY = chunk.getChunkY() * CHUNK_SIZE * TILE_SIZE;
 
-        int[][] tiles = chunk.getTiles();
+        ChunkTiles tiles = chunk.getTiles();
         for (int x = 0; x < CHUNK_SIZE; x++) {
             for (int y = 0; y < CHUNK_SIZE; y++) {
-                TextureRegion region = tileManager.getRegionForTile(tiles[x][y]);
+                TextureRegion region = tileManager.getRegionForTile(tiles.get(x, y));
                 if (region != null) {
                     float worldX = chunkPixelX + (x * TILE_SIZE);
                     float worldY = chunkPixelY + (y * TILE_SIZE);
                     batch.draw(region, worldX, worldY, TILE_SIZE, TILE_SIZE);
                 } else {
-                    log.error("No texture region for tile ID {} at {},{}", tiles[x][y], x, y);
+                    log.error("No texture region for tile ID {} at {},{}", tiles.get(x, y), x, y);
                 }
             }
         }
@@ -31,6 +31,7 @@ public class ChunkLoadingManager {
     private final ScheduledExecutorService cleanupService = Executors.newSingleThreadScheduledExecutor();
     private final Object queueLock = new Object();
     private Vector2 lastPlayerChunk = new Vector2(Integer.MAX_VALUE, Integer.MAX_VALUE);
+    private volatile int preloadRadius = PRELOAD_RADIUS;
     @Autowired
     @Setter
     private WorldService worldService;
@@ -116,6 +117,16 @@ public class ChunkLoadingManager {
         }
     }
 
+    // Kept inside the chunk budget so preloaded chunks are not evicted straight away; a change takes effect
+    // at the next preload
+    public void setPreloadRadius(int radius) {
+        int clamped = Math.max(1, Math.min(PRELOAD_RADIUS, radius));
+        if (clamped != preloadRadius) {
+            preloadRadius = clamped;
+            lastPlayerChunk.set(Integer.MAX_VALUE, Integer.MAX_VALUE);
+        }
+    }
+
     public void preloadChunksAroundPosition(float tileX, float tileY) {
         int centerX = (int) Math.floor(tileX / CHUNK_SIZE);
         int centerY = (int) Math.floor(tileY / CHUNK_SIZE);
@@ -127,17 +138,18 @@ public class ChunkLoadingManager {
         lastPlayerChunk.set(currentChunk);
 
 
-        int[][] priorities = calculatePriorities();
+        int radiusLimit = preloadRadius;
+        int[][] priorities = calculatePriorities(radiusLimit);
 
         synchronized (queueLock) {
             requestQueue.clear();
 
 
-            for (int radius = 0; radius <= PRELOAD_RADIUS; radius++) {
+            for (int radius = 0; radius <= radiusLimit; radius++) {
                 for (int dx = -radius; dx <= radius; dx++) {
                     for (int dy = -radius; dy <= radius; dy++) {
                         if (Math.abs(dx) == radius || Math.abs(dy) == radius) {
-                            int priority = priorities[dx + PRELOAD_RADIUS][dy + PRELOAD_RADIUS];
+                            int priority = priorities[dx + radiusLimit][dy + radiusLimit];
                             queueChunkRequest(centerX + dx, centerY + dy, priority == 0);
                         }
                     }
@@ -146,12 +158,12 @@ public class ChunkLoadingManager {
         }
     }
 
-    private int[][] calculatePriorities() {
-        int size = PRELOAD_RADIUS * 2 + 1;
+    private int[][] calculatePriorities(int radiusLimit) {
+        int size = radiusLimit * 2 + 1;
         int[][] priorities = new int[size][size];
 
-        for (int dx = -PRELOAD_RADIUS; dx <= PRELOAD_RADIUS; dx++) {
-            for (int dy = -PRELOAD_RADIUS; dy <= PRELOAD_RADIUS; dy++) {
+        for (int dx = -radiusLimit; dx <= radiusLimit; dx++) {
+            for (int dy = -radiusLimit; dy <= radiusLimit; dy++) {
                 double distance = Math.sqrt(dx * dx + dy * dy);
                 int priority;
 
@@ -163,7 +175,7 @@ public class ChunkLoadingManager {
                     priority = 2;
                 }
 
-                priorities[dx + PRELOAD_RADIUS][dy + PRELOAD_RADIUS] = priority;
+                priorities[dx + radiusLimit][dy + radiusLimit] = priority;
             }
         }
 
@@ -2,9 +2,13 @@ package io.github.minemon.world.service;
 
 import io.github.minemon.world.biome.model.Biome;
 import io.github.minemon.world.biome.model.BiomeType;
+import io.github.minemon.world.model.ChunkTiles;
 
 public interface WorldGenerator {
     void setSeedAndBiomes(long seed, java.util.Map<BiomeType, Biome> biomes);
-    int[][] generateChunk(int chunkX, int chunkY);
+    ChunkTiles generateChunk(int chunkX, int chunkY);
     Biome getBiomeForChunk(int chunkX, int chunkY);
+
+    // Per-tile biomes after blending, indexed x * chunkSize + y; shared, callers must not modify it.
+    Biome[] getTileBiomes(int chunkX, int chunkY);
 }
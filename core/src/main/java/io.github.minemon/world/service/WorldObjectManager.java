@@ -1,15 +1,38 @@
 package io.github.minemon.world.service;
 
 import io.github.minemon.world.biome.model.Biome;
+import io.github.minemon.world.model.ChunkTiles;
 import io.github.minemon.world.model.WorldObject;
 
+import java.util.Arrays;
 import java.util.List;
 
 public interface WorldObjectManager {
+    int CHUNK_TILES = 16 * 16;
+
     void initialize();
-    List<WorldObject> generateObjectsForChunk(int chunkX, int chunkY, int[][] tiles, Biome biome, long seed);
+
+    default List<WorldObject> generateObjectsForChunk(int chunkX, int chunkY, ChunkTiles tiles, Biome biome, long seed) {
+        Biome[] uniform = new Biome[CHUNK_TILES];
+        Arrays.fill(uniform, biome);
+        return generateObjectsForChunk(chunkX, chunkY, tiles, biome, seed, (cx, cy) -> uniform);
+    }
+
+    List<WorldObject> generateObjectsForChunk(int chunkX, int chunkY, ChunkTiles tiles, Biome biome, long seed,
+                                              ChunkBiomeLookup neighbourBiomes);
+
+    // Placement only: no item spawns or other side effects, for chunks generated ahead of play.
+    List<WorldObject> placeObjectsForChunk(int chunkX, int chunkY, ChunkTiles tiles, Biome biome, long seed,
+                                           ChunkBiomeLookup neighbourBiomes);
     List<WorldObject> getObjectsForChunk(int chunkX, int chunkY);
     void addObject(WorldObject object);
     void removeObject(String objectId);
     void loadObjectsForChunk(int chunkX, int chunkY, List<WorldObject> objects);
+    void unloadObjectsForChunk(int chunkX, int chunkY);
+
+    // Biome of every tile in a chunk, indexed x * 16 + y; the arrays are shared and must not be modified.
+    @FunctionalInterface
+    interface ChunkBiomeLookup {
+        Biome[] getTileBiomes(int chunkX, int chunkY);
+    }
 }
@@ -6,7 +6,9 @@ import com.badlogic.gdx.math.Vector2;
 import io.github.minemon.multiplayer.model.WorldObjectUpdate;
 import io.github.minemon.player.model.PlayerData;
 import io.github.minemon.world.model.ChunkData;
+import io.github.minemon.world.model.ChunkTiles;
 import io.github.minemon.world.model.WorldData;
+import io.github.minemon.world.model.WorldMetadata;
 import io.github.minemon.world.model.WorldObject;
 
 import java.util.List;
@@ -25,6 +27,12 @@ public interface WorldService {
 
     void update(float delta);
 
+    // Drops chunks farthest from the given chunk until at most maxResident remain, keeping every chunk within
+    // keepRadius of it; returns how many were dropped
+    default int evictChunks(int centerChunkX, int centerChunkY, int keepRadius, int maxResident) {
+        return 0;
+    }
+
     void handleDisconnect();
 
     WorldData getWorldData();
@@ -33,7 +41,7 @@ public interface WorldService {
 
     void setMultiplayerMode(boolean multiplayer);
 
-    void loadOrReplaceChunkData(int chunkX, int chunkY, int[][] tiles, List<WorldObject> objects);
+    void loadOrReplaceChunkData(int chunkX, int chunkY, ChunkTiles tiles, List<WorldObject> objects);
 
     void updateWorldObjectState(WorldObjectUpdate update);
 
@@ -61,6 +69,8 @@ public interface WorldService {
 
     List<String> getAvailableWorlds();
 
+    WorldMetadata getWorldMetadata(String worldName);
+
     void deleteWorld(String worldName);
 
 
@@ -69,7 +79,7 @@ public interface WorldService {
     PlayerData getPlayerData(String username);
 
 
-    int[][] getChunkTiles(int chunkX, int chunkY);
+    ChunkTiles getChunkTiles(int chunkX, int chunkY);
 
     void regenerateChunk(int chunkX, int chunkY);
 
@@ -11,18 +11,20 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import io.github.minemon.NetworkProtocol;
 import io.github.minemon.core.service.FileAccessService;
 import io.github.minemon.multiplayer.model.WorldObjectUpdate;
 import io.github.minemon.multiplayer.service.MultiplayerClient;
 import io.github.minemon.player.model.PlayerData;
 import io.github.minemon.player.model.PlayerDirection;
 import io.github.minemon.player.service.PlayerService;
-import io.github.minemon.world.biome.config.BiomeConfigurationLoader;
 import io.github.minemon.world.biome.model.Biome;
 import io.github.minemon.world.biome.model.BiomeType;
 import io.github.minemon.world.biome.service.BiomeService;
 import io.github.minemon.world.config.WorldConfig;
+import io.github.minemon.world.config.WorldConfigRegistry;
 import io.github.minemon.world.model.*;
+import io.github.minemon.world.model.ChunkTiles;
 import io.github.minemon.world.service.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -43,11 +45,12 @@ public class ClientWorldServiceImpl extends BaseWorldServiceImpl implements Worl
     private static final int TILE_SIZE = 32;
     private static final long CHUNK_REQUEST_TIMEOUT = 2000;
     private static final long URGENT_REQUEST_TIMEOUT = 1000;
+    private static final long OBJECT_CHUNK_FLUSH_INTERVAL = 5000;
     private final WorldGenerator worldGenerator;
     private final WorldObjectManager worldObjectManager;
     private final TileManager tileManager;
     private final ObjectTextureManager objectTextureManager;
-    private final BiomeConfigurationLoader biomeLoader;
+    private final WorldConfigRegistry configRegistry;
     private final BiomeService biomeService;
     private final JsonWorldDataService jsonWorldDataService;
     private final FileAccessService fileAccessService;
@@ -55,6 +58,9 @@ public class ClientWorldServiceImpl extends BaseWorldServiceImpl implements Worl
     private final Map<String, Long> chunkRequestTimes = new ConcurrentHashMap<>();
     private final Set<Vector2> failedRequests = Collections.newSetFromMap(new ConcurrentHashMap<>());
     private final Map<String, Object> chunkLocks = new ConcurrentHashMap<>();
+    // Chunks whose objects changed since they were last written
+    private final Map<String, ChunkData> dirtyObjectChunks = new ConcurrentHashMap<>();
+    private volatile long lastObjectChunkFlush;
     @Value("${world.defaultName:defaultWorld}")
     private String defaultWorldName;
     @Value("${world.saveDir:save/worlds/}")
@@ -133,7 +139,7 @@ public class ClientWorldServiceImpl extends BaseWorldServiceImpl implements Worl
         WorldGenerator worldGenerator,
         WorldObjectManager worldObjectManager,
         TileManager tileManager,
-        BiomeConfigurationLoader biomeLoader,
+        WorldConfigRegistry configRegistry,
         BiomeService biomeService,
         ObjectTextureManager objectTextureManager,
         @Qualifier("clientJsonWorldDataService") JsonWorldDataService jsonWorldDataService,
@@ -142,7 +148,7 @@ public class ClientWorldServiceImpl extends BaseWorldServiceImpl implements Worl
         this.worldGenerator = worldGenerator;
         this.worldObjectManager = worldObjectManager;
         this.tileManager = tileManager;
-        this.biomeLoader = biomeLoader;
+        this.configRegistry = configRegistry;
         this.biomeService = biomeService;
         this.objectTextureManager = objectTextureManager;
         this.jsonWorldDataService = jsonWorldDataService;
@@ -196,12 +202,12 @@ public class ClientWorldServiceImpl extends BaseWorldServiceImpl implements Worl
                 int tileY = centerY + dy - previewSize / 2;
                 int chunkX = tileX / 16;
                 int chunkY = tileY / 16;
-                int[][] tiles = getChunkTiles(chunkX, chunkY);
+                ChunkTiles tiles = getChunkTiles(chunkX, chunkY);
                 if (tiles != null) {
                     int localX = Math.floorMod(tileX, 16);
                     int localY = Math.floorMod(tileY, 16);
                     if (localX >= 0 && localX < 16 && localY >= 0 && localY < 16) {
-                        int tileType = tiles[localX][localY];
+                        int tileType = tiles.get(localX, localY);
                         TextureRegion region = tileManager.getRegionForTile(tileType);
                         if (region != null) {
                             float worldPixelX = dx * tileSize;
@@ -280,7 +286,7 @@ public class ClientWorldServiceImpl extends BaseWorldServiceImpl implements Worl
 
     @Override
     public void updateWorldObjectState(WorldObjectUpdate update) {
-        String key = (update.getTileX() / 16) + "," + (update.getTileY() / 16);
+        String key = Math.floorDiv(update.getTileX(), CHUNK_SIZE) + "," + Math.floorDiv(update.getTileY(), CHUNK_SIZE);
         ChunkData chunk = getWorldData().getChunks().get(key);
         if (chunk == null) return;
 
@@ -305,15 +311,33 @@ public class ClientWorldServiceImpl extends BaseWorldServiceImpl implements Worl
                     objType,
                     objType.isCollidable()
                 );
+                newObj.setId(update.getObjectId());
                 objs.add(newObj);
             }
         }
 
+        dirtyObjectChunks.put(key, chunk);
+        flushObjectChunks(false);
+    }
 
+    // Object changes arrive in bursts; each dirty chunk is written at most once per interval
+    private void flushObjectChunks(boolean force) {
+        long now = System.currentTimeMillis();
+        if (dirtyObjectChunks.isEmpty() || (!force && now - lastObjectChunkFlush < OBJECT_CHUNK_FLUSH_INTERVAL)) {
+            return;
+        }
+        lastObjectChunkFlush = now;
+        List<ChunkData> chunks = new ArrayList<>(dirtyObjectChunks.size());
+        for (String key : dirtyObjectChunks.keySet()) {
+            ChunkData chunk = dirtyObjectChunks.remove(key);
+            if (chunk != null) {
+                chunks.add(chunk);
+            }
+        }
         try {
-            jsonWorldDataService.saveChunk(getWorldData().getWorldName(), chunk);
+            jsonWorldDataService.saveChunks(getWorldData().getWorldName(), chunks);
         } catch (IOException e) {
-            log.error("Failed to save chunk after updateWorldObjectState: {}", e.getMessage());
+            log.error("Failed to save chunks after updateWorldObjectState: {}", e.getMessage());
         }
     }
 
@@ -386,7 +410,7 @@ public class ClientWorldServiceImpl extends BaseWorldServiceImpl implements Worl
             return;
         }
 
-        Map<BiomeType, Biome> biomes = biomeLoader.loadBiomes("config/biomes.json");
+        Map<BiomeType, Biome> biomes = configRegistry.getSnapshot().getBiomes();
         if (worldData.getSeed() == 0) {
             long randomSeed = new Random().nextLong();
             worldData.setSeed(randomSeed);
@@ -457,6 +481,7 @@ public class ClientWorldServiceImpl extends BaseWorldServiceImpl implements Worl
     public void saveWorldData() {
 
         if (isMultiplayerMode) {
+            flushObjectChunks(true);
             log.debug("Skipping world save in multiplayer mode");
             return;
         }
@@ -469,6 +494,8 @@ public class ClientWorldServiceImpl extends BaseWorldServiceImpl implements Worl
         try {
 
             jsonWorldDataService.saveWorld(worldData);
+            jsonWorldDataService.savePlayers(worldData.getWorldName(), worldData.getPlayers().values());
+            flushObjectChunks(true);
             log.info("Saved world data for '{}'", worldData.getWorldName());
         } catch (IOException e) {
             log.error("Failed saving world '{}': {}", worldData.getWorldName(), e.getMessage());
@@ -561,60 +588,61 @@ public class ClientWorldServiceImpl extends BaseWorldServiceImpl implements Worl
         return visibleChunks;
     }
 
-    private void unloadDistantChunks(Rectangle viewBounds) {
-        if (isMultiplayerMode) {
-            return;
+    // Single-player chunks with unsaved object changes are written before they go; in multiplayer the server is
+    // told which chunks went, and an evicted chunk is requested again once it is back in range
+    @Override
+    public int evictChunks(int centerChunkX, int centerChunkY, int keepRadius, int maxResident) {
+        Map<String, ChunkData> chunks = worldData.getChunks();
+        int excess = chunks.size() - maxResident;
+        if (excess <= 0) {
+            return 0;
         }
-        final int UNLOAD_DISTANCE = 5;
-
-        int playerChunkX = (int) Math.floor(viewBounds.x / (CHUNK_SIZE * TILE_SIZE));
-        int playerChunkY = (int) Math.floor(viewBounds.y / (CHUNK_SIZE * TILE_SIZE));
-
-
-        Set<String> keys = new HashSet<>(worldData.getChunks().keySet());
 
-        for (String key : keys) {
-            ChunkData chunk = worldData.getChunks().get(key);
-            if (chunk == null) continue;
-
-            int dx = Math.abs(chunk.getChunkX() - playerChunkX);
-            int dy = Math.abs(chunk.getChunkY() - playerChunkY);
-
-            if (dx > UNLOAD_DISTANCE || dy > UNLOAD_DISTANCE) {
-                worldData.getChunks().remove(key);
+        List<Map.Entry<String, ChunkData>> candidates = new ArrayList<>();
+        for (Map.Entry<String, ChunkData> entry : chunks.entrySet()) {
+            if (chunkDistance(entry.getValue(), centerChunkX, centerChunkY) > keepRadius) {
+                candidates.add(entry);
             }
         }
-    }
+        candidates.sort(Comparator.comparingInt(
+            (Map.Entry<String, ChunkData> e) -> chunkDistance(e.getValue(), centerChunkX, centerChunkY)).reversed());
 
-    public void update(float delta) {
-        try {
-            if (camera != null) {
-                Rectangle viewBounds = calculateViewBounds();
-                unloadDistantChunks(viewBounds);
+        if (!isMultiplayerMode) {
+            flushObjectChunks(true);
+        }
+        int evicted = 0;
+        int[] evictedXs = new int[Math.min(excess, candidates.size())];
+        int[] evictedYs = new int[evictedXs.length];
+        for (int i = 0; i < candidates.size() && evicted < excess; i++) {
+            String key = candidates.get(i).getKey();
+            ChunkData chunk = chunks.remove(key);
+            if (chunk == null) {
+                continue;
             }
-        } catch (Exception e) {
-            log.error("Error during world update: {}", e.getMessage(), e);
+            chunkLocks.remove(key);
+            chunkRequestTimes.remove(key);
+            if (!isMultiplayerMode) {
+                worldObjectManager.unloadObjectsForChunk(chunk.getChunkX(), chunk.getChunkY());
+            }
+            evictedXs[evicted] = chunk.getChunkX();
+            evictedYs[evicted] = chunk.getChunkY();
+            evicted++;
         }
-    }
-
-    private Rectangle calculateViewBounds() {
-        if (camera == null) {
-            return new Rectangle(0, 0, CHUNK_SIZE * TILE_SIZE, CHUNK_SIZE * TILE_SIZE);
+        if (isMultiplayerMode && multiplayerClient != null && evicted > 0) {
+            NetworkProtocol.ChunksUnloaded unloaded = new NetworkProtocol.ChunksUnloaded();
+            unloaded.setChunkXs(Arrays.copyOf(evictedXs, evicted));
+            unloaded.setChunkYs(Arrays.copyOf(evictedYs, evicted));
+            multiplayerClient.sendMessage(unloaded);
         }
+        return evicted;
+    }
 
+    private static int chunkDistance(ChunkData chunk, int chunkX, int chunkY) {
+        return Math.max(Math.abs(chunk.getChunkX() - chunkX), Math.abs(chunk.getChunkY() - chunkY));
+    }
 
-        float width = camera.viewportWidth * camera.zoom;
-        float height = camera.viewportHeight * camera.zoom;
-
-
-        float bufferSize = 2 * CHUNK_SIZE * TILE_SIZE;
-
-        return new Rectangle(
-            camera.position.x - (width / 2) - bufferSize,
-            camera.position.y - (height / 2) - bufferSize,
-            width + (bufferSize * 2),
-            height + (bufferSize * 2)
-        );
+    // Chunk residency is enforced by MemoryBudgetManager
+    public void update(float delta) {
     }
 
     @Override
@@ -643,7 +671,7 @@ public class ClientWorldServiceImpl extends BaseWorldServiceImpl implements Worl
     }
 
     @Override
-    public int[][] getChunkTiles(int chunkX, int chunkY) {
+    public ChunkTiles getChunkTiles(int chunkX, int chunkY) {
         String key = chunkX + "," + chunkY;
         ChunkData chunkData = worldData.getChunks().get(key);
 
@@ -677,7 +705,7 @@ public class ClientWorldServiceImpl extends BaseWorldServiceImpl implements Worl
         return null;
     }
     @Override
-    public void loadOrReplaceChunkData(int chunkX, int chunkY, int[][] tiles, List<WorldObject> objects) {
+    public void loadOrReplaceChunkData(int chunkX, int chunkY, ChunkTiles tiles, List<WorldObject> objects) {
 
         String key = chunkX + "," + chunkY;
 
@@ -733,7 +761,7 @@ public class ClientWorldServiceImpl extends BaseWorldServiceImpl implements Worl
         }
 
 
-        int[][] tiles = worldGenerator.generateChunk(chunkX, chunkY);
+        ChunkTiles tiles = worldGenerator.generateChunk(chunkX, chunkY);
         ChunkData cData = new ChunkData();
         cData.setChunkX(chunkX);
         cData.setChunkY(chunkY);
@@ -741,8 +769,9 @@ public class ClientWorldServiceImpl extends BaseWorldServiceImpl implements Worl
         cData.setTiles(tiles);
         Biome biome = worldGenerator.getBiomeForChunk(chunkX, chunkY);
         List<WorldObject> objs = worldObjectManager.generateObjectsForChunk(
-            chunkX, chunkY, tiles, biome, getWorldData().getSeed());
+            chunkX, chunkY, tiles, biome, getWorldData().getSeed(), worldGenerator::getTileBiomes);
         cData.setObjects(objs);
+        worldObjectManager.loadObjectsForChunk(chunkX, chunkY, objs);
         worldData.getChunks().put(chunkX + "," + chunkY, cData);
 
 
@@ -894,6 +923,11 @@ public class ClientWorldServiceImpl extends BaseWorldServiceImpl implements Worl
         return jsonWorldDataService.listAllWorlds();
     }
 
+    @Override
+    public WorldMetadata getWorldMetadata(String worldName) {
+        return jsonWorldDataService.getWorldMetadata(worldName);
+    }
+
     @Override
     public void deleteWorld(String worldName) {
         if (!jsonWorldDataService.worldExists(worldName)) {
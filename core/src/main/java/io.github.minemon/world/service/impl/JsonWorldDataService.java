@@ -3,9 +3,12 @@ package io.github.minemon.world.service.impl;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
 import io.github.minemon.player.model.PlayerData;
 import io.github.minemon.world.model.ChunkData;
 import io.github.minemon.world.model.WorldData;
+import io.github.minemon.world.model.WorldMetadata;
 import io.github.minemon.world.service.WorldService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,16 +19,22 @@ import java.io.IOException;
 import java.io.Reader;
 import java.io.Writer;
 import java.nio.file.*;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 
 @Slf4j
 public class JsonWorldDataService {
+    private static final String INDEX_FILE = "worlds.index.json";
+    private static final String JOURNAL_FILE = "journal.log";
+
     private final String baseWorldsDir;
 
     private final boolean isServer;
     private final Json json;
+    private final ThreadLocal<Json> chunkJson = ThreadLocal.withInitial(this::createJson);
+    private final Object indexLock = new Object();
+    private Map<String, WorldMetadata> worldIndex;
+    private volatile SaveJournal journal;
     private WorldService worldService;
 
     public void setWorldService(WorldService worldService) {
@@ -45,8 +54,13 @@ public class JsonWorldDataService {
             throw new IllegalArgumentException("Base worlds directory cannot be empty");
         }
         this.isServer = isServer;
-        this.json = new Json();
-        this.json.setIgnoreUnknownFields(true);
+        this.json = createJson();
+    }
+
+    private Json createJson() {
+        Json json = new Json();
+        json.setIgnoreUnknownFields(true);
+        return json;
     }
 
     private boolean isAndroid() {
@@ -78,15 +92,10 @@ public class JsonWorldDataService {
             return;
         }
 
-        FileHandle folder = getPlayerDataFolder(worldName);
-        if (!folder.exists()) {
-            folder.mkdirs();
-        }
-
         FileHandle file = getPlayerDataFile(worldName, playerData.getUsername());
         try {
-            String jsonStr = json.toJson(playerData);
-            file.writeString(jsonStr, false);
+            String jsonStr = chunkJson.get().toJson(playerData);
+            journal().write(file.file().toPath(), jsonStr);
             log.info("Successfully saved player data for '{}' in world '{}'", playerData.getUsername(), worldName);
         } catch (Exception e) {
             log.error("Error saving player data for '{}' in world '{}': {}", playerData.getUsername(), worldName, e.getMessage());
@@ -100,6 +109,7 @@ public class JsonWorldDataService {
             return null;
         }
 
+        journal();
         FileHandle folder = getPlayerDataFolder(worldName);
         if (!folder.exists()) {
             folder.mkdirs();
@@ -172,76 +182,139 @@ public class JsonWorldDataService {
             throw new IllegalArgumentException("WorldData instance cannot be null");
         }
 
-        FileHandle worldFile;
-        if (isAndroid()) {
-            worldFile = Gdx.files.external(baseWorldsDir + "/" + worldName + "/" + worldName + ".json");
-        } else {
-            worldFile = Gdx.files.absolute(worldFilePath(worldName).toString());
+        WorldMetadata meta = loadWorldMetadata(worldName);
+        worldData.setWorldName(meta.getWorldName() != null ? meta.getWorldName() : worldName);
+        worldData.setSeed(meta.getSeed());
+        worldData.setCreatedDate(meta.getCreatedDate());
+        worldData.setLastPlayed(meta.getLastPlayed());
+        worldData.setPlayedTime(meta.getPlayedTime());
+
+        // Chunks and players are read from their own stores as they are needed
+        worldData.getPlayers().clear();
+        worldData.getChunks().clear();
+        log.info("Successfully loaded world data for '{}'", worldName);
+    }
+
+    // The world file only holds the header; chunks and players are written through saveChunk and savePlayerData,
+    // so the cost of a save does not grow with the size of the world
+    public void saveWorld(WorldData worldData) throws IOException {
+        if (worldData == null) {
+            throw new IllegalArgumentException("WorldData cannot be null");
+        }
+        if (worldData.getWorldName() == null || worldData.getWorldName().isEmpty()) {
+            throw new IllegalStateException("Cannot save a world with no name");
+        }
+
+        WorldMetadata meta = new WorldMetadata();
+        meta.setWorldName(worldData.getWorldName());
+        meta.setSeed(worldData.getSeed());
+        meta.setCreatedDate(worldData.getCreatedDate());
+        meta.setLastPlayed(worldData.getLastPlayed());
+        meta.setPlayedTime(worldData.getPlayedTime());
+        try {
+            writeMetadata(meta);
+            log.info("Successfully saved world data for '{}'", worldData.getWorldName());
+        } catch (Exception e) {
+            log.error("Error saving world '{}': {}", worldData.getWorldName(), e.getMessage());
+            throw new IOException("Failed to save world", e);
         }
+    }
 
+    public WorldMetadata loadWorldMetadata(String worldName) throws IOException {
+        journal();
+        FileHandle worldFile = worldFolder(worldName).child(worldName + ".json");
         if (!worldFile.exists()) {
             throw new NoSuchFileException("World file not found: " + worldFile.path());
         }
-
         try {
-            String jsonContent = worldFile.readString();
-            WorldData loaded = json.fromJson(WorldData.class, jsonContent);
-            if (loaded == null) {
-                throw new IOException("Failed to parse world data for " + worldName);
+            JsonValue root = new JsonReader().parse(worldFile);
+            if (root.has("chunks") || root.has("players")) {
+                return migrateLegacyWorld(worldName, root);
             }
-
-            worldData.setWorldName(loaded.getWorldName());
-            worldData.setSeed(loaded.getSeed());
-            worldData.setCreatedDate(loaded.getCreatedDate());
-            worldData.setLastPlayed(loaded.getLastPlayed());
-            worldData.setPlayedTime(loaded.getPlayedTime());
-
-            worldData.getPlayers().clear();
-            worldData.getPlayers().putAll(loaded.getPlayers());
-            worldData.getChunks().clear();
-            worldData.getChunks().putAll(loaded.getChunks());
-
-            log.info("Successfully loaded world data for '{}'", worldName);
+            return json.readValue(WorldMetadata.class, root);
+        } catch (IOException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error loading world '{}': {}", worldName, e.getMessage());
             throw new IOException("Failed to load world: " + worldName, e);
         }
     }
 
-    public void saveWorld(WorldData worldData) throws IOException {
-        if (worldData == null) {
-            throw new IllegalArgumentException("WorldData cannot be null");
+    // World files written before the header split embed every chunk and player. They are moved into their
+    // own stores once, and the file is rewritten as a plain header.
+    private WorldMetadata migrateLegacyWorld(String worldName, JsonValue root) throws IOException {
+        int chunkCount = 0;
+        int playerCount = 0;
+        JsonValue chunks = root.get("chunks");
+        if (chunks != null) {
+            for (JsonValue entry = chunks.child; entry != null; entry = entry.next) {
+                if ("class".equals(entry.name)) {
+                    continue;
+                }
+                ChunkData chunk = json.readValue(ChunkData.class, entry);
+                if (chunk != null) {
+                    saveChunk(worldName, chunk);
+                    chunkCount++;
+                }
+            }
         }
-        if (worldData.getWorldName() == null || worldData.getWorldName().isEmpty()) {
-            throw new IllegalStateException("Cannot save a world with no name");
+        JsonValue players = root.get("players");
+        if (players != null) {
+            for (JsonValue entry = players.child; entry != null; entry = entry.next) {
+                if ("class".equals(entry.name)) {
+                    continue;
+                }
+                PlayerData player = json.readValue(PlayerData.class, entry);
+                if (player != null && player.getUsername() != null) {
+                    savePlayerData(worldName, player);
+                    playerCount++;
+                }
+            }
         }
 
-        FileHandle folder;
-        if (isAndroid()) {
-            folder = Gdx.files.external(baseWorldsDir + "/" + worldData.getWorldName().trim());
-        } else {
-            folder = Gdx.files.absolute(worldFolderPath(worldData.getWorldName()).toString());
+        WorldMetadata meta = json.readValue(WorldMetadata.class, root);
+        if (meta.getWorldName() == null) {
+            meta.setWorldName(worldName);
         }
+        writeMetadata(meta);
+        log.info("Migrated world '{}' to a header file: moved {} chunks and {} players to their own files",
+            worldName, chunkCount, playerCount);
+        return meta;
+    }
 
-        if (!folder.exists()) {
-            folder.mkdirs();
+    // The header and the index entry go out in one journal commit
+    private void writeMetadata(WorldMetadata meta) throws IOException {
+        synchronized (indexLock) {
+            worldIndex().put(meta.getWorldName(), meta);
+            Map<Path, String> files = new LinkedHashMap<>();
+            files.put(worldFolder(meta.getWorldName()).child(meta.getWorldName() + ".json").file().toPath(),
+                json.toJson(meta));
+            files.put(indexPath(), indexJson());
+            journal().writeAll(files);
         }
+    }
 
-        FileHandle worldFile = folder.child(worldData.getWorldName() + ".json");
+    // Header of an existing world, from the index where possible
+    public WorldMetadata getWorldMetadata(String worldName) {
+        synchronized (indexLock) {
+            WorldMetadata meta = worldIndex().get(worldName);
+            if (meta != null) {
+                return meta;
+            }
+        }
         try {
-            String jsonStr = json.toJson(worldData);
-            worldFile.writeString(jsonStr, false);
-            log.info("Successfully saved world data for '{}'", worldData.getWorldName());
-        } catch (Exception e) {
-            log.error("Error saving world '{}': {}", worldData.getWorldName(), e.getMessage());
-            throw new IOException("Failed to save world", e);
+            WorldMetadata meta = loadWorldMetadata(worldName);
+            synchronized (indexLock) {
+                worldIndex().put(worldName, meta);
+                writeIndex();
+            }
+            return meta;
+        } catch (IOException e) {
+            log.debug("No metadata for world '{}': {}", worldName, e.getMessage());
+            return null;
         }
     }
 
-
-
-
-
     private FileHandle getChunkFile(String worldName, int chunkX, int chunkY) {
         if (isAndroid()) {
             FileHandle worldFolder = Gdx.files.external(baseWorldsDir + "/" + worldName);
@@ -252,6 +325,7 @@ public class JsonWorldDataService {
     }
 
     public ChunkData loadChunk(String worldName, int chunkX, int chunkY) throws IOException {
+        journal();
         FileHandle chunkFile = getChunkFile(worldName, chunkX, chunkY);
         if (!chunkFile.exists()) {
             return null;
@@ -264,16 +338,35 @@ public class JsonWorldDataService {
         }
     }
 
+    public boolean chunkExists(String worldName, int chunkX, int chunkY) {
+        return getChunkFile(worldName, chunkX, chunkY).exists();
+    }
+
+    // Serialized on the calling thread, so parallel generators only queue up for the journal commit
     public void saveChunk(String worldName, ChunkData chunkData) throws IOException {
-        synchronized (this) {
-            FileHandle chunkFile = getChunkFile(worldName, chunkData.getChunkX(), chunkData.getChunkY());
-            if (!chunkFile.parent().exists()) {
-                chunkFile.parent().mkdirs();
-            }
+        String jsonStr = chunkJson.get().toJson(chunkData);
+        FileHandle chunkFile = getChunkFile(worldName, chunkData.getChunkX(), chunkData.getChunkY());
+        journal().write(chunkFile.file().toPath(), jsonStr);
+    }
+
+    public void saveChunks(String worldName, Collection<ChunkData> chunks) throws IOException {
+        Map<Path, String> files = new LinkedHashMap<>();
+        for (ChunkData chunk : chunks) {
+            files.put(getChunkFile(worldName, chunk.getChunkX(), chunk.getChunkY()).file().toPath(),
+                chunkJson.get().toJson(chunk));
+        }
+        journal().writeAll(files);
+    }
 
-            String jsonStr = json.toJson(chunkData);
-            chunkFile.writeString(jsonStr, false);
+    public void savePlayers(String worldName, Collection<PlayerData> players) throws IOException {
+        Map<Path, String> files = new LinkedHashMap<>();
+        for (PlayerData player : players) {
+            if (player.getUsername() != null) {
+                files.put(getPlayerDataFile(worldName, player.getUsername()).file().toPath(),
+                    chunkJson.get().toJson(player));
+            }
         }
+        journal().writeAll(files);
     }
 
     private Path chunkFilePath(String worldName, int chunkX, int chunkY) {
@@ -283,31 +376,44 @@ public class JsonWorldDataService {
     }
 
 
+    // World names come from the index; the directory listing only catches worlds added or removed behind its back
     public List<String> listAllWorlds() {
         List<String> result = new ArrayList<>();
-        FileHandle root;
-        if (isAndroid()) {
-            root = Gdx.files.external(baseWorldsDir);
-        } else {
-            root = Gdx.files.absolute(baseWorldsDir);
-        }
-
+        FileHandle root = worldsRoot();
         if (!root.exists()) {
             log.info("Worlds directory does not exist: {}", root.path());
             return result;
         }
 
         try {
-            for (FileHandle dir : root.list()) {
-                if (dir.isDirectory()) {
+            synchronized (indexLock) {
+                Map<String, WorldMetadata> index = worldIndex();
+                Set<String> present = new HashSet<>();
+                boolean changed = false;
+                for (FileHandle dir : root.list()) {
+                    if (!dir.isDirectory()) {
+                        continue;
+                    }
                     String folderName = dir.name();
-                    FileHandle worldJson = dir.child(folderName + ".json");
-                    if (worldJson.exists()) {
-                        result.add(folderName);
-                        log.debug("Found world: {}", folderName);
+                    if (index.containsKey(folderName)) {
+                        present.add(folderName);
+                    } else if (dir.child(folderName + ".json").exists()) {
+                        try {
+                            index.put(folderName, loadWorldMetadata(folderName));
+                            present.add(folderName);
+                            changed = true;
+                        } catch (IOException e) {
+                            log.warn("Skipping world '{}': {}", folderName, e.getMessage());
+                        }
                     }
                 }
+                changed |= index.keySet().retainAll(present);
+                if (changed) {
+                    writeIndex();
+                }
+                result.addAll(index.keySet());
             }
+            Collections.sort(result);
             log.info("Found {} worlds in {}", result.size(), root.path());
         } catch (Exception e) {
             log.warn("Could not list worlds in {}: {}", root.path(), e.getMessage());
@@ -316,11 +422,15 @@ public class JsonWorldDataService {
     }
 
     public void deleteWorld(String worldName) {
-        FileHandle folder;
-        if (isAndroid()) {
-            folder = Gdx.files.external(baseWorldsDir + "/" + worldName);
-        } else {
-            folder = Gdx.files.absolute(worldFolderPath(worldName).toString());
+        FileHandle folder = worldFolder(worldName);
+        try {
+            synchronized (indexLock) {
+                if (worldIndex().remove(worldName) != null) {
+                    writeIndex();
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to remove world '{}' from the index: {}", worldName, e.getMessage());
         }
 
         if (!folder.exists()) {
@@ -329,6 +439,7 @@ public class JsonWorldDataService {
         }
 
         try {
+            journal().sync();
             folder.deleteDirectory();
             log.info("Successfully deleted world '{}' at {}", worldName, folder.path());
         } catch (Exception e) {
@@ -336,10 +447,75 @@ public class JsonWorldDataService {
         }
     }
 
+    private Map<String, WorldMetadata> worldIndex() {
+        if (worldIndex == null) {
+            worldIndex = new LinkedHashMap<>();
+            FileHandle file = worldsRoot().child(INDEX_FILE);
+            if (file.exists()) {
+                try {
+                    journal();
+                    WorldMetadata[] entries = json.fromJson(WorldMetadata[].class, file.readString());
+                    if (entries != null) {
+                        for (WorldMetadata meta : entries) {
+                            if (meta != null && meta.getWorldName() != null) {
+                                worldIndex.put(meta.getWorldName(), meta);
+                            }
+                        }
+                    }
+                } catch (Exception e) {
+                    log.warn("Ignoring unreadable world index {}: {}", file.path(), e.getMessage());
+                }
+            }
+        }
+        return worldIndex;
+    }
+
+    private void writeIndex() throws IOException {
+        journal().write(indexPath(), indexJson());
+    }
+
+    private Path indexPath() {
+        return worldsRoot().child(INDEX_FILE).file().toPath();
+    }
+
+    private String indexJson() {
+        return json.toJson(worldIndex.values().toArray(new WorldMetadata[0]));
+    }
+
+    // Opened on first use rather than in the constructor, since file handles need Gdx to be up. Opening it
+    // replays whatever an earlier run committed but did not get to checkpoint.
+    private SaveJournal journal() throws IOException {
+        SaveJournal current = journal;
+        if (current == null) {
+            synchronized (indexLock) {
+                if (journal == null) {
+                    journal = new SaveJournal(worldsRoot().file().toPath().resolve(JOURNAL_FILE));
+                }
+                current = journal;
+            }
+        }
+        return current;
+    }
+
+    protected FileHandle worldsRoot() {
+        if (isAndroid()) {
+            return Gdx.files.external(baseWorldsDir);
+        }
+        return Gdx.files.absolute(baseWorldsDir);
+    }
+
+    protected FileHandle worldFolder(String worldName) {
+        if (isAndroid()) {
+            return Gdx.files.external(baseWorldsDir + "/" + worldName.trim());
+        }
+        return Gdx.files.absolute(worldFolderPath(worldName).toString());
+    }
+
     public void deleteChunk(String worldName, int chunkX, int chunkY) {
         FileHandle chunkFile = getChunkFile(worldName, chunkX, chunkY);
         if (chunkFile.exists()) {
             try {
+                journal().sync();
                 chunkFile.delete();
                 log.debug("Deleted chunk {},{} in world '{}'", chunkX, chunkY, worldName);
             } catch (Exception e) {
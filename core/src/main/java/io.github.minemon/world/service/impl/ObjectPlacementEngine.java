@@ -0,0 +1,307 @@
+package io.github.minemon.world.service.impl;
+
+import io.github.minemon.world.biome.model.Biome;
+import io.github.minemon.world.model.ChunkTiles;
+import io.github.minemon.world.model.ObjectType;
+import io.github.minemon.world.model.WorldObject;
+import io.github.minemon.world.service.WorldObjectManager.ChunkBiomeLookup;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Jittered-grid placement: every grid cell yields a hashed tree and decoration candidate, so a chunk can
+// recompute its neighbours' candidates from their tile biomes without generating them. Margin candidates
+// that outrank ours are treated as placed, which keeps spacing intact across chunk borders regardless of
+// generation order.
+@Slf4j
+public class ObjectPlacementEngine {
+    private static final int CHUNK_SIZE = 16;
+    private static final int MAX_FOOTPRINT = 3;
+    private static final int MAX_SPACING = 4;
+    private static final int MARGIN = MAX_FOOTPRINT + MAX_SPACING;
+    private static final int REGION_SIZE = CHUNK_SIZE + MARGIN * 2;
+    private static final int CELL_SIZE = MAX_FOOTPRINT;
+    private static final int INDEX_BITS = 12;
+    private static final int MAX_CANDIDATES = 1 << INDEX_BITS;
+    private static final ObjectType[] TYPES = ObjectType.values();
+
+    private final ThreadLocal<Workspace> workspaces = ThreadLocal.withInitial(Workspace::new);
+    // Used for types a biome sets no spacing for
+    private final double defaultTreeSpacing;
+    private final double defaultObjectSpacing;
+
+    public ObjectPlacementEngine(double defaultTreeSpacing, double defaultObjectSpacing) {
+        this.defaultTreeSpacing = defaultTreeSpacing;
+        this.defaultObjectSpacing = defaultObjectSpacing;
+    }
+
+    public List<WorldObject> placeObjects(int chunkX, int chunkY, ChunkTiles tiles, Biome biome, long seed,
+                                          ChunkBiomeLookup neighbourBiomes) {
+        List<WorldObject> objects = new CopyOnWriteArrayList<>();
+        if (biome == null || tiles == null) {
+            return objects;
+        }
+
+        Workspace ws = workspaces.get();
+        ws.reset();
+
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                ws.slotBiomes[(dx + 1) * 3 + (dy + 1)] = neighbourBiomes.getTileBiomes(chunkX + dx, chunkY + dy);
+            }
+        }
+
+        int baseX = chunkX * CHUNK_SIZE - MARGIN;
+        int baseY = chunkY * CHUNK_SIZE - MARGIN;
+        generateCandidates(ws, baseX, baseY, tiles, seed);
+
+        // Highest priority first; margin candidates always claim their footprint, ours only once accepted.
+        Arrays.sort(ws.keys, 0, ws.count);
+        for (int k = ws.count - 1; k >= 0; k--) {
+            int i = (int) (ws.keys[k] & (MAX_CANDIDATES - 1));
+            ObjectType type = TYPES[ws.type[i]];
+            if (ws.inChunk[i]) {
+                if (isOccupied(ws, ws.x[i], ws.y[i], type, ws.spacing[i])) {
+                    continue;
+                }
+                objects.add(new WorldObject(baseX + ws.x[i], baseY + ws.y[i], type, type.isCollidable()));
+            }
+            occupy(ws, ws.x[i], ws.y[i], type);
+        }
+        return objects;
+    }
+
+    private CompiledBiome compile(Workspace ws, Biome biome) {
+        for (int i = 0; i < ws.compiledCount; i++) {
+            if (ws.compiledKeys[i] == biome) {
+                return ws.compiled[i];
+            }
+        }
+
+        CompiledBiome compiled = new CompiledBiome();
+        if (biome != null && biome.getSpawnableObjects() != null && biome.getSpawnChances() != null) {
+            for (String name : biome.getSpawnableObjects()) {
+                ObjectType type;
+                try {
+                    type = ObjectType.valueOf(name);
+                } catch (IllegalArgumentException e) {
+                    log.warn("Invalid object type {} in biome {}", name, biome.getName());
+                    continue;
+                }
+                double chance = biome.getSpawnChanceForObject(type);
+                if (chance <= 0) {
+                    continue;
+                }
+                int ordinal = type.ordinal();
+                compiled.chances[ordinal] = (float) chance;
+                double defaultSpacing = isTreeType(type) ? defaultTreeSpacing : defaultObjectSpacing;
+                compiled.spacings[ordinal] = (float) Math.min(MAX_SPACING, Math.max(0, biome.getSpacingForObject(type, defaultSpacing)));
+            }
+        }
+        if (biome != null && biome.getAllowedTileTypes() != null) {
+            int max = -1;
+            for (Integer id : biome.getAllowedTileTypes()) {
+                if (id != null && id > max) {
+                    max = id;
+                }
+            }
+            compiled.allowedTiles = new boolean[max + 1];
+            for (Integer id : biome.getAllowedTileTypes()) {
+                if (id != null && id >= 0) {
+                    compiled.allowedTiles[id] = true;
+                }
+            }
+        }
+
+        // Biomes are immutable, so compiled tables are kept until a config reload fills the table up
+        if (ws.compiledCount == ws.compiled.length) {
+            Arrays.fill(ws.compiledKeys, null);
+            ws.compiledCount = 0;
+        }
+        ws.compiledKeys[ws.compiledCount] = biome;
+        ws.compiled[ws.compiledCount++] = compiled;
+        return compiled;
+    }
+
+    // Each cell offers one hashed position; every type the biome of that tile can spawn rolls against its
+    // chance and the best tree and best non-tree winner become candidates, trees ranking above the rest.
+    private void generateCandidates(Workspace ws, int baseX, int baseY, ChunkTiles tiles, long seed) {
+        int cellX0 = Math.floorDiv(baseX, CELL_SIZE);
+        int cellY0 = Math.floorDiv(baseY, CELL_SIZE);
+        int cellX1 = Math.floorDiv(baseX + REGION_SIZE - 1, CELL_SIZE);
+        int cellY1 = Math.floorDiv(baseY + REGION_SIZE - 1, CELL_SIZE);
+        float cellArea = CELL_SIZE * CELL_SIZE * (float) (1 << 24);
+
+        for (int cx = cellX0; cx <= cellX1; cx++) {
+            for (int cy = cellY0; cy <= cellY1; cy++) {
+                long h = hash(seed, cx, cy);
+                int lx = cx * CELL_SIZE + (int) (((h & 0xFFFF) * CELL_SIZE) >>> 16) - baseX;
+                int ly = cy * CELL_SIZE + (int) ((((h >>> 16) & 0xFFFF) * CELL_SIZE) >>> 16) - baseY;
+                if (lx < 0 || ly < 0 || lx >= REGION_SIZE || ly >= REGION_SIZE) {
+                    continue;
+                }
+
+                int slotX = chunkSlot(lx);
+                int slotY = chunkSlot(ly);
+                int slot = slotX * 3 + slotY;
+                Biome[] slotBiomes = ws.slotBiomes[slot];
+                if (slotBiomes == null) {
+                    continue;
+                }
+                int localX = lx - MARGIN - (slotX - 1) * CHUNK_SIZE;
+                int localY = ly - MARGIN - (slotY - 1) * CHUNK_SIZE;
+                CompiledBiome compiled = compile(ws, slotBiomes[localX * CHUNK_SIZE + localY]);
+
+                boolean inChunk = slot == 4;
+                if (inChunk) {
+                    int tileId = tiles.get(localX, localY);
+                    boolean[] allowedTiles = compiled.allowedTiles;
+                    if (tileId < 0 || tileId >= allowedTiles.length || !allowedTiles[tileId]) {
+                        continue;
+                    }
+                }
+
+                float[] chances = compiled.chances;
+                int bestTree = -1;
+                int bestOther = -1;
+                long treePriority = -1;
+                long otherPriority = -1;
+                for (int ordinal = 0; ordinal < TYPES.length; ordinal++) {
+                    if (chances[ordinal] <= 0) {
+                        continue;
+                    }
+                    long roll = mix(h + ordinal * 0x9E3779B97F4A7C15L);
+                    if ((roll >>> 40) >= chances[ordinal] * cellArea) {
+                        continue;
+                    }
+                    long priority = roll & ((1L << 50) - 1);
+                    if (isTreeType(TYPES[ordinal])) {
+                        if (priority > treePriority) {
+                            treePriority = priority;
+                            bestTree = ordinal;
+                        }
+                    } else if (priority > otherPriority) {
+                        otherPriority = priority;
+                        bestOther = ordinal;
+                    }
+                }
+                if (bestTree >= 0) {
+                    ws.add(lx, ly, bestTree, compiled.spacings[bestTree], treePriority | 1L << 50, inChunk);
+                }
+                if (bestOther >= 0) {
+                    ws.add(lx, ly, bestOther, compiled.spacings[bestOther], otherPriority, inChunk);
+                }
+            }
+        }
+    }
+
+    private static int chunkSlot(int local) {
+        return local < MARGIN ? 0 : (local < MARGIN + CHUNK_SIZE ? 1 : 2);
+    }
+
+    // Rows are bitmasks over the region columns; a candidate collides when any occupied tile falls
+    // inside its footprint grown by its spacing.
+    private boolean isOccupied(Workspace ws, int lx, int ly, ObjectType type, float gap) {
+        int x0 = Math.max(0, (int) Math.floor(lx - gap - 1) + 1);
+        int x1 = Math.min(REGION_SIZE - 1, (int) Math.ceil(lx + type.getWidthInTiles() + gap) - 1);
+        int y0 = Math.max(0, (int) Math.floor(ly - gap - 1) + 1);
+        int y1 = Math.min(REGION_SIZE - 1, (int) Math.ceil(ly + type.getHeightInTiles() + gap) - 1);
+        long mask = columnMask(x0, x1);
+        for (int y = y0; y <= y1; y++) {
+            if ((ws.rows[y] & mask) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void occupy(Workspace ws, int lx, int ly, ObjectType type) {
+        int x1 = Math.min(REGION_SIZE - 1, lx + type.getWidthInTiles() - 1);
+        int y1 = Math.min(REGION_SIZE - 1, ly + type.getHeightInTiles() - 1);
+        long mask = columnMask(lx, x1);
+        for (int y = ly; y <= y1; y++) {
+            ws.rows[y] |= mask;
+        }
+    }
+
+    private static long columnMask(int from, int to) {
+        if (from > to) {
+            return 0L;
+        }
+        return (-1L >>> (63 - to)) & (-1L << from);
+    }
+
+    private static long hash(long seed, int x, int y) {
+        long h = mix(seed ^ (x * 0xC2B2AE3D27D4EB4FL));
+        return mix(h ^ (y * 0x165667B19E3779F9L));
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static boolean isTreeType(ObjectType type) {
+        return type == ObjectType.TREE_0 ||
+            type == ObjectType.TREE_1 ||
+            type == ObjectType.SNOW_TREE ||
+            type == ObjectType.HAUNTED_TREE ||
+            type == ObjectType.RUINS_TREE ||
+            type == ObjectType.APRICORN_TREE ||
+            type == ObjectType.RAIN_TREE ||
+            type == ObjectType.CHERRY_TREE;
+    }
+
+    private static final class CompiledBiome {
+        final float[] chances = new float[TYPES.length];
+        final float[] spacings = new float[TYPES.length];
+        boolean[] allowedTiles = new boolean[0];
+    }
+
+    private static final class Workspace {
+        final Biome[][] slotBiomes = new Biome[9][];
+        final long[] rows = new long[REGION_SIZE];
+        final Biome[] compiledKeys = new Biome[16];
+        final CompiledBiome[] compiled = new CompiledBiome[16];
+        int compiledCount;
+
+        int count;
+        int[] x = new int[256];
+        int[] y = new int[256];
+        int[] type = new int[256];
+        float[] spacing = new float[256];
+        boolean[] inChunk = new boolean[256];
+        long[] keys = new long[256];
+
+        void reset() {
+            count = 0;
+            Arrays.fill(rows, 0L);
+        }
+
+        void add(int lx, int ly, int ordinal, float gap, long priority, boolean insideChunk) {
+            if (count == x.length) {
+                grow();
+            }
+            int i = count++;
+            x[i] = lx;
+            y[i] = ly;
+            type[i] = ordinal;
+            spacing[i] = gap;
+            inChunk[i] = insideChunk;
+            keys[i] = (priority << INDEX_BITS) | i;
+        }
+
+        private void grow() {
+            int size = x.length * 2;
+            x = Arrays.copyOf(x, size);
+            y = Arrays.copyOf(y, size);
+            type = Arrays.copyOf(type, size);
+            spacing = Arrays.copyOf(spacing, size);
+            inChunk = Arrays.copyOf(inChunk, size);
+            keys = Arrays.copyOf(keys, size);
+        }
+    }
+}
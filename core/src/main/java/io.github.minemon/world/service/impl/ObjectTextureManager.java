@@ -4,6 +4,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import io.github.minemon.core.service.TextureAtlasRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -13,10 +14,15 @@ import java.util.Map;
 @Service
 @Slf4j
 public class ObjectTextureManager {
+    private final TextureAtlasRegistry atlasRegistry;
     private TextureAtlas atlas;
     private final Map<String, TextureRegion> regionCache = new HashMap<>();
     private boolean initialized = false;
 
+    public ObjectTextureManager(TextureAtlasRegistry atlasRegistry) {
+        this.atlasRegistry = atlasRegistry;
+    }
+
     public void initializeIfNeeded() {
         if (initialized) return;
 
@@ -25,13 +31,13 @@ public class ObjectTextureManager {
             return;
         }
 
-        String ATLAS_PATH = "atlas/tiles-gfx-atlas.atlas";
-        if (!Gdx.files.internal(ATLAS_PATH).exists()) {
-            log.error("Atlas file not found at: {}", ATLAS_PATH);
+        if (!Gdx.files.internal(TextureAtlasRegistry.TILES_ATLAS).exists()) {
+            log.error("Atlas file not found at: {}", TextureAtlasRegistry.TILES_ATLAS);
             return;
         }
 
-        atlas = new TextureAtlas(Gdx.files.internal(ATLAS_PATH));
+        // Shared with the tile manager
+        atlas = atlasRegistry.acquire(TextureAtlasRegistry.TILES_ATLAS);
 
         
         for (TextureAtlas.AtlasRegion region : atlas.getRegions()) {
@@ -99,11 +105,16 @@ public class ObjectTextureManager {
         return region;
     }
 
+    // Regions are looked up again on demand
+    public void trimCaches() {
+        regionCache.clear();
+    }
+
     public void disposeTextures() {
         if (atlas != null) {
-            atlas.dispose();
+            atlasRegistry.release(TextureAtlasRegistry.TILES_ATLAS);
             atlas = null;
-            log.info("Disposed ObjectTextureManager atlas");
+            log.info("Released ObjectTextureManager atlas");
         }
         regionCache.clear();
         initialized = false;
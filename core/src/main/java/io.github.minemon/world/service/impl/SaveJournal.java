@@ -0,0 +1,262 @@
+package io.github.minemon.world.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.zip.CRC32;
+
+// Append-only write-ahead journal for save files. A write is appended to the journal with a checksum and
+// fsynced before the target file is replaced through a temp file and an atomic rename, so a crash leaves
+// either the old file or the new one, and the journal can always redo the new one. A single writer thread
+// commits whatever has queued up with one fsync, so concurrent savers share the cost. Target files are only
+// fsynced at checkpoints, once per file however often it was rewritten, after which the journal is emptied.
+@Slf4j
+public class SaveJournal {
+    private static final int RECORD_MAGIC = 0x4D4A524E;
+    private static final long CHECKPOINT_BYTES = 4L * 1024 * 1024;
+    private static final int MAX_BATCH = 256;
+    private static final int MAX_PATH_BYTES = 4096;
+    private static final int MAX_DATA_BYTES = 64 * 1024 * 1024;
+
+    private final Path journalFile;
+    private final LinkedBlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+    // Files replaced since the last checkpoint; their contents are only durable through the journal
+    private final Set<Path> unsynced = new HashSet<>();
+    private FileChannel channel;
+
+    public SaveJournal(Path journalFile) throws IOException {
+        this.journalFile = journalFile;
+        Files.createDirectories(journalFile.getParent());
+        int replayed = replay();
+        channel = FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        checkpoint();
+        if (replayed > 0) {
+            log.info("Replayed {} journaled writes from {}", replayed, journalFile);
+        }
+
+        Thread writer = new Thread(this::writeLoop, "save-journal");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public void write(Path target, String content) throws IOException {
+        await(enqueue(target, content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // All writes are queued before waiting, so they land in the same commit
+    public void writeAll(Map<Path, String> contents) throws IOException {
+        List<CompletableFuture<Void>> pending = new ArrayList<>(contents.size());
+        for (Map.Entry<Path, String> entry : contents.entrySet()) {
+            pending.add(enqueue(entry.getKey(), entry.getValue().getBytes(StandardCharsets.UTF_8)));
+        }
+        for (CompletableFuture<Void> future : pending) {
+            await(future);
+        }
+    }
+
+    // Makes every replaced file durable and empties the journal. Must run before files are deleted,
+    // or a later replay would bring them back.
+    public void sync() throws IOException {
+        await(enqueue(null, null));
+    }
+
+    private CompletableFuture<Void> enqueue(Path target, byte[] data) {
+        PendingWrite write = new PendingWrite(target == null ? null : target.toAbsolutePath(), data);
+        queue.add(write);
+        return write.done;
+    }
+
+    private static void await(CompletableFuture<Void> future) throws IOException {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a journal commit");
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+        }
+    }
+
+    private void writeLoop() {
+        List<PendingWrite> batch = new ArrayList<>(MAX_BATCH);
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch, MAX_BATCH - 1);
+            try {
+                commit(batch);
+                for (PendingWrite write : batch) {
+                    write.done.complete(null);
+                }
+            } catch (Exception e) {
+                log.error("Journal commit of {} writes failed: {}", batch.size(), e.getMessage(), e);
+                for (PendingWrite write : batch) {
+                    write.done.completeExceptionally(e);
+                }
+            }
+            batch.clear();
+        }
+    }
+
+    private void commit(List<PendingWrite> batch) throws IOException {
+        boolean forceCheckpoint = false;
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(records);
+        for (PendingWrite write : batch) {
+            if (write.target == null) {
+                forceCheckpoint = true;
+            } else {
+                writeRecord(out, write.target, write.data);
+            }
+        }
+
+        if (records.size() > 0) {
+            ByteBuffer buffer = ByteBuffer.wrap(records.toByteArray());
+            channel.position(channel.size());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+
+            for (PendingWrite write : batch) {
+                if (write.target != null) {
+                    replace(write.target, write.data);
+                    unsynced.add(write.target);
+                }
+            }
+        }
+
+        if (forceCheckpoint || channel.size() > CHECKPOINT_BYTES) {
+            checkpoint();
+        }
+    }
+
+    private void checkpoint() throws IOException {
+        Set<Path> directories = new HashSet<>();
+        for (Path path : unsynced) {
+            try (FileChannel file = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                file.force(true);
+            } catch (NoSuchFileException e) {
+                log.debug("Journaled file {} no longer exists", path);
+            }
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                directories.add(parent);
+            }
+        }
+        // The renames live in the directory entries, which must be durable before the journal that could
+        // redo them is emptied
+        for (Path directory : directories) {
+            forceDirectory(directory);
+        }
+        unsynced.clear();
+        channel.truncate(0);
+        channel.force(true);
+    }
+
+    // Some platforms (Windows) cannot open a directory for fsync; there the rename is as durable as it gets
+    private static void forceDirectory(Path directory) {
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException | UnsupportedOperationException e) {
+            log.debug("Could not fsync directory {}: {}", directory, e.getMessage());
+        }
+    }
+
+    private static void writeRecord(DataOutputStream out, Path target, byte[] data) throws IOException {
+        byte[] path = target.toString().getBytes(StandardCharsets.UTF_8);
+        CRC32 crc = new CRC32();
+        crc.update(path);
+        crc.update(data);
+        out.writeInt(RECORD_MAGIC);
+        out.writeInt(path.length);
+        out.write(path);
+        out.writeInt(data.length);
+        out.write(data);
+        out.writeLong(crc.getValue());
+    }
+
+    // Re-applies every intact record in order. The first torn or corrupt record marks where a crash cut
+    // the journal short; nothing after it was ever acknowledged to a caller.
+    private int replay() throws IOException {
+        if (!Files.exists(journalFile) || Files.size(journalFile) == 0) {
+            return 0;
+        }
+        int applied = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(journalFile)))) {
+            while (true) {
+                int magic;
+                try {
+                    magic = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                int pathLength = in.readInt();
+                if (magic != RECORD_MAGIC || pathLength <= 0 || pathLength > MAX_PATH_BYTES) {
+                    log.warn("Journal {} has a corrupt record after {} writes, ignoring the rest", journalFile, applied);
+                    break;
+                }
+                byte[] path = in.readNBytes(pathLength);
+                int dataLength = in.readInt();
+                if (path.length != pathLength || dataLength < 0 || dataLength > MAX_DATA_BYTES) {
+                    log.warn("Journal {} ends in a torn record after {} writes", journalFile, applied);
+                    break;
+                }
+                byte[] data = in.readNBytes(dataLength);
+                if (data.length != dataLength) {
+                    log.warn("Journal {} ends in a torn record after {} writes", journalFile, applied);
+                    break;
+                }
+                long checksum = in.readLong();
+                CRC32 crc = new CRC32();
+                crc.update(path);
+                crc.update(data);
+                if (crc.getValue() != checksum) {
+                    log.warn("Journal {} has a record with a bad checksum after {} writes, ignoring the rest",
+                        journalFile, applied);
+                    break;
+                }
+                Path target = Paths.get(new String(path, StandardCharsets.UTF_8));
+                replace(target, data);
+                unsynced.add(target);
+                applied++;
+            }
+        } catch (EOFException e) {
+            log.warn("Journal {} ends in a torn record after {} writes", journalFile, applied);
+        }
+        return applied;
+    }
+
+    private static void replace(Path target, byte[] data) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        Files.write(temp, data);
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static final class PendingWrite {
+        final Path target;
+        final byte[] data;
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        PendingWrite(Path target, byte[] data) {
+            this.target = target;
+            this.data = data;
+        }
+    }
+}
@@ -1,79 +1,352 @@
 package io.github.minemon.world.service.impl;
 
 import io.github.minemon.utils.OpenSimplex2;
+import io.github.minemon.world.biome.model.Biome;
+import io.github.minemon.world.biome.model.BiomeTransitionResult;
 import io.github.minemon.world.biome.model.BiomeType;
+import io.github.minemon.world.biome.service.BiomeService;
 import io.github.minemon.world.config.WorldConfig;
-import io.github.minemon.world.biome.model.Biome;
+import io.github.minemon.world.model.ChunkTiles;
 import io.github.minemon.world.service.WorldGenerator;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Random;
 
+// Chunks are built in stages: climate (per-tile biome weights from the BiomeService) -> tiles -> decoration.
+// Every stage is a pure function of the seed and coordinates, so chunks can be generated on any thread in
+// any order. Climate is cached per chunk; decoration of a chunk reads its neighbours' climate from that
+// cache instead of generating their tiles. Seed, biomes, tile tables and caches form one immutable Generation
+// that setSeedAndBiomes replaces as a whole; each call reads it once, so a config reload never mixes old and
+// new settings inside one chunk.
 @Service
+@Slf4j
 public class WorldGeneratorImpl implements WorldGenerator {
-    private long seed;
-    private Map<BiomeType, Biome> biomes;
+    private static final int CLIMATE_CELL = 8;
+    private static final int CLIMATE_CACHE_SIZE = 1024;
+    private static final int SAMPLE_CACHE_SIZE = 4096;
+    private static final double BLEND_NOISE_SCALE = 0.15;
+    private static final BiomeType[] BIOME_TYPES = BiomeType.values();
+
     private final WorldConfig config;
+    private final BiomeService biomeService;
+    private volatile Generation generation = new Generation(0, null, new EnumMap<>(BiomeType.class));
 
     @Autowired
-    public WorldGeneratorImpl(WorldConfig config) {
+    public WorldGeneratorImpl(WorldConfig config, BiomeService biomeService) {
         this.config = config;
+        this.biomeService = biomeService;
     }
 
     @Override
     public void setSeedAndBiomes(long seed, Map<BiomeType, Biome> biomes) {
-        this.seed = seed;
-        this.biomes = biomes;
+        Map<BiomeType, TileTable> tables = new EnumMap<>(BiomeType.class);
+        if (biomes != null) {
+            biomes.forEach((type, biome) -> tables.put(type, TileTable.compile(biome)));
+        }
+
+        biomeService.init();
+        biomeService.initWithSeed(seed);
+        generation = new Generation(seed, biomes, tables);
     }
 
     @Override
     public Biome getBiomeForChunk(int chunkX, int chunkY) {
-        if (biomes == null || biomes.isEmpty()) {
+        Generation g = generation;
+        if (g.biomes == null || g.biomes.isEmpty()) {
             return null;
         }
+        return getClimate(g, chunkX, chunkY).dominant;
+    }
 
-        float NOISE_SCALE = 0.005f;
-        float n = OpenSimplex2.noise2(seed, chunkX * NOISE_SCALE, chunkY * NOISE_SCALE);
-        BiomeType selectedBiome = n > 0 ? BiomeType.PLAINS : BiomeType.DESERT;
-        return biomes.get(selectedBiome);
+    @Override
+    public Biome[] getTileBiomes(int chunkX, int chunkY) {
+        Generation g = generation;
+        if (g.biomes == null || g.biomes.isEmpty()) {
+            return null;
+        }
+        return getClimate(g, chunkX, chunkY).tileBiomes;
     }
 
     @Override
-    public int[][] generateChunk(int chunkX, int chunkY) {
-        
-        Biome biome = getBiomeForChunk(chunkX, chunkY);
+    public ChunkTiles generateChunk(int chunkX, int chunkY) {
         int chunkSize = config.getChunkSize();
+        ChunkTiles tiles = new ChunkTiles();
+        Generation g = generation;
+        if (g.biomes == null || g.biomes.isEmpty()) {
+            tiles.fill(1);
+            return tiles;
+        }
 
-        int[][] tiles = new int[chunkSize][chunkSize];
-        if (biome == null) {
-            
-            for (int x = 0; x < chunkSize; x++) {
-                for (int y = 0; y < chunkSize; y++) {
-                    tiles[x][y] = 1;
-                }
+        ChunkClimate climate = getClimate(g, chunkX, chunkY);
+        Map<BiomeType, TileTable> tables = g.tileTables;
+        long chunkSeed = g.seed ^ 0x5DEECE66DL;
+        for (int x = 0; x < chunkSize; x++) {
+            int worldX = chunkX * chunkSize + x;
+            for (int y = 0; y < chunkSize; y++) {
+                Biome biome = climate.tileBiomes[x * chunkSize + y];
+                TileTable table = biome != null ? tables.get(biome.getType()) : null;
+                tiles.set(x, y, table != null ? table.pick(tileHash(chunkSeed, worldX, chunkY * chunkSize + y)) : 1);
+            }
+        }
+        return tiles;
+    }
+
+    private ChunkClimate getClimate(Generation g, int chunkX, int chunkY) {
+        long key = ((long) chunkX << 32) | (chunkY & 0xFFFFFFFFL);
+        ChunkClimate climate = g.climateCache.get(key);
+        if (climate == null) {
+            climate = computeClimate(g, chunkX, chunkY);
+            g.climateCache.put(key, climate);
+        }
+        return climate;
+    }
+
+    // The biome service is sampled on a coarse lattice and its weights interpolated per tile; tiles where
+    // biomes overlap pick one through low-frequency noise, which turns chunk seams into ragged borders.
+    private ChunkClimate computeClimate(Generation g, int chunkX, int chunkY) {
+        int chunkSize = config.getChunkSize();
+        int cells = Math.max(1, chunkSize / CLIMATE_CELL);
+        int points = cells + 1;
+        int types = BIOME_TYPES.length;
+
+        float[] lattice = new float[points * points * types];
+        int[] pointType = new int[points * points];
+        for (int px = 0; px < points; px++) {
+            for (int py = 0; py < points; py++) {
+                float[] sample = getClimateSample(g, chunkX * cells + px, chunkY * cells + py);
+                System.arraycopy(sample, 0, lattice, (px * points + py) * types, types);
+                pointType[px * points + py] = singleType(sample);
             }
-            return tiles;
         }
 
-        Random chunkRandom = new Random(seed ^ (chunkX * 341_757L) ^ (chunkY * 132_721L));
-        double total = biome.getTileDistribution().values().stream().mapToDouble(Double::doubleValue).sum();
+        // Cells whose four corners agree on one biome need no per-tile blending
+        int[] cellType = new int[cells * cells];
+        for (int cx = 0; cx < cells; cx++) {
+            for (int cy = 0; cy < cells; cy++) {
+                int t = pointType[cx * points + cy];
+                boolean uniform = t >= 0
+                    && pointType[(cx + 1) * points + cy] == t
+                    && pointType[cx * points + cy + 1] == t
+                    && pointType[(cx + 1) * points + cy + 1] == t;
+                cellType[cx * cells + cy] = uniform ? t : -1;
+            }
+        }
 
+        Biome[] tileBiomes = new Biome[chunkSize * chunkSize];
+        int[] counts = new int[types];
+        float[] weights = new float[types];
         for (int x = 0; x < chunkSize; x++) {
+            float u = (x + 0.5f) / CLIMATE_CELL;
+            int cx = Math.min((int) u, cells - 1);
+            float fx = u - cx;
             for (int y = 0; y < chunkSize; y++) {
-                double roll = chunkRandom.nextDouble() * total;
-                double cumulative = 0;
-                for (Map.Entry<Integer, Double> entry : biome.getTileDistribution().entrySet()) {
-                    cumulative += entry.getValue();
-                    if (roll < cumulative) {
-                        tiles[x][y] = entry.getKey();
-                        break;
-                    }
+                float v = (y + 0.5f) / CLIMATE_CELL;
+                int cy = Math.min((int) v, cells - 1);
+                float fy = v - cy;
+
+                int chosen = cellType[cx * cells + cy];
+                if (chosen < 0) {
+                    chosen = blendTile(g.seed, lattice, weights, points, cx, cy, fx, fy,
+                        chunkX * chunkSize + x, chunkY * chunkSize + y);
+                }
+
+                Biome biome = chosen >= 0 ? g.biomes.get(BIOME_TYPES[chosen]) : null;
+                tileBiomes[x * chunkSize + y] = biome != null ? biome : fallbackBiome(g.biomes);
+                if (chosen >= 0) {
+                    counts[chosen]++;
                 }
             }
         }
-        return tiles;
+
+        int dominant = 0;
+        for (int t = 1; t < types; t++) {
+            if (counts[t] > counts[dominant]) {
+                dominant = t;
+            }
+        }
+        Biome dominantBiome = g.biomes.get(BIOME_TYPES[dominant]);
+        return new ChunkClimate(tileBiomes, dominantBiome != null ? dominantBiome : fallbackBiome(g.biomes));
+    }
+
+    private int blendTile(long seed, float[] lattice, float[] weights, int points, int cx, int cy, float fx, float fy,
+                          int worldX, int worldY) {
+        int types = BIOME_TYPES.length;
+        int best = -1;
+        int present = 0;
+        float total = 0;
+        for (int t = 0; t < types; t++) {
+            float w00 = lattice[(cx * points + cy) * types + t];
+            float w10 = lattice[((cx + 1) * points + cy) * types + t];
+            float w01 = lattice[(cx * points + cy + 1) * types + t];
+            float w11 = lattice[((cx + 1) * points + cy + 1) * types + t];
+            float w = (w00 * (1 - fx) + w10 * fx) * (1 - fy) + (w01 * (1 - fx) + w11 * fx) * fy;
+            weights[t] = w;
+            if (w > 0) {
+                present++;
+                total += w;
+                if (best < 0 || w > weights[best]) {
+                    best = t;
+                }
+            }
+        }
+        if (present < 2) {
+            return best;
+        }
+
+        float n = (OpenSimplex2.noise2(seed + 7, worldX * BLEND_NOISE_SCALE, worldY * BLEND_NOISE_SCALE) + 1) / 2;
+        float roll = n * total;
+        for (int t = 0; t < types; t++) {
+            if (weights[t] > 0) {
+                roll -= weights[t];
+                if (roll <= 0) {
+                    return t;
+                }
+            }
+        }
+        return best;
     }
 
+    private static int singleType(float[] weights) {
+        int type = -1;
+        for (int t = 0; t < weights.length; t++) {
+            if (weights[t] > 0) {
+                if (type >= 0) {
+                    return -1;
+                }
+                type = t;
+            }
+        }
+        return type;
+    }
+
+    // Lattice points sit on cell corners and are shared by up to four chunks, so they are cached separately.
+    private float[] getClimateSample(Generation g, int latticeX, int latticeY) {
+        long key = ((long) latticeX << 32) | (latticeY & 0xFFFFFFFFL);
+        float[] weights = g.sampleCache.get(key);
+        if (weights != null) {
+            return weights;
+        }
+
+        int tileSize = config.getTileSize();
+        BiomeTransitionResult result = biomeService.getBiomeAt(
+            latticeX * CLIMATE_CELL * (float) tileSize, latticeY * CLIMATE_CELL * (float) tileSize);
+        weights = new float[BIOME_TYPES.length];
+        Biome primary = result.getPrimaryBiome();
+        Biome secondary = result.getSecondaryBiome();
+        if (primary != null) {
+            if (secondary == null || secondary.getType() == primary.getType()) {
+                weights[primary.getType().ordinal()] = 1f;
+            } else {
+                float factor = Math.max(0f, Math.min(1f, result.getTransitionFactor()));
+                weights[primary.getType().ordinal()] = 0.5f + 0.5f * factor;
+                weights[secondary.getType().ordinal()] = 0.5f - 0.5f * factor;
+            }
+        }
+        g.sampleCache.put(key, weights);
+        return weights;
+    }
+
+    private static Biome fallbackBiome(Map<BiomeType, Biome> biomes) {
+        Biome plains = biomes.get(BiomeType.PLAINS);
+        return plains != null ? plains : biomes.values().iterator().next();
+    }
+
+    private static long tileHash(long seed, int x, int y) {
+        long h = seed ^ (x * 0xC2B2AE3D27D4EB4FL) ^ (y * 0x165667B19E3779F9L);
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+
+    private static final class Generation {
+        final long seed;
+        final Map<BiomeType, Biome> biomes;
+        final Map<BiomeType, TileTable> tileTables;
+        final StageCache<ChunkClimate> climateCache = new StageCache<>(CLIMATE_CACHE_SIZE);
+        final StageCache<float[]> sampleCache = new StageCache<>(SAMPLE_CACHE_SIZE);
+
+        Generation(long seed, Map<BiomeType, Biome> biomes, Map<BiomeType, TileTable> tileTables) {
+            this.seed = seed;
+            this.biomes = biomes;
+            this.tileTables = tileTables;
+        }
+    }
+
+    private static final class ChunkClimate {
+        final Biome[] tileBiomes;
+        final Biome dominant;
+
+        ChunkClimate(Biome[] tileBiomes, Biome dominant) {
+            this.tileBiomes = tileBiomes;
+            this.dominant = dominant;
+        }
+    }
+
+    // Tile distribution flattened into cumulative thresholds over the top 53 bits of a tile hash.
+    private static final class TileTable {
+        final int[] tileIds;
+        final long[] thresholds;
+
+        private TileTable(int[] tileIds, long[] thresholds) {
+            this.tileIds = tileIds;
+            this.thresholds = thresholds;
+        }
+
+        static TileTable compile(Biome biome) {
+            Map<Integer, Double> distribution = biome.getTileDistribution();
+            if (distribution == null || distribution.isEmpty()) {
+                return new TileTable(new int[]{1}, new long[]{Long.MAX_VALUE});
+            }
+            double total = distribution.values().stream().mapToDouble(Double::doubleValue).sum();
+            int[] ids = new int[distribution.size()];
+            long[] thresholds = new long[distribution.size()];
+            double cumulative = 0;
+            int i = 0;
+            for (Map.Entry<Integer, Double> entry : distribution.entrySet()) {
+                cumulative += entry.getValue();
+                ids[i] = entry.getKey();
+                thresholds[i] = (long) (cumulative / total * (1L << 53));
+                i++;
+            }
+            thresholds[i - 1] = Long.MAX_VALUE;
+            return new TileTable(ids, thresholds);
+        }
+
+        int pick(long hash) {
+            long roll = hash >>> 11;
+            for (int i = 0; i < thresholds.length; i++) {
+                if (roll < thresholds[i]) {
+                    return tileIds[i];
+                }
+            }
+            return tileIds[tileIds.length - 1];
+        }
+    }
+
+    // Small LRU shared by generator threads; stage outputs are pure, so a racing duplicate computation
+    // is harmless and the lock is only held for the map access.
+    private static final class StageCache<V> {
+        private final LinkedHashMap<Long, V> entries;
+
+        StageCache(int capacity) {
+            this.entries = new LinkedHashMap<>(capacity, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, V> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        synchronized V get(long key) {
+            return entries.get(key);
+        }
+
+        synchronized void put(long key, V value) {
+            entries.put(key, value);
+        }
+    }
 }
@@ -0,0 +1,296 @@
+package io.github.minemon.loadtest;
+
+import com.esotericsoftware.kryonet.Client;
+import com.esotericsoftware.kryonet.Connection;
+import com.esotericsoftware.kryonet.FrameworkMessage;
+import com.esotericsoftware.kryonet.Listener;
+import io.github.minemon.NetworkProtocol;
+import io.github.minemon.chat.model.ChatMessage;
+import io.github.minemon.multiplayer.model.WorldObjectUpdate;
+import io.github.minemon.player.model.PlayerDirection;
+import io.github.minemon.world.model.ObjectType;
+import io.github.minemon.world.model.WorldObject;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// One simulated player speaking the game protocol over its own Kryonet connection. Network callbacks
+// arrive on the client's update thread and tick() on the harness scheduler, so shared state is either
+// concurrent or guarded by the bot's monitor.
+@Slf4j
+public class BotClient {
+    private static final int CHUNK_SIZE = 16;
+    private static final int MOVE_REDUNDANCY = 3;
+    private static final int PICKUP_RANGE = 2;
+    private static final PlayerDirection[] SQUARE = {
+        PlayerDirection.RIGHT, PlayerDirection.UP, PlayerDirection.LEFT, PlayerDirection.DOWN
+    };
+
+    @Getter
+    private final String username;
+    private final LoadTestConfig config;
+    private final LoadTestStats stats;
+    private final Random random;
+    private final Client client;
+    @Getter
+    private final LoadTestStats.Samples rttMillis = new LoadTestStats.Samples();
+
+    private final Set<Long> loadedChunks = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Long> chunkRequestedAt = new ConcurrentHashMap<>();
+    private final Map<String, ItemSpot> items = new ConcurrentHashMap<>();
+    private final Deque<NetworkProtocol.PlayerMoveRequest> recentMoves = new ArrayDeque<>();
+
+    @Getter
+    private volatile boolean loggedIn;
+    private volatile boolean stopping;
+    private long connectStartNanos;
+    private int tileX;
+    private int tileY;
+    private PlayerDirection direction = PlayerDirection.DOWN;
+    private int pathStep;
+    private int moveSequence;
+    private int chatCount;
+    private long nextChatAt;
+    private long nextPingAt;
+
+    public BotClient(String username, LoadTestConfig config, LoadTestStats stats, long seed) {
+        this.username = username;
+        this.config = config;
+        this.stats = stats;
+        this.random = new Random(seed);
+        this.client = new Client(8192, 2048, new CountingSerialization(stats));
+        NetworkProtocol.registerClasses(client.getKryo());
+        client.addListener(new Listener() {
+            @Override
+            public void received(Connection connection, Object object) {
+                handleMessage(connection, object);
+            }
+
+            @Override
+            public void disconnected(Connection connection) {
+                loggedIn = false;
+                if (!stopping) {
+                    stats.disconnects.increment();
+                    log.warn("Bot {} was disconnected by the server", username);
+                }
+            }
+        });
+    }
+
+    public void connect() throws IOException {
+        connectStartNanos = System.nanoTime();
+        client.start();
+        client.connect(5000, config.getHost(), config.getTcpPort(), config.getUdpPort());
+
+        // Creating an account that already exists fails harmlessly, so reruns reuse the same bots
+        NetworkProtocol.CreateUserRequest create = new NetworkProtocol.CreateUserRequest();
+        create.setUsername(username);
+        create.setPassword(password());
+        client.sendTCP(create);
+    }
+
+    public void stop() {
+        stopping = true;
+        client.stop();
+    }
+
+    public int getOutstandingChunks() {
+        return chunkRequestedAt.size();
+    }
+
+    public synchronized void tick(long nowMillis) {
+        if (!loggedIn || !client.isConnected()) {
+            return;
+        }
+        step();
+        requestChunks();
+        tryPickup();
+        if (nowMillis >= nextChatAt) {
+            if (nextChatAt != 0) {
+                sendChat(nowMillis);
+            }
+            nextChatAt = nowMillis + config.getChatIntervalMillis() / 2
+                + (long) (random.nextDouble() * config.getChatIntervalMillis());
+        }
+        if (nowMillis >= nextPingAt) {
+            client.updateReturnTripTime();
+            nextPingAt = nowMillis + config.getPingIntervalMillis();
+        }
+    }
+
+    private void step() {
+        if (config.getPathMode() == LoadTestConfig.PathMode.SQUARE) {
+            direction = SQUARE[(pathStep++ / config.getSquareSide()) % SQUARE.length];
+        } else if (random.nextInt(5) == 0) {
+            direction = PlayerDirection.values()[random.nextInt(PlayerDirection.values().length)];
+        }
+        switch (direction) {
+            case UP -> tileY++;
+            case DOWN -> tileY--;
+            case LEFT -> tileX--;
+            case RIGHT -> tileX++;
+        }
+
+        NetworkProtocol.PlayerMoveRequest move = new NetworkProtocol.PlayerMoveRequest();
+        move.setSequence(++moveSequence);
+        move.setX(tileX);
+        move.setY(tileY);
+        move.setMoving(true);
+        move.setDirection(direction.ordinal());
+        if (recentMoves.size() == MOVE_REDUNDANCY) {
+            recentMoves.removeFirst();
+        }
+        recentMoves.addLast(move);
+
+        NetworkProtocol.PlayerMoveBatch batch = new NetworkProtocol.PlayerMoveBatch();
+        batch.setMoves(recentMoves.toArray(new NetworkProtocol.PlayerMoveRequest[0]));
+        if (client.getRemoteAddressUDP() != null) {
+            client.sendUDP(batch);
+        } else {
+            client.sendTCP(batch);
+        }
+        stats.movesSent.increment();
+    }
+
+    private void requestChunks() {
+        int centerX = Math.floorDiv(tileX, CHUNK_SIZE);
+        int centerY = Math.floorDiv(tileY, CHUNK_SIZE);
+        int radius = config.getChunkRadius();
+        for (int cx = centerX - radius; cx <= centerX + radius; cx++) {
+            for (int cy = centerY - radius; cy <= centerY + radius; cy++) {
+                long key = chunkKey(cx, cy);
+                if (loadedChunks.contains(key) || chunkRequestedAt.containsKey(key)) {
+                    continue;
+                }
+                NetworkProtocol.ChunkRequest request = new NetworkProtocol.ChunkRequest();
+                request.setChunkX(cx);
+                request.setChunkY(cy);
+                request.setTimestamp(System.currentTimeMillis());
+                chunkRequestedAt.put(key, System.nanoTime());
+                client.sendTCP(request);
+                stats.chunksRequested.increment();
+            }
+        }
+    }
+
+    private void tryPickup() {
+        for (Map.Entry<String, ItemSpot> entry : items.entrySet()) {
+            ItemSpot spot = entry.getValue();
+            if (Math.abs(spot.tileX - tileX) <= PICKUP_RANGE && Math.abs(spot.tileY - tileY) <= PICKUP_RANGE) {
+                items.remove(entry.getKey());
+                WorldObjectUpdate pickup = new WorldObjectUpdate();
+                pickup.setObjectId(entry.getKey());
+                pickup.setRemoved(true);
+                client.sendTCP(pickup);
+                stats.pickupsAttempted.increment();
+                return;
+            }
+        }
+    }
+
+    private void sendChat(long nowMillis) {
+        ChatMessage message = new ChatMessage(username, "load test message " + (++chatCount), nowMillis,
+            ChatMessage.Type.NORMAL);
+        client.sendTCP(message);
+        stats.chatsSent.increment();
+    }
+
+    private void handleMessage(Connection connection, Object object) {
+        if (object instanceof FrameworkMessage.Ping ping) {
+            if (ping.isReply) {
+                int rtt = connection.getReturnTripTime();
+                rttMillis.add(rtt);
+                stats.rttMillis.add(rtt);
+            }
+        } else if (object instanceof NetworkProtocol.CreateUserResponse) {
+            NetworkProtocol.LoginRequest login = new NetworkProtocol.LoginRequest();
+            login.setUsername(username);
+            login.setPassword(password());
+            login.setTimestamp(System.currentTimeMillis());
+            client.sendTCP(login);
+        } else if (object instanceof NetworkProtocol.LoginResponse response) {
+            handleLogin(response);
+        } else if (object instanceof NetworkProtocol.ChunkData chunk) {
+            handleChunk(chunk);
+        } else if (object instanceof NetworkProtocol.WorldObjectsUpdate update && update.getObjects() != null) {
+            for (WorldObjectUpdate objectUpdate : update.getObjects()) {
+                if (objectUpdate.isRemoved()) {
+                    items.remove(objectUpdate.getObjectId());
+                } else if (ObjectType.POKEBALL.name().equals(objectUpdate.getType())) {
+                    items.put(objectUpdate.getObjectId(), new ItemSpot(objectUpdate.getTileX(), objectUpdate.getTileY()));
+                }
+            }
+        } else if (object instanceof NetworkProtocol.PlayerStateSnapshot snapshot) {
+            synchronized (this) {
+                recentMoves.removeIf(move -> move.getSequence() <= snapshot.getAckSequence());
+            }
+        } else if (object instanceof NetworkProtocol.PlayerPositionCorrection correction) {
+            synchronized (this) {
+                tileX = Math.round(correction.getX());
+                tileY = Math.round(correction.getY());
+                recentMoves.clear();
+            }
+            stats.corrections.increment();
+        } else if (object instanceof NetworkProtocol.ChatBatch batch && batch.getMessages() != null) {
+            stats.chatsReceived.add(batch.getMessages().size());
+        } else if (object instanceof ChatMessage) {
+            stats.chatsReceived.increment();
+        } else if (object instanceof NetworkProtocol.InventorySnapshot
+            || object instanceof NetworkProtocol.InventoryDelta) {
+            stats.inventoryUpdates.increment();
+        } else if (object instanceof NetworkProtocol.ServerShutdownNotice notice) {
+            log.warn("Bot {} received shutdown notice: {}", username, notice.getMessage());
+        }
+    }
+
+    private void handleLogin(NetworkProtocol.LoginResponse response) {
+        if (!response.isSuccess()) {
+            stats.loginsFailed.increment();
+            log.warn("Bot {} failed to log in: {}", username, response.getMessage());
+            return;
+        }
+        synchronized (this) {
+            tileX = response.getX();
+            tileY = response.getY();
+        }
+        stats.loginMillis.add((System.nanoTime() - connectStartNanos) / 1_000_000);
+        stats.loginsSucceeded.increment();
+        loggedIn = true;
+    }
+
+    private void handleChunk(NetworkProtocol.ChunkData chunk) {
+        long key = chunkKey(chunk.getChunkX(), chunk.getChunkY());
+        // Chunks the server pushes on login were never requested and carry no latency
+        Long requestedAt = chunkRequestedAt.remove(key);
+        if (requestedAt != null) {
+            stats.chunkMillis.add((System.nanoTime() - requestedAt) / 1_000_000);
+        }
+        loadedChunks.add(key);
+        stats.chunksReceived.increment();
+        if (chunk.getObjects() != null) {
+            for (WorldObject obj : chunk.getObjects()) {
+                if (obj.getType() == ObjectType.POKEBALL) {
+                    items.put(obj.getId(), new ItemSpot(obj.getTileX(), obj.getTileY()));
+                }
+            }
+        }
+    }
+
+    private String password() {
+        return "loadtest-" + username;
+    }
+
+    private static long chunkKey(int chunkX, int chunkY) {
+        return ((long) chunkX << 32) | (chunkY & 0xFFFFFFFFL);
+    }
+
+    private record ItemSpot(int tileX, int tileY) {
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.minemon.loadtest;
+
+import com.esotericsoftware.kryonet.Connection;
+import com.esotericsoftware.kryonet.KryoSerialization;
+
+import java.nio.ByteBuffer;
+
+// Client-side counterpart of the server's MeteredSerialization: wire bytes of every TCP and UDP message
+public class CountingSerialization extends KryoSerialization {
+    private final LoadTestStats stats;
+
+    public CountingSerialization(LoadTestStats stats) {
+        this.stats = stats;
+    }
+
+    @Override
+    public synchronized void write(Connection connection, ByteBuffer buffer, Object object) {
+        int start = buffer.position();
+        super.write(connection, buffer, object);
+        stats.bytesOut.add(buffer.position() - start);
+        stats.messagesOut.increment();
+    }
+
+    @Override
+    public synchronized Object read(Connection connection, ByteBuffer buffer) {
+        int start = buffer.position();
+        Object object = super.read(connection, buffer);
+        stats.bytesIn.add(buffer.position() - start);
+        stats.messagesIn.increment();
+        return object;
+    }
+}
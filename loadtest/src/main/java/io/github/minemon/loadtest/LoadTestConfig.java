@@ -0,0 +1,61 @@
+package io.github.minemon.loadtest;
+
+import lombok.Data;
+
+@Data
+public class LoadTestConfig {
+    public enum PathMode { RANDOM, SQUARE }
+
+    private int bots = 20;
+    private int durationSeconds = 60;
+    private int rampUpSeconds = 10;
+    private String host = "127.0.0.1";
+    private int tcpPort = 54555;
+    private int udpPort = 54777;
+    private String metricsUrl = "http://127.0.0.1:9464/metrics";
+    // Starts this server jar on the given ports for the run and stops it afterwards
+    private String serverJar;
+    private String usernamePrefix = "bot";
+    private PathMode pathMode = PathMode.RANDOM;
+    private int squareSide = 6;
+    // Slightly slower than a walking step so the server's speed check never rejects a bot
+    private long stepMillis = 330;
+    private int chunkRadius = 2;
+    private long chatIntervalMillis = 15_000;
+    private long pingIntervalMillis = 1_000;
+    private long seed = 42;
+
+    public static LoadTestConfig parse(String[] args) {
+        LoadTestConfig config = new LoadTestConfig();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (name) {
+                case "bots" -> config.bots = Integer.parseInt(value);
+                case "duration" -> config.durationSeconds = Integer.parseInt(value);
+                case "ramp-up" -> config.rampUpSeconds = Integer.parseInt(value);
+                case "host" -> config.host = value;
+                case "tcp" -> config.tcpPort = Integer.parseInt(value);
+                case "udp" -> config.udpPort = Integer.parseInt(value);
+                case "metrics" -> config.metricsUrl = value.isEmpty() ? null : value;
+                case "server-jar" -> config.serverJar = value;
+                case "prefix" -> config.usernamePrefix = value;
+                case "path" -> config.pathMode = PathMode.valueOf(value.toUpperCase());
+                case "square" -> config.squareSide = Integer.parseInt(value);
+                case "step-ms" -> config.stepMillis = Long.parseLong(value);
+                case "chunk-radius" -> config.chunkRadius = Integer.parseInt(value);
+                case "chat-ms" -> config.chatIntervalMillis = Long.parseLong(value);
+                case "ping-ms" -> config.pingIntervalMillis = Long.parseLong(value);
+                case "seed" -> config.seed = Long.parseLong(value);
+                default -> throw new IllegalArgumentException("Unknown option --" + name);
+            }
+        }
+        if (config.bots <= 0 || config.durationSeconds <= 0) {
+            throw new IllegalArgumentException("--bots and --duration must be positive");
+        }
+        return config;
+    }
+}
@@ -0,0 +1,183 @@
+package io.github.minemon.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Runs N headless bots against a server on this machine and reports what they and the server saw:
+// server tick time (from the metrics endpoint), per-client round trips, chunk latency and bandwidth.
+@Slf4j
+public class LoadTestLauncher {
+    private static final long SERVER_START_TIMEOUT_MILLIS = 120_000;
+    private static final long PROGRESS_INTERVAL_MILLIS = 10_000;
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        Process server = config.getServerJar() != null ? startServer(config) : null;
+        int exitCode;
+        try {
+            exitCode = run(config);
+        } finally {
+            if (server != null) {
+                server.destroy();
+                if (!server.waitFor(15, TimeUnit.SECONDS)) {
+                    server.destroyForcibly();
+                }
+            }
+        }
+        System.exit(exitCode);
+    }
+
+    private static int run(LoadTestConfig config) throws InterruptedException {
+        LoadTestStats stats = new LoadTestStats();
+        ServerMetricsScraper scraper = new ServerMetricsScraper(config.getMetricsUrl());
+        ServerMetricsScraper.TickHistogram ticksBefore = scraper.scrape();
+
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(
+            Math.max(2, Runtime.getRuntime().availableProcessors() / 2), r -> {
+                Thread t = new Thread(r, "loadtest-bots");
+                t.setDaemon(true);
+                return t;
+            });
+        List<BotClient> bots = new ArrayList<>(config.getBots());
+        long start = System.currentTimeMillis();
+        long rampGap = config.getRampUpSeconds() * 1000L / config.getBots();
+
+        log.info("Starting {} bots against {}:{} over {} s", config.getBots(), config.getHost(),
+            config.getTcpPort(), config.getRampUpSeconds());
+        for (int i = 0; i < config.getBots(); i++) {
+            BotClient bot = new BotClient(config.getUsernamePrefix() + i, config, stats, config.getSeed() + i);
+            try {
+                bot.connect();
+                bots.add(bot);
+                scheduler.scheduleAtFixedRate(() -> {
+                    try {
+                        bot.tick(System.currentTimeMillis());
+                    } catch (Exception e) {
+                        log.warn("Bot {} tick failed: {}", bot.getUsername(), e.getMessage());
+                    }
+                }, i % config.getStepMillis(), config.getStepMillis(), TimeUnit.MILLISECONDS);
+            } catch (IOException e) {
+                stats.loginsFailed.increment();
+                log.warn("Bot {} could not connect: {}", bot.getUsername(), e.getMessage());
+            }
+            Thread.sleep(rampGap);
+        }
+
+        long end = System.currentTimeMillis() + config.getDurationSeconds() * 1000L;
+        while (System.currentTimeMillis() < end) {
+            Thread.sleep(Math.min(PROGRESS_INTERVAL_MILLIS, Math.max(1, end - System.currentTimeMillis())));
+            long online = bots.stream().filter(BotClient::isLoggedIn).count();
+            long[] rtt = stats.rttMillis.sorted();
+            log.info("{} bots online, {} moves, {}/{} chunks, rtt p50 {} ms",
+                online, stats.movesSent.sum(), stats.chunksReceived.sum(), stats.chunksRequested.sum(),
+                LoadTestStats.Samples.percentile(rtt, 0.5));
+        }
+
+        ServerMetricsScraper.TickHistogram ticksAfter = scraper.scrape();
+        double seconds = (System.currentTimeMillis() - start) / 1000.0;
+        scheduler.shutdownNow();
+        int outstandingChunks = bots.stream().mapToInt(BotClient::getOutstandingChunks).sum();
+        report(config, stats, bots, ticksBefore, ticksAfter, seconds, outstandingChunks);
+        bots.forEach(BotClient::stop);
+
+        return stats.loginsSucceeded.sum() == config.getBots() && stats.disconnects.sum() == 0 ? 0 : 1;
+    }
+
+    private static void report(LoadTestConfig config, LoadTestStats stats, List<BotClient> bots,
+                               ServerMetricsScraper.TickHistogram ticksBefore,
+                               ServerMetricsScraper.TickHistogram ticksAfter,
+                               double seconds, int outstandingChunks) {
+        log.info("== Load test: {} bots, {} path, {} s", config.getBots(),
+            config.getPathMode().name().toLowerCase(Locale.ROOT), format(seconds));
+        log.info("Logins        {} ok, {} failed, {} disconnected; {}", stats.loginsSucceeded.sum(),
+            stats.loginsFailed.sum(), stats.disconnects.sum(), percentiles(stats.loginMillis));
+
+        if (ticksAfter != null) {
+            ServerMetricsScraper.TickHistogram ticks = ticksAfter.since(ticksBefore);
+            log.info("Server tick   {} ticks, mean {}, p50 {}, p99 {}, {} players online at the end",
+                ticks.count(), ticks.meanMillis(), ticks.quantileMillis(0.5), ticks.quantileMillis(0.99),
+                ticksAfter.playersOnline());
+        } else {
+            log.info("Server tick   not available (metrics endpoint unreachable or disabled)");
+        }
+
+        log.info("RTT           {}", percentiles(stats.rttMillis));
+        bots.stream()
+            .filter(bot -> bot.getRttMillis().count() > 0)
+            .sorted(Comparator.comparingLong(
+                (BotClient bot) -> LoadTestStats.Samples.percentile(bot.getRttMillis().sorted(), 0.95)).reversed())
+            .limit(5)
+            .forEach(bot -> log.info("  slowest     {}: {}", bot.getUsername(), percentiles(bot.getRttMillis())));
+
+        log.info("Chunks        {} requested, {} received, {} outstanding; {}", stats.chunksRequested.sum(),
+            stats.chunksReceived.sum(), outstandingChunks, percentiles(stats.chunkMillis));
+
+        double online = Math.max(1, stats.loginsSucceeded.sum());
+        log.info("Bandwidth     in {} KB/s ({} KB/s per bot, {} msg/s), out {} KB/s ({} KB/s per bot, {} msg/s)",
+            format(stats.bytesIn.sum() / 1024.0 / seconds), format(stats.bytesIn.sum() / 1024.0 / seconds / online),
+            format(stats.messagesIn.sum() / seconds),
+            format(stats.bytesOut.sum() / 1024.0 / seconds), format(stats.bytesOut.sum() / 1024.0 / seconds / online),
+            format(stats.messagesOut.sum() / seconds));
+        log.info("Activity      {} moves, {} corrections, {} chats sent, {} chat lines received, "
+                + "{} pickups attempted, {} inventory updates",
+            stats.movesSent.sum(), stats.corrections.sum(), stats.chatsSent.sum(), stats.chatsReceived.sum(),
+            stats.pickupsAttempted.sum(), stats.inventoryUpdates.sum());
+    }
+
+    private static String percentiles(LoadTestStats.Samples samples) {
+        long[] sorted = samples.sorted();
+        if (sorted.length == 0) {
+            return "no samples";
+        }
+        return String.format(Locale.ROOT, "p50 %d ms, p95 %d ms, p99 %d ms, max %d ms over %d samples",
+            LoadTestStats.Samples.percentile(sorted, 0.5), LoadTestStats.Samples.percentile(sorted, 0.95),
+            LoadTestStats.Samples.percentile(sorted, 0.99), sorted[sorted.length - 1], sorted.length);
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    // The server writes its deployment into the working directory, so each run gets a fresh one
+    private static Process startServer(LoadTestConfig config) throws IOException, InterruptedException {
+        Path jar = Paths.get(config.getServerJar()).toAbsolutePath();
+        Path workDir = Files.createTempDirectory("minemon-loadtest");
+        Path logFile = workDir.resolve("server.log");
+        Process process = new ProcessBuilder("java", "-jar", jar.toString(),
+            String.valueOf(config.getTcpPort()), String.valueOf(config.getUdpPort()))
+            .directory(workDir.toFile())
+            .redirectErrorStream(true)
+            .redirectOutput(logFile.toFile())
+            .start();
+        log.info("Started server {} in {}, log at {}", jar.getFileName(), workDir, logFile);
+
+        long deadline = System.currentTimeMillis() + SERVER_START_TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            if (!process.isAlive()) {
+                throw new IOException("Server exited with code " + process.exitValue() + ", see " + logFile);
+            }
+            try (Socket socket = new Socket()) {
+                socket.connect(new InetSocketAddress(config.getHost(), config.getTcpPort()), 500);
+                return process;
+            } catch (IOException e) {
+                Thread.sleep(500);
+            }
+        }
+        process.destroyForcibly();
+        throw new IOException("Server did not open port " + config.getTcpPort() + " within "
+            + SERVER_START_TIMEOUT_MILLIS / 1000 + " s");
+    }
+}
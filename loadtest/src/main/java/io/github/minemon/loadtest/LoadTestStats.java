@@ -0,0 +1,59 @@
+package io.github.minemon.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+// Counters shared by all bots. Latencies are kept as raw samples; a run produces at most a few hundred
+// thousand of them, and exact percentiles are worth more here than a bounded histogram.
+public class LoadTestStats {
+    final LongAdder loginsSucceeded = new LongAdder();
+    final LongAdder loginsFailed = new LongAdder();
+    final LongAdder disconnects = new LongAdder();
+    final LongAdder movesSent = new LongAdder();
+    final LongAdder corrections = new LongAdder();
+    final LongAdder chunksRequested = new LongAdder();
+    final LongAdder chunksReceived = new LongAdder();
+    final LongAdder chatsSent = new LongAdder();
+    final LongAdder chatsReceived = new LongAdder();
+    final LongAdder pickupsAttempted = new LongAdder();
+    final LongAdder inventoryUpdates = new LongAdder();
+    final LongAdder bytesIn = new LongAdder();
+    final LongAdder bytesOut = new LongAdder();
+    final LongAdder messagesIn = new LongAdder();
+    final LongAdder messagesOut = new LongAdder();
+
+    final Samples loginMillis = new Samples();
+    final Samples rttMillis = new Samples();
+    final Samples chunkMillis = new Samples();
+
+    public static class Samples {
+        private long[] values = new long[1024];
+        private int size;
+
+        public synchronized void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        public synchronized int count() {
+            return size;
+        }
+
+        public synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(values, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+
+        // Nearest-rank percentile over a sorted copy, -1 when there are no samples
+        public static long percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return -1;
+            }
+            int rank = (int) Math.ceil(p * sorted.length);
+            return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package io.github.minemon.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// Reads the server's tick histogram from its Prometheus endpoint. Two scrapes bracket the run and their
+// difference is the tick time the bots caused, whatever ran on the server before.
+@Slf4j
+public class ServerMetricsScraper {
+    private static final String TICK_BUCKET = "minemon_tick_duration_seconds_bucket{le=\"";
+    private static final String TICK_SUM = "minemon_tick_duration_seconds_sum ";
+    private static final String PLAYERS_ONLINE = "minemon_players_online ";
+
+    private final String url;
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+
+    public ServerMetricsScraper(String url) {
+        this.url = url;
+    }
+
+    public TickHistogram scrape() {
+        if (url == null) {
+            return null;
+        }
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(5)).GET().build();
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                log.warn("Metrics endpoint {} answered {}", url, response.statusCode());
+                return null;
+            }
+            return parse(response.body());
+        } catch (IOException e) {
+            log.warn("Could not scrape server metrics from {}: {}", url, e.getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    static TickHistogram parse(String body) {
+        List<Double> bounds = new ArrayList<>();
+        List<Long> cumulative = new ArrayList<>();
+        double sumSeconds = 0;
+        double playersOnline = -1;
+        for (String line : body.split("\n")) {
+            if (line.startsWith(TICK_BUCKET)) {
+                int end = line.indexOf('"', TICK_BUCKET.length());
+                String bound = line.substring(TICK_BUCKET.length(), end);
+                bounds.add("+Inf".equals(bound) ? Double.POSITIVE_INFINITY : Double.parseDouble(bound));
+                cumulative.add((long) Double.parseDouble(line.substring(line.lastIndexOf(' ') + 1)));
+            } else if (line.startsWith(TICK_SUM)) {
+                sumSeconds = Double.parseDouble(line.substring(TICK_SUM.length()));
+            } else if (line.startsWith(PLAYERS_ONLINE)) {
+                playersOnline = Double.parseDouble(line.substring(PLAYERS_ONLINE.length()));
+            }
+        }
+        double[] boundArray = new double[bounds.size()];
+        long[] countArray = new long[cumulative.size()];
+        for (int i = 0; i < boundArray.length; i++) {
+            boundArray[i] = bounds.get(i);
+            countArray[i] = cumulative.get(i);
+        }
+        return new TickHistogram(boundArray, countArray, sumSeconds, (int) playersOnline);
+    }
+
+    public record TickHistogram(double[] bounds, long[] cumulative, double sumSeconds, int playersOnline) {
+        public long count() {
+            return cumulative.length == 0 ? 0 : cumulative[cumulative.length - 1];
+        }
+
+        public TickHistogram since(TickHistogram earlier) {
+            if (earlier == null || earlier.cumulative.length != cumulative.length) {
+                return this;
+            }
+            long[] delta = new long[cumulative.length];
+            for (int i = 0; i < delta.length; i++) {
+                delta[i] = cumulative[i] - earlier.cumulative[i];
+            }
+            return new TickHistogram(bounds, delta, sumSeconds - earlier.sumSeconds, playersOnline);
+        }
+
+        // Upper bound of the bucket holding the quantile, which is as precise as the histogram gets
+        public String quantileMillis(double q) {
+            long total = count();
+            if (total == 0) {
+                return "n/a";
+            }
+            long rank = (long) Math.ceil(q * total);
+            for (int i = 0; i < cumulative.length; i++) {
+                if (cumulative[i] >= rank) {
+                    if (Double.isInfinite(bounds[i])) {
+                        return i == 0 ? "n/a" : "> " + format(bounds[i - 1] * 1000);
+                    }
+                    return "<= " + format(bounds[i] * 1000);
+                }
+            }
+            return "n/a";
+        }
+
+        public String meanMillis() {
+            long total = count();
+            return total == 0 ? "n/a" : format(sumSeconds * 1000 / total);
+        }
+
+        private static String format(double millis) {
+            return String.format(Locale.ROOT, "%.2f ms", millis);
+        }
+    }
+}
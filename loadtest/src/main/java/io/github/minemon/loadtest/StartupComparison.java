@@ -0,0 +1,174 @@
+package io.github.minemon.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Starts the dedicated server several times as a jar and/or as a native image and reports how long each took
+// to accept connections and how much memory it held: resident set when the port opened, after settling for a
+// while, and the peak. Every run gets a fresh working directory, so each one creates and saves a new world.
+//   --jar=<server jar> --native=<server binary> --runs=5 --settle=10 --tcp=54555 --udp=54777
+//   --java=java --jvm-opts="-Xmx512m -XX:+UseSerialGC"
+@Slf4j
+public class StartupComparison {
+    private static final long START_TIMEOUT_MILLIS = 120_000;
+    private static final long POLL_MILLIS = 20;
+
+    private record Run(long readyMillis, long readyRssKb, long settledRssKb, long peakRssKb) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        int settleSeconds = Integer.parseInt(options.getOrDefault("settle", "10"));
+        int tcpPort = Integer.parseInt(options.getOrDefault("tcp", "54555"));
+        int udpPort = Integer.parseInt(options.getOrDefault("udp", "54777"));
+
+        Map<String, List<String>> variants = new LinkedHashMap<>();
+        if (options.containsKey("jar")) {
+            List<String> command = new ArrayList<>();
+            command.add(options.getOrDefault("java", "java"));
+            String jvmOpts = options.getOrDefault("jvm-opts", "").trim();
+            if (!jvmOpts.isEmpty()) {
+                command.addAll(Arrays.asList(jvmOpts.split("\\s+")));
+            }
+            command.add("-jar");
+            command.add(Paths.get(options.get("jar")).toAbsolutePath().toString());
+            variants.put("jvm", command);
+        }
+        if (options.containsKey("native")) {
+            variants.put("native", new ArrayList<>(List.of(
+                Paths.get(options.get("native")).toAbsolutePath().toString())));
+        }
+        if (variants.isEmpty() || runs <= 0) {
+            throw new IllegalArgumentException("Give --jar and/or --native, and a positive --runs");
+        }
+
+        Map<String, List<Run>> results = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> variant : variants.entrySet()) {
+            List<String> command = new ArrayList<>(variant.getValue());
+            command.add(String.valueOf(tcpPort));
+            command.add(String.valueOf(udpPort));
+            List<Run> variantRuns = new ArrayList<>();
+            for (int i = 1; i <= runs; i++) {
+                Run run = measure(command, tcpPort, settleSeconds);
+                log.info("{} run {}/{}: ready after {} ms, RSS {} MB at ready, {} MB settled, {} MB peak",
+                    variant.getKey(), i, runs, run.readyMillis(), mb(run.readyRssKb()), mb(run.settledRssKb()),
+                    mb(run.peakRssKb()));
+                variantRuns.add(run);
+            }
+            results.put(variant.getKey(), variantRuns);
+        }
+
+        log.info("== Startup comparison: {} runs each, {} s settle", runs, settleSeconds);
+        for (Map.Entry<String, List<Run>> result : results.entrySet()) {
+            List<Run> variantRuns = result.getValue();
+            log.info("{}  ready {} ms | RSS at ready {} MB | settled {} MB | peak {} MB", result.getKey(),
+                summary(variantRuns.stream().mapToLong(Run::readyMillis).toArray(), 1),
+                summary(variantRuns.stream().mapToLong(Run::readyRssKb).toArray(), 1024),
+                summary(variantRuns.stream().mapToLong(Run::settledRssKb).toArray(), 1024),
+                summary(variantRuns.stream().mapToLong(Run::peakRssKb).toArray(), 1024));
+        }
+    }
+
+    private static Run measure(List<String> command, int tcpPort, int settleSeconds)
+        throws IOException, InterruptedException {
+        Path workDir = Files.createTempDirectory("minemon-startup");
+        Path logFile = workDir.resolve("server.log");
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+            .directory(workDir.toFile())
+            .redirectErrorStream(true)
+            .redirectOutput(logFile.toFile())
+            .start();
+        try {
+            long deadline = System.currentTimeMillis() + START_TIMEOUT_MILLIS;
+            while (true) {
+                if (!process.isAlive()) {
+                    throw new IOException("Server exited with code " + process.exitValue() + ", see " + logFile);
+                }
+                if (System.currentTimeMillis() > deadline) {
+                    throw new IOException("Server did not open port " + tcpPort + " within "
+                        + START_TIMEOUT_MILLIS / 1000 + " s, see " + logFile);
+                }
+                try (Socket socket = new Socket()) {
+                    socket.connect(new InetSocketAddress("127.0.0.1", tcpPort), (int) POLL_MILLIS);
+                    break;
+                } catch (IOException e) {
+                    Thread.sleep(POLL_MILLIS);
+                }
+            }
+            long readyMillis = (System.nanoTime() - start) / 1_000_000;
+            long readyRss = rssKb(process.pid(), "VmRSS");
+            Thread.sleep(settleSeconds * 1000L);
+            long settledRss = rssKb(process.pid(), "VmRSS");
+            long peakRss = Math.max(settledRss, rssKb(process.pid(), "VmHWM"));
+            return new Run(readyMillis, readyRss, settledRss, peakRss);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                process.waitFor();
+            }
+        }
+    }
+
+    // /proc on Linux; elsewhere ps, which only knows the current resident set
+    private static long rssKb(long pid, String field) {
+        Path status = Paths.get("/proc", String.valueOf(pid), "status");
+        if (Files.isReadable(status)) {
+            try {
+                for (String line : Files.readAllLines(status, StandardCharsets.UTF_8)) {
+                    if (line.startsWith(field + ":")) {
+                        return Long.parseLong(line.replaceAll("\\D+", ""));
+                    }
+                }
+            } catch (IOException | NumberFormatException e) {
+                log.debug("Could not read {}: {}", status, e.getMessage());
+            }
+        }
+        try {
+            Process ps = new ProcessBuilder("ps", "-o", "rss=", "-p", String.valueOf(pid)).start();
+            String out = new String(ps.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            ps.waitFor();
+            return out.isEmpty() ? 0 : Long.parseLong(out);
+        } catch (IOException | NumberFormatException e) {
+            log.debug("ps failed for {}: {}", pid, e.getMessage());
+            return 0;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+    }
+
+    private static String summary(long[] values, long divisor) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return String.format(Locale.ROOT, "min %.1f / median %.1f / max %.1f", sorted[0] / (double) divisor,
+            sorted[sorted.length / 2] / (double) divisor, sorted[sorted.length - 1] / (double) divisor);
+    }
+
+    private static String mb(long kb) {
+        return String.format(Locale.ROOT, "%.1f", kb / 1024.0);
+    }
+}
@@ -0,0 +1,120 @@
+package io.github.minemon.server;
+
+import io.github.minemon.plugin.PluginManager;
+import io.github.minemon.plugin.PluginStats;
+import io.github.minemon.server.metrics.ServerMetrics;
+import io.github.minemon.server.world.ChunkPregenerationService;
+import io.github.minemon.server.world.PregenerationRegion;
+import io.github.minemon.world.config.WorldConfigRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.List;
+
+@Slf4j
+public class ServerConsole {
+    private final ChunkPregenerationService pregenerationService;
+    private final WorldConfigRegistry configRegistry;
+    private final ServerMetrics metrics;
+    private final PluginManager pluginManager;
+
+    public ServerConsole(ChunkPregenerationService pregenerationService, WorldConfigRegistry configRegistry,
+                         ServerMetrics metrics, PluginManager pluginManager) {
+        this.pregenerationService = pregenerationService;
+        this.configRegistry = configRegistry;
+        this.metrics = metrics;
+        this.pluginManager = pluginManager;
+    }
+
+    public void start() {
+        Thread thread = new Thread(this::readCommands, "server-console");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void readCommands() {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(System.in))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty()) {
+                    handleCommand(line);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Server console closed: {}", e.getMessage());
+        }
+    }
+
+    private void handleCommand(String line) {
+        String[] parts = line.split("\\s+");
+        String name = parts[0].toLowerCase();
+        if (name.startsWith("/")) {
+            name = name.substring(1);
+        }
+
+        switch (name) {
+            case "pregen" -> handlePregen(parts);
+            case "reload" -> configRegistry.reload();
+            case "status" -> metrics.statusLines().forEach(log::info);
+            case "plugins" -> handlePlugins(parts);
+            case "help" -> log.info("Commands: pregen <r | cx,cy,r | x0,y0:x1,y1> [threads], "
+                + "pregen resume [threads], pregen stop, pregen status, reload, status, "
+                + "plugins [load <jar> | unload <name> | reload <name>]");
+            default -> log.info("Unknown command '{}', type 'help' for a list", parts[0]);
+        }
+    }
+
+    private void handlePlugins(String[] parts) {
+        if (parts.length < 3) {
+            List<PluginStats> stats = pluginManager.getPluginStats();
+            if (stats.isEmpty()) {
+                log.info("No plugins loaded");
+            }
+            for (PluginStats s : stats) {
+                log.info(String.format("%s%s: cpu %.1f ms, %d tasks, %d events (avg %.2f ms, max %.2f ms), "
+                        + "%d failures, %d overruns, %d queued, %d dropped",
+                    s.name(), s.suspended() ? " [suspended]" : "", s.cpuMillis(), s.tasksRun(), s.eventsHandled(),
+                    s.averageEventLatencyMillis(), s.maxEventLatencyMillis(), s.failures(), s.overruns(), s.queued(),
+                    s.dropped()));
+            }
+            return;
+        }
+
+        boolean done = switch (parts[1].toLowerCase()) {
+            case "load" -> pluginManager.loadPlugin(parts[2]);
+            case "unload" -> pluginManager.unload(parts[2]);
+            case "reload" -> pluginManager.reload(parts[2]);
+            default -> {
+                log.info("Usage: plugins [load <jar> | unload <name> | reload <name>]");
+                yield true;
+            }
+        };
+        if (!done) {
+            log.info("Could not {} plugin '{}'", parts[1].toLowerCase(), parts[2]);
+        }
+    }
+
+    private void handlePregen(String[] parts) {
+        if (parts.length < 2) {
+            log.info("Usage: pregen <r | cx,cy,r | x0,y0:x1,y1> [threads] | resume [threads] | stop | status");
+            return;
+        }
+
+        try {
+            int threads = parts.length > 2 ? Integer.parseInt(parts[2]) : 0;
+            switch (parts[1].toLowerCase()) {
+                case "stop" -> pregenerationService.stop();
+                case "status" -> log.info(pregenerationService.getStatus());
+                case "resume" -> pregenerationService.resume(threads);
+                default -> pregenerationService.start(PregenerationRegion.parse(parts[1]), threads);
+            }
+        } catch (NumberFormatException e) {
+            log.info("Invalid thread count '{}'", parts[2]);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            log.info(e.getMessage());
+        }
+    }
+}
@@ -4,8 +4,15 @@ import io.github.minemon.lwjgl3.PokemeetupApplication;
 import io.github.minemon.multiplayer.model.ServerConnectionConfig;
 import io.github.minemon.multiplayer.service.ServerConnectionService;
 import io.github.minemon.plugin.PluginManager;
+import io.github.minemon.server.metrics.MetricsHttpServer;
+import io.github.minemon.server.metrics.ServerMetrics;
+import io.github.minemon.server.replay.InputReplayer;
 import io.github.minemon.server.service.MultiplayerServer;
+import io.github.minemon.server.world.ChunkPregenerationService;
+import io.github.minemon.server.world.PregenerationRegion;
 import io.github.minemon.server.world.ServerWorldServiceImpl;
+import io.github.minemon.server.world.WorldConfigWatcher;
+import io.github.minemon.world.config.WorldConfigRegistry;
 import io.github.minemon.world.service.WorldService;  
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
@@ -13,9 +20,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.Banner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Random;
 
 @Slf4j
@@ -29,17 +39,19 @@ public class ServerLauncher {
         int tcpPort = 54555;
         int udpPort = 54777;
 
-        if (args.length > 0) {
+        
+        String[] portArgs = Arrays.stream(args).filter(arg -> !arg.startsWith("--")).toArray(String[]::new);
+        if (portArgs.length > 0) {
             try {
-                tcpPort = Integer.parseInt(args[0]);
+                tcpPort = Integer.parseInt(portArgs[0]);
             } catch (NumberFormatException e) {
                 log.warn("Invalid TCP port argument, using default: {}", tcpPort);
             }
         }
 
-        if (args.length > 1) {
+        if (portArgs.length > 1) {
             try {
-                udpPort = Integer.parseInt(args[1]);
+                udpPort = Integer.parseInt(portArgs[1]);
             } catch (NumberFormatException e) {
                 log.warn("Invalid UDP port argument, using default: {}", udpPort);
             }
@@ -48,11 +60,14 @@ public class ServerLauncher {
         Path baseDir = Paths.get("").toAbsolutePath();
         log.info("Base directory: {}", baseDir);
 
-        try {
-            DeploymentHelper.createServerDeployment(baseDir);
-        } catch (Exception e) {
-            log.error("Failed to create server deployment: {}", e.getMessage());
-            System.exit(1);
+        // The AOT build step runs main only to capture the bean definitions, so it must not lay out a deployment
+        if (!Boolean.getBoolean("spring.aot.processing")) {
+            try {
+                DeploymentHelper.createServerDeployment(baseDir);
+            } catch (Exception e) {
+                log.error("Failed to create server deployment: {}", e.getMessage());
+                System.exit(1);
+            }
         }
 
         SpringApplication app = new SpringApplication(PokemeetupApplication.class);
@@ -63,6 +78,16 @@ public class ServerLauncher {
         
         onServerStart(context);
 
+        ChunkPregenerationService pregenerationService = context.getBean(ChunkPregenerationService.class);
+        if (!runStartupPregeneration(context, pregenerationService)) {
+            context.close();
+            return;
+        }
+        if (runReplay(context)) {
+            context.close();
+            return;
+        }
+
         MultiplayerServer server = context.getBean(MultiplayerServer.class);
         ServerConnectionService connectionService = context.getBean(ServerConnectionService.class);
         PluginManager pluginManager = context.getBean(PluginManager.class);
@@ -84,6 +109,13 @@ public class ServerLauncher {
         Path pluginsDir = baseDir.resolve("plugins");
         pluginManager.loadPlugins(pluginsDir);
 
+        ServerMetrics metrics = context.getBean(ServerMetrics.class);
+        context.getBean(MetricsHttpServer.class).start();
+
+        context.getBean(WorldConfigWatcher.class).start();
+        new ServerConsole(pregenerationService, context.getBean(WorldConfigRegistry.class), metrics, pluginManager)
+            .start();
+
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
             log.info("Shutting down server...");
             pluginManager.unloadAll();
@@ -101,6 +133,8 @@ public class ServerLauncher {
 
             float deltaSeconds = updateLength / 1_000_000_000f;
             server.processMessages(deltaSeconds);
+            pluginManager.tick();
+            metrics.recordTick(System.nanoTime() - now);
 
             long sleepTime = (OPTIMAL_TIME - (System.nanoTime() - lastLoopTime)) / 1_000_000;
             if (sleepTime > 0) {
@@ -118,6 +152,48 @@ public class ServerLauncher {
         log.info("Server Stopped.");
     }
 
+    // --pregen=<region|resume> warms the world before players can connect; with --pregen.exit=true the
+    // launcher stops once the job is done instead of opening the server.
+    private static boolean runStartupPregeneration(ConfigurableApplicationContext context,
+                                                   ChunkPregenerationService pregenerationService) {
+        Environment env = context.getEnvironment();
+        String spec = env.getProperty("pregen");
+        if (spec == null || spec.isBlank()) {
+            return true;
+        }
+
+        try {
+            int threads = env.getProperty("pregen.threads", Integer.class, 0);
+            if ("resume".equalsIgnoreCase(spec)) {
+                pregenerationService.resume(threads).join();
+            } else {
+                pregenerationService.start(PregenerationRegion.parse(spec), threads).join();
+            }
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            log.error("Startup pregeneration failed: {}", e.getMessage());
+        }
+        return !env.getProperty("pregen.exit", Boolean.class, false);
+    }
+
+    // --replay=<file> runs a recorded input log through the server instead of opening it and logs a tick
+    // profile; --replay.profile=<csv> also writes one line per tick. Replay on a copy of the deployment the
+    // recording started from, since replayed players move, pick up items and get saved like live ones.
+    private static boolean runReplay(ConfigurableApplicationContext context) {
+        Environment env = context.getEnvironment();
+        String file = env.getProperty("replay");
+        if (file == null || file.isBlank()) {
+            return false;
+        }
+        String profile = env.getProperty("replay.profile");
+        try {
+            context.getBean(InputReplayer.class).replay(Paths.get(file),
+                profile == null || profile.isBlank() ? null : Paths.get(profile));
+        } catch (IOException e) {
+            log.error("Replay of {} failed: {}", file, e.getMessage());
+        }
+        return true;
+    }
+
     private static void onServerStart(ConfigurableApplicationContext context) {
         WorldService worldService = context.getBean(WorldService.class);
         String defaultServerWorldName = "serverWorld";
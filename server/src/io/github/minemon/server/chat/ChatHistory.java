@@ -0,0 +1,35 @@
+package io.github.minemon.server.chat;
+
+import io.github.minemon.chat.model.ChatMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Fixed-size ring of the most recent global messages, replayed to players when they join
+final class ChatHistory {
+    private final ChatMessage[] ring;
+    private int next;
+    private int size;
+
+    ChatHistory(int capacity) {
+        this.ring = new ChatMessage[capacity];
+    }
+
+    synchronized void add(ChatMessage message) {
+        if (ring.length == 0) {
+            return;
+        }
+        ring[next] = message;
+        next = (next + 1) % ring.length;
+        size = Math.min(size + 1, ring.length);
+    }
+
+    synchronized List<ChatMessage> snapshot() {
+        List<ChatMessage> messages = new ArrayList<>(size);
+        int start = (next - size + ring.length) % Math.max(ring.length, 1);
+        for (int i = 0; i < size; i++) {
+            messages.add(ring[(start + i) % ring.length]);
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,184 @@
+package io.github.minemon.server.chat;
+
+import com.esotericsoftware.kryonet.Connection;
+import io.github.minemon.NetworkProtocol;
+import io.github.minemon.chat.model.ChatMessage;
+import io.github.minemon.player.model.PlayerData;
+import io.github.minemon.server.metrics.ServerMetrics;
+import io.github.minemon.server.service.MultiplayerService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Network threads only validate, rate limit and queue chat; routing and sending happen once per server
+// tick in flush(), which writes at most one ChatBatch per player.
+@Slf4j
+@Service
+public class ServerChatService {
+    private static final int MAX_MESSAGE_LENGTH = 256;
+    private static final int MAX_PENDING = 1024;
+
+    private final MultiplayerService multiplayerService;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Set<String> throttled = ConcurrentHashMap.newKeySet();
+    private final Queue<Outgoing> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final ChatHistory history;
+
+    @Value("${chat.burst:5}")
+    private int burst = 5;
+
+    @Value("${chat.messagesPerSecond:1.0}")
+    private double messagesPerSecond = 1.0;
+
+    @Value("${chat.localRadius:24}")
+    private float localRadius = 24;
+
+    public ServerChatService(MultiplayerService multiplayerService, ServerMetrics metrics,
+                             @Value("${chat.historySize:50}") int historySize) {
+        this.multiplayerService = multiplayerService;
+        this.history = new ChatHistory(historySize);
+
+        metrics.registerGauge("chat_pending", "Chat lines waiting for the next tick", pendingCount::get);
+        metrics.registerGauge("chat_rate_limited_total", "Chat messages rejected by the per-player rate limit",
+            rateLimited::sum);
+        metrics.registerGauge("chat_dropped_total", "Chat messages dropped because the queue was full",
+            dropped::sum);
+    }
+
+    public void submit(String sender, ChatMessage msg, long nowNanos) {
+        String content = msg.getContent() == null ? "" : msg.getContent().trim();
+        if (content.isEmpty()) {
+            return;
+        }
+
+        TokenBucket bucket = buckets.computeIfAbsent(sender,
+            k -> new TokenBucket(burst, messagesPerSecond, nowNanos));
+        if (!bucket.tryAcquire(nowNanos)) {
+            rateLimited.increment();
+            if (throttled.add(sender)) {
+                sendSystem(sender, "You are sending messages too fast.");
+            }
+            return;
+        }
+        throttled.remove(sender);
+
+        // Sender, time and type are always decided by the server
+        msg.setSender(sender);
+        msg.setContent(content.length() > MAX_MESSAGE_LENGTH ? content.substring(0, MAX_MESSAGE_LENGTH) : content);
+        msg.setTimestamp(System.currentTimeMillis());
+        msg.setType(ChatMessage.Type.NORMAL);
+        if (msg.getChannel() == null) {
+            msg.setChannel(ChatMessage.Channel.GLOBAL);
+        }
+        log.debug("Chat [{}] {}: {}", msg.getChannel(), sender, msg.getContent());
+        enqueue(new Outgoing(msg, null));
+    }
+
+    public void sendSystem(String username, String text) {
+        enqueue(new Outgoing(new ChatMessage("Server", text, System.currentTimeMillis(), ChatMessage.Type.SYSTEM),
+            username));
+    }
+
+    public void playerJoined(String username) {
+        for (ChatMessage msg : history.snapshot()) {
+            enqueue(new Outgoing(msg, username));
+        }
+    }
+
+    public void playerLeft(String username) {
+        buckets.remove(username);
+        throttled.remove(username);
+    }
+
+    public void flush(Map<String, Connection> online) {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<ChatMessage>> batches = new HashMap<>();
+        Outgoing out;
+        while ((out = pending.poll()) != null) {
+            pendingCount.decrementAndGet();
+            if (out.target() != null) {
+                batch(batches, out.target()).add(out.message());
+            } else {
+                route(out.message(), online, batches);
+            }
+        }
+
+        for (Map.Entry<String, List<ChatMessage>> entry : batches.entrySet()) {
+            Connection connection = online.get(entry.getKey());
+            if (connection != null && connection.isConnected()) {
+                NetworkProtocol.ChatBatch batch = new NetworkProtocol.ChatBatch();
+                batch.setMessages(entry.getValue());
+                connection.sendTCP(batch);
+            }
+        }
+    }
+
+    private void route(ChatMessage msg, Map<String, Connection> online, Map<String, List<ChatMessage>> batches) {
+        String sender = msg.getSender();
+        switch (msg.getChannel()) {
+            case WHISPER -> {
+                String recipient = msg.getRecipient();
+                if (recipient != null && online.containsKey(recipient)) {
+                    batch(batches, recipient).add(msg);
+                } else {
+                    batch(batches, sender).add(new ChatMessage("Server", "Player " + recipient + " is not online.",
+                        System.currentTimeMillis(), ChatMessage.Type.SYSTEM));
+                }
+            }
+            case LOCAL -> {
+                PlayerData origin = multiplayerService.getPlayerData(sender);
+                if (origin == null) {
+                    return;
+                }
+                float radiusSq = localRadius * localRadius;
+                for (String username : online.keySet()) {
+                    PlayerData other = username.equals(sender) ? null : multiplayerService.getPlayerData(username);
+                    if (other != null) {
+                        float dx = other.getX() - origin.getX();
+                        float dy = other.getY() - origin.getY();
+                        if (dx * dx + dy * dy <= radiusSq) {
+                            batch(batches, username).add(msg);
+                        }
+                    }
+                }
+            }
+            default -> {
+                history.add(msg);
+                for (String username : online.keySet()) {
+                    if (!username.equals(sender)) {
+                        batch(batches, username).add(msg);
+                    }
+                }
+            }
+        }
+    }
+
+    private void enqueue(Outgoing out) {
+        if (pendingCount.incrementAndGet() > MAX_PENDING) {
+            pendingCount.decrementAndGet();
+            dropped.increment();
+            return;
+        }
+        pending.add(out);
+    }
+
+    private static List<ChatMessage> batch(Map<String, List<ChatMessage>> batches, String username) {
+        return batches.computeIfAbsent(username, k -> new ArrayList<>());
+    }
+
+    // target is set for messages addressed to one player (system replies, history); otherwise routed by channel
+    private record Outgoing(ChatMessage message, String target) {
+    }
+}
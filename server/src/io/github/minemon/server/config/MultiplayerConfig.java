@@ -3,6 +3,12 @@ package io.github.minemon.server.config;
 import io.github.minemon.core.service.FileAccessService;
 import io.github.minemon.core.service.impl.LocalFileAccessService;
 import io.github.minemon.player.service.PlayerService;
+import io.github.minemon.server.chat.ServerChatService;
+import io.github.minemon.server.inventory.ServerInventoryService;
+import io.github.minemon.server.metrics.MeteredJsonWorldDataService;
+import io.github.minemon.server.metrics.ServerMetrics;
+import io.github.minemon.server.movement.MovementValidator;
+import io.github.minemon.server.replay.InputRecorder;
 import io.github.minemon.server.service.MultiplayerServer;
 import io.github.minemon.server.service.MultiplayerService;
 import io.github.minemon.server.service.impl.MultiplayerServerImpl;
@@ -15,10 +21,12 @@ import io.github.minemon.server.AuthService;
 import io.github.minemon.world.service.impl.JsonWorldDataService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.core.env.Environment;
 
 @Configuration
+@ImportRuntimeHints(ServerRuntimeHints.class)
 public class MultiplayerConfig {
 
     @Bean
@@ -40,12 +48,18 @@ public class MultiplayerConfig {
     }
 
     @Bean(name = "serverJsonWorldDataService")
-    public JsonWorldDataService serverJsonWorldDataService() {
-        return new JsonWorldDataService("save/worlds", true);
+    public JsonWorldDataService serverJsonWorldDataService(ServerMetrics serverMetrics) {
+        return new MeteredJsonWorldDataService("save/worlds", true, serverMetrics);
     }
     @Bean
-    public MultiplayerServer multiplayerServer(MultiplayerService multiplayerService, EventBus eventBus, AuthService authService) {
-        return new MultiplayerServerImpl(multiplayerService, eventBus, authService);
+    public MultiplayerServer multiplayerServer(MultiplayerService multiplayerService, EventBus eventBus,
+                                               AuthService authService, ServerMetrics serverMetrics,
+                                               ServerChatService serverChatService,
+                                               ServerInventoryService serverInventoryService,
+                                               MovementValidator movementValidator,
+                                               InputRecorder inputRecorder) {
+        return new MultiplayerServerImpl(multiplayerService, eventBus, authService, serverMetrics,
+            serverChatService, serverInventoryService, movementValidator, inputRecorder);
     }
 
 }
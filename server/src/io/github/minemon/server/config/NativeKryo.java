@@ -0,0 +1,46 @@
+package io.github.minemon.server.config;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.KryoException;
+import org.objenesis.instantiator.ObjectInstantiator;
+import org.objenesis.strategy.InstantiatorStrategy;
+import org.springframework.core.NativeDetector;
+
+import java.lang.reflect.Constructor;
+
+// Kryo's default instantiator generates ReflectASM accessors at runtime, which a native image cannot define.
+// There every registered class is built through its no-arg constructor, which ServerRuntimeHints keeps
+// reachable.
+public final class NativeKryo {
+
+    private NativeKryo() {
+    }
+
+    public static Kryo configure(Kryo kryo) {
+        if (NativeDetector.inNativeImage()) {
+            kryo.setAsmEnabled(false);
+            kryo.setInstantiatorStrategy(new ReflectiveInstantiatorStrategy());
+        }
+        return kryo;
+    }
+
+    private static final class ReflectiveInstantiatorStrategy implements InstantiatorStrategy {
+        @Override
+        public <T> ObjectInstantiator<T> newInstantiatorOf(Class<T> type) {
+            Constructor<T> constructor;
+            try {
+                constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+            } catch (NoSuchMethodException e) {
+                throw new KryoException("Class cannot be created (missing no-arg constructor): " + type.getName());
+            }
+            return () -> {
+                try {
+                    return constructor.newInstance();
+                } catch (ReflectiveOperationException e) {
+                    throw new KryoException("Error constructing instance of class: " + type.getName(), e);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.minemon.server.config;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.Registration;
+import io.github.minemon.NetworkProtocol;
+import io.github.minemon.multiplayer.model.ServerConnectionConfig;
+import io.github.minemon.player.model.PlayerData;
+import io.github.minemon.world.biome.config.BiomeConfigurationLoader;
+import io.github.minemon.world.config.TileConfig;
+import io.github.minemon.world.model.ChunkData;
+import io.github.minemon.world.model.WorldMetadata;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Reflection a native image of the server cannot discover on its own: every class registered with Kryo by
+// NetworkProtocol, and the models libGDX Json reads from config and save files. Both libraries create objects
+// through no-arg constructors and fill their fields reflectively, so each class is walked down its field types
+// and everything in our packages it reaches is registered too.
+public class ServerRuntimeHints implements RuntimeHintsRegistrar {
+    private static final String MODEL_PACKAGE = "io.github.minemon.";
+
+    // SpawnPoint is package-private in the world package
+    private static final List<String> JSON_MODELS_BY_NAME = List.of("io.github.minemon.world.SpawnPoint");
+
+    private static final List<Class<?>> JSON_MODELS = List.of(
+        TileConfig.class,
+        BiomeConfigurationLoader.BiomeRoot.class,
+        PlayerData.class,
+        ChunkData.class,
+        WorldMetadata.class,
+        WorldMetadata[].class,
+        ServerConnectionConfig.class
+    );
+
+    // Json and Kryo pick these when a field is declared as an interface or an untyped collection
+    private static final List<Class<?>> COLLECTIONS = List.of(
+        ArrayList.class, HashMap.class, LinkedHashMap.class, HashSet.class, ConcurrentHashMap.class,
+        com.badlogic.gdx.utils.Array.class, com.badlogic.gdx.utils.ObjectMap.class
+    );
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        Set<Class<?>> seen = new HashSet<>();
+
+        Kryo kryo = new Kryo();
+        NetworkProtocol.registerClasses(kryo);
+        for (int id = 0; id < kryo.getNextRegistrationId(); id++) {
+            Registration registration = kryo.getRegistration(id);
+            if (registration == null) {
+                continue;
+            }
+            register(hints, registration.getType(), seen);
+            hints.reflection().registerType(registration.getSerializer().getClass(),
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        }
+
+        for (Class<?> model : JSON_MODELS) {
+            register(hints, model, seen);
+        }
+        for (String name : JSON_MODELS_BY_NAME) {
+            register(hints, ClassUtils.resolveClassName(name, classLoader), seen);
+        }
+        for (Class<?> collection : COLLECTIONS) {
+            hints.reflection().registerType(collection, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        }
+
+        hints.resources().registerPattern("config/*.json");
+    }
+
+    private static void register(RuntimeHints hints, Class<?> type, Set<Class<?>> seen) {
+        if (type.isArray()) {
+            hints.reflection().registerType(type);
+            register(hints, type.getComponentType(), seen);
+            return;
+        }
+        if (type.isPrimitive() || !seen.add(type)) {
+            return;
+        }
+        if (!type.getName().startsWith(MODEL_PACKAGE)) {
+            if (!type.isInterface() && !Modifier.isAbstract(type.getModifiers())
+                && type.getName().startsWith("java.util.")) {
+                hints.reflection().registerType(type, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            }
+            return;
+        }
+
+        hints.reflection().registerType(type, MemberCategory.DECLARED_FIELDS,
+            MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        if (type.getSuperclass() != null) {
+            register(hints, type.getSuperclass(), seen);
+        }
+        for (Field field : type.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())) {
+                registerGeneric(hints, field.getGenericType(), seen);
+            }
+        }
+    }
+
+    private static void registerGeneric(RuntimeHints hints, Type type, Set<Class<?>> seen) {
+        if (type instanceof Class<?> c) {
+            register(hints, c, seen);
+        } else if (type instanceof ParameterizedType parameterized) {
+            registerGeneric(hints, parameterized.getRawType(), seen);
+            for (Type argument : parameterized.getActualTypeArguments()) {
+                registerGeneric(hints, argument, seen);
+            }
+        } else if (type instanceof GenericArrayType array) {
+            registerGeneric(hints, array.getGenericComponentType(), seen);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package io.github.minemon.server.inventory;
+
+import io.github.minemon.NetworkProtocol;
+
+// One accepted change; changedSlots has bit i set for every slot i it modified
+record InventoryOperation(long version, NetworkProtocol.InventoryActionType type, String itemId, int slot,
+                          int count, long changedSlots) {
+}
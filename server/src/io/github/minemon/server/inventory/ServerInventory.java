@@ -0,0 +1,261 @@
+package io.github.minemon.server.inventory;
+
+import io.github.minemon.NetworkProtocol;
+import io.github.minemon.inventory.codec.InventorySlotCodec;
+import io.github.minemon.inventory.model.InventoryItem;
+
+import java.util.Map;
+
+// Authoritative inventory of one player as parallel slot arrays. Every accepted change bumps the version
+// and is appended to a bounded operation log, which lets a client that fell behind catch up with a delta.
+final class ServerInventory {
+    static final int SIZE = 36;
+    private static final int LOG_CAPACITY = 256;
+    private static final int DEFAULT_STACK_SIZE = 64;
+
+    private final String[] itemIds = new String[SIZE];
+    private final int[] counts = new int[SIZE];
+    private final int[] durability = new int[SIZE];
+    private final int[] maxDurability = new int[SIZE];
+
+    private final InventoryOperation[] log = new InventoryOperation[LOG_CAPACITY];
+    private int logSize;
+    private long version;
+
+    // Outbound state: slots changed since the client was last sent sentVersion
+    private long unsentSlots;
+    private long sentVersion;
+    private boolean needsSnapshot = true;
+    private boolean unsaved;
+
+    // Only the server itself may add items (granted); a client's ADD_ITEM is refused and answered with a snapshot
+    synchronized boolean apply(NetworkProtocol.InventoryAction action, Map<String, InventoryItem> items,
+                               boolean granted) {
+        long changed = switch (action.getType()) {
+            case ADD_ITEM -> granted ? add(action.getItemId(), action.getCount(), items) : 0;
+            case REMOVE_ITEM -> use(action.getSlotIndex());
+            case MOVE_ITEM -> move(action.getSlotIndex(), action.getCount(), items);
+            case SYNC_REQUEST -> {
+                requestSync(action.getVersion());
+                yield 0;
+            }
+        };
+        if (action.getType() == NetworkProtocol.InventoryActionType.SYNC_REQUEST) {
+            return true;
+        }
+        if (changed == 0) {
+            // The client already applied the change locally, so it needs the authoritative state back
+            needsSnapshot = true;
+            return false;
+        }
+
+        version++;
+        log[(int) (version % LOG_CAPACITY)] = new InventoryOperation(version, action.getType(), action.getItemId(),
+            action.getSlotIndex(), action.getCount(), changed);
+        logSize = Math.min(logSize + 1, LOG_CAPACITY);
+        unsentSlots |= changed;
+        unsaved = true;
+        return true;
+    }
+
+    private long add(String itemId, int count, Map<String, InventoryItem> items) {
+        InventoryItem item = itemId != null ? items.get(itemId) : null;
+        if (item == null || count <= 0) {
+            return 0;
+        }
+        int stackSize = stackSize(item);
+
+        // Check the whole amount fits before touching any slot
+        int space = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (itemIds[i] == null) {
+                space += stackSize;
+            } else if (itemIds[i].equals(itemId)) {
+                space += stackSize - counts[i];
+            }
+        }
+        if (space < count) {
+            return 0;
+        }
+
+        long changed = 0;
+        for (int i = 0; i < SIZE && count > 0; i++) {
+            if (itemId.equals(itemIds[i]) && counts[i] < stackSize) {
+                int added = Math.min(stackSize - counts[i], count);
+                counts[i] += added;
+                count -= added;
+                changed |= 1L << i;
+            }
+        }
+        for (int i = 0; i < SIZE && count > 0; i++) {
+            if (itemIds[i] == null) {
+                int added = Math.min(stackSize, count);
+                itemIds[i] = item.getItemId();
+                counts[i] = added;
+                durability[i] = item.getMaxDurability();
+                maxDurability[i] = item.getMaxDurability();
+                count -= added;
+                changed |= 1L << i;
+            }
+        }
+        return changed;
+    }
+
+    private long use(int slot) {
+        if (!isValid(slot) || itemIds[slot] == null) {
+            return 0;
+        }
+        if (maxDurability[slot] > 0) {
+            if (--durability[slot] <= 0) {
+                clear(slot);
+            }
+        } else if (--counts[slot] <= 0) {
+            clear(slot);
+        }
+        return 1L << slot;
+    }
+
+    private long move(int from, int to, Map<String, InventoryItem> items) {
+        if (!isValid(from) || !isValid(to) || from == to || itemIds[from] == null) {
+            return 0;
+        }
+
+        if (itemIds[from].equals(itemIds[to])) {
+            InventoryItem item = items.get(itemIds[from]);
+            int stackSize = item != null ? stackSize(item) : 1;
+            if (stackSize <= 1) {
+                return 0;
+            }
+            int total = counts[from] + counts[to];
+            counts[to] = Math.min(total, stackSize);
+            counts[from] = total - counts[to];
+            if (counts[from] == 0) {
+                clear(from);
+            }
+        } else {
+            swap(itemIds, from, to);
+            swap(counts, from, to);
+            swap(durability, from, to);
+            swap(maxDurability, from, to);
+        }
+        return (1L << from) | (1L << to);
+    }
+
+    private void requestSync(long knownVersion) {
+        long oldest = version - logSize;
+        if (knownVersion < oldest || knownVersion > version) {
+            needsSnapshot = true;
+            return;
+        }
+        long changed = 0;
+        for (int i = 0; i < logSize; i++) {
+            InventoryOperation op = log[(int) ((version - i) % LOG_CAPACITY)];
+            if (op.version() <= knownVersion) {
+                break;
+            }
+            changed |= op.changedSlots();
+        }
+        sentVersion = knownVersion;
+        unsentSlots |= changed;
+        if (changed == 0) {
+            needsSnapshot = true;
+        }
+    }
+
+    // The message the client needs this tick, or null when it is up to date
+    synchronized Object drainUpdate() {
+        if (needsSnapshot) {
+            needsSnapshot = false;
+            unsentSlots = 0;
+            sentVersion = version;
+            return snapshot();
+        }
+        if (unsentSlots == 0) {
+            return null;
+        }
+
+        int n = Long.bitCount(unsentSlots);
+        NetworkProtocol.InventoryDelta delta = new NetworkProtocol.InventoryDelta();
+        delta.setBaseVersion(sentVersion);
+        delta.setVersion(version);
+        delta.setSlots(new int[n]);
+        delta.setItemIds(new String[n]);
+        delta.setCounts(new int[n]);
+        delta.setDurability(new int[n]);
+        delta.setMaxDurability(new int[n]);
+        int j = 0;
+        for (long bits = unsentSlots; bits != 0; bits &= bits - 1) {
+            int slot = Long.numberOfTrailingZeros(bits);
+            delta.getSlots()[j] = slot;
+            delta.getItemIds()[j] = itemIds[slot];
+            delta.getCounts()[j] = counts[slot];
+            delta.getDurability()[j] = durability[slot];
+            delta.getMaxDurability()[j] = maxDurability[slot];
+            j++;
+        }
+        unsentSlots = 0;
+        sentVersion = version;
+        return delta;
+    }
+
+    synchronized NetworkProtocol.InventorySnapshot snapshot() {
+        NetworkProtocol.InventorySnapshot snapshot = new NetworkProtocol.InventorySnapshot();
+        snapshot.setVersion(version);
+        snapshot.setSlots(InventorySlotCodec.encode(itemIds, counts, durability, maxDurability));
+        return snapshot;
+    }
+
+    synchronized long getVersion() {
+        return version;
+    }
+
+    // Returns the serialized inventory if it changed since the last call, otherwise null
+    synchronized String takeUnsaved() {
+        if (!unsaved) {
+            return null;
+        }
+        unsaved = false;
+        return InventorySlotCodec.encodeToString(InventorySlotCodec.encode(itemIds, counts, durability, maxDurability));
+    }
+
+    static ServerInventory decode(String data) {
+        ServerInventory inventory = new ServerInventory();
+        InventorySlotCodec.Slots slots = InventorySlotCodec.decodeString(data);
+        int n = Math.min(slots.size(), SIZE);
+        System.arraycopy(slots.itemIds, 0, inventory.itemIds, 0, n);
+        System.arraycopy(slots.counts, 0, inventory.counts, 0, n);
+        System.arraycopy(slots.durability, 0, inventory.durability, 0, n);
+        System.arraycopy(slots.maxDurability, 0, inventory.maxDurability, 0, n);
+        return inventory;
+    }
+
+    private static int stackSize(InventoryItem item) {
+        if (item.getMaxDurability() > 0) {
+            return 1;
+        }
+        return item.getMaxStackSize() > 0 ? item.getMaxStackSize() : DEFAULT_STACK_SIZE;
+    }
+
+    private static boolean isValid(int slot) {
+        return slot >= 0 && slot < SIZE;
+    }
+
+    private void clear(int slot) {
+        itemIds[slot] = null;
+        counts[slot] = 0;
+        durability[slot] = 0;
+        maxDurability[slot] = 0;
+    }
+
+    private static void swap(int[] values, int a, int b) {
+        int t = values[a];
+        values[a] = values[b];
+        values[b] = t;
+    }
+
+    private static void swap(String[] values, int a, int b) {
+        String t = values[a];
+        values[a] = values[b];
+        values[b] = t;
+    }
+}
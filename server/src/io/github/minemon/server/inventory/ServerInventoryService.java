@@ -0,0 +1,124 @@
+package io.github.minemon.server.inventory;
+
+import com.esotericsoftware.kryonet.Connection;
+import io.github.minemon.NetworkProtocol;
+import io.github.minemon.inventory.config.ItemRegistry;
+import io.github.minemon.inventory.model.InventoryItem;
+import io.github.minemon.player.model.PlayerData;
+import io.github.minemon.server.metrics.ServerMetrics;
+import io.github.minemon.world.service.WorldService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Owns the inventories of online players. Actions are applied as they arrive; once per tick each changed
+// inventory is pushed to its owner as a delta, and changed inventories are written back every saveInterval.
+@Slf4j
+@Service
+public class ServerInventoryService {
+    private final WorldService worldService;
+    private final Map<String, InventoryItem> items = new HashMap<>();
+    private final Map<String, ServerInventory> inventories = new ConcurrentHashMap<>();
+    private final LongAdder rejected = new LongAdder();
+    private long lastSave = System.currentTimeMillis();
+
+    @Value("${inventory.saveIntervalMs:5000}")
+    private long saveIntervalMs = 5000;
+
+    public ServerInventoryService(WorldService worldService, ServerMetrics metrics) {
+        this.worldService = worldService;
+        for (InventoryItem item : ItemRegistry.getDefaultItems()) {
+            items.put(item.getItemId(), item);
+        }
+
+        metrics.registerGauge("inventories_loaded", "Inventories of online players held in memory",
+            inventories::size);
+        metrics.registerGauge("inventory_actions_rejected_total", "Inventory actions the server refused",
+            rejected::sum);
+    }
+
+    public void playerJoined(String username) {
+        PlayerData pd = worldService.getPlayerData(username);
+        ServerInventory inventory;
+        try {
+            inventory = ServerInventory.decode(pd != null ? pd.getInventoryData() : null);
+        } catch (RuntimeException e) {
+            log.error("Unreadable inventory for {}, starting empty: {}", username, e.getMessage());
+            inventory = new ServerInventory();
+        }
+        inventories.put(username, inventory);
+    }
+
+    public void playerLeft(String username) {
+        ServerInventory inventory = inventories.remove(username);
+        if (inventory != null) {
+            save(username, inventory);
+        }
+    }
+
+    // Actions sent by the client
+    public void handleAction(String username, NetworkProtocol.InventoryAction action) {
+        apply(username, action, false);
+    }
+
+    private void apply(String username, NetworkProtocol.InventoryAction action, boolean granted) {
+        ServerInventory inventory = inventories.get(username);
+        if (inventory == null || action.getType() == null) {
+            return;
+        }
+        if (!inventory.apply(action, items, granted)) {
+            rejected.increment();
+            log.debug("Rejected {} from {} (slot {}, item {}, count {})", action.getType(), username,
+                action.getSlotIndex(), action.getItemId(), action.getCount());
+        }
+    }
+
+    // Server-originated grants, e.g. loot from a validated item pickup
+    public void grantItem(String username, String itemId, int count) {
+        NetworkProtocol.InventoryAction action = new NetworkProtocol.InventoryAction();
+        action.setType(NetworkProtocol.InventoryActionType.ADD_ITEM);
+        action.setItemId(itemId);
+        action.setCount(count);
+        apply(username, action, true);
+    }
+
+    public void tick(Map<String, Connection> online) {
+        for (Map.Entry<String, ServerInventory> entry : inventories.entrySet()) {
+            Connection connection = online.get(entry.getKey());
+            if (connection == null) {
+                continue;
+            }
+            Object update = entry.getValue().drainUpdate();
+            if (update != null) {
+                connection.sendTCP(update);
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        if (now - lastSave >= saveIntervalMs) {
+            lastSave = now;
+            inventories.forEach(this::save);
+        }
+    }
+
+    public void saveAll() {
+        inventories.forEach(this::save);
+    }
+
+    private void save(String username, ServerInventory inventory) {
+        String data = inventory.takeUnsaved();
+        if (data == null) {
+            return;
+        }
+        PlayerData pd = worldService.getPlayerData(username);
+        if (pd != null) {
+            pd.setInventoryData(data);
+            worldService.setPlayerData(pd);
+        }
+    }
+}
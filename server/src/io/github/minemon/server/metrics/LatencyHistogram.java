@@ -0,0 +1,99 @@
+package io.github.minemon.server.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Fixed-bucket histogram; recording is a bucket scan plus two adders, so it is safe on the tick thread.
+public class LatencyHistogram {
+    static final double[] BOUNDS_SECONDS = {
+        0.0001, 0.00025, 0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10
+    };
+    private static final long[] BOUNDS_NANOS = new long[BOUNDS_SECONDS.length];
+
+    static {
+        for (int i = 0; i < BOUNDS_SECONDS.length; i++) {
+            BOUNDS_NANOS[i] = (long) (BOUNDS_SECONDS[i] * 1e9);
+        }
+    }
+
+    private final LongAdder[] buckets = new LongAdder[BOUNDS_NANOS.length + 1];
+    private final LongAdder sumNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        int i = 0;
+        while (i < BOUNDS_NANOS.length && nanos > BOUNDS_NANOS[i]) {
+            i++;
+        }
+        buckets[i].increment();
+        sumNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    public Snapshot snapshot() {
+        long[] counts = new long[buckets.length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return new Snapshot(counts, sumNanos.sum(), maxNanos.get());
+    }
+
+    public static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(new long[BOUNDS_SECONDS.length + 1], 0, 0);
+
+        final long[] counts;
+        final long sumNanos;
+        final long maxNanos;
+
+        Snapshot(long[] counts, long sumNanos, long maxNanos) {
+            this.counts = counts;
+            this.sumNanos = sumNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        // Counts recorded after 'earlier'; max stays the all-time value since adders cannot be windowed
+        Snapshot since(Snapshot earlier) {
+            long[] delta = new long[counts.length];
+            for (int i = 0; i < delta.length; i++) {
+                delta[i] = counts[i] - earlier.counts[i];
+            }
+            return new Snapshot(delta, sumNanos - earlier.sumNanos, maxNanos);
+        }
+
+        public long count() {
+            long total = 0;
+            for (long c : counts) {
+                total += c;
+            }
+            return total;
+        }
+
+        public double meanMillis() {
+            long count = count();
+            return count == 0 ? 0 : sumNanos / 1e6 / count;
+        }
+
+        // Upper bound of the bucket holding the quantile, which is as precise as fixed buckets allow
+        public double quantileMillis(double q) {
+            long count = count();
+            if (count == 0) {
+                return 0;
+            }
+            long target = (long) Math.ceil(q * count);
+            long seen = 0;
+            for (int i = 0; i < BOUNDS_SECONDS.length; i++) {
+                seen += counts[i];
+                if (seen >= target) {
+                    return BOUNDS_SECONDS[i] * 1000;
+                }
+            }
+            return maxNanos / 1e6;
+        }
+    }
+}
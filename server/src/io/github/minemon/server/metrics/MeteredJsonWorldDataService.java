@@ -0,0 +1,85 @@
+package io.github.minemon.server.metrics;
+
+import io.github.minemon.player.model.PlayerData;
+import io.github.minemon.world.model.ChunkData;
+import io.github.minemon.world.model.WorldData;
+import io.github.minemon.world.service.impl.JsonWorldDataService;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.concurrent.atomic.LongAdder;
+
+public class MeteredJsonWorldDataService extends JsonWorldDataService {
+    private final ServerMetrics metrics;
+    private final LongAdder chunkLoadMisses = new LongAdder();
+
+    public MeteredJsonWorldDataService(String baseWorldsDir, boolean isServer, ServerMetrics metrics) {
+        super(baseWorldsDir, isServer);
+        this.metrics = metrics;
+        metrics.registerGauge("chunk_load_misses_total", "Chunk loads that found no file on disk",
+            chunkLoadMisses::sum);
+    }
+
+    // A miss is only a file check, so it is counted apart from the load latency
+    @Override
+    public ChunkData loadChunk(String worldName, int chunkX, int chunkY) throws IOException {
+        long start = System.nanoTime();
+        ChunkData chunk = super.loadChunk(worldName, chunkX, chunkY);
+        if (chunk != null) {
+            metrics.getChunkLoad().record(System.nanoTime() - start);
+        } else {
+            chunkLoadMisses.increment();
+        }
+        return chunk;
+    }
+
+    @Override
+    public void saveChunk(String worldName, ChunkData chunkData) throws IOException {
+        long start = System.nanoTime();
+        try {
+            super.saveChunk(worldName, chunkData);
+        } finally {
+            metrics.getDiskWrite().record(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void saveChunks(String worldName, Collection<ChunkData> chunks) throws IOException {
+        long start = System.nanoTime();
+        try {
+            super.saveChunks(worldName, chunks);
+        } finally {
+            metrics.getDiskWrite().record(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void savePlayers(String worldName, Collection<PlayerData> players) throws IOException {
+        long start = System.nanoTime();
+        try {
+            super.savePlayers(worldName, players);
+        } finally {
+            metrics.getDiskWrite().record(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void saveWorld(WorldData worldData) throws IOException {
+        long start = System.nanoTime();
+        try {
+            super.saveWorld(worldData);
+        } finally {
+            metrics.getDiskWrite().record(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void savePlayerData(String worldName, PlayerData playerData) throws IOException {
+        long start = System.nanoTime();
+        try {
+            super.savePlayerData(worldName, playerData);
+        } finally {
+            metrics.getDiskWrite().record(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.minemon.server.metrics;
+
+import com.esotericsoftware.kryonet.Connection;
+import com.esotericsoftware.kryonet.KryoSerialization;
+
+import java.nio.ByteBuffer;
+
+// Every TCP and UDP message passes through the serialization with its connection, so this sees exact wire
+// sizes per message type and per connection, broadcasts included.
+public class MeteredSerialization extends KryoSerialization {
+    private final ServerMetrics metrics;
+
+    public MeteredSerialization(ServerMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public synchronized void write(Connection connection, ByteBuffer buffer, Object object) {
+        int start = buffer.position();
+        super.write(connection, buffer, object);
+        if (connection != null) {
+            metrics.recordOutbound(connection.getID(), object, buffer.position() - start);
+        }
+    }
+
+    @Override
+    public synchronized Object read(Connection connection, ByteBuffer buffer) {
+        int start = buffer.position();
+        Object object = super.read(connection, buffer);
+        if (connection != null) {
+            metrics.recordInbound(connection.getID(), object, buffer.position() - start);
+        }
+        return object;
+    }
+}
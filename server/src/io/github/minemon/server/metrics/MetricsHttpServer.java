@@ -0,0 +1,80 @@
+package io.github.minemon.server.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+// Plain JDK HTTP server bound to localhost by default, so scraping needs neither the Spring web stack
+// nor a hole in its security configuration.
+@Service
+@Slf4j
+public class MetricsHttpServer {
+    private final ServerMetrics metrics;
+    @Value("${metrics.enabled:true}")
+    private boolean enabled;
+    @Value("${metrics.host:127.0.0.1}")
+    private String host;
+    @Value("${metrics.port:9464}")
+    private int port;
+    private HttpServer server;
+
+    public MetricsHttpServer(ServerMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public synchronized void start() {
+        if (!enabled || server != null) {
+            return;
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress(host, port), 0);
+            server.createContext("/metrics", exchange ->
+                respond(exchange, "text/plain; version=0.0.4; charset=utf-8", metrics::scrape));
+            server.createContext("/status", exchange ->
+                respond(exchange, "text/plain; charset=utf-8", () -> String.join("\n", metrics.statusLines()) + "\n"));
+            server.setExecutor(Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, "metrics-http");
+                t.setDaemon(true);
+                return t;
+            }));
+            server.start();
+            log.info("Metrics available at http://{}:{}/metrics", host, port);
+        } catch (IOException e) {
+            log.warn("Could not start metrics endpoint on {}:{}: {}", host, port, e.getMessage());
+            server = null;
+        }
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+    }
+
+    private void respond(HttpExchange exchange, String contentType, Supplier<String> body) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] bytes = body.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+}
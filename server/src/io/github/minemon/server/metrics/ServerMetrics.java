@@ -0,0 +1,349 @@
+package io.github.minemon.server.metrics;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+@Service
+@Slf4j
+public class ServerMetrics {
+    private static final String PREFIX = "minemon_";
+    private static final long SAMPLE_INTERVAL_MS = 5000;
+
+    @Getter
+    private final LatencyHistogram tickDuration = new LatencyHistogram();
+    @Getter
+    private final LatencyHistogram chunkGeneration = new LatencyHistogram();
+    @Getter
+    private final LatencyHistogram chunkLoad = new LatencyHistogram();
+    @Getter
+    private final LatencyHistogram diskWrite = new LatencyHistogram();
+    private final LatencyHistogram gcPause = new LatencyHistogram();
+
+    private final Map<String, Traffic> inbound = new ConcurrentHashMap<>();
+    private final Map<String, Traffic> outbound = new ConcurrentHashMap<>();
+    private final Map<Integer, ConnectionTraffic> connections = new ConcurrentHashMap<>();
+    private final Map<String, Gauge> gauges = new ConcurrentSkipListMap<>();
+
+    private final long startTime = System.currentTimeMillis();
+    private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "metrics-sampler");
+        t.setDaemon(true);
+        return t;
+    });
+    private final List<Runnable> gcListenerRemovals = new ArrayList<>();
+
+    // The sampler keeps the last two sets of totals so /status can show the last 5-10 seconds instead of
+    // all-time averages, even when it is asked right after a sample
+    private volatile Window window = Window.initial();
+    private volatile Window previousWindow = window;
+
+    @PostConstruct
+    public void init() {
+        registerGcListeners();
+        registerGauge("jvm_heap_used_bytes", "Heap in use", () -> heap().getUsed());
+        registerGauge("jvm_heap_max_bytes", "Maximum heap", () -> heap().getMax());
+        registerGauge("connections", "Open client connections", connections::size);
+        sampler.scheduleAtFixedRate(this::sample, SAMPLE_INTERVAL_MS, SAMPLE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sampler.shutdownNow();
+        gcListenerRemovals.forEach(Runnable::run);
+    }
+
+    public void recordTick(long nanos) {
+        tickDuration.record(nanos);
+    }
+
+    public void recordInbound(int connectionId, Object message, int bytes) {
+        inbound.computeIfAbsent(typeName(message), k -> new Traffic()).add(bytes);
+        connection(connectionId).bytesIn.add(bytes);
+    }
+
+    public void recordOutbound(int connectionId, Object message, int bytes) {
+        outbound.computeIfAbsent(typeName(message), k -> new Traffic()).add(bytes);
+        connection(connectionId).bytesOut.add(bytes);
+    }
+
+    public void setConnectionUser(int connectionId, String username) {
+        connection(connectionId).user = username;
+    }
+
+    public void connectionClosed(int connectionId) {
+        connections.remove(connectionId);
+    }
+
+    public void registerGauge(String name, String help, DoubleSupplier supplier) {
+        gauges.put(name, new Gauge(help, supplier));
+    }
+
+    // Prometheus text exposition format (version 0.0.4)
+    public String scrape() {
+        StringBuilder out = new StringBuilder(4096);
+        writeHistogram(out, "tick_duration_seconds", "Server tick duration", tickDuration);
+        writeHistogram(out, "chunk_generation_seconds", "Time to generate a chunk and its objects", chunkGeneration);
+        writeHistogram(out, "chunk_load_seconds", "Time to read a chunk from disk", chunkLoad);
+        writeHistogram(out, "disk_write_seconds", "Time to write a chunk, player or world file", diskWrite);
+        writeHistogram(out, "gc_pause_seconds", "JVM garbage collection pauses", gcPause);
+
+        writeTraffic(out, "messages_total", "Messages by direction and type", true);
+        writeTraffic(out, "message_bytes_total", "Serialized bytes by direction and type", false);
+
+        header(out, "connection_bytes_total", "Bytes per client connection", "counter");
+        connections.forEach((id, c) -> {
+            String labels = "connection=\"" + id + "\",user=\"" + escape(c.user) + "\"";
+            sample(out, "connection_bytes_total{direction=\"in\"," + labels + "}", c.bytesIn.sum());
+            sample(out, "connection_bytes_total{direction=\"out\"," + labels + "}", c.bytesOut.sum());
+        });
+
+        gauges.forEach((name, gauge) -> {
+            header(out, name, gauge.help, "gauge");
+            sample(out, name, gauge.value());
+        });
+        header(out, "uptime_seconds", "Seconds since the server started", "gauge");
+        sample(out, "uptime_seconds", (System.currentTimeMillis() - startTime) / 1000.0);
+        return out.toString();
+    }
+
+    public List<String> statusLines() {
+        Window now = Window.capture(this);
+        Window base = window.seconds(now) >= 1 ? window : previousWindow;
+        Window recent = now.since(base);
+        double seconds = Math.max(0.001, base.seconds(now));
+
+        LatencyHistogram.Snapshot ticks = recent.ticks;
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(Locale.ROOT, "Uptime %s, %d connections, heap %d/%d MB",
+            formatUptime(System.currentTimeMillis() - startTime), connections.size(),
+            heap().getUsed() >> 20, heap().getMax() >> 20));
+        lines.add(String.format(Locale.ROOT, "Tick: %.1f TPS, avg %.2f ms, p99 <%s ms",
+            ticks.count() / seconds, ticks.meanMillis(), formatMillis(ticks.quantileMillis(0.99))));
+        lines.add(String.format(Locale.ROOT, "Network: in %.0f msg/s %.1f KB/s%s, out %.0f msg/s %.1f KB/s%s",
+            total(recent.inCounts) / seconds, total(recent.inBytes) / seconds / 1024, busiest(recent.inCounts),
+            total(recent.outCounts) / seconds, total(recent.outBytes) / seconds / 1024, busiest(recent.outCounts)));
+        lines.add(String.format(Locale.ROOT, "Chunks: generate p99 <%s ms (%d), load p99 <%s ms (%d), disk write p99 <%s ms",
+            formatMillis(recent.generation.quantileMillis(0.99)), recent.generation.count(),
+            formatMillis(recent.load.quantileMillis(0.99)), recent.load.count(),
+            formatMillis(recent.writes.quantileMillis(0.99))));
+
+        StringBuilder gaugeLine = new StringBuilder("Gauges:");
+        gauges.forEach((name, gauge) -> {
+            if (!name.startsWith("jvm_") && !name.equals("connections")) {
+                gaugeLine.append(' ').append(name).append('=').append(formatValue(gauge.value()));
+            }
+        });
+        lines.add(gaugeLine.toString());
+        lines.add(String.format(Locale.ROOT, "GC: %d pauses, p99 <%s ms, max %.1f ms",
+            recent.gc.count(), formatMillis(recent.gc.quantileMillis(0.99)), recent.gc.maxNanos / 1e6));
+        return lines;
+    }
+
+    private void sample() {
+        try {
+            Window next = Window.capture(this);
+            previousWindow = window;
+            window = next;
+        } catch (Exception e) {
+            log.warn("Metrics sample failed: {}", e.getMessage());
+        }
+    }
+
+    private ConnectionTraffic connection(int connectionId) {
+        return connections.computeIfAbsent(connectionId, id -> new ConnectionTraffic());
+    }
+
+    private void registerGcListeners() {
+        NotificationListener listener = (notification, handback) -> {
+            if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                return;
+            }
+            GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+            // ZGC and Shenandoah also report whole concurrent cycles, which are not pauses
+            if (!"end of GC cycle".equals(info.getGcAction())) {
+                gcPause.record(TimeUnit.MILLISECONDS.toNanos(info.getGcInfo().getDuration()));
+            }
+        };
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (bean instanceof NotificationEmitter emitter) {
+                emitter.addNotificationListener(listener, null, null);
+                gcListenerRemovals.add(() -> {
+                    try {
+                        emitter.removeNotificationListener(listener);
+                    } catch (Exception ignored) {
+                    }
+                });
+            }
+        }
+    }
+
+    private void writeHistogram(StringBuilder out, String name, String help, LatencyHistogram histogram) {
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        header(out, name, help, "histogram");
+        long cumulative = 0;
+        for (int i = 0; i < LatencyHistogram.BOUNDS_SECONDS.length; i++) {
+            cumulative += snapshot.counts[i];
+            sample(out, name + "_bucket{le=\"" + LatencyHistogram.BOUNDS_SECONDS[i] + "\"}", cumulative);
+        }
+        cumulative += snapshot.counts[LatencyHistogram.BOUNDS_SECONDS.length];
+        sample(out, name + "_bucket{le=\"+Inf\"}", cumulative);
+        sample(out, name + "_sum", snapshot.sumNanos / 1e9);
+        sample(out, name + "_count", cumulative);
+    }
+
+    private void writeTraffic(StringBuilder out, String name, String help, boolean messages) {
+        header(out, name, help, "counter");
+        inbound.forEach((type, t) ->
+            sample(out, name + "{direction=\"in\",type=\"" + type + "\"}", messages ? t.messages.sum() : t.bytes.sum()));
+        outbound.forEach((type, t) ->
+            sample(out, name + "{direction=\"out\",type=\"" + type + "\"}", messages ? t.messages.sum() : t.bytes.sum()));
+    }
+
+    private static void header(StringBuilder out, String name, String help, String type) {
+        out.append("# HELP ").append(PREFIX).append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(PREFIX).append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String series, double value) {
+        out.append(PREFIX).append(series).append(' ').append(formatValue(value)).append('\n');
+    }
+
+    private static String formatValue(double value) {
+        if (value == Math.rint(value) && !Double.isInfinite(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+
+    private static String formatMillis(double millis) {
+        return millis >= 10 ? String.format(Locale.ROOT, "%.0f", millis) : String.format(Locale.ROOT, "%.2f", millis);
+    }
+
+    private static String formatUptime(long millis) {
+        long minutes = millis / 60000;
+        return minutes >= 60 ? (minutes / 60) + "h" + (minutes % 60) + "m" : minutes + "m";
+    }
+
+    private static String escape(String value) {
+        return value == null ? "" : value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static String typeName(Object message) {
+        return message == null ? "null" : message.getClass().getSimpleName();
+    }
+
+    private static MemoryUsage heap() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+    }
+
+    private static long total(Map<String, Long> values) {
+        long sum = 0;
+        for (long v : values.values()) {
+            sum += v;
+        }
+        return sum;
+    }
+
+    private static String busiest(Map<String, Long> counts) {
+        String type = null;
+        long max = 0;
+        for (Map.Entry<String, Long> e : counts.entrySet()) {
+            if (e.getValue() > max) {
+                max = e.getValue();
+                type = e.getKey();
+            }
+        }
+        return type == null ? "" : " (mostly " + type + ")";
+    }
+
+    private static final class Traffic {
+        final LongAdder messages = new LongAdder();
+        final LongAdder bytes = new LongAdder();
+
+        void add(int size) {
+            messages.increment();
+            bytes.add(size);
+        }
+    }
+
+    private static final class ConnectionTraffic {
+        final LongAdder bytesIn = new LongAdder();
+        final LongAdder bytesOut = new LongAdder();
+        volatile String user;
+    }
+
+    private record Gauge(String help, DoubleSupplier supplier) {
+        double value() {
+            try {
+                return supplier.getAsDouble();
+            } catch (Exception e) {
+                return Double.NaN;
+            }
+        }
+    }
+
+    private record Window(long time, LatencyHistogram.Snapshot ticks, LatencyHistogram.Snapshot generation,
+                          LatencyHistogram.Snapshot load, LatencyHistogram.Snapshot writes,
+                          LatencyHistogram.Snapshot gc, Map<String, Long> inCounts, Map<String, Long> inBytes,
+                          Map<String, Long> outCounts, Map<String, Long> outBytes) {
+
+        static Window initial() {
+            LatencyHistogram.Snapshot empty = LatencyHistogram.Snapshot.EMPTY;
+            return new Window(System.currentTimeMillis(), empty, empty, empty, empty, empty,
+                Map.of(), Map.of(), Map.of(), Map.of());
+        }
+
+        static Window capture(ServerMetrics m) {
+            return new Window(System.currentTimeMillis(), m.tickDuration.snapshot(), m.chunkGeneration.snapshot(),
+                m.chunkLoad.snapshot(), m.diskWrite.snapshot(), m.gcPause.snapshot(),
+                totals(m.inbound, true), totals(m.inbound, false), totals(m.outbound, true), totals(m.outbound, false));
+        }
+
+        private static Map<String, Long> totals(Map<String, Traffic> traffic, boolean messages) {
+            Map<String, Long> totals = new HashMap<>();
+            traffic.forEach((type, t) -> totals.put(type, messages ? t.messages.sum() : t.bytes.sum()));
+            return totals;
+        }
+
+        double seconds(Window later) {
+            return (later.time - time) / 1000.0;
+        }
+
+        Window since(Window earlier) {
+            return new Window(time, ticks.since(earlier.ticks), generation.since(earlier.generation),
+                load.since(earlier.load), writes.since(earlier.writes), gc.since(earlier.gc),
+                diff(inCounts, earlier.inCounts), diff(inBytes, earlier.inBytes),
+                diff(outCounts, earlier.outCounts), diff(outBytes, earlier.outBytes));
+        }
+
+        private static Map<String, Long> diff(Map<String, Long> later, Map<String, Long> earlier) {
+            Map<String, Long> delta = new HashMap<>();
+            later.forEach((type, value) -> delta.put(type, value - earlier.getOrDefault(type, 0L)));
+            return delta;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.minemon.server.movement;
+
+import io.github.minemon.player.config.PlayerProperties;
+import io.github.minemon.player.model.PlayerData;
+import io.github.minemon.server.metrics.ServerMetrics;
+import io.github.minemon.server.world.PassabilityIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Checks client-reported moves against the grid rules the client plays by: one tile per step, no faster
+// than a running step, and only onto passable tiles. Every check is O(1) per move.
+@Slf4j
+@Service
+public class MovementValidator {
+
+    public enum Result { ACCEPTED, TOO_FAST, BLOCKED }
+
+    private final PassabilityIndex passabilityIndex;
+    private final double stepsPerNano;
+    private final double burstSteps;
+    private final Map<String, MoveState> states = new ConcurrentHashMap<>();
+    private final LongAdder tooFast = new LongAdder();
+    private final LongAdder blocked = new LongAdder();
+
+    public MovementValidator(PassabilityIndex passabilityIndex,
+                             PlayerProperties playerProperties,
+                             ServerMetrics metrics,
+                             @Value("${movement.burstSteps:3}") int burstSteps,
+                             @Value("${movement.speedTolerance:1.25}") double speedTolerance) {
+        this.passabilityIndex = passabilityIndex;
+        // Running is the fastest legitimate pace; the tolerance absorbs frame-rate and timer jitter
+        float fastestStep = Math.min(playerProperties.getRunStepDuration(), playerProperties.getWalkStepDuration());
+        this.stepsPerNano = speedTolerance / (fastestStep * 1_000_000_000.0);
+        this.burstSteps = burstSteps;
+
+        metrics.registerGauge("moves_rejected_speed", "Moves rejected for exceeding the step rate", tooFast::sum);
+        metrics.registerGauge("moves_rejected_blocked", "Moves rejected for entering an impassable tile",
+            blocked::sum);
+        metrics.registerGauge("passability_chunks", "Chunks with a passability bitmap",
+            passabilityIndex::getIndexedChunkCount);
+    }
+
+    // Moves earn step credit over time, capped at a small burst so packets that arrive bunched up by
+    // the network still pass while sustained speed hacks do not.
+    public Result validate(PlayerData current, float x, float y, long nowNanos) {
+        MoveState state = states.computeIfAbsent(current.getUsername(),
+            k -> new MoveState(Math.round(current.getX()), Math.round(current.getY()), burstSteps, nowNanos));
+        int tileX = Math.round(x);
+        int tileY = Math.round(y);
+        synchronized (state) {
+            state.credit = Math.min(burstSteps, state.credit + (nowNanos - state.lastNanos) * stepsPerNano);
+            state.lastNanos = nowNanos;
+
+            int steps = Math.abs(tileX - state.tileX) + Math.abs(tileY - state.tileY);
+            if (steps == 0) {
+                return Result.ACCEPTED;
+            }
+            if (steps > state.credit) {
+                tooFast.increment();
+                return Result.TOO_FAST;
+            }
+            if (!passabilityIndex.isPassable(tileX, tileY)) {
+                blocked.increment();
+                return Result.BLOCKED;
+            }
+            state.credit -= steps;
+            state.tileX = tileX;
+            state.tileY = tileY;
+            return Result.ACCEPTED;
+        }
+    }
+
+    public void playerLeft(String username) {
+        states.remove(username);
+    }
+
+    private static final class MoveState {
+        int tileX;
+        int tileY;
+        double credit;
+        long lastNanos;
+
+        MoveState(int tileX, int tileY, double credit, long lastNanos) {
+            this.tileX = tileX;
+            this.tileY = tileY;
+            this.credit = credit;
+            this.lastNanos = lastNanos;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package io.github.minemon.server.replay;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import io.github.minemon.server.config.NativeKryo;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+// Binary log of everything the server received, in the order it handled it. Each entry is a kind byte and
+// the nanoseconds since recording started, both varint coded, followed by the kind's payload: a connection
+// id, plus the Kryo-encoded message for MESSAGE, the login request and whether it authenticated for LOGIN,
+// or the tick's delta for TICK. Messages are written with
+// their class names rather than registration ids, so a log stays readable by builds that register
+// protocol classes differently.
+public final class InputLog {
+    static final int MAGIC = 0x4D4D494C;
+    static final int VERSION = 2;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    public enum Kind { CONNECTED, MESSAGE, DISCONNECTED, TICK, LOGIN }
+
+    public record Entry(Kind kind, long nanos, int connectionId, Object message, float delta, boolean authenticated) {
+    }
+
+    private InputLog() {
+    }
+
+    static Kryo newKryo() {
+        Kryo kryo = NativeKryo.configure(new Kryo());
+        kryo.setRegistrationRequired(false);
+        kryo.setReferences(false);
+        return kryo;
+    }
+
+    public static final class Writer implements Closeable {
+        private final Kryo kryo = newKryo();
+        private final Output output;
+
+        Writer(OutputStream out, long startMillis) {
+            this.output = new Output(out, BUFFER_SIZE);
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeLong(startMillis);
+        }
+
+        void connection(Kind kind, long nanos, int connectionId) {
+            output.writeByte(kind.ordinal());
+            output.writeLong(nanos, true);
+            output.writeInt(connectionId, true);
+        }
+
+        void message(long nanos, int connectionId, Object message) {
+            connection(Kind.MESSAGE, nanos, connectionId);
+            kryo.writeClassAndObject(output, message);
+        }
+
+        void login(long nanos, int connectionId, Object request, boolean authenticated) {
+            connection(Kind.LOGIN, nanos, connectionId);
+            kryo.writeClassAndObject(output, request);
+            output.writeBoolean(authenticated);
+        }
+
+        void tick(long nanos, float delta) {
+            output.writeByte(Kind.TICK.ordinal());
+            output.writeLong(nanos, true);
+            output.writeFloat(delta);
+        }
+
+        long bytesWritten() {
+            return output.total();
+        }
+
+        void flush() {
+            output.flush();
+        }
+
+        @Override
+        public void close() {
+            output.close();
+        }
+    }
+
+    public static final class Reader implements Closeable {
+        private static final Kind[] KINDS = Kind.values();
+        private final Kryo kryo = newKryo();
+        private final Input input;
+        private final long startMillis;
+
+        public Reader(InputStream in) throws IOException {
+            this.input = new Input(in, BUFFER_SIZE);
+            if (input.eof() || input.readInt() != MAGIC) {
+                throw new IOException("Not a server input log");
+            }
+            int version = input.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported input log version " + version);
+            }
+            this.startMillis = input.readLong();
+        }
+
+        public long getStartMillis() {
+            return startMillis;
+        }
+
+        // Null at the end of the log, including a tail cut short by a crash
+        public Entry next() {
+            if (input.eof()) {
+                return null;
+            }
+            try {
+                int kind = input.readByte();
+                if (kind < 0 || kind >= KINDS.length) {
+                    return null;
+                }
+                long nanos = input.readLong(true);
+                if (KINDS[kind] == Kind.TICK) {
+                    return new Entry(Kind.TICK, nanos, -1, null, input.readFloat(), false);
+                }
+                int connectionId = input.readInt(true);
+                if (KINDS[kind] == Kind.LOGIN) {
+                    Object request = kryo.readClassAndObject(input);
+                    return new Entry(Kind.LOGIN, nanos, connectionId, request, 0f, input.readBoolean());
+                }
+                Object message = KINDS[kind] == Kind.MESSAGE ? kryo.readClassAndObject(input) : null;
+                return new Entry(KINDS[kind], nanos, connectionId, message, 0f, false);
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public void close() {
+            input.close();
+        }
+    }
+}
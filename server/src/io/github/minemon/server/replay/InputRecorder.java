@@ -0,0 +1,112 @@
+package io.github.minemon.server.replay;
+
+import io.github.minemon.NetworkProtocol;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+// Started with --record=<file>: appends every inbound message, connect, disconnect and tick boundary to an
+// InputLog for InputReplayer. Kryonet's keep-alives and pings are left out, and passwords are blanked. Logins
+// are written by the server once it has checked them, with the outcome, since a replay cannot authenticate.
+@Slf4j
+@Service
+public class InputRecorder {
+    private static final long FLUSH_INTERVAL_NANOS = 1_000_000_000L;
+
+    @Value("${record:}")
+    private String recordFile;
+    private InputLog.Writer writer;
+    private long startNanos;
+    private long lastFlushNanos;
+
+    @PostConstruct
+    public void init() {
+        if (recordFile == null || recordFile.isBlank()) {
+            return;
+        }
+        Path path = Paths.get(recordFile).toAbsolutePath();
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            writer = new InputLog.Writer(new BufferedOutputStream(Files.newOutputStream(path)),
+                System.currentTimeMillis());
+            startNanos = System.nanoTime();
+            lastFlushNanos = startNanos;
+            log.info("Recording server input to {}", path);
+        } catch (IOException e) {
+            log.error("Could not open input recording {}: {}", path, e.getMessage());
+        }
+    }
+
+    public synchronized void connected(int connectionId) {
+        if (writer != null) {
+            writer.connection(InputLog.Kind.CONNECTED, System.nanoTime() - startNanos, connectionId);
+        }
+    }
+
+    public synchronized void received(int connectionId, Object message) {
+        if (writer == null || message instanceof NetworkProtocol.LoginRequest
+            || message.getClass().getName().startsWith("com.esotericsoftware.kryonet.FrameworkMessage")) {
+            return;
+        }
+        writer.message(System.nanoTime() - startNanos, connectionId, redact(message));
+    }
+
+    public synchronized void login(int connectionId, NetworkProtocol.LoginRequest request, boolean authenticated) {
+        if (writer != null) {
+            writer.login(System.nanoTime() - startNanos, connectionId, redact(request), authenticated);
+        }
+    }
+
+    public synchronized void disconnected(int connectionId) {
+        if (writer != null) {
+            writer.connection(InputLog.Kind.DISCONNECTED, System.nanoTime() - startNanos, connectionId);
+        }
+    }
+
+    // Everything received before this point is handled before the tick when the log is replayed
+    public synchronized void tick(float delta) {
+        if (writer == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        writer.tick(now - startNanos, delta);
+        if (now - lastFlushNanos >= FLUSH_INTERVAL_NANOS) {
+            writer.flush();
+            lastFlushNanos = now;
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (writer != null) {
+            log.info("Input recording closed after {} KB", writer.bytesWritten() / 1024);
+            writer.close();
+            writer = null;
+        }
+    }
+
+    private static Object redact(Object message) {
+        if (message instanceof NetworkProtocol.LoginRequest login) {
+            NetworkProtocol.LoginRequest copy = new NetworkProtocol.LoginRequest();
+            copy.setUsername(login.getUsername());
+            copy.setTimestamp(login.getTimestamp());
+            return copy;
+        }
+        if (message instanceof NetworkProtocol.CreateUserRequest create) {
+            NetworkProtocol.CreateUserRequest copy = new NetworkProtocol.CreateUserRequest();
+            copy.setUsername(create.getUsername());
+            return copy;
+        }
+        return message;
+    }
+}
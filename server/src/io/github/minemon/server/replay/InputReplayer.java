@@ -0,0 +1,154 @@
+package io.github.minemon.server.replay;
+
+import io.github.minemon.NetworkProtocol;
+import io.github.minemon.server.service.impl.MultiplayerServerImpl;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Started with --replay=<file>: feeds a recorded InputLog through the server with no sockets and no sleeping
+// between ticks. Each tick's messages are handled on this thread, then the tick itself runs, and both are
+// timed. Rate checks see the recorded clock, so moves and chat are accepted or rejected as they were live.
+// Chunk generation stays on its own pool and is not part of either time.
+@Slf4j
+@Service
+public class InputReplayer {
+    // Recordings hold no passwords; accounts created during the replay get this one. Logins are replayed with
+    // their recorded outcome, so players join, or are turned away, as they were live.
+    private static final String REPLAY_PASSWORD = "replay";
+    private static final int SLOWEST_TICKS = 10;
+
+    private final MultiplayerServerImpl server;
+    private final Map<Integer, ReplayConnection> connections = new HashMap<>();
+    private volatile long replayNanos;
+
+    public InputReplayer(MultiplayerServerImpl server) {
+        this.server = server;
+    }
+
+    public void replay(Path logFile, Path profileCsv) throws IOException {
+        long startNanos = System.nanoTime();
+        server.beginReplay(() -> startNanos + replayNanos);
+
+        List<TickSample> ticks = new ArrayList<>();
+        int messages = 0;
+        int totalMessages = 0;
+        long inputNanos = 0;
+        long recordedNanos = 0;
+        try (InputLog.Reader reader = new InputLog.Reader(new BufferedInputStream(Files.newInputStream(logFile)));
+             PrintWriter csv = profileCsv != null ? new PrintWriter(Files.newBufferedWriter(profileCsv)) : null) {
+            if (csv != null) {
+                csv.println("tick,recorded_ms,messages,input_us,tick_us");
+            }
+            for (InputLog.Entry entry = reader.next(); entry != null; entry = reader.next()) {
+                replayNanos = entry.nanos();
+                recordedNanos = entry.nanos();
+                switch (entry.kind()) {
+                    case CONNECTED -> connections.put(entry.connectionId(), new ReplayConnection(entry.connectionId()));
+                    case DISCONNECTED -> {
+                        ReplayConnection connection = connections.remove(entry.connectionId());
+                        if (connection != null) {
+                            server.handleDisconnection(connection);
+                        }
+                    }
+                    case MESSAGE -> {
+                        long before = System.nanoTime();
+                        deliver(entry.connectionId(), entry.message());
+                        inputNanos += System.nanoTime() - before;
+                        messages++;
+                    }
+                    case LOGIN -> {
+                        long before = System.nanoTime();
+                        server.replayLogin(connections.computeIfAbsent(entry.connectionId(), ReplayConnection::new),
+                            (NetworkProtocol.LoginRequest) entry.message(), entry.authenticated());
+                        inputNanos += System.nanoTime() - before;
+                        messages++;
+                    }
+                    case TICK -> {
+                        long before = System.nanoTime();
+                        server.processMessages(entry.delta());
+                        TickSample sample = new TickSample(ticks.size(), entry.nanos(), messages, inputNanos,
+                            System.nanoTime() - before);
+                        ticks.add(sample);
+                        if (csv != null) {
+                            csv.printf(Locale.ROOT, "%d,%.3f,%d,%d,%d%n", sample.tick, sample.recordedNanos / 1e6,
+                                sample.messages, sample.inputNanos / 1000, sample.tickNanos / 1000);
+                        }
+                        totalMessages += messages;
+                        messages = 0;
+                        inputNanos = 0;
+                    }
+                }
+            }
+        }
+
+        report(logFile, ticks, totalMessages, recordedNanos, System.nanoTime() - startNanos);
+        if (profileCsv != null) {
+            log.info("Per-tick profile written to {}", profileCsv.toAbsolutePath());
+        }
+    }
+
+    private void deliver(int connectionId, Object message) {
+        ReplayConnection connection = connections.computeIfAbsent(connectionId, ReplayConnection::new);
+        if (message instanceof NetworkProtocol.CreateUserRequest create) {
+            create.setPassword(REPLAY_PASSWORD);
+        }
+        server.handleMessage(connection, message);
+    }
+
+    private static void report(Path logFile, List<TickSample> ticks, int messages, long recordedNanos,
+                               long wallNanos) {
+        log.info("Replayed {} ticks and {} messages from {} ({} s recorded) in {} s, {}x real time",
+            ticks.size(), messages, logFile.getFileName(), format(recordedNanos / 1e9), format(wallNanos / 1e9),
+            format(recordedNanos / (double) Math.max(1, wallNanos)));
+        if (ticks.isEmpty()) {
+            return;
+        }
+        log.info("Tick time   {}", distribution(ticks.stream().mapToLong(TickSample::tickNanos).toArray()));
+        log.info("Input time  {}", distribution(ticks.stream().mapToLong(TickSample::inputNanos).toArray()));
+        ticks.stream()
+            .sorted(Comparator.comparingLong(TickSample::totalNanos).reversed())
+            .limit(SLOWEST_TICKS)
+            .forEach(t -> log.info("  tick {} at {} s: {} ms ({} ms tick, {} ms input for {} messages)",
+                t.tick, format(t.recordedNanos / 1e9), format(t.totalNanos() / 1e6), format(t.tickNanos / 1e6),
+                format(t.inputNanos / 1e6), t.messages));
+    }
+
+    private static String distribution(long[] nanos) {
+        Arrays.sort(nanos);
+        double sum = 0;
+        for (long n : nanos) {
+            sum += n;
+        }
+        return String.format(Locale.ROOT, "mean %.3f ms, p50 %.3f ms, p90 %.3f ms, p99 %.3f ms, max %.3f ms",
+            sum / nanos.length / 1e6, percentile(nanos, 0.5) / 1e6, percentile(nanos, 0.9) / 1e6,
+            percentile(nanos, 0.99) / 1e6, nanos[nanos.length - 1] / 1e6);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        int rank = (int) Math.ceil(p * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+
+    private record TickSample(int tick, long recordedNanos, int messages, long inputNanos, long tickNanos) {
+        long totalNanos() {
+            return inputNanos + tickNanos;
+        }
+    }
+}
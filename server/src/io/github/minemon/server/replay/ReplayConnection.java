@@ -0,0 +1,60 @@
+package io.github.minemon.server.replay;
+
+import com.esotericsoftware.kryonet.Connection;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Stands in for a recorded client. Replies are counted and dropped; both channels report an address, so
+// the server sends snapshots over UDP as it does to a game client.
+class ReplayConnection extends Connection {
+    private static final InetSocketAddress ADDRESS = new InetSocketAddress("127.0.0.1", 0);
+
+    private final int id;
+    private final AtomicLong sent = new AtomicLong();
+
+    ReplayConnection(int id) {
+        this.id = id;
+        setName("Replay connection " + id);
+    }
+
+    long getSent() {
+        return sent.get();
+    }
+
+    @Override
+    public int getID() {
+        return id;
+    }
+
+    @Override
+    public boolean isConnected() {
+        return true;
+    }
+
+    @Override
+    public int sendTCP(Object object) {
+        sent.incrementAndGet();
+        return 0;
+    }
+
+    @Override
+    public int sendUDP(Object object) {
+        sent.incrementAndGet();
+        return 0;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public InetSocketAddress getRemoteAddressTCP() {
+        return ADDRESS;
+    }
+
+    @Override
+    public InetSocketAddress getRemoteAddressUDP() {
+        return ADDRESS;
+    }
+}
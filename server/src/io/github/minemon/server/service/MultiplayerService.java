@@ -17,10 +17,15 @@ public interface MultiplayerService {
 
     ChunkUpdate getChunkData(int chunkX, int chunkY);
     Map<String, PlayerSyncData> getAllPlayerStates();
-    List<WorldObjectUpdate> getAllWorldObjectUpdates();
+    // Updates queued since the last drain, one per object (the latest wins), grouped by chunkKey
+    Map<Long, List<WorldObjectUpdate>> drainWorldObjectUpdates();
 
     void broadcastPlayerState(PlayerData data);
     void broadcastChunkUpdate(ChunkUpdate chunk);
     void broadcastWorldObjectUpdate(WorldObjectUpdate objUpdate);
     void tick(float delta);
+
+    static long chunkKey(int chunkX, int chunkY) {
+        return ((long) chunkX << 32) | (chunkY & 0xFFFFFFFFL);
+    }
 }
@@ -5,12 +5,21 @@ import com.esotericsoftware.kryonet.Listener;
 import com.esotericsoftware.kryonet.Server;
 import io.github.minemon.NetworkProtocol;
 import io.github.minemon.event.EventBus;
+import io.github.minemon.inventory.service.impl.ItemSpawnService;
 import io.github.minemon.player.event.PlayerJoinEvent;
 import io.github.minemon.player.event.PlayerLeaveEvent;
 import io.github.minemon.player.model.PlayerData;
 import io.github.minemon.multiplayer.model.ChunkUpdate;
 import io.github.minemon.multiplayer.model.PlayerSyncData;
+import io.github.minemon.multiplayer.model.WorldObjectUpdate;
 import io.github.minemon.player.model.PlayerDirection;
+import io.github.minemon.server.chat.ServerChatService;
+import io.github.minemon.server.config.NativeKryo;
+import io.github.minemon.server.inventory.ServerInventoryService;
+import io.github.minemon.server.metrics.MeteredSerialization;
+import io.github.minemon.server.metrics.ServerMetrics;
+import io.github.minemon.server.movement.MovementValidator;
+import io.github.minemon.server.replay.InputRecorder;
 import io.github.minemon.server.service.MultiplayerServer;
 import io.github.minemon.server.service.MultiplayerService;
 import io.github.minemon.world.model.ChunkData;
@@ -29,6 +38,8 @@ import org.springframework.stereotype.Service;
 import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
 
 @Slf4j
 @Primary
@@ -39,30 +50,72 @@ public class MultiplayerServerImpl implements MultiplayerServer {
     private static final long CHUNK_REQUEST_TIMEOUT = 5000; 
     private static final long CHUNK_SEND_DELAY = 50L; 
     private static final int MAX_CONCURRENT_CHUNK_GEN = 8;
+    private static final PlayerDirection[] DIRECTIONS = PlayerDirection.values();
+    private static final float ITEM_PICKUP_RANGE = 2.5f; // tiles, with slack for movement in flight
+    private static final int STATE_REDUNDANCY = 3; // snapshots that repeat a changed player state
+    private static final int PLAYERS_PER_SNAPSHOT = 8; // keeps a snapshot inside the client's UDP buffer
     private final MultiplayerService multiplayerService;
     private final EventBus eventBus;
     private final AuthService authService;
+    private final ServerMetrics metrics;
+    private final ServerChatService chatService;
+    private final ServerInventoryService inventoryService;
+    private final MovementValidator movementValidator;
     private final Map<Integer, String> connectionUserMap = new ConcurrentHashMap<>();
     private final Map<String, Connection> activeUsers = new ConcurrentHashMap<>();
     private final PriorityBlockingQueue<NetworkProtocol.ChunkRequest> chunkRequestQueue = new PriorityBlockingQueue<>();
     private final ExecutorService chunkExecutor;
     private final Map<String, Map<ChunkKey, Long>> clientChunkCache = new ConcurrentHashMap<>();
-    private final ExecutorService chunkGenExecutor = Executors.newFixedThreadPool(MAX_CONCURRENT_CHUNK_GEN);
+    // Chunks each player has been sent; clients keep them, so these bound which object updates they need
+    private final Map<String, Set<Long>> loadedChunksByUser = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor chunkGenExecutor =
+        (ThreadPoolExecutor) Executors.newFixedThreadPool(MAX_CONCURRENT_CHUNK_GEN);
     private final Map<ChunkKey, Set<Connection>> pendingChunkRequests = new ConcurrentHashMap<>();
     private final Object chunkLock = new Object();
+    // Last move applied per player, and the snapshots each changed player still has to appear in
+    private final Map<String, AppliedMove> appliedMoves = new ConcurrentHashMap<>();
+    private final Map<String, Integer> stateRepeats = new ConcurrentHashMap<>();
+    private final Map<String, AppliedMove> lastAckSent = new ConcurrentHashMap<>();
+    private int snapshotSequence;
+    private final InputRecorder inputRecorder;
+    private final long startNanos = System.nanoTime();
+    // Time seen by rate checks and snapshot stamps; a replay substitutes the recorded time so its moves and
+    // chat pass the same way
+    private LongSupplier clock = System::nanoTime;
+    private volatile boolean replaying;
     @Getter
     private Server server;
     private volatile boolean running = false;
     @Autowired
     private WorldService worldService;
+    @Autowired
+    private ItemSpawnService itemSpawnService;
 
     public MultiplayerServerImpl(MultiplayerService multiplayerService,
                                  EventBus eventBus,
-                                 AuthService authService) {
+                                 AuthService authService,
+                                 ServerMetrics metrics,
+                                 ServerChatService chatService,
+                                 ServerInventoryService inventoryService,
+                                 MovementValidator movementValidator,
+                                 InputRecorder inputRecorder) {
         this.multiplayerService = multiplayerService;
         this.eventBus = eventBus;
         this.authService = authService;
+        this.metrics = metrics;
+        this.chatService = chatService;
+        this.inventoryService = inventoryService;
+        this.movementValidator = movementValidator;
+        this.inputRecorder = inputRecorder;
         this.chunkExecutor = Executors.newFixedThreadPool(MAX_CONCURRENT_CHUNK_REQUESTS);
+
+        metrics.registerGauge("chunk_gen_queue_depth", "Chunk requests waiting for a generation thread",
+            () -> chunkGenExecutor.getQueue().size());
+        metrics.registerGauge("chunk_gen_active_threads", "Generation threads currently busy",
+            chunkGenExecutor::getActiveCount);
+        metrics.registerGauge("chunk_requests_pending", "Distinct chunks requested but not yet sent",
+            pendingChunkRequests::size);
+        metrics.registerGauge("players_online", "Logged in players", activeUsers::size);
     }
 
     @Override
@@ -73,23 +126,26 @@ public class MultiplayerServerImpl implements MultiplayerServer {
         }
 
 
-        server = new Server(1024 * 1024, 1024 * 1024);
-        NetworkProtocol.registerClasses(server.getKryo());
+        server = new Server(1024 * 1024, 1024 * 1024, new MeteredSerialization(metrics));
+        NetworkProtocol.registerClasses(NativeKryo.configure(server.getKryo()));
 
 
         server.addListener(new Listener() {
             @Override
             public void connected(Connection connection) {
                 log.info("New connection: {}", connection.getRemoteAddressTCP());
+                inputRecorder.connected(connection.getID());
             }
 
             @Override
             public void disconnected(Connection connection) {
+                inputRecorder.disconnected(connection.getID());
                 handleDisconnection(connection);
             }
 
             @Override
             public void received(Connection connection, Object object) {
+                inputRecorder.received(connection.getID(), object);
                 handleMessage(connection, object);
             }
         });
@@ -104,10 +160,16 @@ public class MultiplayerServerImpl implements MultiplayerServer {
         }
     }
 
-    private void handleLogin(Connection connection, NetworkProtocol.LoginRequest req) {
+    // Recordings hold no passwords, so a replayed login gets the outcome it was recorded with
+    public void replayLogin(Connection connection, NetworkProtocol.LoginRequest req, boolean authenticated) {
+        handleLogin(connection, req, () -> authenticated);
+    }
+
+    private void handleLogin(Connection connection, NetworkProtocol.LoginRequest req, BooleanSupplier authenticate) {
         try {
             
             if (activeUsers.containsKey(req.getUsername())) {
+                inputRecorder.login(connection.getID(), req, false);
                 NetworkProtocol.LoginResponse resp = new NetworkProtocol.LoginResponse();
                 resp.setSuccess(false);
                 resp.setMessage("This user is already logged in");
@@ -116,7 +178,8 @@ public class MultiplayerServerImpl implements MultiplayerServer {
                 return;
             }
 
-            boolean authSuccess = authService.authenticate(req.getUsername(), req.getPassword());
+            boolean authSuccess = authenticate.getAsBoolean();
+            inputRecorder.login(connection.getID(), req, authSuccess);
             NetworkProtocol.LoginResponse resp = new NetworkProtocol.LoginResponse();
 
             if (!authSuccess) {
@@ -130,7 +193,9 @@ public class MultiplayerServerImpl implements MultiplayerServer {
             
             activeUsers.put(req.getUsername(), connection);
             connectionUserMap.put(connection.getID(), req.getUsername());
+            metrics.setConnectionUser(connection.getID(), req.getUsername());
             multiplayerService.playerConnected(req.getUsername());
+            inventoryService.playerJoined(req.getUsername());
 
             eventBus.fireEvent(new PlayerJoinEvent(req.getUsername()));
             PlayerData pd = multiplayerService.getPlayerData(req.getUsername());
@@ -142,6 +207,7 @@ public class MultiplayerServerImpl implements MultiplayerServer {
 
             connection.sendTCP(resp);
             log.info("User '{}' logged in successfully from {}", req.getUsername(), connection.getRemoteAddressTCP());
+            chatService.playerJoined(req.getUsername());
 
             broadcastPlayerStates();
             sendInitialChunks(connection, pd);
@@ -156,9 +222,17 @@ public class MultiplayerServerImpl implements MultiplayerServer {
     }
 
     public void handleDisconnection(Connection connection) {
+        metrics.connectionClosed(connection.getID());
         String username = connectionUserMap.remove(connection.getID());
         if (username != null) {
             activeUsers.remove(username); 
+            loadedChunksByUser.remove(username);
+            appliedMoves.remove(username);
+            stateRepeats.remove(username);
+            lastAckSent.remove(username);
+            movementValidator.playerLeft(username);
+            chatService.playerLeft(username);
+            inventoryService.playerLeft(username);
             multiplayerService.playerDisconnected(username);
             eventBus.fireEvent(new PlayerLeaveEvent(username));
             log.info("Player {} disconnected", username);
@@ -168,37 +242,73 @@ public class MultiplayerServerImpl implements MultiplayerServer {
         }
     }
 
-    private void handleMessage(Connection connection, Object object) {
+    public void handleMessage(Connection connection, Object object) {
         if (object.getClass().getName().startsWith("com.esotericsoftware.kryonet.FrameworkMessage")) {
             return;
         }
         if (object instanceof NetworkProtocol.LoginRequest req) {
-            handleLogin(connection, req);
+            handleLogin(connection, req, () -> authService.authenticate(req.getUsername(), req.getPassword()));
         } else if (object instanceof NetworkProtocol.CreateUserRequest createReq) {
             handleCreateUser(connection, createReq);
+        } else if (object instanceof NetworkProtocol.InventoryAction action) {
+            String username = connectionUserMap.get(connection.getID());
+            if (username != null) {
+                inventoryService.handleAction(username, action);
+            }
+        } else if (object instanceof NetworkProtocol.PlayerMoveBatch batch) {
+            if (batch.getMoves() != null) {
+                for (NetworkProtocol.PlayerMoveRequest moveReq : batch.getMoves()) {
+                    handlePlayerMove(connection, moveReq);
+                }
+            }
         } else if (object instanceof NetworkProtocol.PlayerMoveRequest moveReq) {
             handlePlayerMove(connection, moveReq);
         } else if (object instanceof NetworkProtocol.ChunkRequest chunkReq) {
-            log.info("Server received ChunkRequest for {},{}", chunkReq.getChunkX(), chunkReq.getChunkY());
+            log.debug("Server received ChunkRequest for {},{}", chunkReq.getChunkX(), chunkReq.getChunkY());
             handleChunkRequest(connection, chunkReq);
+        } else if (object instanceof NetworkProtocol.ChunksUnloaded unloaded) {
+            handleChunksUnloaded(connection, unloaded);
         } else if (object instanceof io.github.minemon.chat.model.ChatMessage chatMsg) {
             handleChatMessage(connection, chatMsg);
+        } else if (object instanceof WorldObjectUpdate objectUpdate) {
+            handleItemPickup(connection, objectUpdate);
         } else {
             log.warn("Unknown message type received: {}", object.getClass());
         }
     }
 
+    private void handleItemPickup(Connection connection, WorldObjectUpdate request) {
+        String username = connectionUserMap.get(connection.getID());
+        if (username == null || !request.isRemoved() || request.getObjectId() == null) {
+            return;
+        }
+        PlayerData pd = worldService.getPlayerData(username);
+        if (pd == null) {
+            return;
+        }
+        WorldObjectUpdate removal = itemSpawnService.claimItem(request.getObjectId(), pd.getX(), pd.getY(),
+            ITEM_PICKUP_RANGE);
+        if (removal == null) {
+            log.debug("Rejected pickup of {} by {}", request.getObjectId(), username);
+            return;
+        }
+        inventoryService.grantItem(username, itemSpawnService.rollPokeballLoot(), 1);
+        multiplayerService.broadcastWorldObjectUpdate(removal);
+    }
+
     private void handleChatMessage(Connection connection, io.github.minemon.chat.model.ChatMessage msg) {
         String sender = connectionUserMap.get(connection.getID());
         if (sender == null) {
             log.warn("ChatMessage received from unregistered connection: {}", connection.getID());
             return;
         }
-        msg.setSender(sender);
 
-        log.info("Received ChatMessage from {}: {}", sender, msg.getContent());
-        server.sendToAllExceptTCP(connection.getID(), msg);
+        if ("/status".equalsIgnoreCase(String.valueOf(msg.getContent()).trim())) {
+            metrics.statusLines().forEach(line -> chatService.sendSystem(sender, line));
+            return;
+        }
 
+        chatService.submit(sender, msg, clock.getAsLong());
     }
 
     private void handleCreateUser(Connection connection, NetworkProtocol.CreateUserRequest req) {
@@ -222,37 +332,46 @@ public class MultiplayerServerImpl implements MultiplayerServer {
         PlayerData pd = worldService.getPlayerData(username);
         if (pd == null) return;
 
-        try {
-            pd.setDirection(PlayerDirection.valueOf(moveReq.getDirection().toUpperCase()));
-        } catch (IllegalArgumentException e) {
-            log.error("Invalid direction '{}'", moveReq.getDirection());
+        // Batches repeat earlier moves and datagrams can arrive out of order; each move is applied once
+        AppliedMove last = appliedMoves.get(username);
+        if (last != null && moveReq.getSequence() <= last.sequence()) {
             return;
         }
+        applyMove(connection, username, pd, moveReq);
+        appliedMoves.put(username, new AppliedMove(moveReq.getSequence(), pd.getX(), pd.getY()));
+        stateRepeats.put(username, STATE_REDUNDANCY);
+    }
 
-        float oldX = pd.getX();
-        float oldY = pd.getY();
+    private void applyMove(Connection connection, String username, PlayerData pd,
+                           NetworkProtocol.PlayerMoveRequest moveReq) {
+        int direction = moveReq.getDirection();
+        if (direction < 0 || direction >= DIRECTIONS.length) {
+            log.error("Invalid direction ordinal {} from {}", direction, username);
+            return;
+        }
 
-        float newX = moveReq.getX();
-        float newY = moveReq.getY();
+        MovementValidator.Result result = movementValidator.validate(pd, moveReq.getX(), moveReq.getY(),
+            clock.getAsLong());
+        if (result != MovementValidator.Result.ACCEPTED) {
+            log.debug("Rejected move of {} to ({}, {}): {}", username, moveReq.getX(), moveReq.getY(), result);
+            NetworkProtocol.PlayerPositionCorrection correction = new NetworkProtocol.PlayerPositionCorrection();
+            correction.setX(pd.getX());
+            correction.setY(pd.getY());
+            correction.setDirection(pd.getDirection().ordinal());
+            connection.sendTCP(correction);
+            return;
+        }
 
+        // The live PlayerData is updated in place; the autosave persists it
+        pd.setDirection(DIRECTIONS[direction]);
         pd.setWantsToRun(moveReq.isRunning());
-
-        float newXrounded = (float) Math.round(newX * 1000) / 1000f;
-        float newYrounded = (float) Math.round(newY * 1000) / 1000f;
-
-        boolean positionChanged =
-            (Math.abs(oldX - newXrounded) > 0.001f) ||
-                (Math.abs(oldY - newYrounded) > 0.001f);
-
+        boolean positionChanged = Math.abs(pd.getX() - moveReq.getX()) > 0.001f
+            || Math.abs(pd.getY() - moveReq.getY()) > 0.001f;
         pd.setMoving(positionChanged);
-
         if (positionChanged) {
-            pd.setX(newX);
-            pd.setY(newY);
+            pd.setX(moveReq.getX());
+            pd.setY(moveReq.getY());
         }
-
-        worldService.setPlayerData(pd);
-        broadcastPlayerStates();
     }
 
     private void broadcastPlayerStates() {
@@ -293,6 +412,7 @@ public class MultiplayerServerImpl implements MultiplayerServer {
 
                                 for (Connection conn : waitingConnections) {
                                     conn.sendTCP(response);
+                                    markChunkLoaded(conn, chunk.getChunkX(), chunk.getChunkY());
 
                                     
                                     NetworkProtocol.ChunkRequestAck ack = new NetworkProtocol.ChunkRequestAck();
@@ -412,6 +532,7 @@ public class MultiplayerServerImpl implements MultiplayerServer {
                 cd.setTiles(chunk.getTiles());
                 cd.setObjects(chunk.getObjects());
                 connection.sendTCP(cd);
+                markChunkLoaded(connection, cx, cy);
             }
         }
     }
@@ -420,6 +541,8 @@ public class MultiplayerServerImpl implements MultiplayerServer {
     public void broadcast(Object message) {
         if (server != null && running) {
             server.sendToAllTCP(message);
+        } else if (replaying) {
+            activeUsers.values().forEach(connection -> connection.sendTCP(message));
         } else {
             log.warn("Cannot broadcast message, server not running.");
         }
@@ -440,6 +563,7 @@ public class MultiplayerServerImpl implements MultiplayerServer {
             notice.setMessage("Server is shutting down...");
             notice.setReason(NetworkProtocol.ServerShutdownNotice.ShutdownReason.NORMAL_SHUTDOWN);
             broadcast(notice);
+            inventoryService.saveAll();
 
             
             Thread.sleep(1000);
@@ -474,17 +598,119 @@ public class MultiplayerServerImpl implements MultiplayerServer {
         }
     }
 
+    // Messages are then fed in through handleMessage and handleDisconnection instead of a socket
+    public void beginReplay(LongSupplier replayClock) {
+        this.clock = replayClock;
+        this.replaying = true;
+    }
+
     @Override
     public void processMessages(float delta) {
+        inputRecorder.tick(delta);
         multiplayerService.tick(delta);
-        var objectUpdates = multiplayerService.getAllWorldObjectUpdates();
+        chatService.flush(activeUsers);
+        inventoryService.tick(activeUsers);
+        itemSpawnService.tick().forEach(multiplayerService::broadcastWorldObjectUpdate);
+        Map<Long, List<WorldObjectUpdate>> objectUpdates = multiplayerService.drainWorldObjectUpdates();
         if (!objectUpdates.isEmpty()) {
-            NetworkProtocol.WorldObjectsUpdate wUpdate = new NetworkProtocol.WorldObjectsUpdate();
-            wUpdate.setObjects(objectUpdates);
-            broadcast(wUpdate);
+            broadcastWorldObjectUpdates(objectUpdates);
+        }
+        broadcastPlayerSnapshots();
+    }
+
+    // Movement goes out once per tick over UDP. A changed player is repeated in the next few snapshots,
+    // so a lost datagram is covered by the following one instead of a retransmit, and each recipient
+    // gets the last move of its own the server applied, for the client to reconcile its prediction.
+    private void broadcastPlayerSnapshots() {
+        List<PlayerSyncData> changed = new ArrayList<>();
+        for (String username : stateRepeats.keySet()) {
+            PlayerData pd = worldService.getPlayerData(username);
+            if (pd != null) {
+                changed.add(PlayerSyncData.fromPlayerData(pd));
+            }
+            // Atomic, so a move handled meanwhile on the network thread is not erased with the entry
+            stateRepeats.computeIfPresent(username, (k, repeats) -> repeats <= 1 ? null : repeats - 1);
+        }
+
+        int sequence = ++snapshotSequence;
+        int serverTime = (int) ((clock.getAsLong() - startNanos) / 1_000_000L);
+        for (Map.Entry<String, Connection> entry : activeUsers.entrySet()) {
+            String username = entry.getKey();
+            AppliedMove ack = appliedMoves.get(username);
+            if (changed.isEmpty() && (ack == null || ack == lastAckSent.get(username))) {
+                continue;
+            }
+            if (ack != null) {
+                lastAckSent.put(username, ack);
+            }
+            Connection connection = entry.getValue();
+            int from = 0;
+            do {
+                int to = Math.min(changed.size(), from + PLAYERS_PER_SNAPSHOT);
+                NetworkProtocol.PlayerStateSnapshot snapshot = new NetworkProtocol.PlayerStateSnapshot();
+                snapshot.setSequence(sequence);
+                snapshot.setServerTime(serverTime);
+                if (ack != null) {
+                    snapshot.setAckSequence(ack.sequence());
+                    snapshot.setAckX(ack.x());
+                    snapshot.setAckY(ack.y());
+                }
+                snapshot.setPlayers(changed.subList(from, to).toArray(new PlayerSyncData[0]));
+                if (connection.getRemoteAddressUDP() != null) {
+                    connection.sendUDP(snapshot);
+                } else {
+                    connection.sendTCP(snapshot);
+                }
+                from = to;
+            } while (from < changed.size());
+        }
+    }
+
+    private void markChunkLoaded(Connection connection, int chunkX, int chunkY) {
+        String username = connectionUserMap.get(connection.getID());
+        if (username != null) {
+            loadedChunksByUser.computeIfAbsent(username, k -> ConcurrentHashMap.newKeySet())
+                .add(MultiplayerService.chunkKey(chunkX, chunkY));
         }
     }
 
+    // A chunk requested again later is marked loaded again
+    private void handleChunksUnloaded(Connection connection, NetworkProtocol.ChunksUnloaded unloaded) {
+        String username = connectionUserMap.get(connection.getID());
+        Set<Long> loaded = username != null ? loadedChunksByUser.get(username) : null;
+        if (loaded == null || unloaded.getChunkXs() == null || unloaded.getChunkYs() == null) {
+            return;
+        }
+        int count = Math.min(unloaded.getChunkXs().length, unloaded.getChunkYs().length);
+        for (int i = 0; i < count; i++) {
+            loaded.remove(MultiplayerService.chunkKey(unloaded.getChunkXs()[i], unloaded.getChunkYs()[i]));
+        }
+    }
+
+    // One packet per player, holding only the updates for chunks that player has loaded
+    private void broadcastWorldObjectUpdates(Map<Long, List<WorldObjectUpdate>> byChunk) {
+        for (Map.Entry<String, Connection> entry : activeUsers.entrySet()) {
+            Set<Long> loaded = loadedChunksByUser.get(entry.getKey());
+            if (loaded == null) {
+                continue;
+            }
+            List<WorldObjectUpdate> visible = new ArrayList<>();
+            for (Map.Entry<Long, List<WorldObjectUpdate>> chunk : byChunk.entrySet()) {
+                if (loaded.contains(chunk.getKey())) {
+                    visible.addAll(chunk.getValue());
+                }
+            }
+            if (!visible.isEmpty()) {
+                NetworkProtocol.WorldObjectsUpdate wUpdate = new NetworkProtocol.WorldObjectsUpdate();
+                wUpdate.setObjects(visible);
+                entry.getValue().sendTCP(wUpdate);
+            }
+        }
+    }
+
+    private record AppliedMove(int sequence, float x, float y) {
+    }
+
     @Data
     @AllArgsConstructor
     private static class ChunkKey {
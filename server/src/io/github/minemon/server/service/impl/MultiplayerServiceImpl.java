@@ -6,6 +6,7 @@ import io.github.minemon.multiplayer.model.WorldObjectUpdate;
 import io.github.minemon.player.model.PlayerData;
 import io.github.minemon.player.model.PlayerDirection;
 import io.github.minemon.server.service.MultiplayerService;
+import io.github.minemon.world.model.ChunkTiles;
 import io.github.minemon.world.model.WorldObject;
 import io.github.minemon.world.service.WorldService;
 import lombok.extern.slf4j.Slf4j;
@@ -13,6 +14,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.core.env.Environment;
 
@@ -27,7 +29,7 @@ public class MultiplayerServiceImpl implements MultiplayerService {
     private final Set<String> connectedPlayers = Collections.synchronizedSet(new HashSet<>());
 
 
-    private final List<WorldObjectUpdate> pendingObjectUpdates = Collections.synchronizedList(new ArrayList<>());
+    private final Map<String, WorldObjectUpdate> pendingObjectUpdates = new ConcurrentHashMap<>();
 
     @Autowired
     public MultiplayerServiceImpl(WorldService worldService,
@@ -82,7 +84,7 @@ public class MultiplayerServiceImpl implements MultiplayerService {
             log.warn("Client attempted to handle player disconnection - ignoring");
             return null;
         }
-        int[][] tiles = worldService.getChunkTiles(chunkX, chunkY);
+        ChunkTiles tiles = worldService.getChunkTiles(chunkX, chunkY);
         if (tiles == null) return null;
 
         var wd = worldService.getWorldData();
@@ -119,13 +121,21 @@ public class MultiplayerServiceImpl implements MultiplayerService {
     }
 
     @Override
-    public List<WorldObjectUpdate> getAllWorldObjectUpdates() {
-        List<WorldObjectUpdate> snapshot;
-        synchronized (pendingObjectUpdates) {
-            snapshot = new ArrayList<>(pendingObjectUpdates);
-            pendingObjectUpdates.clear();
+    public Map<Long, List<WorldObjectUpdate>> drainWorldObjectUpdates() {
+        if (pendingObjectUpdates.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        // Each entry is removed atomically, so an update queued mid-drain is sent now or on the next tick
+        Map<Long, List<WorldObjectUpdate>> byChunk = new HashMap<>();
+        for (String objectId : pendingObjectUpdates.keySet()) {
+            WorldObjectUpdate update = pendingObjectUpdates.remove(objectId);
+            if (update != null) {
+                long key = MultiplayerService.chunkKey(Math.floorDiv(update.getTileX(), 16),
+                    Math.floorDiv(update.getTileY(), 16));
+                byChunk.computeIfAbsent(key, k -> new ArrayList<>()).add(update);
+            }
         }
-        return snapshot;
+        return byChunk;
     }
 
     @Override
@@ -145,9 +155,7 @@ public class MultiplayerServiceImpl implements MultiplayerService {
             log.warn("Client attempted to broadcast world object update - ignoring");
             return;
         }
-        synchronized (pendingObjectUpdates) {
-            pendingObjectUpdates.add(objUpdate);
-        }
+        pendingObjectUpdates.put(objUpdate.getObjectId(), objUpdate);
     }
 
     @Override
@@ -0,0 +1,268 @@
+package io.github.minemon.server.world;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+@Slf4j
+public class ChunkPregenerationService {
+    private static final Path STATE_FILE = Paths.get("config", "pregen.properties");
+    private static final long REPORT_INTERVAL_MS = 5000;
+
+    private final ServerWorldServiceImpl worldService;
+    @Value("${pregen.threads:0}")
+    private int configuredThreads;
+    private volatile Job currentJob;
+
+    public ChunkPregenerationService(ServerWorldServiceImpl worldService) {
+        this.worldService = worldService;
+    }
+
+    // Generation threads run at minimum priority and default to half the cores, so the tick loop keeps
+    // its share while a warm-up runs next to live players.
+    public int getDefaultThreads() {
+        if (configuredThreads > 0) {
+            return configuredThreads;
+        }
+        return Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+
+    public synchronized CompletableFuture<Void> start(PregenerationRegion region, int threads) {
+        if (isRunning()) {
+            throw new IllegalStateException("A pregeneration job is already running: " + currentJob.region);
+        }
+        worldService.initIfNeeded();
+        saveState(region);
+
+        Job job = new Job(region, region.chunksByDistance(), threads > 0 ? threads : getDefaultThreads());
+        currentJob = job;
+        log.info("Pregenerating {} chunks in region {} on {} threads", job.chunks.length, region, job.threads);
+
+        List<CompletableFuture<Void>> workers = new ArrayList<>();
+        for (int i = 0; i < job.threads; i++) {
+            workers.add(CompletableFuture.runAsync(() -> runWorker(job), job.executor));
+        }
+        job.reporter.scheduleAtFixedRate(() -> logProgress(job), REPORT_INTERVAL_MS, REPORT_INTERVAL_MS,
+            TimeUnit.MILLISECONDS);
+
+        return CompletableFuture.allOf(workers.toArray(CompletableFuture<?>[]::new))
+            .whenComplete((ignored, error) -> finish(job));
+    }
+
+    // Chunks already on disk are skipped, so resuming just walks the saved region again.
+    public CompletableFuture<Void> resume(int threads) {
+        PregenerationRegion region = loadState();
+        if (region == null) {
+            throw new IllegalStateException("No interrupted pregeneration job to resume");
+        }
+        log.info("Resuming pregeneration of region {}", region);
+        return start(region, threads);
+    }
+
+    public synchronized void stop() {
+        Job job = currentJob;
+        if (job != null && !job.done) {
+            job.cancelled = true;
+            log.info("Stopping pregeneration of {}; run 'pregen resume' to continue", job.region);
+        }
+    }
+
+    public boolean isRunning() {
+        Job job = currentJob;
+        return job != null && !job.done;
+    }
+
+    public String getStatus() {
+        Job job = currentJob;
+        if (job == null) {
+            PregenerationRegion pending = loadState();
+            return pending != null
+                ? "No pregeneration running; interrupted job for region " + pending + " can be resumed"
+                : "No pregeneration running";
+        }
+        return job.describe(job.done ? 0 : job.recentRate());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        Job job = currentJob;
+        if (job != null && !job.done) {
+            job.cancelled = true;
+            job.executor.shutdown();
+            try {
+                job.executor.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void runWorker(Job job) {
+        int index;
+        while (!job.cancelled && (index = job.cursor.getAndIncrement()) < job.chunks.length) {
+            long packed = job.chunks[index];
+            int chunkX = (int) (packed >> 32);
+            int chunkY = (int) packed;
+            try {
+                if (worldService.pregenerateChunk(chunkX, chunkY)) {
+                    job.generated.incrementAndGet();
+                } else {
+                    job.skipped.incrementAndGet();
+                }
+            } catch (Exception e) {
+                job.failed.incrementAndGet();
+                log.warn("Failed to pregenerate chunk {},{}: {}", chunkX, chunkY, e.getMessage());
+            }
+        }
+    }
+
+    private void logProgress(Job job) {
+        if (!job.done) {
+            log.info(job.describe(job.recentRate()));
+        }
+    }
+
+    private void finish(Job job) {
+        job.done = true;
+        job.reporter.shutdownNow();
+        job.executor.shutdown();
+
+        if (job.cancelled) {
+            log.info("Pregeneration stopped: {}", job.describe(0));
+            return;
+        }
+        if (job.failed.get() > 0) {
+            log.warn("Pregeneration finished with {} failed chunks; state kept for resume: {}",
+                job.failed.get(), job.describe(0));
+            return;
+        }
+        clearState();
+        log.info("Pregeneration complete: {}", job.describe(0));
+    }
+
+    private void saveState(PregenerationRegion region) {
+        Properties props = new Properties();
+        props.setProperty("region", region.toString());
+        try {
+            Files.createDirectories(STATE_FILE.getParent());
+            try (Writer writer = Files.newBufferedWriter(STATE_FILE)) {
+                props.store(writer, "Interrupted chunk pregeneration job");
+            }
+        } catch (IOException e) {
+            log.warn("Could not persist pregeneration state, the job will not be resumable: {}", e.getMessage());
+        }
+    }
+
+    private PregenerationRegion loadState() {
+        if (!Files.exists(STATE_FILE)) {
+            return null;
+        }
+        Properties props = new Properties();
+        try (Reader reader = Files.newBufferedReader(STATE_FILE)) {
+            props.load(reader);
+            return PregenerationRegion.parse(props.getProperty("region"));
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Ignoring unreadable pregeneration state {}: {}", STATE_FILE, e.getMessage());
+            return null;
+        }
+    }
+
+    private void clearState() {
+        try {
+            Files.deleteIfExists(STATE_FILE);
+        } catch (IOException e) {
+            log.warn("Could not delete pregeneration state: {}", e.getMessage());
+        }
+    }
+
+    private static final class Job {
+        final PregenerationRegion region;
+        final long[] chunks;
+        final int threads;
+        final ExecutorService executor;
+        final ScheduledExecutorService reporter;
+        final AtomicInteger cursor = new AtomicInteger();
+        final AtomicLong generated = new AtomicLong();
+        final AtomicLong skipped = new AtomicLong();
+        final AtomicLong failed = new AtomicLong();
+        final long startTime = System.nanoTime();
+        volatile boolean cancelled;
+        volatile boolean done;
+
+        long lastSampleTime = startTime;
+        long lastSampleProcessed;
+
+        Job(PregenerationRegion region, long[] chunks, int threads) {
+            this.region = region;
+            this.chunks = chunks;
+            this.threads = Math.min(threads, Math.max(1, chunks.length));
+            AtomicInteger threadIds = new AtomicInteger();
+            this.executor = Executors.newFixedThreadPool(this.threads, r -> {
+                Thread t = new Thread(r, "pregen-" + threadIds.incrementAndGet());
+                t.setDaemon(true);
+                t.setPriority(Thread.MIN_PRIORITY);
+                return t;
+            });
+            this.reporter = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "pregen-progress");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+
+        long processed() {
+            return generated.get() + skipped.get() + failed.get();
+        }
+
+        // Rate since the previous sample, so chunks skipped during a resume do not skew the ETA for long.
+        synchronized double recentRate() {
+            long now = System.nanoTime();
+            long processed = processed();
+            double seconds = (now - lastSampleTime) / 1e9;
+            double rate = seconds > 0 ? (processed - lastSampleProcessed) / seconds : 0;
+            lastSampleTime = now;
+            lastSampleProcessed = processed;
+            return rate;
+        }
+
+        String describe(double rate) {
+            long processed = processed();
+            double elapsed = (System.nanoTime() - startTime) / 1e9;
+            if (rate <= 0) {
+                rate = elapsed > 0 ? processed / elapsed : 0;
+            }
+            long remaining = chunks.length - processed;
+            String eta = done ? "-" : (rate > 0 ? formatDuration((long) (remaining / rate)) : "unknown");
+            return String.format("Pregen %s: %d/%d chunks (%.1f%%), %d generated, %d existing, %d failed, "
+                    + "%.1f chunks/s, elapsed %s, ETA %s",
+                region, processed, chunks.length, chunks.length == 0 ? 100.0 : processed * 100.0 / chunks.length,
+                generated.get(), skipped.get(), failed.get(), rate, formatDuration((long) elapsed), eta);
+        }
+
+        private static String formatDuration(long seconds) {
+            if (seconds >= 3600) {
+                return String.format("%dh%02dm%02ds", seconds / 3600, (seconds / 60) % 60, seconds % 60);
+            }
+            return String.format("%dm%02ds", seconds / 60, seconds % 60);
+        }
+    }
+}
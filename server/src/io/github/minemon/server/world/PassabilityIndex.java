@@ -0,0 +1,230 @@
+package io.github.minemon.server.world;
+
+import com.badlogic.gdx.math.Rectangle;
+import io.github.minemon.world.config.WorldConfigRegistry;
+import io.github.minemon.world.model.ChunkData;
+import io.github.minemon.world.model.ChunkTiles;
+import io.github.minemon.world.model.WorldData;
+import io.github.minemon.world.model.WorldObject;
+import io.github.minemon.world.service.TileManager;
+import io.github.minemon.world.service.WorldService;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// One bit per tile, set when the tile can be walked on: the tile type is passable and no collidable
+// object's footprint covers it. Built once per chunk on first use and patched as objects come and go,
+// so a movement check is a map lookup and a bit test. Bitmaps are dropped when the chunks they were built
+// from change (objects loaded or unloaded) and all of them when the tile configuration is reloaded.
+@Slf4j
+@Component
+public class PassabilityIndex {
+    private static final int CHUNK_SIZE = 16;
+    private static final int TILE_SIZE = 32;
+    private static final int WORDS = CHUNK_SIZE * CHUNK_SIZE / 64;
+
+    private final WorldService worldService;
+    private final TileManager tileManager;
+    private final WorldConfigRegistry configRegistry;
+    private final Map<Long, AtomicLongArray> passableByChunk = new ConcurrentHashMap<>();
+
+    public PassabilityIndex(@Lazy WorldService worldService, TileManager tileManager,
+                            WorldConfigRegistry configRegistry) {
+        this.worldService = worldService;
+        this.tileManager = tileManager;
+        this.configRegistry = configRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        configRegistry.addListener(snapshot -> clear());
+    }
+
+    // Tiles of chunks the server does not hold in memory are reported passable rather than stalling on disk
+    public boolean isPassable(int tileX, int tileY) {
+        int chunkX = Math.floorDiv(tileX, CHUNK_SIZE);
+        int chunkY = Math.floorDiv(tileY, CHUNK_SIZE);
+        AtomicLongArray bits = passableByChunk.get(chunkKey(chunkX, chunkY));
+        if (bits == null) {
+            bits = build(chunkX, chunkY);
+            if (bits == null) {
+                return true;
+            }
+        }
+        int bit = bitIndex(tileX, tileY);
+        return (bits.get(bit >>> 6) & (1L << bit)) != 0;
+    }
+
+    public void objectAdded(WorldObject object) {
+        Rectangle box = object.getCollisionBox();
+        if (box == null) {
+            return;
+        }
+        forEachFootprintTile(box, (tileX, tileY) -> setPassable(tileX, tileY, false));
+    }
+
+    public void objectRemoved(WorldObject object) {
+        Rectangle box = object.getCollisionBox();
+        if (box == null) {
+            return;
+        }
+        forEachFootprintTile(box, (tileX, tileY) -> {
+            if (passableByChunk.containsKey(tileChunkKey(tileX, tileY))) {
+                setPassable(tileX, tileY, tilePassable(tileX, tileY) && !coveredByOther(tileX, tileY, object.getId()));
+            }
+        });
+    }
+
+    public void invalidate(int chunkX, int chunkY) {
+        passableByChunk.remove(chunkKey(chunkX, chunkY));
+    }
+
+    // A chunk's objects can block tiles of its neighbours, so their bitmaps go too
+    public void invalidateAround(int chunkX, int chunkY) {
+        for (int cx = chunkX - 1; cx <= chunkX + 1; cx++) {
+            for (int cy = chunkY - 1; cy <= chunkY + 1; cy++) {
+                invalidate(cx, cy);
+            }
+        }
+    }
+
+    public void clear() {
+        passableByChunk.clear();
+    }
+
+    public int getIndexedChunkCount() {
+        return passableByChunk.size();
+    }
+
+    private AtomicLongArray build(int chunkX, int chunkY) {
+        ChunkData chunk = chunk(chunkX, chunkY);
+        if (chunk == null || chunk.getTiles() == null) {
+            return null;
+        }
+        ChunkTiles tiles = chunk.getTiles();
+        long[] words = new long[WORDS];
+        // The bit layout matches the tile index, so one linear pass fills the bitmap
+        for (int bit = 0; bit < ChunkTiles.AREA; bit++) {
+            if (tileManager.isPassable(tiles.get(bit))) {
+                words[bit >>> 6] |= 1L << bit;
+            }
+        }
+
+        // Footprints can reach in from neighbouring chunks, so their objects are applied too
+        int minX = chunkX * CHUNK_SIZE;
+        int minY = chunkY * CHUNK_SIZE;
+        for (int cx = chunkX - 1; cx <= chunkX + 1; cx++) {
+            for (int cy = chunkY - 1; cy <= chunkY + 1; cy++) {
+                ChunkData neighbour = chunk(cx, cy);
+                if (neighbour == null || neighbour.getObjects() == null) {
+                    continue;
+                }
+                for (WorldObject obj : neighbour.getObjects()) {
+                    Rectangle box = obj.getCollisionBox();
+                    if (box == null) {
+                        continue;
+                    }
+                    forEachFootprintTile(box, (tileX, tileY) -> {
+                        int lx = tileX - minX;
+                        int ly = tileY - minY;
+                        if (lx >= 0 && lx < CHUNK_SIZE && ly >= 0 && ly < CHUNK_SIZE) {
+                            int bit = lx * CHUNK_SIZE + ly;
+                            words[bit >>> 6] &= ~(1L << bit);
+                        }
+                    });
+                }
+            }
+        }
+
+        AtomicLongArray built = new AtomicLongArray(words);
+        AtomicLongArray existing = passableByChunk.putIfAbsent(chunkKey(chunkX, chunkY), built);
+        return existing != null ? existing : built;
+    }
+
+    private void setPassable(int tileX, int tileY, boolean passable) {
+        AtomicLongArray bits = passableByChunk.get(tileChunkKey(tileX, tileY));
+        if (bits == null) {
+            return;
+        }
+        int bit = bitIndex(tileX, tileY);
+        long mask = 1L << bit;
+        if (passable) {
+            bits.getAndAccumulate(bit >>> 6, mask, (word, m) -> word | m);
+        } else {
+            bits.getAndAccumulate(bit >>> 6, mask, (word, m) -> word & ~m);
+        }
+    }
+
+    private boolean tilePassable(int tileX, int tileY) {
+        ChunkData chunk = chunk(Math.floorDiv(tileX, CHUNK_SIZE), Math.floorDiv(tileY, CHUNK_SIZE));
+        if (chunk == null || chunk.getTiles() == null) {
+            return true;
+        }
+        int tileId = chunk.getTiles().get(Math.floorMod(tileX, CHUNK_SIZE), Math.floorMod(tileY, CHUNK_SIZE));
+        return tileManager.isPassable(tileId);
+    }
+
+    private boolean coveredByOther(int tileX, int tileY, String excludedId) {
+        Rectangle tile = new Rectangle(tileX * TILE_SIZE, tileY * TILE_SIZE, TILE_SIZE, TILE_SIZE);
+        int chunkX = Math.floorDiv(tileX, CHUNK_SIZE);
+        int chunkY = Math.floorDiv(tileY, CHUNK_SIZE);
+        for (int cx = chunkX - 1; cx <= chunkX + 1; cx++) {
+            for (int cy = chunkY - 1; cy <= chunkY + 1; cy++) {
+                ChunkData neighbour = chunk(cx, cy);
+                if (neighbour == null || neighbour.getObjects() == null) {
+                    continue;
+                }
+                for (WorldObject obj : neighbour.getObjects()) {
+                    if (obj.getId().equals(excludedId)) {
+                        continue;
+                    }
+                    Rectangle box = obj.getCollisionBox();
+                    if (box != null && box.overlaps(tile)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private ChunkData chunk(int chunkX, int chunkY) {
+        WorldData worldData = worldService.getWorldData();
+        return worldData == null ? null : worldData.getChunks().get(chunkX + "," + chunkY);
+    }
+
+    // Tiles whose interior the box covers; a box edge touching a tile does not block it
+    private static void forEachFootprintTile(Rectangle box, TileVisitor visitor) {
+        int minX = (int) Math.floor(box.x / TILE_SIZE);
+        int minY = (int) Math.floor(box.y / TILE_SIZE);
+        int maxX = (int) Math.ceil((box.x + box.width) / TILE_SIZE) - 1;
+        int maxY = (int) Math.ceil((box.y + box.height) / TILE_SIZE) - 1;
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                visitor.visit(x, y);
+            }
+        }
+    }
+
+    private static int bitIndex(int tileX, int tileY) {
+        return Math.floorMod(tileX, CHUNK_SIZE) * CHUNK_SIZE + Math.floorMod(tileY, CHUNK_SIZE);
+    }
+
+    private static long tileChunkKey(int tileX, int tileY) {
+        return chunkKey(Math.floorDiv(tileX, CHUNK_SIZE), Math.floorDiv(tileY, CHUNK_SIZE));
+    }
+
+    private static long chunkKey(int chunkX, int chunkY) {
+        return ((long) chunkX << 32) | (chunkY & 0xFFFFFFFFL);
+    }
+
+    @FunctionalInterface
+    private interface TileVisitor {
+        void visit(int tileX, int tileY);
+    }
+}
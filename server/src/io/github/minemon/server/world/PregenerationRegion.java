@@ -0,0 +1,126 @@
+package io.github.minemon.server.world;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+@Getter
+public class PregenerationRegion {
+    private final int minChunkX;
+    private final int minChunkY;
+    private final int maxChunkX;
+    private final int maxChunkY;
+    private final int radius;
+
+    private PregenerationRegion(int minChunkX, int minChunkY, int maxChunkX, int maxChunkY, int radius) {
+        this.minChunkX = minChunkX;
+        this.minChunkY = minChunkY;
+        this.maxChunkX = maxChunkX;
+        this.maxChunkY = maxChunkY;
+        this.radius = radius;
+    }
+
+    public static PregenerationRegion radius(int centerX, int centerY, int radius) {
+        if (radius < 0) {
+            throw new IllegalArgumentException("Radius must not be negative");
+        }
+        return new PregenerationRegion(centerX - radius, centerY - radius, centerX + radius, centerY + radius, radius);
+    }
+
+    public static PregenerationRegion rectangle(int x0, int y0, int x1, int y1) {
+        return new PregenerationRegion(Math.min(x0, x1), Math.min(y0, y1), Math.max(x0, x1), Math.max(y0, y1), -1);
+    }
+
+    // Accepts "r", "cx,cy,r" (circle of chunks) or "x0,y0:x1,y1" (inclusive chunk rectangle).
+    public static PregenerationRegion parse(String spec) {
+        if (spec == null || spec.isBlank()) {
+            throw new IllegalArgumentException("Empty region");
+        }
+        try {
+            String trimmed = spec.replace(" ", "");
+            if (trimmed.contains(":")) {
+                String[] corners = trimmed.split(":");
+                int[] from = parseInts(corners[0], 2);
+                int[] to = parseInts(corners[1], 2);
+                return rectangle(from[0], from[1], to[0], to[1]);
+            }
+            String[] parts = trimmed.split(",");
+            if (parts.length == 1) {
+                return radius(0, 0, Integer.parseInt(parts[0]));
+            }
+            int[] values = parseInts(trimmed, 3);
+            return radius(values[0], values[1], values[2]);
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid region '" + spec + "', expected r, cx,cy,r or x0,y0:x1,y1");
+        }
+    }
+
+    private static int[] parseInts(String csv, int expected) {
+        String[] parts = csv.split(",");
+        if (parts.length != expected) {
+            throw new NumberFormatException(csv);
+        }
+        int[] values = new int[expected];
+        for (int i = 0; i < expected; i++) {
+            values[i] = Integer.parseInt(parts[i]);
+        }
+        return values;
+    }
+
+    public boolean isCircle() {
+        return radius >= 0;
+    }
+
+    public int getCenterX() {
+        return Math.floorDiv(minChunkX + maxChunkX, 2);
+    }
+
+    public int getCenterY() {
+        return Math.floorDiv(minChunkY + maxChunkY, 2);
+    }
+
+    // Chunk coordinates packed as (x << 32 | y), nearest to the centre first so the area players
+    // reach first is ready first.
+    public long[] chunksByDistance() {
+        int cx = getCenterX();
+        int cy = getCenterY();
+        long width = (long) maxChunkX - minChunkX + 1;
+        long height = (long) maxChunkY - minChunkY + 1;
+        if (width > 0xFFFF || height > 0xFFFF || width * height > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Region too large: " + this);
+        }
+
+        long[] keyed = new long[(int) (width * height)];
+        int count = 0;
+        long radiusSq = (long) radius * radius;
+        for (int x = minChunkX; x <= maxChunkX; x++) {
+            for (int y = minChunkY; y <= maxChunkY; y++) {
+                long dx = x - cx;
+                long dy = y - cy;
+                long distSq = dx * dx + dy * dy;
+                if (isCircle() && distSq > radiusSq) {
+                    continue;
+                }
+                // Distance in the high bits, offsets within the region in the low bits
+                keyed[count++] = (distSq << 32) | ((long) (x - minChunkX) << 16) | (y - minChunkY);
+            }
+        }
+        Arrays.sort(keyed, 0, count);
+
+        long[] chunks = new long[count];
+        for (int i = 0; i < count; i++) {
+            int x = minChunkX + (int) ((keyed[i] >>> 16) & 0xFFFF);
+            int y = minChunkY + (int) (keyed[i] & 0xFFFF);
+            chunks[i] = ((long) x << 32) | (y & 0xFFFFFFFFL);
+        }
+        return chunks;
+    }
+
+    @Override
+    public String toString() {
+        if (isCircle()) {
+            return getCenterX() + "," + getCenterY() + "," + radius;
+        }
+        return minChunkX + "," + minChunkY + ":" + maxChunkX + "," + maxChunkY;
+    }
+}
@@ -1,12 +1,10 @@
 package io.github.minemon.server.world;
 
-import io.github.minemon.world.biome.config.BiomeConfigurationLoader;
 import io.github.minemon.world.biome.model.Biome;
 import io.github.minemon.world.biome.model.BiomeType;
 import io.github.minemon.world.biome.service.impl.BiomeServiceImpl;
+import io.github.minemon.world.config.WorldConfigRegistry;
 import jakarta.annotation.PostConstruct;
-import org.checkerframework.checker.units.qual.A;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 
@@ -15,16 +13,16 @@ import java.util.Map;
 @Service
 @Primary
 public class ServerBiomeServiceImpl extends BiomeServiceImpl {
-    @Autowired
-    private BiomeConfigurationLoader configurationLoader;
+    private final WorldConfigRegistry configRegistry;
 
-    public ServerBiomeServiceImpl(BiomeConfigurationLoader configurationLoader) {
-        super(configurationLoader);
+    public ServerBiomeServiceImpl(WorldConfigRegistry configRegistry) {
+        super(configRegistry);
+        this.configRegistry = configRegistry;
     }
 
     @PostConstruct
     public void validateServerBiomes() {
-        Map<BiomeType, Biome> loadedBiomes = configurationLoader.loadBiomes("config/biomes.json");
+        Map<BiomeType, Biome> loadedBiomes = configRegistry.getSnapshot().getBiomes();
 
         if (loadedBiomes.isEmpty()) {
             throw new IllegalStateException("No biomes loaded for server");
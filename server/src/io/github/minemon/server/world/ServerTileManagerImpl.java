@@ -1,6 +1,8 @@
 package io.github.minemon.server.world;
 
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import io.github.minemon.world.config.WorldConfigRegistry;
+import io.github.minemon.world.config.WorldConfigSnapshot;
 import io.github.minemon.world.service.TileManager;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -12,6 +14,11 @@ import org.springframework.stereotype.Component;
 @Primary
 @Qualifier("serverTileManagerImpl")
 public class ServerTileManagerImpl implements TileManager {
+    private final WorldConfigRegistry configRegistry;
+
+    public ServerTileManagerImpl(WorldConfigRegistry configRegistry) {
+        this.configRegistry = configRegistry;
+    }
 
     @Override
     public void initIfNeeded() {
@@ -25,7 +32,9 @@ public class ServerTileManagerImpl implements TileManager {
 
     @Override
     public boolean isPassable(int tileId) {
-        return true;
+        WorldConfigSnapshot snapshot = configRegistry.getSnapshot();
+        // Without tile definitions nothing could be walked on, so everything is treated as passable
+        return snapshot.getTiles().isEmpty() || snapshot.isPassable(tileId);
     }
 
     @Override
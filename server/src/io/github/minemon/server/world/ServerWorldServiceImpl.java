@@ -10,13 +10,17 @@ import com.google.common.cache.LoadingCache;
 import com.google.common.cache.RemovalNotification;
 import io.github.minemon.multiplayer.model.WorldObjectUpdate;
 import io.github.minemon.player.model.PlayerData;
-import io.github.minemon.world.biome.config.BiomeConfigurationLoader;
+import io.github.minemon.server.metrics.ServerMetrics;
 import io.github.minemon.world.biome.model.Biome;
 import io.github.minemon.world.biome.model.BiomeType;
 import io.github.minemon.world.biome.service.BiomeService;
+import io.github.minemon.world.config.WorldConfigRegistry;
+import io.github.minemon.world.config.WorldConfigSnapshot;
 import io.github.minemon.world.model.ChunkData;
+import io.github.minemon.world.model.ChunkTiles;
 import io.github.minemon.world.model.ObjectType;
 import io.github.minemon.world.model.WorldData;
+import io.github.minemon.world.model.WorldMetadata;
 import io.github.minemon.world.model.WorldObject;
 import io.github.minemon.world.service.*;
 import io.github.minemon.world.service.impl.BaseWorldServiceImpl;
@@ -44,16 +48,18 @@ public class ServerWorldServiceImpl extends BaseWorldServiceImpl implements Worl
     private static final int TILE_SIZE = 32;
     private static final int CHUNK_SIZE = 16;
     private static final int CHUNK_CACHE_SIZE = 256;
+    private static final int CHUNK_LOCK_STRIPES = 64;
     private static final int AUTOSAVE_INTERVAL = 5 * 60 * 1000; 
     private final WorldGenerator worldGenerator;
     private final WorldObjectManager worldObjectManager;
     private final TileManager tileManager;
-    private final BiomeConfigurationLoader biomeLoader;
+    private final WorldConfigRegistry configRegistry;
     private final BiomeService biomeService;
     private final JsonWorldDataService jsonWorldDataService;
     private final WorldData worldData = new WorldData();
     private final Map<String, WorldData> loadedWorlds = new ConcurrentHashMap<>();
-    private final Map<String, Object> chunkLocks = new ConcurrentHashMap<>();
+    // Striped rather than one lock per chunk, which would keep an entry for every chunk a pregeneration run visits
+    private final Object[] chunkLocks = new Object[CHUNK_LOCK_STRIPES];
     private final LoadingCache<String, ChunkData> chunkCache;
     private final ScheduledExecutorService autoSaveExecutor =
         Executors.newSingleThreadScheduledExecutor();
@@ -64,23 +70,31 @@ public class ServerWorldServiceImpl extends BaseWorldServiceImpl implements Worl
     private OrthographicCamera camera = null;
     @Autowired
     private ChunkLoadingManager chunkLoadingManager;
+    @Autowired
+    private ServerMetrics metrics;
+    @Autowired
+    private PassabilityIndex passabilityIndex;
 
 
     public ServerWorldServiceImpl(
         WorldGenerator worldGenerator,
         WorldObjectManager worldObjectManager,
         TileManager tileManager,
-        BiomeConfigurationLoader biomeLoader, BiomeService biomeService,
+        WorldConfigRegistry configRegistry, BiomeService biomeService,
         @Qualifier("serverJsonWorldDataService") JsonWorldDataService jsonWorldDataService
     ) {
         this.worldGenerator = worldGenerator;
         this.biomeService = biomeService;
         this.worldObjectManager = worldObjectManager;
         this.tileManager = tileManager;
-        this.biomeLoader = biomeLoader;
+        this.configRegistry = configRegistry;
         this.jsonWorldDataService = jsonWorldDataService;
+        for (int i = 0; i < chunkLocks.length; i++) {
+            chunkLocks[i] = new Object();
+        }
         this.chunkCache = CacheBuilder.newBuilder()
             .maximumSize(CHUNK_CACHE_SIZE)
+            .recordStats()
             .expireAfterAccess(5, TimeUnit.MINUTES)
             .removalListener((RemovalNotification<String, ChunkData> notification) -> {
                 
@@ -122,20 +136,7 @@ public class ServerWorldServiceImpl extends BaseWorldServiceImpl implements Worl
         try {
             WorldData currentWorld = loadedWorlds.get("serverWorld");
             if (currentWorld != null) {
-                
-                jsonWorldDataService.saveWorld(currentWorld);
-
-                
-                for (Map.Entry<String, PlayerData> entry :
-                    currentWorld.getPlayers().entrySet()) {
-                    jsonWorldDataService.savePlayerData("serverWorld", entry.getValue());
-                }
-
-                
-                for (ChunkData chunk : getDirtyChunks()) {
-                    jsonWorldDataService.saveChunk("serverWorld", chunk);
-                }
-
+                persist(currentWorld);
                 log.info("Autosave completed successfully");
             }
         } catch (Exception e) {
@@ -143,6 +144,13 @@ public class ServerWorldServiceImpl extends BaseWorldServiceImpl implements Worl
         }
     }
 
+    // The world file is only a header; players and dirty chunks go to their own files
+    private void persist(WorldData world) throws IOException {
+        jsonWorldDataService.saveWorld(world);
+        jsonWorldDataService.savePlayers("serverWorld", new ArrayList<>(world.getPlayers().values()));
+        jsonWorldDataService.saveChunks("serverWorld", getDirtyChunks());
+    }
+
     private Collection<ChunkData> getDirtyChunks() {
         synchronized (dirtyChunks) {
             List<ChunkData> chunks = new ArrayList<>(dirtyChunks);
@@ -159,29 +167,27 @@ public class ServerWorldServiceImpl extends BaseWorldServiceImpl implements Worl
             AUTOSAVE_INTERVAL,
             TimeUnit.MILLISECONDS
         );
+        configRegistry.addListener(this::applyConfig);
+
+        metrics.registerGauge("chunk_cache_hit_ratio", "Chunk cache hits over lookups since startup",
+            () -> chunkCache.stats().hitRate());
+        metrics.registerGauge("chunk_cache_size", "Chunks held in memory", chunkCache::size);
+        metrics.registerGauge("chunks_dirty", "Chunks waiting for the next autosave", dirtyChunks::size);
     }
 
+    // The chunk keeps the change in memory, so it is what the next request for it is sent; autosave writes it
     @Override
     public void updateWorldObjectState(WorldObjectUpdate update) {
-        WorldData wd = loadedWorlds.get("serverWorld");
-        if (wd == null) return;
+        int chunkX = Math.floorDiv(update.getTileX(), 16);
+        int chunkY = Math.floorDiv(update.getTileY(), 16);
 
-        int chunkX = update.getTileX() / 16;
-        int chunkY = update.getTileY() / 16;
-        String chunkKey = chunkX + "," + chunkY;
-
-        var chunkData = wd.getChunks().get(chunkKey);
+        ChunkData chunkData = worldData.getChunks().get(chunkX + "," + chunkY);
         if (chunkData != null) {
-            
-
-            
-            dirtyChunks.add(chunkData);
-
-            try {
-                jsonWorldDataService.saveChunk("serverWorld", chunkData);
-            } catch (IOException e) {
-                log.error("Failed to save chunk data: {}", e.getMessage());
+            List<WorldObject> objs = chunkData.getObjects();
+            if (objs != null && update.isRemoved()) {
+                objs.removeIf(o -> o.getId().equals(update.getObjectId()));
             }
+            markChunkDirty(chunkX, chunkY);
         }
     }
 
@@ -225,16 +231,17 @@ public class ServerWorldServiceImpl extends BaseWorldServiceImpl implements Worl
             }
 
             
-            String lockKey = chunkX + "," + chunkY;
-            synchronized (chunkLocks.computeIfAbsent(lockKey, k -> new Object())) {
+            synchronized (chunkLock(chunkX, chunkY)) {
                 
                 ChunkData loaded = jsonWorldDataService.loadChunk("serverWorld", chunkX, chunkY);
                 if (loaded != null) {
+                    worldObjectManager.loadObjectsForChunk(chunkX, chunkY, loaded.getObjects());
                     return loaded;
                 }
 
                 
-                int[][] tiles = worldGenerator.generateChunk(chunkX, chunkY);
+                long generateStart = System.nanoTime();
+                ChunkTiles tiles = worldGenerator.generateChunk(chunkX, chunkY);
                 if (tiles == null) {
                     throw new RuntimeException("Failed to generate tiles for chunk");
                 }
@@ -252,8 +259,9 @@ public class ServerWorldServiceImpl extends BaseWorldServiceImpl implements Worl
 
                 
                 List<WorldObject> objects = worldObjectManager.generateObjectsForChunk(
-                    chunkX, chunkY, tiles, biome, getWorldData().getSeed());
+                    chunkX, chunkY, tiles, biome, getWorldData().getSeed(), worldGenerator::getTileBiomes);
                 newChunk.setObjects(objects);
+                metrics.getChunkGeneration().record(System.nanoTime() - generateStart);
 
                 
                 try {
@@ -270,6 +278,41 @@ public class ServerWorldServiceImpl extends BaseWorldServiceImpl implements Worl
         }
     }
 
+    private Object chunkLock(int chunkX, int chunkY) {
+        return chunkLocks[Math.floorMod(chunkX * 31 + chunkY, CHUNK_LOCK_STRIPES)];
+    }
+
+    public boolean isChunkGenerated(int chunkX, int chunkY) {
+        return jsonWorldDataService.chunkExists("serverWorld", chunkX, chunkY);
+    }
+
+    public boolean pregenerateChunk(int chunkX, int chunkY) throws IOException {
+        if (!initialized) {
+            throw new IllegalStateException("WorldService not initialized");
+        }
+
+        synchronized (chunkLock(chunkX, chunkY)) {
+            if (isChunkGenerated(chunkX, chunkY)) {
+                return false;
+            }
+
+            long generateStart = System.nanoTime();
+            ChunkTiles tiles = worldGenerator.generateChunk(chunkX, chunkY);
+            Biome biome = worldGenerator.getBiomeForChunk(chunkX, chunkY);
+
+            ChunkData newChunk = new ChunkData();
+            newChunk.setChunkX(chunkX);
+            newChunk.setChunkY(chunkY);
+            newChunk.setTiles(tiles);
+            newChunk.setObjects(worldObjectManager.placeObjectsForChunk(
+                chunkX, chunkY, tiles, biome, getWorldData().getSeed(), worldGenerator::getTileBiomes));
+            metrics.getChunkGeneration().record(System.nanoTime() - generateStart);
+
+            jsonWorldDataService.saveChunk("serverWorld", newChunk);
+            return true;
+        }
+    }
+
     @PostConstruct
     public void validateConfiguration() {
         if (worldGenerator == null) {
@@ -336,7 +379,7 @@ public class ServerWorldServiceImpl extends BaseWorldServiceImpl implements Worl
         }
 
         
-        Map<BiomeType, Biome> biomes = biomeLoader.loadBiomes("config/biomes.json");
+        Map<BiomeType, Biome> biomes = configRegistry.getSnapshot().getBiomes();
         if (biomes.isEmpty()) {
             log.error("Failed to load biome configurations");
             return;
@@ -371,6 +414,14 @@ public class ServerWorldServiceImpl extends BaseWorldServiceImpl implements Worl
             loadedWorlds.get("serverWorld").getSeed());
     }
 
+    // Chunks generated after a reload use the new tile distributions and spawn rates; existing chunks keep theirs.
+    private void applyConfig(WorldConfigSnapshot snapshot) {
+        WorldData world = loadedWorlds.get("serverWorld");
+        if (world != null && snapshot.hasBiomes()) {
+            worldGenerator.setSeedAndBiomes(world.getSeed(), snapshot.getBiomes());
+        }
+    }
+
     @Override
     public void handleDisconnect() {
 
@@ -440,7 +491,7 @@ public class ServerWorldServiceImpl extends BaseWorldServiceImpl implements Worl
         WorldData wd = loadedWorlds.get("serverWorld");
         if (wd != null) {
             try {
-                jsonWorldDataService.saveWorld(wd);
+                persist(wd);
             } catch (IOException e) {
                 e.printStackTrace();
             }
@@ -459,7 +510,7 @@ public class ServerWorldServiceImpl extends BaseWorldServiceImpl implements Worl
     }
 
     @Override
-    public int[][] getChunkTiles(int chunkX, int chunkY) {
+    public ChunkTiles getChunkTiles(int chunkX, int chunkY) {
         ChunkData chunk = loadOrGenerateChunk(chunkX, chunkY);
         return chunk != null ? chunk.getTiles() : null;
     }
@@ -517,6 +568,7 @@ public class ServerWorldServiceImpl extends BaseWorldServiceImpl implements Worl
     @Override
     public void clearWorldData() {
         worldData.getChunks().clear();
+        passabilityIndex.clear();
         worldData.getPlayers().clear();
         worldData.setWorldName(null);
         worldData.setSeed(0);
@@ -550,6 +602,11 @@ public class ServerWorldServiceImpl extends BaseWorldServiceImpl implements Worl
         return jsonWorldDataService.listAllWorlds();
     }
 
+    @Override
+    public WorldMetadata getWorldMetadata(String worldName) {
+        return jsonWorldDataService.getWorldMetadata(worldName);
+    }
+
     @Override
     public void deleteWorld(String worldName) {
         if (!jsonWorldDataService.worldExists(worldName)) {
@@ -565,6 +622,7 @@ public class ServerWorldServiceImpl extends BaseWorldServiceImpl implements Worl
             worldData.setSeed(0);
             worldData.getPlayers().clear();
             worldData.getChunks().clear();
+            passabilityIndex.clear();
             worldData.setCreatedDate(0);
             worldData.setLastPlayed(0);
             worldData.setPlayedTime(0);
@@ -577,6 +635,7 @@ public class ServerWorldServiceImpl extends BaseWorldServiceImpl implements Worl
     public void regenerateChunk(int chunkX, int chunkY) {
         String key = chunkX + "," + chunkY;
         worldData.getChunks().remove(key);
+        worldObjectManager.unloadObjectsForChunk(chunkX, chunkY);
         
         jsonWorldDataService.deleteChunk(worldData.getWorldName(), chunkX, chunkY);
         loadOrGenerateChunk(chunkX, chunkY);
@@ -600,35 +659,50 @@ public class ServerWorldServiceImpl extends BaseWorldServiceImpl implements Worl
             }
             String key = chunkX + "," + chunkY;
 
-            
-            ChunkData loaded = jsonWorldDataService.loadChunk("serverWorld", chunkX, chunkY);
-            if (loaded != null) {
-                
-                worldData.getChunks().put(key, loaded);
-                return loaded;
-            }
+            synchronized (chunkLock(chunkX, chunkY)) {
+                // Resident chunks hold pickups and despawns the disk copy lacks until the next autosave
+                ChunkData resident = worldData.getChunks().get(key);
+                if (resident != null) {
+                    return resident;
+                }
 
-            
-            int[][] tiles = worldGenerator.generateChunk(chunkX, chunkY);
-            Biome biome = worldGenerator.getBiomeForChunk(chunkX, chunkY);
+                ChunkData loaded = jsonWorldDataService.loadChunk("serverWorld", chunkX, chunkY);
+                if (loaded != null) {
+                    // The object manager shares the chunk's list, so removals reach both
+                    loaded.setObjects(new CopyOnWriteArrayList<>(
+                        loaded.getObjects() != null ? loaded.getObjects() : List.of()));
+                    worldObjectManager.loadObjectsForChunk(chunkX, chunkY, loaded.getObjects());
+                    worldData.getChunks().put(key, loaded);
+                    // Bitmaps built while this chunk was missing lack its tiles and footprints
+                    passabilityIndex.invalidateAround(chunkX, chunkY);
+                    return loaded;
+                }
 
-            ChunkData newChunk = new ChunkData();
-            newChunk.setChunkX(chunkX);
-            newChunk.setChunkY(chunkY);
-            newChunk.setTiles(tiles);
+                
+                long generateStart = System.nanoTime();
+                ChunkTiles tiles = worldGenerator.generateChunk(chunkX, chunkY);
+                Biome biome = worldGenerator.getBiomeForChunk(chunkX, chunkY);
 
-            List<WorldObject> objects = worldObjectManager.generateObjectsForChunk(
-                chunkX, chunkY, tiles, biome, getWorldData().getSeed()
-            );
-            newChunk.setObjects(objects);
+                ChunkData newChunk = new ChunkData();
+                newChunk.setChunkX(chunkX);
+                newChunk.setChunkY(chunkY);
+                newChunk.setTiles(tiles);
 
-            
-            jsonWorldDataService.saveChunk("serverWorld", newChunk);
+                List<WorldObject> objects = new CopyOnWriteArrayList<>(worldObjectManager.generateObjectsForChunk(
+                    chunkX, chunkY, tiles, biome, getWorldData().getSeed(), worldGenerator::getTileBiomes
+                ));
+                newChunk.setObjects(objects);
 
-            
-            worldData.getChunks().put(key, newChunk);
+                
+                jsonWorldDataService.saveChunk("serverWorld", newChunk);
 
-            return newChunk;
+                
+                worldObjectManager.loadObjectsForChunk(chunkX, chunkY, objects);
+                worldData.getChunks().put(key, newChunk);
+                passabilityIndex.invalidateAround(chunkX, chunkY);
+
+                return newChunk;
+            }
 
         } catch (Exception e) {
             log.error("Failed to load/generate chunk {},{}: {}", chunkX, chunkY, e.getMessage(), e);
@@ -638,7 +712,7 @@ public class ServerWorldServiceImpl extends BaseWorldServiceImpl implements Worl
 
 
     @Override
-    public void loadOrReplaceChunkData(int chunkX, int chunkY, int[][] tiles, List<WorldObject> objects) {
+    public void loadOrReplaceChunkData(int chunkX, int chunkY, ChunkTiles tiles, List<WorldObject> objects) {
         
         log.warn("Client attempted to send chunk data to server - ignoring");
 
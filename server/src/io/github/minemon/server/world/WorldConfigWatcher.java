@@ -0,0 +1,115 @@
+package io.github.minemon.server.world;
+
+import io.github.minemon.core.service.FileAccessService;
+import io.github.minemon.world.config.WorldConfigRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@Slf4j
+public class WorldConfigWatcher {
+    private static final long SETTLE_MS = 250;
+    private static final Set<String> WATCHED_FILES = Set.of(
+        fileName(WorldConfigRegistry.BIOMES_PATH), fileName(WorldConfigRegistry.TILES_PATH));
+
+    private final WorldConfigRegistry configRegistry;
+    private final FileAccessService fileAccessService;
+    private WatchService watchService;
+    private Thread thread;
+
+    public WorldConfigWatcher(WorldConfigRegistry configRegistry, FileAccessService fileAccessService) {
+        this.configRegistry = configRegistry;
+        this.fileAccessService = fileAccessService;
+    }
+
+    public synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+        Path dir = Paths.get(fileAccessService.getBasePath()).resolve("config").toAbsolutePath();
+        if (!Files.isDirectory(dir)) {
+            log.warn("Config directory {} not found, world config hot reload disabled", dir);
+            return;
+        }
+
+        try {
+            watchService = dir.getFileSystem().newWatchService();
+            dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            log.warn("Could not watch {}, world config hot reload disabled: {}", dir, e.getMessage());
+            return;
+        }
+
+        thread = new Thread(this::watch, "config-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("Watching {} for changes to {}", dir, WATCHED_FILES);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                log.warn("Failed to close config watcher: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                boolean changed = drain(watchService.take());
+
+                // Editors often save in several writes; let the burst settle so the file is parsed once, complete
+                WatchKey next;
+                while ((next = watchService.poll(SETTLE_MS, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= drain(next);
+                }
+
+                if (changed) {
+                    try {
+                        configRegistry.reload();
+                    } catch (Exception e) {
+                        log.error("World config reload failed: {}", e.getMessage(), e);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            log.debug("Config watcher closed");
+        }
+    }
+
+    private boolean drain(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                changed = true;
+            } else if (event.context() instanceof Path path && WATCHED_FILES.contains(path.getFileName().toString())) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    private static String fileName(String path) {
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+}